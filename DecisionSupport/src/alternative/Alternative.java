@@ -6,7 +6,10 @@ import space.Vector;
 import java.util.ArrayList;
 
 /**
- * This class represents an alternative.
+ * This class represents an alternative. The name can be provided directly or derived lazily from a name source (see
+ * {@link #setNameSource(Object)}); in the latter case, the string is constructed upon the first request (e.g., by
+ * {@link #getName()} or {@link #equals(Object)}), so that the alternatives whose names are never used (e.g., the
+ * offspring that are immediately discarded) do not generate string garbage.
  *
  * @author MTomczyk
  */
@@ -17,6 +20,13 @@ public class Alternative implements IAlternativeWrapper
      */
     private String _name;
 
+    /**
+     * Source of the name (its string representation is used as the name; the field is nulled once the name is
+     * derived). The object is expected to be immutable (its string representation should not change). The field is
+     * volatile so that the lazily derived name is safely published when the alternative is shared between threads.
+     */
+    private volatile Object _nameSource;
+
     /**
      * Performance vector.
      */
@@ -71,7 +81,10 @@ public class Alternative implements IAlternativeWrapper
      */
     public Alternative getClone()
     {
-        return new Alternative(getName(), getPerformanceVector().clone(), _auxScores.clone());
+        Alternative alternative = new Alternative(_name, _performance == null ? null : _performance.clone(),
+                _auxScores == null ? null : _auxScores.clone());
+        alternative._nameSource = _nameSource; // the name source is immutable (can be shared)
+        return alternative;
     }
 
     /**
@@ -253,6 +266,12 @@ public class Alternative implements IAlternativeWrapper
     @Override
     public String getName()
     {
+        Object source = _nameSource;
+        if (source != null)
+        {
+            _name = source.toString();
+            _nameSource = null;
+        }
         return _name;
     }
 
@@ -264,6 +283,19 @@ public class Alternative implements IAlternativeWrapper
     public void setName(String name)
     {
         _name = name;
+        _nameSource = null;
+    }
+
+    /**
+     * Setter for the name source. The name of the alternative will be derived lazily as the string representation of
+     * the source (upon the first request). The source should be immutable.
+     *
+     * @param nameSource name source (if null, the name is nulled)
+     */
+    public void setNameSource(Object nameSource)
+    {
+        _name = null;
+        _nameSource = nameSource;
     }
 
 
@@ -295,7 +327,7 @@ public class Alternative implements IAlternativeWrapper
      */
     public String toString()
     {
-        return _name;
+        return getName();
     }
 
     /**
@@ -322,7 +354,7 @@ public class Alternative implements IAlternativeWrapper
     {
         String ls = System.lineSeparator();
         StringBuilder sb = new StringBuilder();
-        sb.append("Alternative: ").append(_name).append(ls);
+        sb.append("Alternative: ").append(getName()).append(ls);
         sb.append("Performance: ").append(ls);
         sb.append(getPerformanceVectorAsString(_performance, criteria, decimalPrecision));
 
@@ -373,7 +405,7 @@ public class Alternative implements IAlternativeWrapper
     public boolean equals(Object o)
     {
         if (!(o instanceof Alternative)) return false;
-        return _name.equals(((Alternative) o)._name);
+        return getName().equals(((Alternative) o).getName());
     }
 
     /**
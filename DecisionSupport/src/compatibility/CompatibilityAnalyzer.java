@@ -94,4 +94,42 @@ public class CompatibilityAnalyzer implements IAnalyzer
         return minCompatibility;
     }
 
+    /**
+     * Compiles the preference history (see {@link CompiledPreferenceHistory}). The compiled representation is provided
+     * only if it is equivalent to this analyzer, i.e., the default {@link PairwiseComparisonAnalyzer} is used, the
+     * compatibility calculations are not overwritten by a subclass of this analyzer, and all preference examples are
+     * supported. Otherwise, the compatibility degrees should be derived using this analyzer.
+     *
+     * @param preferenceInformation preference examples (wrapped)
+     * @return compiled history (null, if it cannot be used instead of this analyzer)
+     */
+    public CompiledPreferenceHistory compile(LinkedList<PreferenceInformationWrapper> preferenceInformation)
+    {
+        IAnalyzer analyzer = _analyzers.get(Form.PAIRWISE_COMPARISON);
+        if ((analyzer == null) || (!analyzer.getClass().equals(PairwiseComparisonAnalyzer.class))) return null;
+        if ((!isDeclaredHere("calculateCompatibilityDegreeWithValueModel", IPreferenceInformation.class,
+                AbstractValueInternalModel.class)) ||
+                (!isDeclaredHere("calculateTheMostDiscriminativeCompatibilityWithValueModel", LinkedList.class,
+                        AbstractValueInternalModel.class))) return null;
+        return CompiledPreferenceHistory.compile(preferenceInformation);
+    }
+
+    /**
+     * Auxiliary method checking if the given method is implemented by this class (i.e., it is not overwritten by a
+     * subclass).
+     *
+     * @param name       method name
+     * @param parameters parameter types
+     * @return true, if the method is implemented by this class
+     */
+    private boolean isDeclaredHere(String name, Class<?>... parameters)
+    {
+        try
+        {
+            return getClass().getMethod(name, parameters).getDeclaringClass().equals(CompatibilityAnalyzer.class);
+        } catch (NoSuchMethodException e)
+        {
+            return false;
+        }
+    }
 }
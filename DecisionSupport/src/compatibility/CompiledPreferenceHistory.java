@@ -0,0 +1,287 @@
+package compatibility;
+
+import alternative.Alternative;
+import history.PreferenceInformationWrapper;
+import model.internals.value.AbstractValueInternalModel;
+import preference.IPreferenceInformation;
+import preference.indirect.PairwiseComparison;
+import relation.Relations;
+
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.LinkedList;
+import java.util.List;
+
+/**
+ * Compiled representation of the preference history (currently, only pairwise comparisons are supported; see
+ * {@link PairwiseComparisonAnalyzer}). The alternatives referenced by the comparisons are deduplicated (by reference)
+ * and indexed, and the comparisons are stored as primitive arrays (indices of the compared alternatives + relation
+ * codes). Hence, when calculating the compatibility of a model, each referenced alternative is evaluated at most once
+ * (even if it takes part in many comparisons), and there is no dispatching per comparison. The compatibility degrees
+ * are identical to those derived by
+ * {@link CompatibilityAnalyzer#calculateTheMostDiscriminativeCompatibilityWithValueModel(LinkedList, AbstractValueInternalModel)}
+ * (the arithmetic and the processing order are the same). The object is immutable (can be shared by threads); it
+ * should be recompiled whenever the preference history changes.
+ *
+ * @author MTomczyk
+ */
+public class CompiledPreferenceHistory
+{
+    /**
+     * Relation code: the first alternative is preferred over the second one.
+     */
+    private static final byte PREFERENCE = 0;
+
+    /**
+     * Relation code: the alternatives are indifferent.
+     */
+    private static final byte INDIFFERENCE = 1;
+
+    /**
+     * Distinct alternatives referenced by the comparisons.
+     */
+    private final Alternative[] _alternatives;
+
+    /**
+     * Indices of the first alternatives in the comparisons (preferred ones, in the case of preferences).
+     */
+    private final int[] _first;
+
+    /**
+     * Indices of the second alternatives in the comparisons (not preferred ones, in the case of preferences).
+     */
+    private final int[] _second;
+
+    /**
+     * Relation codes.
+     */
+    private final byte[] _relations;
+
+    /**
+     * Parameterized constructor (private; see {@link CompatibilityAnalyzer#compile(LinkedList)}).
+     *
+     * @param alternatives distinct alternatives referenced by the comparisons
+     * @param first        indices of the first alternatives in the comparisons
+     * @param second       indices of the second alternatives in the comparisons
+     * @param relations    relation codes
+     */
+    private CompiledPreferenceHistory(Alternative[] alternatives, int[] first, int[] second, byte[] relations)
+    {
+        _alternatives = alternatives;
+        _first = first;
+        _second = second;
+        _relations = relations;
+    }
+
+    /**
+     * Compiles the preference history. The method is called by {@link CompatibilityAnalyzer#compile(LinkedList)},
+     * which verifies if the compiled representation is equivalent to the analyzer.
+     *
+     * @param preferenceInformation preference examples (wrapped; can be null)
+     * @return compiled history (null, if some preference information is not supported, i.e., it is not a pairwise
+     * comparison expressing preference or indifference)
+     */
+    static CompiledPreferenceHistory compile(LinkedList<PreferenceInformationWrapper> preferenceInformation)
+    {
+        int n = preferenceInformation == null ? 0 : preferenceInformation.size();
+        IdentityHashMap<Alternative, Integer> indices = new IdentityHashMap<>(2 * n);
+        LinkedList<Alternative> alternatives = new LinkedList<>();
+        int[] first = new int[n];
+        int[] second = new int[n];
+        byte[] relations = new byte[n];
+        int idx = 0;
+        if (preferenceInformation != null)
+        {
+            for (PreferenceInformationWrapper piw : preferenceInformation)
+            {
+                IPreferenceInformation pi = piw == null ? null : piw._preferenceInformation;
+                if (!(pi instanceof PairwiseComparison PC)) return null;
+                Alternative a;
+                Alternative b;
+                if (PC.getRelation().equals(Relations.PREFERENCE))
+                {
+                    a = PC.getPreferredAlternative();
+                    b = PC.getNotPreferredAlternative();
+                    relations[idx] = PREFERENCE;
+                }
+                else if (PC.getRelation().equals(Relations.INDIFFERENCE))
+                {
+                    a = PC.getFirstAlternative();
+                    b = PC.getSecondAlternative();
+                    relations[idx] = INDIFFERENCE;
+                }
+                else return null;
+                if ((a == null) || (b == null)) return null;
+                first[idx] = getIndex(a, indices, alternatives);
+                second[idx] = getIndex(b, indices, alternatives);
+                idx++;
+            }
+        }
+        return new CompiledPreferenceHistory(alternatives.toArray(new Alternative[0]), first, second, relations);
+    }
+
+    /**
+     * Auxiliary method returning the index of an alternative (the alternative is registered if it is not yet indexed).
+     *
+     * @param alternative  alternative
+     * @param indices      indices of the already registered alternatives
+     * @param alternatives registered alternatives (in the order of indices)
+     * @return index of the alternative
+     */
+    private static int getIndex(Alternative alternative, IdentityHashMap<Alternative, Integer> indices,
+                                LinkedList<Alternative> alternatives)
+    {
+        Integer index = indices.get(alternative);
+        if (index != null) return index;
+        indices.put(alternative, alternatives.size());
+        alternatives.add(alternative);
+        return alternatives.size() - 1;
+    }
+
+    /**
+     * Calculates the most discriminative (minimum) degree to which the preference examples are compatible with the
+     * model.
+     *
+     * @param model analyzed model
+     * @return compatibility degree (the smallest possible positive number if the history is empty)
+     */
+    public double calculateTheMostDiscriminativeCompatibility(AbstractValueInternalModel model)
+    {
+        return calculateTheMostDiscriminativeCompatibility(model, new double[_alternatives.length]);
+    }
+
+    /**
+     * Calculates the most discriminative (minimum) degrees to which the preference examples are compatible with the
+     * models (batch processing; the auxiliary buffers are allocated once per call).
+     *
+     * @param models  analyzed models
+     * @param results array to be filled with the compatibility degrees (length at least the number of models)
+     */
+    public void calculateTheMostDiscriminativeCompatibilities(List<? extends AbstractValueInternalModel> models,
+                                                              double[] results)
+    {
+        double[] scores = new double[_alternatives.length];
+        int idx = 0;
+        for (AbstractValueInternalModel model : models)
+            results[idx++] = calculateTheMostDiscriminativeCompatibility(model, scores);
+    }
+
+    /**
+     * Auxiliary method calculating the most discriminative compatibility degree.
+     *
+     * @param model  analyzed model
+     * @param scores buffer for the scores of the alternatives
+     * @return compatibility degree
+     */
+    private double calculateTheMostDiscriminativeCompatibility(AbstractValueInternalModel model, double[] scores)
+    {
+        if (_relations.length == 0) return Double.MIN_VALUE;
+        for (int i = 0; i < _alternatives.length; i++) scores[i] = model.evaluate(_alternatives[i]);
+        boolean lessPreferred = model.isLessPreferred();
+        double minCompatibility = Double.POSITIVE_INFINITY;
+        for (int c = 0; c < _relations.length; c++)
+        {
+            double d = getCompatibility(c, scores, lessPreferred);
+            if (Double.compare(d, minCompatibility) < 0) minCompatibility = d;
+        }
+        return minCompatibility;
+    }
+
+    /**
+     * Checks whether the model is compatible with the preference examples (the most discriminative compatibility
+     * degree is positive). The processing is terminated upon the first violated comparison, and the alternatives are
+     * evaluated only when needed.
+     *
+     * @param model analyzed model
+     * @return true, if the model is compatible; false otherwise
+     */
+    public boolean isCompatible(AbstractValueInternalModel model)
+    {
+        return isCompatible(model, new double[_alternatives.length], new boolean[_alternatives.length]);
+    }
+
+    /**
+     * Checks whether the models are compatible with the preference examples (batch processing; the auxiliary buffers
+     * are allocated once per call). The processing of each model is terminated upon the first violated comparison.
+     *
+     * @param models  analyzed models
+     * @param results array to be filled with the flags (length at least the number of models)
+     */
+    public void areCompatible(List<? extends AbstractValueInternalModel> models, boolean[] results)
+    {
+        double[] scores = new double[_alternatives.length];
+        boolean[] evaluated = new boolean[_alternatives.length];
+        int idx = 0;
+        for (AbstractValueInternalModel model : models) results[idx++] = isCompatible(model, scores, evaluated);
+    }
+
+    /**
+     * Auxiliary method checking whether the model is compatible with the preference examples.
+     *
+     * @param model     analyzed model
+     * @param scores    buffer for the scores of the alternatives
+     * @param evaluated buffer for the flags indicating which alternatives are already evaluated
+     * @return true, if the model is compatible; false otherwise
+     */
+    private boolean isCompatible(AbstractValueInternalModel model, double[] scores, boolean[] evaluated)
+    {
+        if (_relations.length == 0) return true;
+        Arrays.fill(evaluated, false);
+        boolean lessPreferred = model.isLessPreferred();
+        for (int c = 0; c < _relations.length; c++)
+        {
+            int a = _first[c];
+            int b = _second[c];
+            if (!evaluated[a])
+            {
+                scores[a] = model.evaluate(_alternatives[a]);
+                evaluated[a] = true;
+            }
+            if (!evaluated[b])
+            {
+                scores[b] = model.evaluate(_alternatives[b]);
+                evaluated[b] = true;
+            }
+            if (Double.compare(getCompatibility(c, scores, lessPreferred), 0.0d) <= 0) return false;
+        }
+        return true;
+    }
+
+    /**
+     * Auxiliary method calculating the compatibility degree of a single comparison (the arithmetic mirrors
+     * {@link PairwiseComparisonAnalyzer}).
+     *
+     * @param c             comparison index
+     * @param scores        scores of the alternatives
+     * @param lessPreferred true if the model prefers smaller scores, false otherwise
+     * @return compatibility degree
+     */
+    private double getCompatibility(int c, double[] scores, boolean lessPreferred)
+    {
+        double P = scores[_first[c]];
+        double O = scores[_second[c]];
+        if (_relations[c] == INDIFFERENCE) return -Math.abs(P - O);
+        if (lessPreferred) return O - P;
+        else return P - O;
+    }
+
+    /**
+     * Getter for the number of distinct alternatives referenced by the comparisons.
+     *
+     * @return the number of alternatives
+     */
+    public int getNoAlternatives()
+    {
+        return _alternatives.length;
+    }
+
+    /**
+     * Getter for the number of compiled comparisons.
+     *
+     * @return the number of comparisons
+     */
+    public int getNoComparisons()
+    {
+        return _relations.length;
+    }
+}
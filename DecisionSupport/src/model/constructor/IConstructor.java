@@ -202,4 +202,12 @@ public interface IConstructor<T extends AbstractInternalModel>
     {
         return "CONSTRUCTOR";
     }
+
+    /**
+     * Releases the resources held by the constructor (e.g., thread pools). The default implementation does nothing.
+     */
+    default void dispose()
+    {
+
+    }
 }
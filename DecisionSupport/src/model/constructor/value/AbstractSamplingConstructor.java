@@ -1,6 +1,7 @@
 package model.constructor.value;
 
 import compatibility.CompatibilityAnalyzer;
+import compatibility.CompiledPreferenceHistory;
 import dmcontext.DMContext;
 import exeption.ConstructorException;
 import history.PreferenceInformationWrapper;
@@ -126,6 +127,17 @@ public abstract class AbstractSamplingConstructor<T extends AbstractValueInterna
      */
     protected LinkedList<INormalizationsUpdater> _normalizationUpdaters;
 
+    /**
+     * Compiled preference history (see {@link CompiledPreferenceHistory}); derived at the beginning of each
+     * {@link #constructModels(LinkedList)} call and released at its end (null, if not compiled or not supported).
+     */
+    private CompiledPreferenceHistory _compiledPreferenceHistory = null;
+
+    /**
+     * Preference history passed to the ongoing {@link #constructModels(LinkedList)} call (null, if no call is ongoing).
+     */
+    private LinkedList<PreferenceInformationWrapper> _compiledFrom = null;
+
     /**
      * Parameterized constructor.
      *
@@ -257,6 +269,14 @@ public abstract class AbstractSamplingConstructor<T extends AbstractValueInterna
     {
         ArrayList<T> R = new ArrayList<>();
         if ((_models == null) || (_models.isEmpty())) return R;
+        CompiledPreferenceHistory CPH = getCompiledPreferenceHistory(preferenceInformation);
+        if (CPH != null)
+        {
+            boolean[] compatible = new boolean[_models.size()];
+            CPH.areCompatible(_models, compatible);
+            for (int i = 0; i < _models.size(); i++) if (compatible[i]) R.add(_models.get(i));
+            return R;
+        }
         for (T M : _models)
         {
             Double a = _compatibilityAnalyzer.calculateTheMostDiscriminativeCompatibilityWithValueModel(preferenceInformation, M);
@@ -265,6 +285,95 @@ public abstract class AbstractSamplingConstructor<T extends AbstractValueInterna
         return R;
     }
 
+    /**
+     * Auxiliary method that calculates the most discriminative (minimum) degree to which preference examples are
+     * compatible with a given model. The compiled preference history is used if available (see
+     * {@link #getCompiledPreferenceHistory(LinkedList)}); otherwise, the calculations are delegated to the
+     * compatibility analyzer.
+     *
+     * @param preferenceInformation preference examples (provided via wrappers)
+     * @param model                 analyzed model
+     * @return compatibility degree (see
+     * {@link CompatibilityAnalyzer#calculateTheMostDiscriminativeCompatibilityWithValueModel(LinkedList, AbstractValueInternalModel)})
+     */
+    protected Double calculateCompatibility(LinkedList<PreferenceInformationWrapper> preferenceInformation, T model)
+    {
+        CompiledPreferenceHistory CPH = getCompiledPreferenceHistory(preferenceInformation);
+        if ((CPH == null) || (model == null))
+            return _compatibilityAnalyzer.calculateTheMostDiscriminativeCompatibilityWithValueModel(preferenceInformation, model);
+        return CPH.calculateTheMostDiscriminativeCompatibility(model);
+    }
+
+    /**
+     * Auxiliary method that checks whether a given model is compatible with the preference examples (the most
+     * discriminative compatibility degree is positive or cannot be determined, i.e., it is null). When the compiled
+     * preference history is available (see {@link #getCompiledPreferenceHistory(LinkedList)}), the check is terminated
+     * upon the first violated preference example (see {@link CompiledPreferenceHistory#isCompatible(AbstractValueInternalModel)});
+     * otherwise, the compatibility degree is calculated using {@link #calculateCompatibility(LinkedList, AbstractValueInternalModel)}.
+     *
+     * @param preferenceInformation preference examples (provided via wrappers)
+     * @param model                 analyzed model
+     * @return true, if the model is compatible; false otherwise
+     */
+    protected boolean isCompatible(LinkedList<PreferenceInformationWrapper> preferenceInformation, T model)
+    {
+        CompiledPreferenceHistory CPH = getCompiledPreferenceHistory(preferenceInformation);
+        if ((CPH != null) && (model != null)) return CPH.isCompatible(model);
+        Double a = calculateCompatibility(preferenceInformation, model);
+        return (a == null) || (Double.compare(a, 0.0d) > 0);
+    }
+
+    /**
+     * The main method for constructing internal models. This extension compiles the preference history once (see
+     * {@link CompatibilityAnalyzer#compile(LinkedList)}) so that it can be shared by all compatibility checks performed
+     * within the call. The compiled history is released when the call ends.
+     *
+     * @param preferenceInformation the decision maker's preference information stored (provided via wrappers)
+     * @return constructed models (bundle object that also provides additional data)
+     * @throws ConstructorException the exception can be thrown
+     */
+    @Override
+    public Report<T> constructModels(LinkedList<PreferenceInformationWrapper> preferenceInformation) throws ConstructorException
+    {
+        _compiledFrom = preferenceInformation;
+        _compiledPreferenceHistory = compile(preferenceInformation);
+        try
+        {
+            return super.constructModels(preferenceInformation);
+        } finally
+        {
+            _compiledFrom = null;
+            _compiledPreferenceHistory = null;
+        }
+    }
+
+    /**
+     * Returns the compiled preference history (see {@link CompatibilityAnalyzer#compile(LinkedList)}). The history
+     * compiled at the beginning of the ongoing {@link #constructModels(LinkedList)} call is returned if the input list
+     * is the one passed to that call; otherwise, the input list is compiled anew (e.g., when only the most recent
+     * preference information is checked). The returned object can be shared by threads.
+     *
+     * @param preferenceInformation preference examples (provided via wrappers)
+     * @return compiled preference history (null, if it is not supported)
+     */
+    protected CompiledPreferenceHistory getCompiledPreferenceHistory(LinkedList<PreferenceInformationWrapper> preferenceInformation)
+    {
+        if ((_compiledFrom != null) && (_compiledFrom == preferenceInformation)) return _compiledPreferenceHistory;
+        return compile(preferenceInformation);
+    }
+
+    /**
+     * Auxiliary method compiling the preference history.
+     *
+     * @param preferenceInformation preference examples (provided via wrappers)
+     * @return compiled preference history (null, if it is not supported)
+     */
+    private CompiledPreferenceHistory compile(LinkedList<PreferenceInformationWrapper> preferenceInformation)
+    {
+        if (_compatibilityAnalyzer == null) return null;
+        return _compatibilityAnalyzer.compile(preferenceInformation);
+    }
+
     /**
      * The main-construct models phase (to be overwritten). The concrete extension should provide the constructed models
      * via the bundle object.
@@ -1,5 +1,8 @@
 package model.constructor.value.rs;
 
+import compatibility.CompiledPreferenceHistory;
+import exeption.ConstructorException;
+import history.PreferenceInformationWrapper;
 import model.constructor.IConstructor;
 import model.constructor.random.IRandomModel;
 import model.constructor.value.AbstractSamplingConstructor;
@@ -7,9 +10,21 @@ import model.constructor.value.rs.frs.FRS;
 import model.constructor.value.rs.iterationslimit.IIterationsLimit;
 import model.internals.value.AbstractValueInternalModel;
 import random.IRandom;
+import thread.LazyThreadPool;
+
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
 
 /**
  * Abstract class that provides fundamentals for rejection-sampling-based model constructors (e.g., {@link FRS}).
+ * The class also provides a parallel sampling mode (see {@link Params#_noThreads}): the attempts are executed in
+ * rounds, and in each round, each thread generates a fixed number of candidate models (using its own random number
+ * generator derived from the captured one via jumps or splits) and calculates their compatibilities. The results are
+ * then processed sequentially in the order of threads, so the outcomes are reproducible for a fixed number of threads.
+ * The thread pool is instantiated upon the first parallel sampling (see {@link LazyThreadPool}) and released via
+ * {@link #dispose()}.
  *
  * @author MTomczyk
  */
@@ -32,6 +47,21 @@ public abstract class AbstractRejectionSampling<T extends AbstractValueInternalM
          */
         public final IRandomModel<T> _RM;
 
+        /**
+         * The number of threads used for sampling. If greater than 1, the candidate models are generated and checked
+         * in parallel, provided that the captured random number generator is jumpable or splittable (otherwise, the
+         * sampling is sequential). The random model generator and the compatibility analyzer must then be safe for
+         * concurrent use. Note that the results are reproducible for a fixed number of threads but differ from those
+         * attained sequentially.
+         */
+        public int _noThreads = 1;
+
+        /**
+         * The number of attempts performed by each thread in a single round of the parallel sampling (should be
+         * positive; if it is not, it is set to 1).
+         */
+        public int _attemptsPerThreadInRound = 1000;
+
         /**
          * Parameterized constructor.
          *
@@ -59,6 +89,60 @@ public abstract class AbstractRejectionSampling<T extends AbstractValueInternalM
      */
     protected IRandom _R;
 
+    /**
+     * The number of threads used for sampling.
+     */
+    protected final int _noThreads;
+
+    /**
+     * The number of attempts performed by each thread in a single round of the parallel sampling.
+     */
+    protected final int _attemptsPerThreadInRound;
+
+    /**
+     * Thread pool used for the parallel sampling.
+     */
+    private final LazyThreadPool _pool;
+
+    /**
+     * Candidate models generated by one thread in a round of the parallel sampling (along with their compatibility
+     * degrees or flags, stored in the generation order).
+     *
+     * @param <T> model definition
+     */
+    protected static class Samples<T>
+    {
+        /**
+         * Generated models.
+         */
+        public final ArrayList<T> _models;
+
+        /**
+         * Compatibility degrees (see
+         * {@link compatibility.CompatibilityAnalyzer#calculateTheMostDiscriminativeCompatibilityWithValueModel(LinkedList,
+         * AbstractValueInternalModel)}; can be null); filled only when the degrees are requested.
+         */
+        public final ArrayList<Double> _compatibilities;
+
+        /**
+         * Compatibility flags (see {@link #isCompatible(LinkedList, AbstractValueInternalModel)}); filled only when the
+         * degrees are not requested.
+         */
+        public final boolean[] _compatible;
+
+        /**
+         * Parameterized constructor.
+         *
+         * @param size expected number of samples
+         */
+        protected Samples(int size)
+        {
+            _models = new ArrayList<>(size);
+            _compatibilities = new ArrayList<>(size);
+            _compatible = new boolean[size];
+        }
+    }
+
     /**
      * Parameterized constructor.
      *
@@ -70,6 +154,98 @@ public abstract class AbstractRejectionSampling<T extends AbstractValueInternalM
         super(name, p);
         _iterationsLimit = p._iterationsLimit;
         _RM = p._RM;
+        _noThreads = Math.max(1, p._noThreads);
+        _pool = new LazyThreadPool(_noThreads);
+        _attemptsPerThreadInRound = Math.max(1, p._attemptsPerThreadInRound);
         _normalizationUpdaters.add(_RM::setNormalizations);
     }
+
+    /**
+     * Derives random number generators for the threads from the captured one (via jumps, or splits if the former are
+     * not supported). The state of the captured generator is advanced, so that subsequent calls provide different
+     * streams.
+     *
+     * @return random number generators (one per thread); null, if the sampling is supposed to be sequential (one
+     * thread is used or the captured generator is neither jumpable nor splittable)
+     */
+    protected IRandom[] getThreadsRNGs()
+    {
+        if ((_noThreads == 1) || (_R == null)) return null;
+        if (_R.isJumpable()) return _R.createInstancesViaJumps(_noThreads).toArray(IRandom[]::new);
+        if (_R.isSplittable()) return _R.createSplitInstances(_noThreads).toArray(IRandom[]::new);
+        return null;
+    }
+
+    /**
+     * Shuts down the thread pool used for the parallel sampling (if instantiated). The constructor can still be used
+     * afterward (a new thread pool will be instantiated on demand).
+     */
+    @Override
+    public void dispose()
+    {
+        _pool.dispose();
+    }
+
+    /**
+     * Executes a round of the parallel sampling. The attempts are split evenly among the threads (the first threads
+     * get one extra attempt if the division is not exact). Each thread generates the candidate models using its own
+     * random number generator and calculates their compatibility degrees (or only checks if they are compatible; the
+     * checks are terminated upon the first violated preference example).
+     *
+     * @param RNGs                  random number generators (one per thread)
+     * @param attempts              the total number of attempts in the round
+     * @param preferenceInformation the decision maker's preference information stored (provided via wrappers)
+     * @param degrees               if true, the compatibility degrees are calculated (see
+     *                              {@link Samples#_compatibilities}); otherwise, only the compatibility flags are
+     *                              derived (see {@link Samples#_compatible})
+     * @return samples generated by the threads (in the order of threads)
+     * @throws ConstructorException the exception is thrown if the sampling fails
+     */
+    protected ArrayList<Samples<T>> executeParallelRound(IRandom[] RNGs, int attempts,
+                                                         LinkedList<PreferenceInformationWrapper> preferenceInformation,
+                                                         boolean degrees) throws ConstructorException
+    {
+        ArrayList<Samples<T>> samples = new ArrayList<>(RNGs.length);
+        CompiledPreferenceHistory CPH = getCompiledPreferenceHistory(preferenceInformation);
+        LinkedList<Future<?>> futures = new LinkedList<>();
+        for (int w = 0; w < RNGs.length; w++)
+        {
+            int share = attempts / RNGs.length + (w < attempts % RNGs.length ? 1 : 0);
+            Samples<T> s = new Samples<>(share);
+            samples.add(s);
+            IRandom R = RNGs[w];
+            futures.add(_pool.submit(() -> {
+                for (int t = 0; t < share; t++) s._models.add(_RM.generateModel(R));
+                if (!degrees)
+                {
+                    if ((CPH != null) && (!s._models.contains(null))) CPH.areCompatible(s._models, s._compatible);
+                    else for (int t = 0; t < share; t++)
+                        s._compatible[t] = isCompatible(preferenceInformation, s._models.get(t));
+                }
+                else if ((CPH != null) && (!s._models.contains(null)))
+                {
+                    // batch processing
+                    double[] compatibilities = new double[share];
+                    CPH.calculateTheMostDiscriminativeCompatibilities(s._models, compatibilities);
+                    for (double c : compatibilities) s._compatibilities.add(c);
+                }
+                else for (T M : s._models)
+                    s._compatibilities.add(_compatibilityAnalyzer.
+                            calculateTheMostDiscriminativeCompatibilityWithValueModel(preferenceInformation, M));
+            }));
+        }
+        try
+        {
+            LazyThreadPool.waitForAll(futures);
+        } catch (InterruptedException e)
+        {
+            Thread.currentThread().interrupt();
+            throw new ConstructorException("The parallel sampling was interrupted", this.getClass(), e);
+        } catch (ExecutionException e)
+        {
+            throw new ConstructorException("Error occurred when sampling models " + e.getCause(), this.getClass(),
+                    e.getCause());
+        }
+        return samples;
+    }
 }
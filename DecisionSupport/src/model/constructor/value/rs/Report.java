@@ -3,6 +3,7 @@ package model.constructor.value.rs;
 import dmcontext.DMContext;
 import model.internals.AbstractInternalModel;
 
+import java.util.Arrays;
 import java.util.LinkedList;
 
 /**
@@ -27,6 +28,35 @@ public class Report<T extends AbstractInternalModel> extends model.constructor.R
      */
     public int _noExecutedIterations = 0;
 
+    /**
+     * Field reporting on the number of accepted (compatible) models generated by each thread in the parallel sampling
+     * mode (null, if the sampling was sequential).
+     */
+    public int[] _acceptedPerThread = null;
+
+    /**
+     * Field reporting on the number of rejected (incompatible) models generated by each thread in the parallel
+     * sampling mode (null, if the sampling was sequential).
+     */
+    public int[] _rejectedPerThread = null;
+
+    /**
+     * Returns the acceptance rates attained by the threads in the parallel sampling mode.
+     *
+     * @return acceptance rates (null, if the sampling was sequential)
+     */
+    public double[] getAcceptanceRatesPerThread()
+    {
+        if ((_acceptedPerThread == null) || (_rejectedPerThread == null)) return null;
+        double[] rates = new double[_acceptedPerThread.length];
+        for (int i = 0; i < rates.length; i++)
+        {
+            int total = _acceptedPerThread[i] + _rejectedPerThread[i];
+            rates[i] = total == 0 ? 0.0d : (double) _acceptedPerThread[i] / total;
+        }
+        return rates;
+    }
+
     /**
      * Auxiliary method that can be overwritten to add extra log lines (used by
      * {@link model.constructor.Report#getStringRepresentation(int)}).
@@ -38,5 +68,7 @@ public class Report<T extends AbstractInternalModel> extends model.constructor.R
     protected void addExtraLogLines(LinkedList<String> lines, String ind)
     {
         lines.add(ind + "No. executed iterations = " + _noExecutedIterations);
+        double[] rates = getAcceptanceRatesPerThread();
+        if (rates != null) lines.add(ind + "Acceptance rates per thread = " + Arrays.toString(rates));
     }
 }
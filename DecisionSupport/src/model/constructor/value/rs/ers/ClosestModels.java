@@ -136,6 +136,46 @@ public class ClosestModels<T extends AbstractValueInternalModel>
         return false;
     }
 
+    /**
+     * Auxiliary method for checking if a model is stored in the queue (the references are compared).
+     *
+     * @param model requested model
+     * @return false, if the model is not stored; true otherwise
+     */
+    public boolean isModelStored(SortedModel<T> model)
+    {
+        for (int i = 0; i < _storedModels; i++) if (_models.get(i) == model) return true;
+        return false;
+    }
+
+    /**
+     * Removes the model from the queue (the references are compared). The remaining models are shifted, so the order is
+     * preserved.
+     *
+     * @param model model to be removed
+     * @return true, if the model was stored in the queue; false otherwise
+     */
+    public boolean remove(SortedModel<T> model)
+    {
+        int index = -1;
+        for (int i = 0; i < _storedModels; i++)
+            if (_models.get(i) == model)
+            {
+                index = i;
+                break;
+            }
+        if (index == -1) return false;
+        for (int i = index; i < _storedModels - 1; i++)
+        {
+            _models.set(i, _models.get(i + 1));
+            _ids[i] = _ids[i + 1];
+            _similarities[i] = _similarities[i + 1];
+        }
+        _storedModels--;
+        _models.set(_storedModels, null);
+        return true;
+    }
+
     /**
      * Auxiliary method that replaces id1 (if exists) with id2.
      *
@@ -10,6 +10,7 @@ import model.constructor.Report;
 import model.constructor.random.IRandomModel;
 import model.constructor.value.rs.AbstractRejectionSampling;
 import model.internals.value.AbstractValueInternalModel;
+import random.IRandom;
 
 import java.util.ArrayList;
 import java.util.LinkedList;
@@ -25,7 +26,9 @@ import java.util.LinkedList;
  * {@link compatibility.CompatibilityAnalyzer#calculateTheMostDiscriminativeCompatibilityWithValueModel(LinkedList,
  * AbstractValueInternalModel)}). Regarding the compatible models, the queue prioritizes those that maximize their
  * distance to the closest neighbor (another model). In the case of equality, similarities to the next nearest
- * neighbors are compared, etc. Note that the similarity measure can be customized (see {@link ISimilarity}).
+ * neighbors are compared, etc. Note that the similarity measure can be customized (see {@link ISimilarity}). When the
+ * models are generated randomly, the sampling can be executed in parallel (see
+ * {@link AbstractRejectionSampling.Params#_noThreads}).
  *
  * @author MTomczyk
  */
@@ -153,10 +156,62 @@ public class ERS<T extends AbstractValueInternalModel> extends AbstractRejection
         if (initializeStep(bundle, preferenceInformation)) return;
         _attempts = Math.max(0, _iterationsLimit.getIterations(_dmContext, preferenceInformation,
                 bundle, _feasibleSamplesToGenerate));
-        for (int t = 0; t < _attempts; t++) executeStep(bundle, preferenceInformation);
+        IRandom[] RNGs = _EMC == null ? getThreadsRNGs() : null; // the evolutionary generator depends on the queue
+        if (RNGs == null) for (int t = 0; t < _attempts; t++) executeStep(bundle, preferenceInformation);
+        else executeParallelSampling(bundle, preferenceInformation, RNGs);
         finalizeStep(bundle, preferenceInformation);
     }
 
+    /**
+     * Executes the parallel sampling (used only when the models are generated randomly, i.e., the evolutionary model
+     * constructor is not used). The candidate models are generated and their compatibilities are calculated in
+     * parallel, in rounds (see {@link #executeParallelRound(IRandom[], int, LinkedList, boolean)}). Then, the
+     * models are inserted into the queue sequentially, in the order of threads, hence the results are reproducible for
+     * a fixed number of threads.
+     *
+     * @param bundle                bundle result object to be filled
+     * @param preferenceInformation the decision maker's preference information stored (provided via wrappers)
+     * @param RNGs                  random number generators (one per thread)
+     * @throws ConstructorException the exception can be thrown
+     */
+    private void executeParallelSampling(Report<T> bundle, LinkedList<PreferenceInformationWrapper> preferenceInformation,
+                                         IRandom[] RNGs) throws ConstructorException
+    {
+        _ersReport._acceptedPerThread = new int[RNGs.length];
+        _ersReport._rejectedPerThread = new int[RNGs.length];
+        int executed = 0;
+        while (executed < _attempts)
+        {
+            long startTime = System.nanoTime();
+            int round = Math.min(_attempts - executed, RNGs.length * _attemptsPerThreadInRound);
+            ArrayList<Samples<T>> samples = executeParallelRound(RNGs, round, preferenceInformation, true);
+            for (int w = 0; w < samples.size(); w++)
+            {
+                Samples<T> s = samples.get(w);
+                for (int i = 0; i < s._models.size(); i++)
+                {
+                    if (_modelsQueue.insertEvaluatedModel(s._models.get(i), s._compatibilities.get(i)))
+                    {
+                        bundle._acceptedNewlyConstructedModels++;
+                        _ersReport._acceptedPerThread[w]++;
+                    }
+                    else
+                    {
+                        bundle._rejectedNewlyConstructedModels++;
+                        _ersReport._rejectedPerThread[w]++;
+                    }
+                    if ((_modelsQueue.getNoCompatibleModels() == _feasibleSamplesToGenerate) && (_compatibleFoundInIterations == null))
+                    {
+                        _compatibleFoundInIterations = (bundle._acceptedNewlyConstructedModels + bundle._rejectedNewlyConstructedModels);
+                        _compatibleFoundInTime = (double) (_passedTime + System.nanoTime() - startTime) / 1000000.0d;
+                    }
+                }
+            }
+            executed += round;
+            _passedTime += (System.nanoTime() - startTime);
+        }
+    }
+
     /**
      * Execute the initialize step.
      *
@@ -186,12 +241,12 @@ public class ERS<T extends AbstractValueInternalModel> extends AbstractRejection
         bundle._rejectedNewlyConstructedModels = 0;
         bundle._successRateInConstructing = 0.0d;
 
-        if ((_modelsQueue.getQueue().isEmpty()) ||
+        if ((_modelsQueue.getSize() == 0) ||
                 (!_validateAlreadyExistingSamplesFirst)
-                || ((_models != null) && (_models.size() < _modelsQueue.getQueue().size()))) // first fill
+                || ((_models != null) && (_models.size() < _modelsQueue.getSize()))) // first fill
         {
             ArrayList<T> rms;
-            if ((_models != null) && (_models.size() < _modelsQueue.getQueue().size())
+            if ((_models != null) && (_models.size() < _modelsQueue.getSize())
                     && (_refillModelsFromQueue))
             {
                 rms = _modelsQueue.getModels(); // get all models
@@ -208,9 +263,9 @@ public class ERS<T extends AbstractValueInternalModel> extends AbstractRejection
             _modelsQueue.updateClosestModelsAndSortQueue(false, false);
 
             bundle._acceptedNewlyConstructedModels = _modelsQueue.getNoCompatibleModels();
-            bundle._rejectedNewlyConstructedModels = _modelsQueue.getQueue().size() - bundle._acceptedNewlyConstructedModels;
+            bundle._rejectedNewlyConstructedModels = _modelsQueue.getSize() - bundle._acceptedNewlyConstructedModels;
         }
-        else if ((_models != null) && (_models.size() != _modelsQueue.getQueue().size())) // error case
+        else if ((_models != null) && (_models.size() != _modelsQueue.getSize())) // error case
         {
             throw new ConstructorException("The number of stored models is greater than the number of models maintained in the queue", this.getClass());
         }
@@ -219,7 +274,7 @@ public class ERS<T extends AbstractValueInternalModel> extends AbstractRejection
             boolean rr = _modelsQueue.reevaluateCompatibilities(preferenceInformation);
             bundle._modelsPreservedBetweenIterations = _modelsQueue.getNoCompatibleModels();
             bundle._modelsRejectedBetweenIterations = 0;
-            bundle._successRateInPreserving = (double) bundle._modelsPreservedBetweenIterations / _modelsQueue.getQueue().size();
+            bundle._successRateInPreserving = (double) bundle._modelsPreservedBetweenIterations / _modelsQueue.getSize();
             if (!rr) _modelsQueue.updateClosestModelsAndSortQueue(true, true);
         }
 
@@ -246,7 +301,7 @@ public class ERS<T extends AbstractValueInternalModel> extends AbstractRejection
         if (_EMC == null) model = _RM.generateModel(_R); // use random model generator
         else model = _EMC.getModel(_dmContext, this); // use evolutionary generator
 
-        boolean compatible = _modelsQueue.insertModel(model, preferenceInformation);
+        boolean compatible = _modelsQueue.insertEvaluatedModel(model, calculateCompatibility(preferenceInformation, model));
         if (compatible) bundle._acceptedNewlyConstructedModels++;
         else bundle._rejectedNewlyConstructedModels++;
 
@@ -102,7 +102,7 @@ public class IterableERS<T extends AbstractValueInternalModel> extends ERS<T> im
             if (bundle._models == null) bundle._models = new ArrayList<>(_feasibleSamplesToGenerate);
             else bundle._models.clear();
 
-            for (SortedModel<T> t : getModelsQueue().getQueue())
+            for (SortedModel<T> t : getModelsQueue().getSortedModels())
                 if (t._isCompatible) bundle._models.add(t._model);
         }
         return r;
@@ -11,7 +11,12 @@ import java.util.*;
 
 /**
  * The auxiliary component that keeps the model instances sorted in a queue that takes into account their compatibility
- * and similarity with the closest neighbor.
+ * and similarity with the closest neighbor. The queue is backed by an array list (random access), and the similarities
+ * between the stored models are kept in a packed upper-triangular matrix (the similarity measure is assumed to be
+ * symmetric), which halves the memory footprint. When a model leaves the queue, the k-nearest neighbors lists of the
+ * models that referred to it are updated incrementally (the removed neighbor is dropped, and only the single best
+ * outsider is sought to fill the freed slot), and the affected models are re-ranked by merging them into the (sorted)
+ * queue in linear time.
  *
  * @author MTomczyk
  */
@@ -24,7 +29,12 @@ public class ModelsQueue<T extends AbstractValueInternalModel>
      * the models are sorted according to how close their compatibilities are to 0).
      * 2) Similarity with closes model (to be maximized in order to get satisfactorily spaced models)
      */
-    private final LinkedList<SortedModel<T>> _queue;
+    private ArrayList<SortedModel<T>> _queue;
+
+    /**
+     * Auxiliary buffer used when merging models into the queue (swapped with the queue).
+     */
+    private ArrayList<SortedModel<T>> _buffer;
 
     /**
      * Similarity measure used when comparing two models.
@@ -62,9 +72,9 @@ public class ModelsQueue<T extends AbstractValueInternalModel>
     private final AbstractComparator<T> _comparator;
 
     /**
-     * Similarity matrix.
+     * Similarity matrix (packed upper triangle, without the diagonal; see {@link #getPackedIndex(int, int)}).
      */
-    private final double[][] _simM;
+    private final double[] _simP;
 
     /**
      * Similarity temp vector.
@@ -86,18 +96,45 @@ public class ModelsQueue<T extends AbstractValueInternalModel>
                        AbstractComparator<T> comparator,
                        ISimilarity<T> similarity)
     {
-        _queue = new LinkedList<>();
         _queueLimit = Math.max(queueLimit, 1);
+        _queue = new ArrayList<>(_queueLimit + 1);
+        _buffer = new ArrayList<>(_queueLimit + 1);
         _CA = CA;
         _similarity = similarity;
         _comparator = comparator;
         _comparator.setSimilarity(similarity);
         _allStoredModelsAreCompatible = true;
         _kMostSimilarNeighbors = kMostSimilarNeighbors;
-        _simM = new double[_queueLimit][_queueLimit];
+        _simP = new double[(int) ((long) _queueLimit * (_queueLimit - 1) / 2)];
         _simT = new double[_queueLimit];
     }
 
+    /**
+     * Auxiliary method returning the position of the similarity between two models in the packed matrix.
+     *
+     * @param id1 ID of the first model
+     * @param id2 ID of the second model (should differ from the first one)
+     * @return position in the packed matrix
+     */
+    private int getPackedIndex(int id1, int id2)
+    {
+        int i = Math.min(id1, id2);
+        int j = Math.max(id1, id2);
+        return (int) ((long) i * (2L * _queueLimit - i - 1) / 2 + j - i - 1);
+    }
+
+    /**
+     * Returns the stored similarity between two models (identified by their IDs).
+     *
+     * @param id1 ID of the first model
+     * @param id2 ID of the second model (should differ from the first one)
+     * @return stored similarity
+     */
+    protected double getStoredSimilarity(int id1, int id2)
+    {
+        return _simP[getPackedIndex(id1, id2)];
+    }
+
     /**
      * Resets the data.
      */
@@ -106,7 +143,7 @@ public class ModelsQueue<T extends AbstractValueInternalModel>
         _queue.clear();
         _noCompatibleModels = 0;
         _allStoredModelsAreCompatible = true;
-        for (double[] v : _simM) Arrays.fill(v, 0.0d);
+        Arrays.fill(_simP, 0.0d);
         Arrays.fill(_simT, 0.0d);
     }
 
@@ -149,25 +186,37 @@ public class ModelsQueue<T extends AbstractValueInternalModel>
      */
     public void updateClosestModelsAndSortQueue(boolean deriveSimFromM, boolean resetClosestModelsFirst)
     {
+        if (!deriveSimFromM) // each pair is calculated once
+        {
+            for (int i = 0; i < _queue.size(); i++)
+            {
+                SortedModel<T> m1 = _queue.get(i);
+                if (!m1._isCompatible) continue;
+                for (int j = i + 1; j < _queue.size(); j++)
+                {
+                    SortedModel<T> m2 = _queue.get(j);
+                    if ((!m2._isCompatible) || (m1._id == m2._id)) continue;
+                    _simP[getPackedIndex(m1._id, m2._id)] = _similarity.calculateSimilarity(m1._model, m2._model);
+                }
+            }
+        }
         for (SortedModel<T> model : _queue)
         {
             if (resetClosestModelsFirst) model._closestModels.reset();
-            updateClosestModels(model, _queue, deriveSimFromM);
+            updateClosestModels(model, _queue);
         }
         _queue.sort(_comparator);
     }
 
     /**
-     * Auxiliary method for updating the closest model empty of an input model.
-     * NOTE that this method updates the data (compares the best-found model with the one  currently set);
-     * it does not replace the data.
+     * Auxiliary method for updating the closest models of an input model (the similarities are derived from the
+     * matrix). NOTE that this method updates the data (compares the best-found model with the one currently set); it
+     * does not replace the data.
      *
-     * @param model          input model
-     * @param list           source of other models
-     * @param deriveSimFromM if true, similarities are derived from the matrix; if false, they are calculated and stored in the matrix
+     * @param model input model
+     * @param list  source of other models
      */
-    private void updateClosestModels(SortedModel<T> model, LinkedList<SortedModel<T>> list,
-                                     boolean deriveSimFromM)
+    private void updateClosestModels(SortedModel<T> model, List<SortedModel<T>> list)
     {
         if (!model._isCompatible) return;
         // Important: only among compatible ones
@@ -175,13 +224,7 @@ public class ModelsQueue<T extends AbstractValueInternalModel>
         {
             if (!m._isCompatible) continue;
             if (m._id == model._id) continue;
-            double s;
-            if (deriveSimFromM) s = _simM[model._id][m._id];
-            else
-            {
-                s = _similarity.calculateSimilarity(model._model, m._model);
-                _simM[model._id][m._id] = s;
-            }
+            double s = _simP[getPackedIndex(model._id, m._id)];
             if (model._closestModels.canAlterTheQueue(s)) model._closestModels.insert(m, m._id, s);
         }
     }
@@ -227,7 +270,22 @@ public class ModelsQueue<T extends AbstractValueInternalModel>
      */
     protected boolean insertModel(T model, LinkedList<PreferenceInformationWrapper> preferenceInformation) throws ConstructorException
     {
-        Double cd = _CA.calculateTheMostDiscriminativeCompatibilityWithValueModel(preferenceInformation, model);
+        return insertEvaluatedModel(model, _CA.calculateTheMostDiscriminativeCompatibilityWithValueModel(preferenceInformation, model));
+    }
+
+    /**
+     * Main method for inserting the candidate model to the queue (insertion attempt), given its precalculated
+     * compatibility degree (e.g., derived in parallel).
+     *
+     * @param model candidate model
+     * @param cd    compatibility degree of the model (see
+     *              {@link CompatibilityAnalyzer#calculateTheMostDiscriminativeCompatibilityWithValueModel(LinkedList,
+     *              AbstractValueInternalModel)})
+     * @return true, if the input model is compatible; false otherwise
+     * @throws ConstructorException the exception can be thrown
+     */
+    protected boolean insertEvaluatedModel(T model, Double cd) throws ConstructorException
+    {
         if (cd == null)
             throw new ConstructorException("Cannot calculate the most discriminative compatibility with a value model", this.getClass());
         boolean isCompatible = Double.compare(cd, 0.0d) > 0;
@@ -235,17 +293,20 @@ public class ModelsQueue<T extends AbstractValueInternalModel>
         if (isCompatible)
         {
             // challenging case
-            LinkedList<SortedModel<T>> toAdd = new LinkedList<>();
+            ArrayList<SortedModel<T>> toAdd = new ArrayList<>();
 
             // Set temp ID (as the last element in the queue)
             SortedModel<T> candidateModel = new SortedModel<>(-1, _kMostSimilarNeighbors,
                     _similarity.isLessMeaningCloser(), model, cd);
             toAdd.add(candidateModel);
 
-            ListIterator<SortedModel<T>> listIterator = _queue.listIterator();
-            while (listIterator.hasNext())
+            // the models whose neighborhoods change are removed from the queue (need to be added again)
+            int n = _queue.size();
+            int w = 0;
+            int i = 0;
+            for (; i < n; i++)
             {
-                SortedModel<T> m = listIterator.next();
+                SortedModel<T> m = _queue.get(i);
                 if (!m._isCompatible) break; // do not consider incompatible
 
                 _simT[m._id] = _similarity.calculateSimilarity(model, m._model);
@@ -256,18 +317,19 @@ public class ModelsQueue<T extends AbstractValueInternalModel>
                 {
                     m._closestModels.insert(candidateModel, candidateModel._id, _simT[m._id]);
                     toAdd.add(m); // to add
-                    listIterator.remove();   // remove from the queue (needs to be added again)
                 }
+                else _queue.set(w++, m);
             }
+            for (; i < n; i++) _queue.set(w++, _queue.get(i));
+            truncateQueue(w);
 
             // add the elements one more time, starting from the front
             toAdd.sort(_comparator);
             doFrontalInsertionSort(toAdd);
-            SortedModel<T> lastElement = _queue.getLast();
-
+            SortedModel<T> lastElement = _queue.get(_queue.size() - 1);
 
             // Let's check if the new model is preserved (must be not equal than the last in the queue)
-            boolean isNewModelRemoved = lastElement.hashCode() == candidateModel.hashCode() && lastElement.equals(candidateModel);
+            boolean isNewModelRemoved = lastElement == candidateModel;
 
             if (!isNewModelRemoved) // If not, adjustments must be made
             {
@@ -277,18 +339,18 @@ public class ModelsQueue<T extends AbstractValueInternalModel>
                 candidateModel._id = lastElement._id;
 
                 // Must update similarity matrix then
-                if (_queueLimit >= 0) System.arraycopy(_simT, 0, _simM[candidateModel._id], 0, _queueLimit);
-                for (int i = 0; i < _queueLimit; i++) _simM[i][candidateModel._id] = _simT[i];
+                for (int j = 0; j < _queueLimit; j++)
+                    if (j != candidateModel._id) _simP[getPackedIndex(candidateModel._id, j)] = _simT[j];
             }
 
-            _queue.removeLast(); // remove the worst element
+            _queue.remove(_queue.size() - 1); // remove the worst element
 
             if (lastElement._isCompatible)
                 updateNeighborhoodWithRespectToRemovedModel(lastElement);
             else _noCompatibleModels++; //otherwise do not need to update (1:1) replacement
 
             // this is the only case for switching to "all models are compatible":
-            if (_queue.getLast()._isCompatible) _allStoredModelsAreCompatible = true;
+            if (_queue.get(_queue.size() - 1)._isCompatible) _allStoredModelsAreCompatible = true;
 
             return true;
         }
@@ -298,48 +360,40 @@ public class ModelsQueue<T extends AbstractValueInternalModel>
 
             // moderate case (this should not affect neighborhood)
             SortedModel<T> candidateModel = new SortedModel<>(-1, _kMostSimilarNeighbors, _similarity.isLessMeaningCloser(), model, cd);
-            if (Double.compare(candidateModel._compatibilityDegree, _queue.getLast()._compatibilityDegree) < 0)
+            if (Double.compare(candidateModel._compatibilityDegree, _queue.get(_queue.size() - 1)._compatibilityDegree) < 0)
                 return false; // premature termination
 
-            ListIterator<SortedModel<T>> listIterator = getTheIteratorForIncompatibleInsertion(candidateModel);
-            if (listIterator != null)
+            int index = getIndexForIncompatibleInsertion(candidateModel);
+            if (index != -1)
             {
-                listIterator.add(candidateModel);
+                _queue.add(index, candidateModel);
                 // the analyzed model is not compatible, so it cannot force a compatible one to leave;
                 // thus there is no need to update neighborhood with respect to removed model
-                candidateModel._id = _queue.getLast()._id;
-                _queue.removeLast();
+                candidateModel._id = _queue.get(_queue.size() - 1)._id;
+                _queue.remove(_queue.size() - 1);
             }
-            // otherwise the element is not added (no concurrent modification)
+            // otherwise the element is not added
             return false;
         }
     }
 
     /**
-     * Auxiliary method that updates the neighborhood with respect to the removed model
+     * Auxiliary method that updates the neighborhood with respect to the removed model. The k-nearest neighbors lists
+     * that contain the removed model are updated incrementally: the model is dropped, and if the list was full, the
+     * most similar compatible model that is not yet stored in the list (the first one in the queue order, in the case
+     * of ties) fills the freed slot. The affected models are then re-ranked.
      *
      * @param removedModel last model removed from the queue (must be compatible)
      */
     protected void updateNeighborhoodWithRespectToRemovedModel(SortedModel<T> removedModel)
     {
-        LinkedList<SortedModel<T>> requireUpdate = new LinkedList<>();
+        ArrayList<SortedModel<T>> requireUpdate = new ArrayList<>();
 
         // Collect models whose neighborhood structure changed
-        ListIterator<SortedModel<T>> listIterator = _queue.listIterator();
-
-        while (listIterator.hasNext())
+        for (SortedModel<T> model : _queue)
         {
-            SortedModel<T> model = listIterator.next();
-            if (!model._isCompatible) break;
-            // if (!model._isCompatible) break; // ineffective, all queue elements must be compatible at this step
-            if (model._closestModels.isModelWithIDStored(removedModel._id))
-            {
-                requireUpdate.add(model); // needs update
-                //model._closestModels.removeModelAtIndex(index);
-                model._closestModels.reset();
-                // remove from queue
-                listIterator.remove();  // remove from the queue (needs to be added again)
-            }
+            if (!model._isCompatible) break; // all compatible are stored first
+            if (model._closestModels.isModelStored(removedModel)) requireUpdate.add(model);
         }
 
         if (requireUpdate.isEmpty()) return;
@@ -347,85 +401,142 @@ public class ModelsQueue<T extends AbstractValueInternalModel>
         // Update models
         for (SortedModel<T> m : requireUpdate)
         {
-            // update with respect to both
-            updateClosestModels(m, _queue, true);
-            updateClosestModels(m, requireUpdate, true);
+            boolean wasFull = m._closestModels.getNoStoredModels() == _kMostSimilarNeighbors;
+            m._closestModels.remove(removedModel);
+            if (!wasFull) continue; // all other compatible models are already stored
+
+            SortedModel<T> best = null;
+            double bestSimilarity = 0.0d;
+            for (SortedModel<T> c : _queue)
+            {
+                if (!c._isCompatible) break;
+                if (c._id == m._id) continue;
+                double s = _simP[getPackedIndex(m._id, c._id)];
+                if ((best != null) && (!isMoreSimilar(s, bestSimilarity))) continue;
+                if (m._closestModels.isModelStored(c)) continue;
+                best = c;
+                bestSimilarity = s;
+            }
+            if (best != null) m._closestModels.insert(best, best._id, bestSimilarity);
         }
 
         // need to sort
+        int w = 0;
+        for (SortedModel<T> model : _queue)
+            if (!requireUpdate.contains(model)) _queue.set(w++, model);
+        truncateQueue(w);
         requireUpdate.sort(_comparator);
         doFrontalInsertionSort(requireUpdate);
     }
 
     /**
-     * Adds properly sorted models to the queue (insertion sort)
+     * Auxiliary method for checking if a candidate similarity is better than a reference one.
      *
-     * @param modelsToAdd sorted models
+     * @param candidateSimilarity candidate similarity
+     * @param referenceSimilarity reference similarity
+     * @return true, the candidate similarity is better (more similar) than the reference one
      */
-    protected void doFrontalInsertionSort(LinkedList<SortedModel<T>> modelsToAdd)
+    private boolean isMoreSimilar(double candidateSimilarity, double referenceSimilarity)
     {
-        // Add the elements in linear time
-        ListIterator<SortedModel<T>> listIterator = _queue.listIterator();
-        SortedModel<T> ne;
+        if (_similarity.isLessMeaningCloser()) return Double.compare(candidateSimilarity, referenceSimilarity) < 0;
+        return Double.compare(referenceSimilarity, candidateSimilarity) < 0;
+    }
 
+    /**
+     * Auxiliary method truncating the queue to the given size.
+     *
+     * @param size new size
+     */
+    private void truncateQueue(int size)
+    {
+        if (size < _queue.size()) _queue.subList(size, _queue.size()).clear();
+    }
+
+    /**
+     * Adds properly sorted models to the queue (the models are merged with the queue in linear time; they are placed
+     * after the compatible models that are not worse, and before the incompatible ones).
+     *
+     * @param modelsToAdd sorted models
+     */
+    protected void doFrontalInsertionSort(List<SortedModel<T>> modelsToAdd)
+    {
+        _buffer.clear();
+        int n = _queue.size();
+        int i = 0;
         for (SortedModel<T> sm : modelsToAdd) // need to add all elements
         {
-            while (listIterator.hasNext())
+            while (i < n)
             {
-                ne = listIterator.next();
-                if ((!ne._isCompatible) || (_comparator.compare(sm, ne) < 0))
-                {
-                    if (listIterator.hasPrevious()) listIterator.previous();
-                    break;
-                }
+                SortedModel<T> ne = _queue.get(i);
+                if ((!ne._isCompatible) || (_comparator.compare(sm, ne) < 0)) break;
+                _buffer.add(ne);
+                i++;
             }
-            listIterator.add(sm);
+            _buffer.add(sm);
         }
+        for (; i < n; i++) _buffer.add(_queue.get(i));
+        ArrayList<SortedModel<T>> tmp = _queue;
+        _queue = _buffer;
+        _buffer = tmp;
+        _buffer.clear();
     }
 
-
     /**
-     * Auxiliary properly sets the iterator for insertion (incompatible case)
+     * Auxiliary method that finds the index at which an incompatible model should be inserted (binary search; the
+     * incompatible models are stored after the compatible ones, in the descending order of compatibility degrees).
      *
      * @param sm element to be added
-     * @return list iterator (null; if processing should be skipped)
+     * @return index for insertion (-1, if processing should be skipped)
      */
-    private ListIterator<SortedModel<T>> getTheIteratorForIncompatibleInsertion(SortedModel<T> sm)
+    private int getIndexForIncompatibleInsertion(SortedModel<T> sm)
     {
-        ListIterator<SortedModel<T>> listIterator = _queue.listIterator();
-
-        SortedModel<T> e = listIterator.next();
-        boolean found = false;
+        SortedModel<T> e = _queue.get(0);
+        if ((!e._isCompatible) && (Double.compare(e._compatibilityDegree, sm._compatibilityDegree) <= 0)) return 0;
 
-        if ((e._isCompatible)  // the next element is compatible (move forward)
-                // or the next element is incompatible and has better score
-                || (Double.compare(e._compatibilityDegree, sm._compatibilityDegree) > 0))
+        // the first index (>= 1) of an incompatible model with a smaller compatibility degree
+        int lo = 1;
+        int hi = _queue.size();
+        while (lo < hi)
         {
-            while (listIterator.hasNext())
-            {
-                e = listIterator.next();
-                // current element is better (so break)
-                if ((!e._isCompatible) && (Double.compare(e._compatibilityDegree, sm._compatibilityDegree) < 0))
-                {
-                    found = true;
-                    break;
-                }
-            }
-            if (!found) return null; // has not found proper index for insertion
-            listIterator.previous(); // move back (previous element must be worse)
+            int mid = (lo + hi) >>> 1;
+            e = _queue.get(mid);
+            if ((!e._isCompatible) && (Double.compare(e._compatibilityDegree, sm._compatibilityDegree) < 0)) hi = mid;
+            else lo = mid + 1;
         }
-        return listIterator;
+        return lo == _queue.size() ? -1 : lo;
     }
 
 
     /**
-     * Getter for the sorted queue.
+     * Returns a snapshot of the sorted queue (a new list; its modifications do not affect the queue, and it does not
+     * reflect later modifications of the queue). The stored sorted models are not copied. To access the queue without
+     * copying, use {@link #getSortedModels()}.
      *
-     * @return sorted queue
+     * @return sorted queue (snapshot)
      */
     public LinkedList<SortedModel<T>> getQueue()
     {
-        return _queue;
+        return new LinkedList<>(_queue);
+    }
+
+    /**
+     * Returns the read-only view of the sorted queue (random access; valid until the next modification of the queue).
+     *
+     * @return sorted queue (read-only view)
+     */
+    public List<SortedModel<T>> getSortedModels()
+    {
+        return Collections.unmodifiableList(_queue);
+    }
+
+    /**
+     * Returns the current number of models stored in the queue.
+     *
+     * @return queue size
+     */
+    public int getSize()
+    {
+        return _queue.size();
     }
 
     /**
@@ -462,12 +573,7 @@ public class ModelsQueue<T extends AbstractValueInternalModel>
         if (_noCompatibleModels < 2) return r; // if there is one, it is not compared against anything
         k = Math.min(k, _noCompatibleModels - 1);
 
-        int idx = 0;
-        for (SortedModel<T> m : _queue)
-        {
-            r[idx++] = m._closestModels._similarities[k];
-            if (idx == _noCompatibleModels) break;
-        }
+        for (int i = 0; i < _noCompatibleModels; i++) r[i] = _queue.get(i)._closestModels._similarities[k];
         return r;
     }
 
@@ -583,6 +689,34 @@ public class ModelsQueue<T extends AbstractValueInternalModel>
         return areSimilaritiesCorrect();
     }
 
+    /**
+     * Auxiliary method for validating the data maintained incrementally when inserting models (see
+     * {@link #insertEvaluatedModel(AbstractValueInternalModel, Double)}): the similarities stored in the packed
+     * matrix (compatible models only) and the sizes of the k-nearest neighbors lists (each compatible model should
+     * store min(k, the number of compatible models - 1) neighbors).
+     *
+     * @return null if data is correct; message if not
+     */
+    protected String areIncrementalDataCorrect()
+    {
+        int expected = Math.min(_kMostSimilarNeighbors, _noCompatibleModels - 1);
+        for (SortedModel<T> m1 : _queue)
+        {
+            if (!m1._isCompatible) continue;
+            if (m1._closestModels.getNoStoredModels() != expected)
+                return "The number of stored k-nearest neighbours is invalid (" + m1._closestModels.getNoStoredModels()
+                        + " but should be " + expected + ")";
+            for (SortedModel<T> m2 : _queue)
+            {
+                if ((!m2._isCompatible) || (m1._id == m2._id)) continue;
+                if (Double.compare(_simP[getPackedIndex(m1._id, m2._id)],
+                        _similarity.calculateSimilarity(m1._model, m2._model)) != 0)
+                    return "The stored similarity between models " + m1._id + " and " + m2._id + " is invalid";
+            }
+        }
+        return null;
+    }
+
     /**
      * Auxiliary method for validating the similarity-related data.
      *
@@ -7,7 +7,7 @@ import model.internals.value.AbstractValueInternalModel;
 import random.IRandom;
 
 import java.util.ArrayList;
-import java.util.ListIterator;
+import java.util.List;
 
 /**
  * Simple implementation of a tournament selection. It selects two parents for further reproduction.
@@ -41,7 +41,8 @@ public class Tournament<T extends AbstractValueInternalModel> implements IParent
     @Override
     public ArrayList<SortedModel<T>> getParents(DMContext dmContext, ERS<T> ers)
     {
-        int l = ers.getModelsQueue().getQueue().size();
+        List<SortedModel<T>> models = ers.getModelsQueue().getSortedModels();
+        int l = models.size();
 
         IRandom R = dmContext.getR();
         int p1Idx = Integer.MAX_VALUE;
@@ -63,27 +64,9 @@ public class Tournament<T extends AbstractValueInternalModel> implements IParent
         }
 
 
-        int cIdx = 0;
-        ListIterator<SortedModel<T>> it = ers.getModelsQueue().getQueue().listIterator();
-        SortedModel<T> model;
-        SortedModel<T> m1 = null;
-        SortedModel<T> m2 = null;
-
-        while (it.hasNext())
-        {
-            model = it.next();
-            if (cIdx == p1Idx) m1 = model;
-            if (cIdx == p2Idx)
-            {
-                m2 = model;
-                break;
-            }
-            cIdx++;
-        }
-
         ArrayList<SortedModel<T>> parents = new ArrayList<>(2);
-        parents.add(m1);
-        parents.add(m2);
+        parents.add(models.get(p1Idx));
+        parents.add(models.get(p2Idx));
         return parents;
     }
 }
@@ -7,7 +7,7 @@ import model.internals.value.AbstractValueInternalModel;
 import updater.AbstractSource;
 import updater.IDataSource;
 
-import java.util.LinkedList;
+import java.util.List;
 
 
 /**
@@ -49,7 +49,7 @@ abstract public class AbstractModelsQueueSource<T extends AbstractValueInternalM
     @Override
     public double[][] createData()
     {
-        LinkedList<SortedModel<T>> models = _modelQueue.getQueue();
+        List<SortedModel<T>> models = _modelQueue.getSortedModels();
         if (models == null) return null;
         double[][] data;
         if (_considerOnlyCompatible) data = new double[_modelQueue.getNoCompatibleModels()][];
@@ -7,6 +7,7 @@ import model.constructor.Report;
 import model.constructor.random.IRandomModel;
 import model.constructor.value.rs.AbstractRejectionSampling;
 import model.internals.value.AbstractValueInternalModel;
+import random.IRandom;
 
 import java.util.ArrayList;
 import java.util.LinkedList;
@@ -16,7 +17,8 @@ import java.util.LinkedList;
  * It is a method based on the Monte Carlo simulation technique. In a nutshell, it iteratively samples random model
  * instances (using {@link IRandomModel} for this purpose) and rejects those that are not compatible with the decision
  * maker's preferences provided. The method can be parameterized given, e.g., the sampling limit or the number of feasible
- * samples required to be generated.
+ * samples required to be generated. The sampling can be executed in parallel (see
+ * {@link AbstractRejectionSampling.Params#_noThreads}).
  *
  * @author MTomczyk
  */
@@ -59,6 +61,11 @@ public class FRS<T extends AbstractValueInternalModel> extends AbstractRejection
      */
     protected int _toGenerate;
 
+    /**
+     * Reference to the report viewed as {@link model.constructor.value.rs.Report}.
+     */
+    private model.constructor.value.rs.Report<T> _rsReport;
+
     /**
      * Parameterized constructor.
      *
@@ -73,6 +80,18 @@ public class FRS<T extends AbstractValueInternalModel> extends AbstractRejection
         attemptToSupplyInitialModels();
     }
 
+    /**
+     * Auxiliary method for creating and internally setting a report instance.
+     *
+     * @return report instance
+     */
+    @Override
+    protected Report<T> instantiateReport()
+    {
+        _rsReport = new model.constructor.value.rs.Report<>(_dmContext);
+        return _rsReport;
+    }
+
     /**
      * The main-construct models phase (to be overwritten).
      * The concrete extension should provide the constructed models via the bundle object.
@@ -92,15 +111,79 @@ public class FRS<T extends AbstractValueInternalModel> extends AbstractRejection
         else attempts = Math.max(0, _samplingLimit);
 
 
-        for (int t = 0; t < attempts; t++)
+        IRandom[] RNGs = getThreadsRNGs();
+        if (RNGs == null)
         {
-            executeStep(bundle, preferenceInformation);
-            if (_toGenerate == 0) break;
+            for (int t = 0; t < attempts; t++)
+            {
+                executeStep(bundle, preferenceInformation);
+                _rsReport._noExecutedIterations++;
+                if (_toGenerate == 0) break;
+            }
         }
+        else executeParallelSampling(bundle, preferenceInformation, RNGs, attempts);
 
         finalizeStep(bundle, preferenceInformation);
     }
 
+    /**
+     * Executes the parallel sampling. The attempts are executed in rounds (see
+     * {@link #executeParallelRound(IRandom[], int, LinkedList, boolean)}), until the required number of
+     * compatible models is found or the attempts are exhausted. The samples are processed in the order of threads,
+     * hence the results are reproducible for a fixed number of threads. Note that all the attempts of the final round
+     * are accounted for in the report, even if the required number of compatible models is attained earlier.
+     *
+     * @param bundle                bundle result object to be filled
+     * @param preferenceInformation the decision maker's preference information stored (provided via wrappers)
+     * @param RNGs                  random number generators (one per thread)
+     * @param attempts              the number of attempts
+     * @throws ConstructorException the exception can be thrown
+     */
+    private void executeParallelSampling(Report<T> bundle, LinkedList<PreferenceInformationWrapper> preferenceInformation,
+                                         IRandom[] RNGs, int attempts) throws ConstructorException
+    {
+        _rsReport._acceptedPerThread = new int[RNGs.length];
+        _rsReport._rejectedPerThread = new int[RNGs.length];
+        int executed = 0;
+        while ((executed < attempts) && (_toGenerate > 0))
+        {
+            long startTime = System.nanoTime();
+            int round = Math.min(attempts - executed, RNGs.length * _attemptsPerThreadInRound);
+            ArrayList<Samples<T>> samples = executeParallelRound(RNGs, round, preferenceInformation, false);
+            for (int w = 0; w < samples.size(); w++)
+            {
+                Samples<T> s = samples.get(w);
+                for (int i = 0; i < s._models.size(); i++)
+                {
+                    if (s._compatible[i])
+                    {
+                        if (_toGenerate > 0)
+                        {
+                            _models.add(s._models.get(i));
+                            _toGenerate--;
+                        }
+                        bundle._acceptedNewlyConstructedModels++;
+                        _rsReport._acceptedPerThread[w]++;
+                    }
+                    else
+                    {
+                        bundle._rejectedNewlyConstructedModels++;
+                        _rsReport._rejectedPerThread[w]++;
+                    }
+
+                    if ((_toGenerate == 0) && (_compatibleFoundInIterations == null))
+                    {
+                        _compatibleFoundInIterations = (bundle._acceptedNewlyConstructedModels + bundle._rejectedNewlyConstructedModels);
+                        _compatibleFoundInTime = (_passedTime + System.nanoTime() - startTime) / 1000000.0d;
+                    }
+                }
+            }
+            executed += round;
+            _rsReport._noExecutedIterations = executed;
+            _passedTime += (System.nanoTime() - startTime);
+        }
+    }
+
     /**
      * Execute the finalize step.
      *
@@ -159,8 +242,7 @@ public class FRS<T extends AbstractValueInternalModel> extends AbstractRejection
         long startTime = System.nanoTime();
 
         T M = _RM.generateModel(_R);
-        Double a = _compatibilityAnalyzer.calculateTheMostDiscriminativeCompatibilityWithValueModel(preferenceInformation, M);
-        if ((a == null) || (Double.compare(a, 0.0d) > 0))
+        if (isCompatible(preferenceInformation, M))
         {
             if (_models.size() < _feasibleSamplesToGenerate) _models.add(M);
             _toGenerate--;
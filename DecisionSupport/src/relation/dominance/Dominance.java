@@ -60,6 +60,26 @@ public class Dominance implements IBinaryRelation
         return DominanceUtils.isDominating(A, B, _criteria, _epsilon);
     }
 
+    /**
+     * Getter for the considered criteria.
+     *
+     * @return considered criteria
+     */
+    public Criteria getCriteria()
+    {
+        return _criteria;
+    }
+
+    /**
+     * Getter for the epsilon-tolerance used when comparing doubles.
+     *
+     * @return epsilon-tolerance
+     */
+    public double getEpsilon()
+    {
+        return _epsilon;
+    }
+
     /**
      * Returns the relation type.
      *
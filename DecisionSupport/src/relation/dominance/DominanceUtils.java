@@ -8,6 +8,9 @@ import relation.IBinaryRelation;
 import relation.equalevaluations.EqualEvaluationsUtils;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeMap;
 
 /**
  * Contains different valuable methods for verifying the dominance relation.
@@ -17,7 +20,7 @@ import java.util.ArrayList;
 public class DominanceUtils
 {
     /**
-     * Identifies non-dominated alternatives.
+     * Identifies non-dominated alternatives (see {@link #pointNonDominatedVectors(double[][], Criteria)}).
      *
      * @param alternatives wrapper for alternatives
      * @param criteria     considered criteria
@@ -25,31 +28,9 @@ public class DominanceUtils
      */
     public static int[] pointNonDominatedVectors(AbstractAlternatives<?> alternatives, Criteria criteria)
     {
-        int nds = 0;
-        boolean[] nonDom = new boolean[alternatives.size()];
-        for (int i = 0; i < alternatives.size(); i++)
-        {
-            boolean pass = true;
-            for (int j = 0; j < alternatives.size(); j++)
-            {
-                if (i == j) continue;
-                if (isDominating(alternatives.get(j).getPerformanceVector(), alternatives.get(i).getPerformanceVector(), criteria))
-                {
-                    pass = false;
-                    break;
-                }
-            }
-            if (pass)
-            {
-                nonDom[i] = true;
-                nds++;
-            }
-        }
-
-        int[] pnt = new int[nds];
-        int idx = 0;
-        for (int i = 0; i < nonDom.length; i++) if (nonDom[i]) pnt[idx++] = i;
-        return pnt;
+        double[][] input = new double[alternatives.size()][];
+        for (int i = 0; i < alternatives.size(); i++) input[i] = alternatives.get(i).getPerformanceVector();
+        return pointNonDominatedVectors(input, criteria);
     }
 
     /**
@@ -69,23 +50,166 @@ public class DominanceUtils
     }
 
     /**
-     * Identifies non-dominated vectors (stored in a matrix)
+     * Identifies non-dominated vectors (stored in a matrix). A vector is non-dominated if no other vector dominates it
+     * in the sense of {@link #isDominating(double[], double[], Criteria)} (hence, equal vectors do not eliminate each
+     * other). The performances are first mapped onto long keys whose order agrees with {@link Double#compare(double,
+     * double)} (reversed for gain criteria), so the results are identical to the all-pairs verification. Then, the
+     * vectors are sorted lexicographically (a vector can be dominated only by vectors that precede it), and filtered
+     * using a sweep (one or two criteria: O(N log N)), a sweep with a staircase of non-dominated points (three
+     * criteria: O(N log N)), or a presorted skyline filter (more criteria: each vector is compared only with the
+     * non-dominated vectors found so far).
      *
      * @param input    input matrix (each row is one performance vector)
      * @param criteria considered criteria
-     * @return indices list (contains indices that point to the original input matrix; showing which vectors are non-dominated)
+     * @return indices list (contains indices that point to the original input matrix; showing which vectors are
+     * non-dominated; in ascending order)
      */
     public static int[] pointNonDominatedVectors(double[][] input, Criteria criteria)
     {
+        int N = input.length;
+        int M = criteria._no;
+        if (N == 0) return new int[0];
+        if ((N == 1) || (M == 0))
+        {
+            int[] pnt = new int[N];
+            for (int i = 0; i < N; i++) pnt[i] = i;
+            return pnt;
+        }
+
+        // keys (smaller = better)
+        long[] keys = new long[N * M];
+        for (int i = 0; i < N; i++)
+        {
+            for (int j = 0; j < M; j++)
+            {
+                long bits = Double.doubleToLongBits(input[i][j]);
+                long key = bits ^ ((bits >> 63) & Long.MAX_VALUE);
+                if (criteria._c[j].isGain()) key = ~key;
+                keys[i * M + j] = key;
+            }
+        }
+
+        // lexicographic order
+        Integer[] order = new Integer[N];
+        for (int i = 0; i < N; i++) order[i] = i;
+        Arrays.sort(order, (o1, o2) -> {
+            for (int j = 0; j < M; j++)
+            {
+                int c = Long.compare(keys[o1 * M + j], keys[o2 * M + j]);
+                if (c != 0) return c;
+            }
+            return Integer.compare(o1, o2);
+        });
+
+        boolean[] nonDom = new boolean[N];
+        if (M <= 2) sweep(keys, M, order, nonDom);
+        else if (M == 3) staircaseSweep(keys, order, nonDom);
+        else skylineFilter(keys, M, order, nonDom);
+
         int nds = 0;
-        boolean[] nonDom = new boolean[input.length];
-        for (int i = 0; i < input.length; i++)
+        for (boolean b : nonDom) if (b) nds++;
+        int[] pnt = new int[nds];
+        int idx = 0;
+        for (int i = 0; i < N; i++) if (nonDom[i]) pnt[idx++] = i;
+        return pnt;
+    }
+
+    /**
+     * Auxiliary method identifying non-dominated vectors (one or two criteria; the vectors are processed in groups of
+     * equal values on the first criterion).
+     *
+     * @param keys   keys (row-major; smaller = better)
+     * @param M      the number of criteria (1 or 2)
+     * @param order  lexicographic order of the vectors
+     * @param nonDom flags to be filled
+     */
+    private static void sweep(long[] keys, int M, Integer[] order, boolean[] nonDom)
+    {
+        long bestInPreviousGroups = Long.MAX_VALUE;
+        boolean previousGroupExists = false;
+        int g = 0;
+        while (g < order.length)
+        {
+            long first = keys[order[g] * M];
+            int e = g + 1;
+            while ((e < order.length) && (keys[order[e] * M] == first)) e++;
+            if (M == 1)
+            {
+                // only the first group is non-dominated
+                if (!previousGroupExists) for (int i = g; i < e; i++) nonDom[order[i]] = true;
+            }
+            else
+            {
+                long groupMin = keys[order[g] * M + 1];
+                if ((!previousGroupExists) || (bestInPreviousGroups > groupMin))
+                    for (int i = g; (i < e) && (keys[order[i] * M + 1] == groupMin); i++) nonDom[order[i]] = true;
+                if (groupMin < bestInPreviousGroups) bestInPreviousGroups = groupMin;
+            }
+            previousGroupExists = true;
+            g = e;
+        }
+    }
+
+    /**
+     * Auxiliary method identifying non-dominated vectors (three criteria). The vectors are processed in the
+     * lexicographic order (groups of equal vectors are processed together), and the projections of the non-dominated
+     * vectors found so far onto the second and third criteria are kept in a staircase (the third key decreases as the
+     * second one increases). A vector is dominated if and only if some projection in the staircase is not worse on
+     * both criteria.
+     *
+     * @param keys   keys (row-major; smaller = better)
+     * @param order  lexicographic order of the vectors
+     * @param nonDom flags to be filled
+     */
+    private static void staircaseSweep(long[] keys, Integer[] order, boolean[] nonDom)
+    {
+        TreeMap<Long, Long> staircase = new TreeMap<>();
+        int g = 0;
+        while (g < order.length)
+        {
+            int o = order[g] * 3;
+            int e = g + 1;
+            while ((e < order.length) && (areKeysEqual(keys, order[g], order[e], 3))) e++;
+
+            long k1 = keys[o + 1];
+            long k2 = keys[o + 2];
+            Map.Entry<Long, Long> floor = staircase.floorEntry(k1);
+            if ((floor == null) || (floor.getValue() > k2))
+            {
+                for (int i = g; i < e; i++) nonDom[order[i]] = true;
+                // remove the projections that are not better
+                Map.Entry<Long, Long> ceiling = staircase.ceilingEntry(k1);
+                while ((ceiling != null) && (ceiling.getValue() >= k2))
+                {
+                    staircase.remove(ceiling.getKey());
+                    ceiling = staircase.ceilingEntry(k1);
+                }
+                staircase.put(k1, k2);
+            }
+            g = e;
+        }
+    }
+
+    /**
+     * Auxiliary method identifying non-dominated vectors (any number of criteria). The vectors are processed in the
+     * lexicographic order, and each one is compared only with the non-dominated vectors found so far (a vector
+     * dominated by a dominated one is also dominated by some non-dominated vector).
+     *
+     * @param keys   keys (row-major; smaller = better)
+     * @param M      the number of criteria
+     * @param order  lexicographic order of the vectors
+     * @param nonDom flags to be filled
+     */
+    private static void skylineFilter(long[] keys, int M, Integer[] order, boolean[] nonDom)
+    {
+        int[] skyline = new int[order.length];
+        int size = 0;
+        for (Integer i : order)
         {
             boolean pass = true;
-            for (int j = 0; j < input.length; j++)
+            for (int s = 0; s < size; s++)
             {
-                if (i == j) continue;
-                if (isDominating(input[j], input[i], criteria))
+                if (isDominating(keys, skyline[s], i, M))
                 {
                     pass = false;
                     break;
@@ -94,14 +218,46 @@ public class DominanceUtils
             if (pass)
             {
                 nonDom[i] = true;
-                nds++;
+                skyline[size++] = i;
             }
         }
+    }
 
-        int[] pnt = new int[nds];
-        int idx = 0;
-        for (int i = 0; i < nonDom.length; i++) if (nonDom[i]) pnt[idx++] = i;
-        return pnt;
+    /**
+     * Auxiliary method checking if the a-th vector dominates the b-th one (comparison of keys).
+     *
+     * @param keys keys (row-major; smaller = better)
+     * @param a    index of the first vector
+     * @param b    index of the second vector
+     * @param M    the number of criteria
+     * @return true, if the a-th vector dominates the b-th one; false otherwise
+     */
+    private static boolean isDominating(long[] keys, int a, int b, int M)
+    {
+        boolean strict = false;
+        for (int j = 0; j < M; j++)
+        {
+            long ka = keys[a * M + j];
+            long kb = keys[b * M + j];
+            if (ka > kb) return false;
+            if (ka < kb) strict = true;
+        }
+        return strict;
+    }
+
+    /**
+     * Auxiliary method checking if the keys of two vectors are equal.
+     *
+     * @param keys keys (row-major)
+     * @param a    index of the first vector
+     * @param b    index of the second vector
+     * @param M    the number of criteria
+     * @return true, if the keys are equal; false otherwise
+     */
+    private static boolean areKeysEqual(long[] keys, int a, int b, int M)
+    {
+        for (int j = 0; j < M; j++) if (keys[a * M + j] != keys[b * M + j]) return false;
+        return true;
     }
 
     /**
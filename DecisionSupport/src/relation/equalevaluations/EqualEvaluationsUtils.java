@@ -6,6 +6,8 @@ import alternative.Alternatives;
 import space.Vector;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
 
 /**
  * Contains different valuable methods for verifying the alternatives' equality (given their evaluations).
@@ -15,49 +17,67 @@ import java.util.ArrayList;
 public class EqualEvaluationsUtils
 {
     /**
-     * Auxiliary method that identifies unique vectors.
-     *
-     * @param alternatives wrapper for alternatives
-     * @param tolerance    tolerance used when comparing doubles
-     * @return indices list (contains indices that point to the original input matrix; showing which vectors are unique)
+     * Auxiliary class representing a cell of the hash grid (see {@link #pointUnique(double[][], double)}).
      */
-    public static int[] pointUnique(AbstractAlternatives<?> alternatives, double tolerance)
+    private static final class Cell
     {
-        boolean[] passed = new boolean[alternatives.size()];
-        boolean[] checked = new boolean[alternatives.size()];
-
-        EqualEvaluations EA = new EqualEvaluations(tolerance);
+        /**
+         * Cell coordinates.
+         */
+        private final long _c0, _c1, _c2;
 
-        int survived = 0;
-        for (int i = 0; i < alternatives.size(); i++)
+        /**
+         * Parameterized constructor.
+         *
+         * @param c0 the first coordinate
+         * @param c1 the second coordinate
+         * @param c2 the third coordinate
+         */
+        private Cell(long c0, long c1, long c2)
         {
-            if ((checked[i]) && (!passed[i])) continue;
-            else
-            {
-                passed[i] = true;
-                survived++;
-            }
-
-            checked[i] = true;
+            _c0 = c0;
+            _c1 = c1;
+            _c2 = c2;
+        }
 
-            for (int j = i + 1; j < alternatives.size(); j++)
-            {
-                if ((checked[i]) && (!passed[i])) continue;
+        @Override
+        public boolean equals(Object o)
+        {
+            if (!(o instanceof Cell c)) return false;
+            return (_c0 == c._c0) && (_c1 == c._c1) && (_c2 == c._c2);
+        }
 
-                if (EA.isHolding(alternatives.get(i), alternatives.get(j)))
-                {
-                    checked[j] = true;
-                    passed[j] = false;
-                }
-            }
+        @Override
+        public int hashCode()
+        {
+            return Long.hashCode(_c0 * 0x9E3779B97F4A7C15L + _c1 * 0xC2B2AE3D27D4EB4FL + _c2);
         }
+    }
 
-        int[] indices = new int[survived];
-        int idx = 0;
-        for (int i = 0; i < alternatives.size(); i++)
-            if (passed[i]) indices[idx++] = i;
+    /**
+     * If the number of vectors is smaller than this threshold, duplicates are identified via all-pairs comparison.
+     */
+    private static final int MIN_VECTORS_FOR_HASHING = 32;
 
-        return indices;
+    /**
+     * The maximal absolute cell index (larger indices could be affected by rounding errors; such vectors are compared
+     * with all unique vectors).
+     */
+    private static final double MAX_CELL_INDEX = 1.0E12d;
+
+    /**
+     * Auxiliary method that identifies unique vectors (see {@link #pointUnique(double[][], double)}; the performance
+     * vectors are compared).
+     *
+     * @param alternatives wrapper for alternatives
+     * @param tolerance    tolerance used when comparing doubles
+     * @return indices list (contains indices that point to the original input matrix; showing which vectors are unique)
+     */
+    public static int[] pointUnique(AbstractAlternatives<?> alternatives, double tolerance)
+    {
+        double[][] vectors = new double[alternatives.size()][];
+        for (int i = 0; i < alternatives.size(); i++) vectors[i] = alternatives.get(i).getPerformanceVector();
+        return pointUnique(vectors, tolerance);
     }
 
     /**
@@ -77,7 +97,15 @@ public class EqualEvaluationsUtils
 
 
     /**
-     * Auxiliary method that identifies unique vectors.
+     * Auxiliary method that identifies unique vectors. The i-th vector is considered a duplicate if it equals (see
+     * {@link Vector#areVectorsEqual(double[], double[], double)}) some preceding unique vector (first-occurrence
+     * semantics; note that the equality is not transitive when the tolerance is positive). For larger sets, the
+     * candidates are found using a hash grid built over (up to) three dimensions with the largest spreads (the cells'
+     * widths are not smaller than twice the tolerance, so only the neighboring cells must be examined, and they are
+     * adjusted to the spreads, so the number of cells is comparable to the number of vectors, even if the tolerance is
+     * tiny, see {@link #getCellWidth(double, int, int, double)}; when the tolerance is zero or negative, the cells are
+     * defined by the values themselves); the candidates are then verified via the exact comparison. Hence, the results are identical to those derived via the all-pairs comparison, but the expected
+     * cost is near-linear.
      *
      * @param alternatives alternatives matrix (alternatives X performances (criteria))
      * @param tolerance    tolerance used when comparing doubles
@@ -85,6 +113,11 @@ public class EqualEvaluationsUtils
      */
     public static int[] pointUnique(double[][] alternatives, double tolerance)
     {
+        int[] indices = null;
+        if ((alternatives.length >= MIN_VECTORS_FOR_HASHING) && (!Double.isNaN(tolerance)) &&
+                (!Double.isInfinite(tolerance))) indices = pointUniqueUsingGrid(alternatives, tolerance);
+        if (indices != null) return indices;
+
         boolean[] passed = new boolean[alternatives.length];
         boolean[] checked = new boolean[alternatives.length];
 
@@ -112,7 +145,7 @@ public class EqualEvaluationsUtils
             }
         }
 
-        int[] indices = new int[survived];
+        indices = new int[survived];
         int idx = 0;
         for (int i = 0; i < alternatives.length; i++)
             if (passed[i]) indices[idx++] = i;
@@ -120,6 +153,174 @@ public class EqualEvaluationsUtils
         return indices;
     }
 
+    /**
+     * Auxiliary method that identifies unique vectors using the hash grid (see {@link #pointUnique(double[][], double)}).
+     *
+     * @param alternatives alternatives matrix (alternatives X performances (criteria))
+     * @param tolerance    tolerance used when comparing doubles (finite)
+     * @return indices list (null, if the vectors are not suitable, i.e., some are null or they are of different lengths)
+     */
+    private static int[] pointUniqueUsingGrid(double[][] alternatives, double tolerance)
+    {
+        int N = alternatives.length;
+        if (alternatives[0] == null) return null;
+        int M = alternatives[0].length;
+        if (M == 0) return null;
+        for (double[] a : alternatives) if ((a == null) || (a.length != M)) return null;
+
+        boolean grid = Double.compare(tolerance, 0.0d) > 0;
+        double[] min = new double[M];
+        double[] spreads = new double[M];
+        calculateSpreads(alternatives, M, min, spreads);
+        int[] dims = getDimensionsWithLargestSpreads(spreads, M, Math.min(M, 3));
+        int D = dims.length;
+        double[] widths = new double[D];
+        for (int d = 0; d < D; d++) widths[d] = getCellWidth(spreads[dims[d]], N, D, tolerance);
+
+        HashMap<Cell, ArrayList<Integer>> cells = new HashMap<>();
+        ArrayList<Integer> outliers = new ArrayList<>(); // unique vectors that are not hashed
+        boolean[] passed = new boolean[N];
+        long[] c = new long[3];
+        int survived = 0;
+
+        for (int i = 0; i < N; i++)
+        {
+            double[] a = alternatives[i];
+            boolean hashed = true;
+            for (int d = 0; d < D; d++)
+            {
+                double v = a[dims[d]];
+                if (!grid) c[d] = Double.doubleToLongBits(Double.compare(tolerance, 0.0d) == 0 ? v + 0.0d : v);
+                else
+                {
+                    double q = Math.floor((v - min[dims[d]]) / widths[d]);
+                    if ((!Double.isFinite(q)) || (Math.abs(q) > MAX_CELL_INDEX)) hashed = false;
+                    else c[d] = (long) q;
+                }
+            }
+
+            boolean duplicate = false;
+            for (Integer j : outliers)
+                if (Vector.areVectorsEqual(alternatives[j], a, tolerance))
+                {
+                    duplicate = true;
+                    break;
+                }
+
+            if ((!duplicate) && (!hashed)) // must be compared with all unique vectors
+            {
+                for (ArrayList<Integer> bucket : cells.values())
+                {
+                    for (Integer j : bucket)
+                        if (Vector.areVectorsEqual(alternatives[j], a, tolerance))
+                        {
+                            duplicate = true;
+                            break;
+                        }
+                    if (duplicate) break;
+                }
+            }
+            else if (!duplicate)
+            {
+                int offsets = grid ? (int) Math.pow(3, D) : 1;
+                for (int o = 0; (o < offsets) && (!duplicate); o++)
+                {
+                    int code = o;
+                    long c0 = c[0] + (grid ? code % 3 - 1 : 0);
+                    code /= 3;
+                    long c1 = D > 1 ? c[1] + (grid ? code % 3 - 1 : 0) : 0;
+                    code /= 3;
+                    long c2 = D > 2 ? c[2] + (grid ? code % 3 - 1 : 0) : 0;
+                    ArrayList<Integer> bucket = cells.get(new Cell(c0, c1, c2));
+                    if (bucket == null) continue;
+                    for (Integer j : bucket)
+                        if (Vector.areVectorsEqual(alternatives[j], a, tolerance))
+                        {
+                            duplicate = true;
+                            break;
+                        }
+                }
+            }
+
+            if (duplicate) continue;
+            passed[i] = true;
+            survived++;
+            if (!hashed) outliers.add(i);
+            else cells.computeIfAbsent(new Cell(c[0], D > 1 ? c[1] : 0, D > 2 ? c[2] : 0),
+                    k -> new ArrayList<>(1)).add(i);
+        }
+
+        int[] indices = new int[survived];
+        int idx = 0;
+        for (int i = 0; i < N; i++)
+            if (passed[i]) indices[idx++] = i;
+        return indices;
+    }
+
+    /**
+     * Auxiliary method calculating the cell width used by the hash grid (see {@link #pointUnique(double[][], double)}).
+     * The width is not smaller than twice the tolerance (so that equal vectors are in the same or neighboring cells). It
+     * is also not smaller than spread / N^(1/D), so that the number of cells (per dimension) does not exceed N^(1/D),
+     * and the grid remains effective when the tolerance is tiny compared to the values (e.g., the default
+     * {@link utils.Constants#EPSILON}).
+     *
+     * @param spread    spread of the values (difference between the maximal and minimal finite values)
+     * @param N         the number of vectors
+     * @param D         the number of dimensions used by the grid
+     * @param tolerance tolerance used when comparing doubles (positive)
+     * @return cell width
+     */
+    static double getCellWidth(double spread, int N, int D, double tolerance)
+    {
+        double width = spread / Math.pow(N, 1.0d / D);
+        if ((!Double.isFinite(width)) || (Double.compare(width, 2.0d * tolerance) < 0)) return 2.0d * tolerance;
+        return width;
+    }
+
+    /**
+     * Auxiliary method that calculates the minimal finite values and spreads (differences between the maximal and
+     * minimal finite values; 0, if there are no finite values) in each dimension.
+     *
+     * @param alternatives alternatives matrix (alternatives X performances (criteria))
+     * @param M            the number of dimensions
+     * @param min          array to be filled with the minimal values (0, if there are no finite values)
+     * @param spreads      array to be filled with the spreads
+     */
+    private static void calculateSpreads(double[][] alternatives, int M, double[] min, double[] spreads)
+    {
+        for (int j = 0; j < M; j++)
+        {
+            double lb = Double.POSITIVE_INFINITY;
+            double ub = Double.NEGATIVE_INFINITY;
+            for (double[] a : alternatives)
+            {
+                if (!Double.isFinite(a[j])) continue;
+                if (a[j] < lb) lb = a[j];
+                if (a[j] > ub) ub = a[j];
+            }
+            min[j] = ub >= lb ? lb : 0.0d;
+            spreads[j] = ub >= lb ? ub - lb : 0.0d;
+        }
+    }
+
+    /**
+     * Auxiliary method that selects the dimensions with the largest spreads.
+     *
+     * @param spreads spreads (differences between the maximal and minimal finite values)
+     * @param M       the number of dimensions
+     * @param D       the number of dimensions to select
+     * @return selected dimensions
+     */
+    private static int[] getDimensionsWithLargestSpreads(double[] spreads, int M, int D)
+    {
+        Integer[] order = new Integer[M];
+        for (int j = 0; j < M; j++) order[j] = j;
+        Arrays.sort(order, (o1, o2) -> Double.compare(spreads[o2], spreads[o1]));
+        int[] dims = new int[D];
+        for (int d = 0; d < D; d++) dims[d] = order[d];
+        return dims;
+    }
+
     /**
      * Auxiliary method that filters out duplicates.
      *
@@ -311,6 +311,14 @@ public class DecisionMakerSystem
         return _modelSystems;
     }
 
+    /**
+     * Releases the resources held by the model systems (see {@link ModelSystem#dispose()}).
+     */
+    public void dispose()
+    {
+        for (ModelSystem<?> ms : _modelSystems) ms.dispose();
+    }
+
     /**
      * Returns the string representation.
      *
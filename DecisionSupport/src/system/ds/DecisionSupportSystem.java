@@ -279,5 +279,14 @@ public class DecisionSupportSystem
         return _model._DMSs;
     }
 
+    /**
+     * Releases the resources held by the decision makers' systems (e.g., thread pools used by the model constructors;
+     * see {@link DecisionMakerSystem#dispose()}). The system can still be used afterward.
+     */
+    public void dispose()
+    {
+        for (DecisionMakerSystem dms : _model._DMSs) dms.dispose();
+    }
+
 
 }
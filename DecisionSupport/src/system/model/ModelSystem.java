@@ -378,4 +378,12 @@ public class ModelSystem<T extends AbstractInternalModel>
     {
         return _noFailedAttemptsDueToInconsistency;
     }
+
+    /**
+     * Releases the resources held by the model constructor (see {@link IConstructor#dispose()}).
+     */
+    public void dispose()
+    {
+        _modelConstructor.dispose();
+    }
 }
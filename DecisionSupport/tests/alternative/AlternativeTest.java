@@ -179,4 +179,25 @@ class AlternativeTest
             TestUtils.assertEquals(new double[]{3.0d, 4.0d, 5.0d}, alternatives.get(1).getPerformanceVector(), 1.0E-5);
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * Tests the lazily derived names.
+     */
+    @Test
+    public void testNameSource()
+    {
+        StringBuilder source = new StringBuilder("B1");
+        Alternative b = new Alternative((String) null, 2);
+        b.setNameSource(source);
+        Alternative c = b.getClone();
+        assertNull(c.getAuxScores());
+        assertEquals("B1", b.getName());
+        assertEquals("B1", c.toString());
+        assertEquals(b, c);
+        b.setName("B2");
+        assertEquals("B2", b.getName());
+        assertNotEquals(b, c);
+        b.setNameSource(null);
+        assertNull(b.getName());
+    }
+}
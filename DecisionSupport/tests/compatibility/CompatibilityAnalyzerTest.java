@@ -5,12 +5,16 @@ import history.PreferenceInformationWrapper;
 import model.internals.value.AbstractValueInternalModel;
 import model.internals.value.scalarizing.LNorm;
 import org.junit.jupiter.api.Test;
+import preference.IPreferenceInformation;
 import preference.indirect.PairwiseComparison;
 
+import random.IRandom;
+import random.MersenneTwister64;
+
+import java.util.ArrayList;
 import java.util.LinkedList;
 
-import static org.junit.jupiter.api.Assertions.assertEquals;
-import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.*;
 
 /**
  * Provides various tests for {@link CompatibilityAnalyzer}.
@@ -217,4 +221,84 @@ class CompatibilityAnalyzerTest
         double dcd = CA.calculateTheMostDiscriminativeCompatibilityWithValueModel(pes, M);
         assertEquals(0.1d, dcd, 0.00001d);
     }
-}
\ No newline at end of file
+
+    /**
+     * Test 6 (compiled preference history; the results should be identical to those derived by the analyzer)
+     */
+    @Test
+    void test6()
+    {
+        CompatibilityAnalyzer CA = new CompatibilityAnalyzer();
+        IRandom R = new MersenneTwister64(0);
+        ArrayList<Alternative> alternatives = new ArrayList<>();
+        for (int i = 0; i < 6; i++)
+            alternatives.add(new Alternative("A" + i, new double[]{R.nextDouble(), R.nextDouble(), R.nextDouble()}));
+
+        // alternatives are shared among the comparisons
+        LinkedList<PreferenceInformationWrapper> pes = new LinkedList<>();
+        for (int i = 0; i < 8; i++)
+        {
+            Alternative A1 = alternatives.get(R.nextInt(6));
+            Alternative A2 = alternatives.get(R.nextInt(6));
+            if (i == 5) pes.add(PreferenceInformationWrapper.getTestInstance(PairwiseComparison.getIndifference(A1, A2)));
+            else pes.add(PreferenceInformationWrapper.getTestInstance(PairwiseComparison.getPreference(A1, A2)));
+        }
+
+        CompiledPreferenceHistory CPH = CA.compile(pes);
+        assertNotNull(CPH);
+        assertEquals(8, CPH.getNoComparisons());
+        assertTrue(CPH.getNoAlternatives() <= 6);
+
+        ArrayList<AbstractValueInternalModel> models = new ArrayList<>();
+        for (int m = 0; m < 100; m++)
+        {
+            double[] w = new double[]{R.nextDouble(), R.nextDouble(), R.nextDouble()};
+            models.add(new LNorm(w, m % 2 == 0 ? Double.POSITIVE_INFINITY : 1.0d));
+        }
+        double[] degrees = new double[models.size()];
+        boolean[] compatible = new boolean[models.size()];
+        CPH.calculateTheMostDiscriminativeCompatibilities(models, degrees);
+        CPH.areCompatible(models, compatible);
+        for (int m = 0; m < models.size(); m++)
+        {
+            Double e = CA.calculateTheMostDiscriminativeCompatibilityWithValueModel(pes, models.get(m));
+            assertNotNull(e);
+            assertEquals(e, degrees[m]);
+            assertEquals(e, CPH.calculateTheMostDiscriminativeCompatibility(models.get(m)));
+            assertEquals(Double.compare(e, 0.0d) > 0, compatible[m]);
+            assertEquals(compatible[m], CPH.isCompatible(models.get(m)));
+        }
+
+        // empty history
+        CompiledPreferenceHistory empty = CA.compile(new LinkedList<>());
+        assertNotNull(empty);
+        assertEquals(Double.MIN_VALUE, empty.calculateTheMostDiscriminativeCompatibility(models.get(0)));
+        assertTrue(empty.isCompatible(models.get(0)));
+
+        // unsupported
+        pes.add(PreferenceInformationWrapper.getTestInstance(PairwiseComparison.getIncomparable(
+                alternatives.get(0), alternatives.get(1))));
+        assertNull(CA.compile(pes));
+        CompatibilityAnalyzer.Params pCA = new CompatibilityAnalyzer.Params();
+        pCA._pairwiseComparisonsAnalyzer = new PairwiseComparisonAnalyzer()
+        {
+        };
+        assertNull(new CompatibilityAnalyzer(pCA).compile(new LinkedList<>()));
+
+        // overwritten calculations (the analyzer must be used)
+        CompatibilityAnalyzer overwritten = new CompatibilityAnalyzer()
+        {
+            @Override
+            public Double calculateCompatibilityDegreeWithValueModel(IPreferenceInformation preferenceInformation,
+                                                                     AbstractValueInternalModel model)
+            {
+                return 1.0d;
+            }
+        };
+        assertNull(overwritten.compile(new LinkedList<>()));
+        CompatibilityAnalyzer subclass = new CompatibilityAnalyzer()
+        {
+        };
+        assertNotNull(subclass.compile(new LinkedList<>()));
+    }
+}
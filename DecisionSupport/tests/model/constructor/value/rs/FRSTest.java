@@ -8,6 +8,7 @@ import history.History;
 import model.constructor.Report;
 import model.constructor.random.IRandomModel;
 import model.constructor.random.LNormGenerator;
+import model.constructor.value.rs.ParallelSamplingUtils;
 import model.internals.value.scalarizing.LNorm;
 import org.junit.jupiter.api.Test;
 import preference.IPreferenceInformation;
@@ -505,4 +506,35 @@ class FRSTest
         }
         assertEquals("Exception handled by: model.constructor.value.rs.frs.FRS, caused by: null, happened in line: null, message: The preference examples are not provided (the list is null)", msg);
     }
-}
\ No newline at end of file
+
+    /**
+     * Tests the parallel sampling mode (see {@link ParallelSamplingUtils#checkParallelSampling}; in addition, the
+     * per-thread counts should sum up to the overall ones, as all the attempts are accounted for).
+     */
+    @Test
+    void parallelSampling()
+    {
+        model.constructor.value.rs.Report<LNorm> r = ParallelSamplingUtils.checkParallelSampling(noThreads -> {
+            FRS.Params<LNorm> params = new FRS.Params<>(new LNormGenerator(2, Double.POSITIVE_INFINITY));
+            params._feasibleSamplesToGenerate = 10000;
+            params._samplingLimit = 1000000;
+            params._inconsistencyThreshold = 0;
+            params._validateAlreadyExistingSamplesFirst = false;
+            params._noThreads = noThreads;
+            params._attemptsPerThreadInRound = 500;
+            return new FRS<>(params);
+        });
+        int accepted = 0;
+        int rejected = 0;
+        for (int w = 0; w < 4; w++)
+        {
+            accepted += r._acceptedPerThread[w];
+            rejected += r._rejectedPerThread[w];
+        }
+        assertEquals(r._acceptedNewlyConstructedModels, accepted);
+        assertEquals(r._rejectedNewlyConstructedModels, rejected);
+        assertEquals(10000, r._models.size());
+        assertFalse(r._inconsistencyDetected);
+        assertEquals(r._acceptedNewlyConstructedModels + r._rejectedNewlyConstructedModels, r._noExecutedIterations);
+    }
+}
@@ -0,0 +1,93 @@
+package model.constructor.value.rs;
+
+import alternative.Alternative;
+import dmcontext.DMContext;
+import exeption.ConstructorException;
+import exeption.HistoryException;
+import history.History;
+import model.internals.value.scalarizing.LNorm;
+import preference.IPreferenceInformation;
+import preference.indirect.PairwiseComparison;
+import random.IRandom;
+import random.MersenneTwister64;
+import random.XoRoShiRo128PP;
+
+import java.util.LinkedList;
+import java.util.function.IntFunction;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Auxiliary methods shared by the tests of the parallel sampling mode of rejection-sampling-based constructors (see
+ * {@link AbstractRejectionSampling}).
+ *
+ * @author MTomczyk
+ */
+public class ParallelSamplingUtils
+{
+    /**
+     * Runs the constructor twice with equally seeded jumpable generators (4 threads) and checks the properties common
+     * to all rejection-sampling-based constructors: reproducibility, per-thread reporting, acceptance rates (the
+     * preferences cut 1/3 of the weight space), and compatibility of the models. Then, checks if the sampling is
+     * sequential for a generator that is neither jumpable nor splittable.
+     *
+     * @param constructor constructs the constructor for the given number of threads (the preferences are provided by
+     *                    this method)
+     * @return the report of the first run (for constructor-specific checks)
+     */
+    public static Report<LNorm> checkParallelSampling(IntFunction<AbstractRejectionSampling<LNorm>> constructor)
+    {
+        Report<LNorm> r1 = construct(constructor.apply(4), new XoRoShiRo128PP(0));
+        Report<LNorm> r2 = construct(constructor.apply(4), new XoRoShiRo128PP(0));
+        assertEquals(r1._models.size(), r2._models.size());
+        for (int i = 0; i < r1._models.size(); i++)
+            assertArrayEquals(r1._models.get(i).getWeights(), r2._models.get(i).getWeights());
+        assertArrayEquals(r1._acceptedPerThread, r2._acceptedPerThread);
+        assertArrayEquals(r1._rejectedPerThread, r2._rejectedPerThread);
+
+        assertEquals(4, r1._acceptedPerThread.length);
+        assertEquals(4, r1._rejectedPerThread.length);
+        for (double rate : r1.getAcceptanceRatesPerThread()) assertEquals(1.0d / 3.0d, rate, 0.05d);
+        for (LNorm lNorm : r1._models)
+        {
+            double[] w = lNorm.getWeights();
+            assertTrue((Double.compare(w[0], 1.0d / 3.0d) > 0) && (Double.compare(w[0], 2.0d / 3.0d) < 0));
+        }
+
+        // not jumpable nor splittable: sequential
+        Report<LNorm> r3 = construct(constructor.apply(4), new MersenneTwister64(0));
+        assertNull(r3._acceptedPerThread);
+        assertNull(r3.getAcceptanceRatesPerThread());
+        return r1;
+    }
+
+    /**
+     * Auxiliary method constructing models (the preferences: [0.5, 0.5] is preferred over [0, 1] and [1, 0]). The
+     * constructor is disposed afterward.
+     *
+     * @param constructor model constructor
+     * @param R           random number generator
+     * @return report
+     */
+    private static Report<LNorm> construct(AbstractRejectionSampling<LNorm> constructor, IRandom R)
+    {
+        LinkedList<IPreferenceInformation> PI = new LinkedList<>();
+        PI.add(PairwiseComparison.getPreference(new Alternative("A1", new double[]{0.5d, 0.5d}),
+                new Alternative("A2", new double[]{0.0d, 1.0d})));
+        PI.add(PairwiseComparison.getPreference(new Alternative("A3", new double[]{0.5d, 0.5d}),
+                new Alternative("A4", new double[]{1.0d, 0.0d})));
+        try
+        {
+            constructor.registerDecisionMakingContext(new DMContext(null, null, null, null, false, 0, null, R));
+            History history = new History("H");
+            history.registerPreferenceInformation(PI, 0, false);
+            return (Report<LNorm>) constructor.constructModels(history.getPreferenceInformationCopy());
+        } catch (HistoryException | ConstructorException e)
+        {
+            throw new RuntimeException(e);
+        } finally
+        {
+            constructor.dispose();
+        }
+    }
+}
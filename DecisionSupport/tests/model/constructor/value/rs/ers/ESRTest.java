@@ -10,6 +10,7 @@ import model.constructor.random.IRandomModel;
 import model.constructor.random.LNormGenerator;
 import model.constructor.value.rs.ers.comparators.MostSimilarWithTieResolving;
 import model.constructor.value.rs.iterationslimit.Constant;
+import model.constructor.value.rs.ParallelSamplingUtils;
 import model.constructor.value.rs.frs.FRS;
 import model.internals.value.scalarizing.LNorm;
 import model.similarity.lnorm.Euclidean;
@@ -460,4 +461,36 @@ class ESRTest
         }
         assertEquals("Exception handled by: model.constructor.value.rs.frs.FRS, caused by: null, happened in line: null, message: The preference examples are not provided (the list is null)", msg);
     }
-}
\ No newline at end of file
+
+    /**
+     * Tests the parallel sampling mode (see {@link ParallelSamplingUtils#checkParallelSampling}; in addition, the
+     * per-thread counts should cover all the iterations except for the initial batch).
+     */
+    @Test
+    void parallelSampling()
+    {
+        model.constructor.value.rs.Report<LNorm> r = ParallelSamplingUtils.checkParallelSampling(noThreads -> {
+            ERS.Params<LNorm> params = new ERS.Params<>(new LNormGenerator(2, Double.POSITIVE_INFINITY));
+            params._similarity = new Euclidean();
+            params._kMostSimilarNeighbors = 3;
+            params._comparator = new MostSimilarWithTieResolving<>();
+            params._feasibleSamplesToGenerate = 100;
+            params._iterationsLimit = new Constant(20000);
+            params._inconsistencyThreshold = 0;
+            params._validateAlreadyExistingSamplesFirst = false;
+            params._noThreads = noThreads;
+            params._attemptsPerThreadInRound = 500;
+            return new ERS<>(params);
+        });
+        int accepted = 0;
+        int rejected = 0;
+        for (int w = 0; w < 4; w++)
+        {
+            accepted += r._acceptedPerThread[w];
+            rejected += r._rejectedPerThread[w];
+        }
+        assertEquals(20000, accepted + rejected); // the initial batch is not accounted for
+        assertTrue(accepted <= r._acceptedNewlyConstructedModels);
+        assertEquals(100, r._models.size());
+    }
+}
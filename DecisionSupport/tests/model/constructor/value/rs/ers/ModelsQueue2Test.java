@@ -8,6 +8,7 @@ import model.constructor.random.IRandomModel;
 import model.constructor.random.LNormGenerator;
 import model.constructor.value.rs.ers.comparators.KNearest;
 import model.internals.value.scalarizing.LNorm;
+import model.similarity.ISimilarity;
 import model.similarity.lnorm.Cos;
 import model.similarity.lnorm.Euclidean;
 import org.junit.jupiter.api.Test;
@@ -17,8 +18,10 @@ import random.MersenneTwister64;
 
 import java.util.ArrayList;
 import java.util.LinkedList;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 /**
  * Provides various tests for {@link ModelsQueue}
@@ -209,4 +212,60 @@ class ModelsQueue2Test
             }
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * Test 5 (incremental updates; with feedback; the queue contains both compatible and incompatible models). After
+     * each insertion, the similarities stored in the packed matrix and the k-nearest neighbors lists (refilled after
+     * removing compatible models) are validated.
+     */
+    @Test
+    void test5()
+    {
+        LinkedList<PreferenceInformationWrapper> feedback = new LinkedList<>();
+        feedback.add(PreferenceInformationWrapper.getTestInstance(PairwiseComparison.getPreference(
+                new Alternative("A1", new double[]{0.5d, 0.5d}),
+                new Alternative("A2", new double[]{0.0d, 1.0d}))));
+        feedback.add(PreferenceInformationWrapper.getTestInstance(PairwiseComparison.getPreference(
+                new Alternative("A3", new double[]{0.5d, 0.5d}),
+                new Alternative("A4", new double[]{1.0d, 0.0d}))));
+
+        for (ISimilarity<LNorm> similarity : List.<ISimilarity<LNorm>>of(new Euclidean(), new Cos()))
+        {
+            for (int k : new int[]{1, 2, 3, 5})
+            {
+                IRandom R = new MersenneTwister64(k);
+                CompatibilityAnalyzer CA = new CompatibilityAnalyzer();
+                IRandomModel<LNorm> RM = new LNormGenerator(2, Double.POSITIVE_INFINITY);
+                int noModels = 30;
+                int improvementAttempts = 1000;
+                ArrayList<LNorm> models = new ArrayList<>();
+                for (int m = 0; m < noModels; m++) models.add(RM.generateModel(R));
+
+                ModelsQueue<LNorm> modelsQueue = new ModelsQueue<>(noModels, k, CA, new KNearest<>(k - 1), similarity);
+                String msg = null;
+                try
+                {
+                    modelsQueue.initializeWithBatch(models, feedback);
+                    modelsQueue.updateClosestModelsAndSortQueue(false, false);
+                    assertNull(modelsQueue.isValid());
+                    assertNull(modelsQueue.areIncrementalDataCorrect());
+                    assertTrue(modelsQueue.getNoCompatibleModels() < noModels);
+
+                    int inserted = 0;
+                    for (int ia = 0; ia < improvementAttempts; ia++)
+                    {
+                        if (modelsQueue.insertModel(RM.generateModel(R), feedback)) inserted++;
+                        assertNull(modelsQueue.isValid());
+                        assertNull(modelsQueue.areIncrementalDataCorrect());
+                    }
+                    assertTrue(inserted > noModels);
+                    assertTrue(modelsQueue.areAllSortedModelsCompatible());
+                } catch (ConstructorException e)
+                {
+                    msg = e.toString();
+                }
+                assertNull(msg);
+            }
+        }
+    }
+}
@@ -5,6 +5,8 @@ import alternative.Alternatives;
 import criterion.Criteria;
 import org.junit.jupiter.api.Test;
 import print.PrintUtils;
+import random.IRandom;
+import random.MersenneTwister64;
 import utils.Constants;
 
 import java.util.ArrayList;
@@ -631,4 +633,59 @@ class DominanceUtilsTest
 
 
 
-}
\ No newline at end of file
+
+    /**
+     * Tests if the non-dominated vectors identified by {@link DominanceUtils#pointNonDominatedVectors(double[][], Criteria)}
+     * are the same as those identified using all-pairs verification (various numbers of criteria, ties, duplicates,
+     * and special values).
+     */
+    @Test
+    void pointNonDominatedVectorsRandom()
+    {
+        IRandom R = new MersenneTwister64(0);
+        double[] special = new double[]{-0.0d, 0.0d, Double.NaN, Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY};
+        for (int M = 1; M <= 6; M++)
+        {
+            for (int trial = 0; trial < 30; trial++)
+            {
+                boolean[] gains = new boolean[M];
+                for (int j = 0; j < M; j++) gains[j] = R.nextBoolean();
+                Criteria c = Criteria.constructCriteria("C", gains);
+                int N = R.nextInt(300);
+                int levels = 2 + R.nextInt(10);
+                double[][] input = new double[N][M];
+                for (int i = 0; i < N; i++)
+                {
+                    if ((i > 0) && (R.nextInt(10) == 0)) input[i] = input[R.nextInt(i)].clone(); // duplicate
+                    else for (int j = 0; j < M; j++)
+                    {
+                        if (R.nextInt(50) == 0) input[i][j] = special[R.nextInt(special.length)];
+                        else if (trial % 2 == 0) input[i][j] = R.nextInt(levels); // ties
+                        else input[i][j] = R.nextDouble();
+                    }
+                }
+
+                int[] pnt = DominanceUtils.pointNonDominatedVectors(input, c);
+                int idx = 0;
+                for (int i = 0; i < N; i++)
+                {
+                    boolean nonDominated = true;
+                    for (int j = 0; j < N; j++)
+                    {
+                        if ((i != j) && (DominanceUtils.isDominating(input[j], input[i], c)))
+                        {
+                            nonDominated = false;
+                            break;
+                        }
+                    }
+                    if (nonDominated)
+                    {
+                        assertTrue(idx < pnt.length);
+                        assertEquals(i, pnt[idx++]);
+                    }
+                }
+                assertEquals(idx, pnt.length);
+            }
+        }
+    }
+}
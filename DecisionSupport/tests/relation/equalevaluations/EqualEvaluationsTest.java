@@ -5,7 +5,10 @@ import alternative.Alternative;
 import alternative.Alternatives;
 import criterion.Criteria;
 import org.junit.jupiter.api.Test;
+import random.IRandom;
+import random.MersenneTwister64;
 import space.Vector;
+import utils.Constants;
 
 import java.util.ArrayList;
 
@@ -223,4 +226,104 @@ class EqualEvaluationsTest
         }
     }
 
-}
\ No newline at end of file
+
+    /**
+     * Tests if the unique vectors identified by {@link EqualEvaluationsUtils#pointUnique(double[][], double)} (hash
+     * grid) are the same as those identified via the all-pairs comparison (first-occurrence semantics).
+     */
+    @Test
+    void test4_PointUniqueLarge()
+    {
+        IRandom R = new MersenneTwister64(0);
+        double[] special = new double[]{-0.0d, 0.0d, Double.NaN, Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY, 1.0E20d};
+        double[] tolerances = new double[]{-1.0d, 0.0d, 1.0E-10d, 0.05d, 0.3d, 1.0d};
+        for (int M = 1; M <= 6; M++)
+        {
+            for (double tolerance : tolerances)
+            {
+                for (int trial = 0; trial < 5; trial++)
+                {
+                    int N = 32 + R.nextInt(400);
+                    double[][] input = new double[N][M];
+                    for (int i = 0; i < N; i++)
+                    {
+                        if ((i > 0) && (R.nextInt(5) == 0)) // (near) duplicate
+                        {
+                            input[i] = input[R.nextInt(i)].clone();
+                            if (R.nextBoolean()) input[i][R.nextInt(M)] += (R.nextDouble() - 0.5d) * tolerance;
+                        }
+                        else for (int j = 0; j < M; j++)
+                        {
+                            if (R.nextInt(100) == 0) input[i][j] = special[R.nextInt(special.length)];
+                            else input[i][j] = R.nextInt(20) * 0.1d;
+                        }
+                    }
+
+                    int[] indices = EqualEvaluationsUtils.pointUnique(input, tolerance);
+                    ArrayList<Integer> expected = new ArrayList<>();
+                    for (int i = 0; i < N; i++)
+                    {
+                        boolean unique = true;
+                        for (Integer j : expected)
+                            if (Vector.areVectorsEqual(input[j], input[i], tolerance))
+                            {
+                                unique = false;
+                                break;
+                            }
+                        if (unique) expected.add(i);
+                    }
+                    assertEquals(expected.size(), indices.length);
+                    for (int i = 0; i < indices.length; i++) assertEquals(expected.get(i), indices[i]);
+                }
+            }
+        }
+    }
+
+    /**
+     * Tests if the cells of the hash grid used by {@link EqualEvaluationsUtils#pointUnique(double[][], double)} are
+     * adjusted to the spreads when the tolerance is tiny (default {@link Constants#EPSILON}), and if the results are
+     * still the same as those identified via the all-pairs comparison.
+     */
+    @Test
+    void test5_PointUniqueTinyTolerance()
+    {
+        assertEquals(1.0d, EqualEvaluationsUtils.getCellWidth(100.0d, 1000000, 3, Constants.EPSILON), 1.0E-9d);
+        assertEquals(0.1d, EqualEvaluationsUtils.getCellWidth(100.0d, 1000, 1, Constants.EPSILON), 1.0E-9d);
+        assertEquals(2.0d, EqualEvaluationsUtils.getCellWidth(100.0d, 1000, 1, 1.0d), 1.0E-9d);
+        assertEquals(2.0d * Constants.EPSILON, EqualEvaluationsUtils.getCellWidth(0.0d, 1000, 2, Constants.EPSILON));
+        assertEquals(2.0d * Constants.EPSILON,
+                EqualEvaluationsUtils.getCellWidth(Double.POSITIVE_INFINITY, 1000, 2, Constants.EPSILON));
+
+        IRandom R = new MersenneTwister64(0);
+        for (int M = 1; M <= 4; M++)
+        {
+            int N = 2000;
+            double[][] input = new double[N][M];
+            for (int i = 0; i < N; i++)
+            {
+                if ((i > 0) && (R.nextInt(4) == 0)) // (near) duplicate
+                {
+                    input[i] = input[R.nextInt(i)].clone();
+                    if (R.nextBoolean()) input[i][R.nextInt(M)] += (R.nextDouble() - 0.5d) * Constants.EPSILON;
+                }
+                else for (int j = 0; j < M; j++) input[i][j] = R.nextDouble() * 1000.0d - 500.0d;
+            }
+
+            int[] indices = EqualEvaluationsUtils.pointUnique(input, Constants.EPSILON);
+            ArrayList<Integer> expected = new ArrayList<>();
+            for (int i = 0; i < N; i++)
+            {
+                boolean unique = true;
+                for (Integer j : expected)
+                    if (Vector.areVectorsEqual(input[j], input[i], Constants.EPSILON))
+                    {
+                        unique = false;
+                        break;
+                    }
+                if (unique) expected.add(i);
+            }
+            assertEquals(expected.size(), indices.length);
+            for (int i = 0; i < indices.length; i++) assertEquals(expected.get(i), indices[i]);
+        }
+    }
+}
@@ -5,11 +5,14 @@ import criterion.Criterion;
 import exception.EAException;
 import phase.IConstruct;
 import phase.IEvaluate;
+import phase.ParallelEvaluate;
 import problem.AbstractProblemBundle;
 import random.IRandom;
 import reproduction.*;
 import selection.ISelect;
 
+import java.util.concurrent.ExecutorService;
+
 /**
  * Provides various means for constructing instances of evolutionary algorithms. Its non-static fields, and methods
  * constitute a simple data container and helpful parameterization means.
@@ -59,6 +62,29 @@ public abstract class AbstractEABuilder<T extends EA>
      */
     protected IEvaluate _evaluate = null;
 
+    /**
+     * The number of threads used when evaluating specimens. If greater than 1, the specimens evaluator is wrapped by
+     * {@link ParallelEvaluate} (see {@link AbstractEABuilder#getSpecimensEvaluator()}).
+     */
+    protected int _evaluationThreads = 1;
+
+    /**
+     * Chunk size used when evaluating specimens in parallel (if less than 1, the chunks are derived based on the
+     * number of threads; see {@link ParallelEvaluate.Params#_chunkSize}).
+     */
+    protected int _evaluationChunkSize = 0;
+
+    /**
+     * Optional executor used when evaluating specimens in parallel (if null, a fixed thread pool will be instantiated;
+     * see {@link ParallelEvaluate.Params#_executor}).
+     */
+    protected ExecutorService _evaluationExecutor = null;
+
+    /**
+     * Cached parallel evaluator (instantiated on demand).
+     */
+    private ParallelEvaluate _parallelEvaluate = null;
+
     /**
      * Specimens reproducer
      */
@@ -271,17 +297,73 @@ public abstract class AbstractEABuilder<T extends EA>
     public AbstractEABuilder<T> setSpecimensEvaluator(IEvaluate evaluate)
     {
         _evaluate = evaluate;
+        _parallelEvaluate = null;
+        return this;
+    }
+
+    /**
+     * Setter for the parallel evaluation mode. If the number of threads is greater than 1, the specimens evaluator
+     * (see {@link AbstractEABuilder#setSpecimensEvaluator(IEvaluate)}) is wrapped by {@link ParallelEvaluate} that
+     * splits the specimens into chunks of (approximately) equal sizes evaluated concurrently. Note that the evaluator
+     * must be thread-safe.
+     *
+     * @param noThreads the number of threads used (1 = sequential evaluation)
+     * @return EA builder being parameterized
+     */
+    public AbstractEABuilder<T> setParallelSpecimensEvaluation(int noThreads)
+    {
+        return setParallelSpecimensEvaluation(noThreads, 0, null);
+    }
+
+    /**
+     * Setter for the parallel evaluation mode. If the number of threads is greater than 1, the specimens evaluator
+     * (see {@link AbstractEABuilder#setSpecimensEvaluator(IEvaluate)}) is wrapped by {@link ParallelEvaluate}. Note
+     * that the evaluator must be thread-safe.
+     *
+     * @param noThreads the number of threads used (1 = sequential evaluation)
+     * @param chunkSize the number of specimens evaluated in one task (if less than 1, the chunks are derived based on
+     *                  the number of threads)
+     * @param executor  optional executor used to run tasks (if null, a fixed thread pool will be instantiated)
+     * @return EA builder being parameterized
+     */
+    public AbstractEABuilder<T> setParallelSpecimensEvaluation(int noThreads, int chunkSize, ExecutorService executor)
+    {
+        _evaluationThreads = noThreads;
+        _evaluationChunkSize = chunkSize;
+        _evaluationExecutor = executor;
+        _parallelEvaluate = null;
         return this;
     }
 
     /**
-     * Getter for specimens evaluator.
+     * Getter for the number of threads used when evaluating specimens.
+     *
+     * @return the number of threads used when evaluating specimens
+     */
+    public int getEvaluationThreads()
+    {
+        return _evaluationThreads;
+    }
+
+    /**
+     * Getter for specimens evaluator. If the parallel evaluation mode is on (see
+     * {@link AbstractEABuilder#setParallelSpecimensEvaluation(int)}), the evaluator wrapped by {@link ParallelEvaluate}
+     * is returned (the same instance is returned in subsequent calls).
      *
      * @return specimens evaluator
      */
     public IEvaluate getSpecimensEvaluator()
     {
-        return _evaluate;
+        if ((_evaluate == null) || (_evaluationThreads <= 1) || (_evaluate instanceof ParallelEvaluate))
+            return _evaluate;
+        if (_parallelEvaluate == null)
+        {
+            ParallelEvaluate.Params pP = new ParallelEvaluate.Params(_evaluate, _evaluationThreads);
+            pP._chunkSize = _evaluationChunkSize;
+            pP._executor = _evaluationExecutor;
+            _parallelEvaluate = new ParallelEvaluate(pP);
+        }
+        return _parallelEvaluate;
     }
 
     /**
@@ -559,6 +641,8 @@ public abstract class AbstractEABuilder<T extends EA>
             throw EAException.getInstanceWithSource("The initial population constructor is not provided", this.getClass());
         if (_evaluate == null)
             throw EAException.getInstanceWithSource("The specimen evaluator is not provided", this.getClass());
+        if (_evaluationThreads < 1)
+            throw EAException.getInstanceWithSource("The number of evaluation threads should not be less than 1 (equals = " + _evaluationThreads + ")", this.getClass());
         if (_reproduce == null)
             throw EAException.getInstanceWithSource("The parents reproducer is not provided", this.getClass());
     }
@@ -37,4 +37,15 @@ public abstract class AbstractInteractiveEA extends EA implements IEA
     {
         return _dss;
     }
+
+    /**
+     * Releases the resources held by the phases and the decision support system (see
+     * {@link DecisionSupportSystem#dispose()}).
+     */
+    @Override
+    public void dispose()
+    {
+        super.dispose();
+        if (_dss != null) _dss.dispose();
+    }
 }
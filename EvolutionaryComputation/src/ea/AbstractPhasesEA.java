@@ -215,6 +215,29 @@ public class AbstractPhasesEA extends AbstractEA implements IEA
         }
     }
 
+    /**
+     * Releases the resources held by the phases (e.g., thread pools; see {@link IPhase#dispose()}). The EA can still be
+     * executed afterward (the resources are instantiated again on demand).
+     */
+    @Override
+    public void dispose()
+    {
+        disposePhases(_initPhases);
+        disposePhases(_stepPhases);
+    }
+
+    /**
+     * Auxiliary method for disposing the phases.
+     *
+     * @param phases phases to be disposed (can be null)
+     */
+    private static void disposePhases(IPhase[] phases)
+    {
+        if (phases == null) return;
+        for (IPhase phase : phases)
+            if (phase != null) phase.dispose();
+    }
+
     /**
      * Getter for the "compute execution times of different phases of the algorithm" flag.
      *
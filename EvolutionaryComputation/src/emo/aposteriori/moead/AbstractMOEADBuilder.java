@@ -43,6 +43,12 @@ public abstract class AbstractMOEADBuilder<T extends EA> extends AbstractDecompo
      */
     private IAlloc _alloc = new Uniform();
 
+    /**
+     * Steady-state batch size (at least 1; 1 = standard MOEA/D; see
+     * {@link emo.utils.decomposition.moead.MOEADGoalsManager.Params#_steadyStateBatchSize}).
+     */
+    private int _steadyStateBatchSize = 1;
+
     /**
      * Setter for the similarity measure used when building the goals' neighborhood.
      *
@@ -111,6 +117,33 @@ public abstract class AbstractMOEADBuilder<T extends EA> extends AbstractDecompo
         return _alloc;
     }
 
+    /**
+     * Setter for the steady-state batch size (at least 1; 1 = standard MOEA/D). If greater than 1, each steady-state
+     * repeat generates offspring solutions for a batch of goals based on the same population state, evaluates them
+     * together, and then updates the goals' neighborhoods in a fixed order (thus, the results do not depend on the
+     * evaluation timings). The expected number of steady-state repeats is suitably reduced. The batch size serves as
+     * an upper bound for the number of in-flight evaluations; combine it with
+     * {@link ea.AbstractEABuilder#setParallelSpecimensEvaluation(int)} to evaluate the offspring concurrently.
+     *
+     * @param steadyStateBatchSize steady-state batch size
+     * @return MOEA/D builder being parameterized
+     */
+    public AbstractMOEADBuilder<T> setSteadyStateBatchSize(int steadyStateBatchSize)
+    {
+        _steadyStateBatchSize = steadyStateBatchSize;
+        return this;
+    }
+
+    /**
+     * Getter for the steady-state batch size.
+     *
+     * @return steady-state batch size
+     */
+    public int getSteadyStateBatchSize()
+    {
+        return _steadyStateBatchSize;
+    }
+
     /**
      * Auxiliary method that can be overwritten to perform simple data validation. It is called by default by
      * {@link AbstractMOEADBuilder#getInstance()} prior to initialization of the algorithm.
@@ -128,5 +161,8 @@ public abstract class AbstractMOEADBuilder<T extends EA> extends AbstractDecompo
                     + _neighborhoodSize + ")", this.getClass());
         if (_alloc == null)
             throw EAException.getInstanceWithSource("The allocation procedure is not provided", this.getClass());
+        if (_steadyStateBatchSize < 1)
+            throw EAException.getInstanceWithSource("The steady-state batch size must not be less than 1 (equals = "
+                    + _steadyStateBatchSize + ")", this.getClass());
     }
 }
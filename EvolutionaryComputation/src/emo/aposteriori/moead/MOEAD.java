@@ -1273,6 +1273,7 @@ public class MOEAD extends EA implements IEA
         MOEADGoalsManager.Params pManager = new MOEADGoalsManager.Params(moeadBuilder.getGoals(),
                 moeadBuilder.getSimilarity(), moeadBuilder.getNeighborhoodSize());
         pManager._alloc = moeadBuilder.getAlloc();
+        pManager._steadyStateBatchSize = moeadBuilder.getSteadyStateBatchSize();
         MOEADGoalsManager manager = new MOEADGoalsManager(pManager);
 
         // Instantiate the bundle:
@@ -1315,8 +1316,9 @@ public class MOEAD extends EA implements IEA
         // Create EA:
         EA.Params pEA = new EA.Params(moeadBuilder.getCriteria(), moeadBundle);
         pEA._populationSize = moeadBuilder.getGoals().length;
-        pEA._offspringSize = 1; // Important: offspring size = 1
-        pEA._expectedNumberOfSteadyStateRepeats = pEA._populationSize;
+        pEA._offspringSize = 1; // Important: offspring size = 1 (per goal)
+        pEA._expectedNumberOfSteadyStateRepeats = MOEADGoalsManager.getExpectedNumberOfSteadyStateRepeats(
+                pEA._populationSize, moeadBuilder.getSteadyStateBatchSize());
         pEA._R = moeadBuilder.getR();
         pEA._id = moeadBuilder.getID();
         if (moeadBuilder.getEAParamsAdjuster() != null)
@@ -1345,7 +1347,8 @@ public class MOEAD extends EA implements IEA
         if (similarity == null) return;
         setPopulationSize(goals.length);
         setOffspringSize(1);
-        updateExpectedNumberOfSteadyStateRepeats(goals.length);
+        updateExpectedNumberOfSteadyStateRepeats(MOEADGoalsManager.getExpectedNumberOfSteadyStateRepeats(
+                goals.length, _goalsManager.getSteadyStateBatchSize()));
         _goalsManager.restructureAndMakeBestAssignments(new IGoal[][]{goals}, new ISimilarity[]{similarity},
                 getSpecimensContainer());
         _goalsManager.determineUpdatesSequence(_R);
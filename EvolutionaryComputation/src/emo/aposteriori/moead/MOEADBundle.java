@@ -91,6 +91,19 @@ public class MOEADBundle extends AbstractEMOBundle
         _phasesBundle._constructMatingPool = new MOEADConstructMatingPool(pp._goalsManager);
     }
 
+    /**
+     * Auxiliary method instantiating the "select parents" phase.
+     *
+     * @param p params container
+     */
+    @Override
+    protected void instantiateSelectParentsPhase(AbstractEABundle.Params p)
+    {
+        Params pp = (Params) p;
+        _phasesBundle._selectParents = null;
+        if (p._select != null) _phasesBundle._selectParents = new MOEADSelectParents(pp._goalsManager, p._select);
+    }
+
     /**
      * Auxiliary method instantiating the "prepare step" phase.
      *
@@ -9,10 +9,14 @@ import phase.IPhase;
 import phase.PhaseReport;
 import population.Specimen;
 
+import java.util.ArrayList;
+
 
 /**
  * Default MOEA/D "finalize step" phase.
- * It updates specimen-goals assignments.
+ * It updates specimen-goals assignments. If the steady-state batch size is greater than 1, the offspring solutions are
+ * linked with the goals in the current batch (as imposed by {@link MOEADGoalsManager#getBatchOffspringCounts()}) and
+ * the updates are executed in the order of the goals in the batch.
  *
  * @author MTomczyk
  */
@@ -47,6 +51,18 @@ public class MOEADFinalizeStep extends FinalizeStep implements IPhase
     public void action(AbstractPhasesEA ea, PhaseReport report) throws PhaseException
     {
         super.action(ea, report);
+        int[] counts = _goalManager.getBatchOffspringCounts();
+        if (counts != null)
+        {
+            GoalID[] batch = _goalManager.getCurrentGoalsToBeUpdated(ea.getCurrentSteadyStateRepeat());
+            ArrayList<Specimen> offspring = ea.getSpecimensContainer().getOffspring();
+            int idx = 0;
+            for (int g = 0; g < batch.length; g++)
+                for (int o = 0; (o < counts[g]) && (idx < offspring.size()); o++)
+                    _goalManager.executeUpdate(offspring.get(idx++), batch[g], ea.getSpecimensContainer());
+            return;
+        }
+
         GoalID GL = _goalManager.getCurrentGoalToBeUpdated(ea.getCurrentSteadyStateRepeat());
         if (ea.getSpecimensContainer().getOffspring().size() == 1)
         {
@@ -59,4 +75,13 @@ public class MOEADFinalizeStep extends FinalizeStep implements IPhase
                 _goalManager.executeUpdate(O, GL, ea.getSpecimensContainer());
         }
     }
+
+    /**
+     * Releases the resources held by the goals manager (see {@link MOEADGoalsManager#dispose()}).
+     */
+    @Override
+    public void dispose()
+    {
+        _goalManager.dispose();
+    }
 }
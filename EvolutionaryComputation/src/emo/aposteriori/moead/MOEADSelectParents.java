@@ -0,0 +1,85 @@
+package emo.aposteriori.moead;
+
+import ea.AbstractPhasesEA;
+import emo.utils.decomposition.goal.GoalID;
+import emo.utils.decomposition.moead.MOEADGoalsManager;
+import exception.PhaseException;
+import phase.AbstractSelectParentsPhase;
+import phase.IPhase;
+import phase.PhaseReport;
+import population.Parents;
+import selection.ISelect;
+
+import java.util.ArrayList;
+
+/**
+ * Default MOEA/D "select parents" phase. If the steady-state batch size (see
+ * {@link MOEADGoalsManager.Params#_steadyStateBatchSize}) equals 1, the phase delegates the selection to the
+ * {@link ISelect} object (the mating pool is established by {@link MOEADConstructMatingPool}). Otherwise, the parents
+ * are selected for each goal in the current batch separately (the mating pool is temporarily set to the neighborhood of
+ * the goal being processed), and the number of offspring to construct for each goal is passed to the goals manager
+ * (see {@link MOEADGoalsManager#setBatchOffspringCounts(int[])}), so that {@link MOEADFinalizeStep} can link the
+ * offspring with the goals.
+ *
+ * @author MTomczyk
+ */
+
+public class MOEADSelectParents extends AbstractSelectParentsPhase implements IPhase
+{
+    /**
+     * MOEA/D goal manager.
+     */
+    private final MOEADGoalsManager _goalManager;
+
+    /**
+     * Parents selector.
+     */
+    private final ISelect _select;
+
+    /**
+     * Parameterized constructor.
+     *
+     * @param goalManager MOEA/D goal manager
+     * @param select      parents selector
+     */
+    public MOEADSelectParents(MOEADGoalsManager goalManager, ISelect select)
+    {
+        super("MOEA/D: Select parents");
+        _goalManager = goalManager;
+        _select = select;
+    }
+
+    /**
+     * Phase main action.
+     *
+     * @param ea     evolutionary algorithm
+     * @param report report on the executed action (to be filled)
+     * @throws PhaseException the exception can be thrown
+     */
+    @Override
+    public void action(AbstractPhasesEA ea, PhaseReport report) throws PhaseException
+    {
+        if (_goalManager.getSteadyStateBatchSize() == 1)
+        {
+            _goalManager.setBatchOffspringCounts(null);
+            ea.getSpecimensContainer().setParents(_select.selectParents(ea));
+            return;
+        }
+
+        GoalID[] batch = _goalManager.getCurrentGoalsToBeUpdated(ea.getCurrentSteadyStateRepeat());
+        int[] counts = new int[batch.length];
+        ArrayList<Parents> parents = new ArrayList<>(batch.length);
+        for (int g = 0; g < batch.length; g++)
+        {
+            // the mating pool for the first goal is already established by the construct mating pool phase
+            if (g > 0) ea.getSpecimensContainer().setMatingPool(_goalManager.createMatingPool(batch[g]));
+            for (Parents p : _select.selectParents(ea))
+            {
+                counts[g] += p._noOffspringToConstruct;
+                parents.add(p);
+            }
+        }
+        _goalManager.setBatchOffspringCounts(counts);
+        ea.getSpecimensContainer().setParents(parents);
+    }
+}
@@ -734,6 +734,8 @@ public class NSGAII extends EA implements IEA
         pB._reproduce = nsgaiiBuilder.getParentsReproducer();
         pB._evaluate = nsgaiiBuilder.getSpecimensEvaluator();
         pB._name = nsgaiiBuilder.getName();
+        pB._incrementalSorting = nsgaiiBuilder.shouldUseIncrementalSorting();
+        pB._crowdingDistanceThreads = nsgaiiBuilder.getCrowdingDistanceThreads();
 
         // Instantiate the bundle:
         if (nsgaiiBuilder.getNSGAIIParamsAdjuster() != null) nsgaiiBuilder.getNSGAIIParamsAdjuster().adjust(pB);
@@ -66,6 +66,68 @@ public class NSGAIIBuilder extends AbstractEMOABuilder<NSGAII>
         return _nsgaiiParamsAdjuster;
     }
 
+    /**
+     * If true, the non-dominated fronts are maintained incrementally between subsequent calls of the sorting procedure
+     * (see {@link NSGAIIBundle.Params#_incrementalSorting}).
+     */
+    private boolean _incrementalSorting = false;
+
+    /**
+     * Setter for the flag indicating whether the non-dominated fronts should be maintained incrementally between
+     * subsequent calls of the sorting procedure (see {@link emo.utils.front.IncrementalFNDSorting}). It is recommended
+     * for steady-state runs (small offspring size; many steady-state repeats) with large populations. The results are
+     * the same as when the flag is false.
+     *
+     * @param incrementalSorting if true, the fronts are maintained incrementally
+     * @return NSGA-II builder being parameterized
+     */
+    public NSGAIIBuilder setIncrementalSorting(boolean incrementalSorting)
+    {
+        _incrementalSorting = incrementalSorting;
+        return this;
+    }
+
+    /**
+     * Getter for the flag indicating whether the non-dominated fronts should be maintained incrementally between
+     * subsequent calls of the sorting procedure.
+     *
+     * @return true, if the fronts are maintained incrementally; false otherwise
+     */
+    public boolean shouldUseIncrementalSorting()
+    {
+        return _incrementalSorting;
+    }
+
+    /**
+     * The number of threads used when calculating crowding distances (see
+     * {@link NSGAIIBundle.Params#_crowdingDistanceThreads}).
+     */
+    private int _crowdingDistanceThreads = 1;
+
+    /**
+     * Setter for the number of threads used when calculating crowding distances (1 = sequential calculation). The
+     * criteria are processed in parallel (see {@link emo.utils.density.CrowdingDistance}); the results do not depend on
+     * the number of threads.
+     *
+     * @param crowdingDistanceThreads the number of threads
+     * @return NSGA-II builder being parameterized
+     */
+    public NSGAIIBuilder setCrowdingDistanceThreads(int crowdingDistanceThreads)
+    {
+        _crowdingDistanceThreads = crowdingDistanceThreads;
+        return this;
+    }
+
+    /**
+     * Getter for the number of threads used when calculating crowding distances.
+     *
+     * @return the number of threads
+     */
+    public int getCrowdingDistanceThreads()
+    {
+        return _crowdingDistanceThreads;
+    }
+
     /**
      * Auxiliary method that can be overwritten to perform simple data validation. It is called by default by
      * {@link NSGAIIBuilder#getInstance()} prior to initialization of the algorithm.
@@ -76,6 +138,9 @@ public class NSGAIIBuilder extends AbstractEMOABuilder<NSGAII>
     public void validate() throws EAException
     {
         super.validate();
+        if (_crowdingDistanceThreads < 1)
+            throw EAException.getInstanceWithSource("The number of crowding distance threads should not be less " +
+                    "than 1 (equals = " + _crowdingDistanceThreads + ")", this.getClass());
     }
 
     /**
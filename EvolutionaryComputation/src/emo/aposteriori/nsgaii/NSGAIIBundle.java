@@ -3,7 +3,10 @@ package emo.aposteriori.nsgaii;
 import criterion.Criteria;
 import ea.AbstractEABundle;
 import emo.AbstractEMOBundle;
+import emo.utils.front.FNDSorting;
+import emo.utils.front.IncrementalFNDSorting;
 import os.IOSChangeListener;
+import relation.dominance.Dominance;
 
 /**
  * Bundle (container) of necessary fields for the NSGA-II algorithm.
@@ -31,6 +34,18 @@ public class NSGAIIBundle extends AbstractEMOBundle
      */
     public static class Params extends AbstractEMOBundle.Params
     {
+        /**
+         * If true, the non-dominated fronts are maintained incrementally between subsequent calls of the sorting
+         * procedure (see {@link emo.utils.front.IncrementalFNDSorting}). It is recommended for steady-state runs (small
+         * offspring size; many steady-state repeats) with large populations.
+         */
+        public boolean _incrementalSorting = false;
+
+        /**
+         * The number of threads used when calculating crowding distances (the criteria are processed in parallel; see
+         * {@link emo.utils.density.CrowdingDistance}).
+         */
+        public int _crowdingDistanceThreads = 1;
 
         /**
          * Parameterized constructor.
@@ -66,7 +81,10 @@ public class NSGAIIBundle extends AbstractEMOBundle
     @Override
     protected void instantiateSortPhase(AbstractEABundle.Params p)
     {
-        _nsgaiiSort = new NSGAIISort(p._criteria);
+        Params pp = (Params) p;
+        FNDSorting FND = pp._incrementalSorting ? new IncrementalFNDSorting(new Dominance(p._criteria)) :
+                new FNDSorting(new Dominance(p._criteria));
+        _nsgaiiSort = new NSGAIISort("NSGAII: Sort", p._criteria, FND, pp._crowdingDistanceThreads);
         _phasesBundle._sort = _nsgaiiSort;
     }
 
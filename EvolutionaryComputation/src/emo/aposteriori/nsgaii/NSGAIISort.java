@@ -41,10 +41,37 @@ public class NSGAIISort extends AbstractSortPhase implements IPhase
      * @param criteria considered criteria
      */
     public NSGAIISort(String name, Criteria criteria)
+    {
+        this(name, criteria, new FNDSorting(new Dominance(criteria)));
+    }
+
+    /**
+     * Parameterized constructor.
+     *
+     * @param name     phase name
+     * @param criteria considered criteria
+     * @param FND      object responsible for identifying non-dominated fronts (e.g.,
+     *                 {@link emo.utils.front.IncrementalFNDSorting} suitable for steady-state runs)
+     */
+    public NSGAIISort(String name, Criteria criteria, FNDSorting FND)
+    {
+        this(name, criteria, FND, 1);
+    }
+
+    /**
+     * Parameterized constructor.
+     *
+     * @param name      phase name
+     * @param criteria  considered criteria
+     * @param FND       object responsible for identifying non-dominated fronts (e.g.,
+     *                  {@link emo.utils.front.IncrementalFNDSorting} suitable for steady-state runs)
+     * @param cdThreads the number of threads used when calculating crowding distances (see {@link CrowdingDistance})
+     */
+    public NSGAIISort(String name, Criteria criteria, FNDSorting FND, int cdThreads)
     {
         super(name);
-        _FND = new FNDSorting(new Dominance(criteria));
-        _CD = new CrowdingDistance(criteria._no);
+        _FND = FND;
+        _CD = new CrowdingDistance(criteria._no, cdThreads);
     }
 
     /**
@@ -141,4 +168,13 @@ public class NSGAIISort extends AbstractSortPhase implements IPhase
     {
         _normalizations = normalizations;
     }
+
+    /**
+     * Releases the resources held by the crowding distance calculator (see {@link CrowdingDistance#dispose()}).
+     */
+    @Override
+    public void dispose()
+    {
+        _CD.dispose();
+    }
 }
@@ -1807,6 +1807,7 @@ public class NSGAIII extends EA implements IEA
     protected static NSGAIII getNSGAIII(NSGAIIIBuilder nsgaiiiBuilder)
     {
         NSGAIIIGoalsManager.Params pManager = new NSGAIIIGoalsManager.Params(nsgaiiiBuilder.getGoals());
+        pManager._noThreads = nsgaiiiBuilder.getAssignmentThreads();
         NSGAIIIGoalsManager manager = new NSGAIIIGoalsManager(pManager);
 
         // Instantiate the bundle:
@@ -56,6 +56,12 @@ public class NSGAIIIBuilder extends AbstractDecompositionEMOABuilder<NSGAIII>
      */
     private NSGAIIIBundle.IParamsAdjuster _nsgaiiiParamsAdjuster = null;
 
+    /**
+     * The number of threads used when assigning specimens to their closest goals (see
+     * {@link emo.utils.decomposition.nsgaiii.PLPAssignmentKernel}; 1 = sequential assignment).
+     */
+    private int _assignmentThreads = 1;
+
     /**
      * Setter for the object resolving the NSGA-III's assignment selection ties (the random assignment procedure is used
      * by default).
@@ -130,6 +136,31 @@ public class NSGAIIIBuilder extends AbstractDecompositionEMOABuilder<NSGAIII>
         return _nsgaiiiParamsAdjuster;
     }
 
+    /**
+     * Setter for the number of threads used when assigning specimens to their closest goals (1 = sequential
+     * assignment). The parallel assignment is used only when all goals are point-line projections sharing the same
+     * normalizations (see {@link emo.utils.decomposition.nsgaiii.PLPAssignmentKernel}); the results do not depend on
+     * the number of threads.
+     *
+     * @param assignmentThreads the number of threads
+     * @return NSGA-III builder being parameterized
+     */
+    public NSGAIIIBuilder setAssignmentThreads(int assignmentThreads)
+    {
+        _assignmentThreads = assignmentThreads;
+        return this;
+    }
+
+    /**
+     * Getter for the number of threads used when assigning specimens to their closest goals.
+     *
+     * @return the number of threads
+     */
+    public int getAssignmentThreads()
+    {
+        return _assignmentThreads;
+    }
+
     /**
      * Auxiliary method that can be overwritten to perform simple data validation. It is called by default by
      * {@link NSGAIIIBuilder#getInstance()} prior to initialization of the algorithm.
@@ -146,6 +177,9 @@ public class NSGAIIIBuilder extends AbstractDecompositionEMOABuilder<NSGAIII>
         if (_specimenResolveTie == null)
             throw EAException.getInstanceWithSource("The procedure for resolving specimen selection ties " +
                     "is not provided", this.getClass());
+        if (_assignmentThreads < 1)
+            throw EAException.getInstanceWithSource("The number of assignment threads should not be less than 1 " +
+                    "(equals = " + _assignmentThreads + ")", this.getClass());
     }
 
     /**
@@ -174,4 +174,12 @@ public class NSGAIIISort extends AbstractSortPhase implements IPhase
         ea.getSpecimensContainer().setPopulation(newPopulation);
     }
 
+    /**
+     * Releases the resources held by the goals manager (see {@link NSGAIIIGoalsManager#dispose()}).
+     */
+    @Override
+    public void dispose()
+    {
+        _goalsManager.dispose();
+    }
 }
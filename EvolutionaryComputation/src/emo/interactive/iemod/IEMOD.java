@@ -1255,6 +1255,7 @@ public class IEMOD extends AbstractInteractiveEA implements IEA
         MOEADGoalsManager.Params pGM = new MOEADGoalsManager.Params(iemodBuilder.getGoals(),
                 iemodBuilder.getSimilarity(), iemodBuilder.getNeighborhoodSize());
         pGM._alloc = new Uniform();
+        pGM._steadyStateBatchSize = iemodBuilder.getSteadyStateBatchSize();
         MOEADGoalsManager manager = new MOEADGoalsManager(pGM);
 
         IEMODBundle.Params<T> pB = IEMODBundle.Params.getDefault(
@@ -1303,8 +1304,9 @@ public class IEMOD extends AbstractInteractiveEA implements IEA
         // Create EA:
         EA.Params pEA = new EA.Params(iemodBuilder.getCriteria(), bundle);
         pEA._populationSize = iemodBuilder.getGoals().length;
-        pEA._offspringSize = 1; // Important: offspring size = 1
-        pEA._expectedNumberOfSteadyStateRepeats = pEA._populationSize;
+        pEA._offspringSize = 1; // Important: offspring size = 1 (per goal)
+        pEA._expectedNumberOfSteadyStateRepeats = MOEADGoalsManager.getExpectedNumberOfSteadyStateRepeats(
+                pEA._populationSize, iemodBuilder.getSteadyStateBatchSize());
         pEA._R = iemodBuilder.getR();
         pEA._id = iemodBuilder.getID();
         if (iemodBuilder.getEAParamsAdjuster() != null) iemodBuilder.getEAParamsAdjuster().adjust(pEA);
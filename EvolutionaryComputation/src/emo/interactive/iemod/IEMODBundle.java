@@ -6,6 +6,7 @@ import emo.aposteriori.moead.MOEADConstructMatingPool;
 import emo.aposteriori.moead.MOEADFinalizeStep;
 import emo.aposteriori.moead.MOEADInitEnds;
 import emo.aposteriori.moead.MOEADOSChangeListener;
+import emo.aposteriori.moead.MOEADSelectParents;
 import emo.interactive.AbstractEMOInteractiveBundle;
 import emo.utils.decomposition.moead.MOEADGoalsManager;
 import exeption.DecisionSupportSystemException;
@@ -236,6 +237,19 @@ public class IEMODBundle extends AbstractEMOInteractiveBundle
     }
 
 
+    /**
+     * Auxiliary method instantiating the "select parents" phase.
+     *
+     * @param p params container
+     */
+    @Override
+    protected void instantiateSelectParentsPhase(AbstractEABundle.Params p)
+    {
+        IEMODBundle.Params<? extends AbstractValueInternalModel> pp = (IEMODBundle.Params<? extends AbstractValueInternalModel>) p;
+        _phasesBundle._selectParents = null;
+        if (p._select != null) _phasesBundle._selectParents = new MOEADSelectParents(pp._goalsManager, p._select);
+    }
+
     /**
      * Auxiliary method instantiating the "init ends" phase.
      *
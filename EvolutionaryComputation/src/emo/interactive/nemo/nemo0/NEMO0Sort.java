@@ -4,6 +4,7 @@ import criterion.Criteria;
 import ea.AbstractPhasesEA;
 import emo.aposteriori.nsgaii.NSGAIISort;
 import emo.utils.front.FNDSorting;
+import emo.utils.front.UtilityMatrix;
 import exception.PhaseException;
 import exeption.PreferenceModelException;
 import model.IPreferenceModel;
@@ -38,6 +39,7 @@ public class NEMO0Sort extends NSGAIISort implements IPhase
         super("NEMO-0: Sort", criteria);
         _DMS = DSS.getDecisionMakersSystems()[0];
         _preferenceModel = _DMS.getModelSystems()[0].getPreferenceModel();
+        _utilities = new UtilityMatrix();
     }
 
     /**
@@ -50,6 +52,11 @@ public class NEMO0Sort extends NSGAIISort implements IPhase
      */
     protected final IPreferenceModel<? extends AbstractInternalModel> _preferenceModel;
 
+    /**
+     * Utility matrix (single row; scores of the members of the ambiguous front; evaluated sequentially).
+     */
+    protected final UtilityMatrix _utilities;
+
     /**
      * Phase's main action.
      *
@@ -86,23 +93,19 @@ public class NEMO0Sort extends NSGAIISort implements IPhase
             // construct the ambiguous population
             ArrayList<Specimen> lastFront = new ArrayList<>(ea.getPopulationSize() - aFront._passedMembers);
 
-            double[] eval = new double[aFront._front.size()];
-            int t = 0;
-            for (Integer idx : aFront._front)
+            for (Integer idx : aFront._front) lastFront.add(ea.getSpecimensContainer().getPopulation().get(idx));
+            try
             {
-                Specimen candidate = ea.getSpecimensContainer().getPopulation().get(idx);
-                lastFront.add(candidate);
-                try
-                {
-                    eval[t++] = _preferenceModel.evaluate(candidate.getAlternative());
-                } catch (PreferenceModelException e)
-                {
-                    throw new PhaseException("Error occurred when evaluating an alternative " + e.getDetailedReasonMessage(), this.getClass(), e);
-                }
+                _utilities.update(new Specimens(lastFront), _preferenceModel);
+            } catch (PreferenceModelException e)
+            {
+                throw new PhaseException("Error occurred when evaluating an alternative " + e.getDetailedReasonMessage(), this.getClass(), e);
             }
+            double[] eval = new double[lastFront.size()];
+            for (int t = 0; t < eval.length; t++) eval[t] = _utilities.getUtility(0, t);
             double maxEval = StatUtils.max(eval);
             if (Double.compare(maxEval, 0.0d) == 0) maxEval = 1.0;
-            t = 0;
+            int t = 0;
             if (_preferenceModel.isLessPreferred())
             {
                 for (Integer idx : aFront._front)
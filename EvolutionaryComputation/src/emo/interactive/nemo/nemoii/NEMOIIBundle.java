@@ -41,6 +41,13 @@ public class NEMOIIBundle extends AbstractNEMOBundle
      */
     public static class Params extends AbstractNEMOBundle.Params
     {
+        /**
+         * The number of threads used by the sort phase for evaluating the specimens with the preference model instances
+         * (see {@link emo.utils.front.UtilityMatrix}); if greater than 1, the internal models must be safe for
+         * concurrent evaluation.
+         */
+        public int _noThreads = 1;
+
         /**
          * Parameterized constructor.
          *
@@ -152,7 +159,7 @@ public class NEMOIIBundle extends AbstractNEMOBundle
     protected void instantiateSortPhase(AbstractEABundle.Params p)
     {
         Params pp = (Params) p;
-        _phasesBundle._sort = new NEMOIISort(p._criteria, pp._DSS);
+        _phasesBundle._sort = new NEMOIISort(p._criteria, pp._DSS, pp._noThreads);
     }
 
 
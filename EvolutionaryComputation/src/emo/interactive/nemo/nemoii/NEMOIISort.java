@@ -5,6 +5,7 @@ import ea.AbstractPhasesEA;
 import emo.aposteriori.nsgaii.NSGAIISort;
 import emo.utils.front.FNDSorting;
 import emo.utils.front.POFront;
+import emo.utils.front.UtilityMatrix;
 import exception.PhaseException;
 import model.IPreferenceModel;
 import model.internals.AbstractInternalModel;
@@ -33,11 +34,25 @@ public class NEMOIISort extends NSGAIISort implements IPhase
      * @param DSS      reference to DSS
      */
     public NEMOIISort(Criteria criteria, DecisionSupportSystem DSS)
+    {
+        this(criteria, DSS, 1);
+    }
+
+    /**
+     * Parameterized constructor.
+     *
+     * @param criteria  considered criteria
+     * @param DSS       reference to DSS
+     * @param noThreads the number of threads used for evaluating the specimens with the preference model instances
+     *                  (if greater than 1, the instances must be safe for concurrent evaluation)
+     */
+    public NEMOIISort(Criteria criteria, DecisionSupportSystem DSS, int noThreads)
     {
         super("NEMO-II: Sort", criteria);
         _DMS = DSS.getDecisionMakersSystems()[0];
         _preferenceModel = _DMS.getModelSystems()[0].getPreferenceModel();
         _POF = new POFront();
+        _utilities = new UtilityMatrix(noThreads);
     }
 
     /**
@@ -50,6 +65,11 @@ public class NEMOIISort extends NSGAIISort implements IPhase
      */
     protected final POFront _POF;
 
+    /**
+     * Utility matrix (each specimen is evaluated by each preference model instance once per generation).
+     */
+    protected final UtilityMatrix _utilities;
+
     /**
      * Reference to the cone model.
      */
@@ -80,9 +100,11 @@ public class NEMOIISort extends NSGAIISort implements IPhase
         // Instantiate new population
         ArrayList<Specimen> newPopulation = new ArrayList<>(ea.getPopulationSize());
 
+        // Evaluate the specimens with all model instances (once)
+        _utilities.update(new Specimens(ea.getSpecimensContainer().getPopulation()), models);
+
         // Identify the required number of non-dominated fronts
-        LinkedList<LinkedList<Integer>> fronts = _POF.getFrontAssignments(
-                new Specimens(ea.getSpecimensContainer().getPopulation()), models, ea.getPopulationSize());
+        LinkedList<LinkedList<Integer>> fronts = _POF.getFrontAssignments(_utilities, ea.getPopulationSize());
 
         // Pass as many fronts as possible and determine the ambiguous front
         FNDSorting.AmbiguousFront aFront = FNDSorting.fillNewPopulationWithCertainFronts(newPopulation,
@@ -101,4 +123,14 @@ public class NEMOIISort extends NSGAIISort implements IPhase
         ea.getSpecimensContainer().setPopulation(newPopulation);
     }
 
+    /**
+     * Releases the resources held by the crowding distance calculator and the utility matrix (see
+     * {@link UtilityMatrix#dispose()}).
+     */
+    @Override
+    public void dispose()
+    {
+        super.dispose();
+        _utilities.dispose();
+    }
 }
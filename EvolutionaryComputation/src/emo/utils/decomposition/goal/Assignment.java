@@ -147,8 +147,20 @@ public class Assignment
      */
     public void insertSpecimen(Specimen specimen)
     {
-        double evaluation = _goal.evaluate(specimen);
+        insertSpecimen(specimen, _goal.evaluate(specimen));
+    }
 
+    /**
+     * The method inserts the input specimen (with the provided evaluation) into the lists in a way that all the
+     * elements are kept sorted. It is assumed that the first element is evaluated as best, while the last is evaluated
+     * as worst. The evaluation should be consistent with the assigned goal (it can be provided when already derived,
+     * to avoid re-evaluating the specimen).
+     *
+     * @param specimen   new specimen to be added
+     * @param evaluation specimen's evaluation (given the assigned goal)
+     */
+    public void insertSpecimen(Specimen specimen, double evaluation)
+    {
         if (_specimens.isEmpty()) // list are empty, add the specimen
         {
             _specimens.add(specimen);
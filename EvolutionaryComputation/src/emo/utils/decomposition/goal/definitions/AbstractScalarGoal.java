@@ -29,6 +29,16 @@ public abstract class AbstractScalarGoal extends AbstractGoal implements IGoal
         _f = scalarFunction;
     }
 
+    /**
+     * Getter for the wrapped scalarizing function.
+     *
+     * @return scalarizing function
+     */
+    public IScalarizingFunction getScalarizingFunction()
+    {
+        return _f;
+    }
+
     /**
      * Can be used to evaluate a specimen.
      *
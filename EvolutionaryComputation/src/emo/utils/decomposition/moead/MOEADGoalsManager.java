@@ -10,6 +10,7 @@ import emo.utils.decomposition.goal.IGoal;
 import emo.utils.decomposition.neighborhood.Neighborhood;
 import emo.utils.decomposition.neighborhood.constructor.INeighborhoodConstructor;
 import emo.utils.decomposition.neighborhood.constructor.InsertionSortConstructor;
+import emo.utils.decomposition.neighborhood.constructor.KDTreeConstructor;
 import emo.utils.decomposition.similarity.ISimilarity;
 import population.Specimen;
 import population.SpecimensContainer;
@@ -55,9 +56,19 @@ public class MOEADGoalsManager extends AbstractGoalsManager
         public INeighborhoodConstructor _neighborhoodConstructor;
 
         /**
-         * Parameterized constructor. Establishes one-family decomposition data. Insertion sort constructor
-         * {@link InsertionSortConstructor}
-         * is used when building neighborhoods.
+         * Steady-state batch size (should be at least 1). If greater than 1, each steady-state repeat processes a batch
+         * of goals (consecutive elements of the updates sequence determined via {@link IAlloc}). The offspring solutions
+         * for all goals in the batch are generated based on the same population state, evaluated together (which
+         * allows for the concurrent evaluation; see {@link phase.ParallelEvaluate}), and then used to update the
+         * neighborhoods of the goals in the order imposed by the updates sequence. Hence, the batch size serves as the
+         * upper bound for the number of in-flight evaluations. The default value of 1 yields the standard MOEA/D.
+         */
+        public int _steadyStateBatchSize = 1;
+
+        /**
+         * Parameterized constructor. Establishes one-family decomposition data. The k-d tree-based constructor
+         * ({@link KDTreeConstructor}; it yields the same neighborhoods as {@link InsertionSortConstructor}) is used when
+         * building neighborhoods.
          *
          * @param goals            optimization goals (the only family)
          * @param similarity       similarity measure used to compare the goals
@@ -65,7 +76,7 @@ public class MOEADGoalsManager extends AbstractGoalsManager
          */
         public Params(IGoal[] goals, ISimilarity similarity, int neighborhoodSize)
         {
-            this(new IGoal[][]{goals}, new ISimilarity[]{similarity}, new InsertionSortConstructor(), neighborhoodSize);
+            this(new IGoal[][]{goals}, new ISimilarity[]{similarity}, new KDTreeConstructor(), neighborhoodSize);
         }
 
 
@@ -131,6 +142,18 @@ public class MOEADGoalsManager extends AbstractGoalsManager
      */
     private GoalID[] _updatesSequence = null;
 
+    /**
+     * Steady-state batch size (the number of goals processed in one steady-state repeat).
+     */
+    private final int _steadyStateBatchSize;
+
+    /**
+     * The numbers of offspring solutions generated for subsequent goals in the current batch (1:1 mapping with
+     * {@link MOEADGoalsManager#getCurrentGoalsToBeUpdated(int)}); can be null (then, all offspring are linked to the
+     * first goal in the batch).
+     */
+    private int[] _batchOffspringCounts = null;
+
 
     /**
      * Parameterized constructor.
@@ -144,6 +167,21 @@ public class MOEADGoalsManager extends AbstractGoalsManager
         _NC = p._neighborhoodConstructor;
         _neighborhoodSize = p._neighborhoodSize;
         _alloc = p._alloc;
+        _steadyStateBatchSize = Math.max(1, p._steadyStateBatchSize);
+    }
+
+    /**
+     * Returns the expected number of steady-state repeats, i.e., the number of batches needed to update all the goals
+     * once.
+     *
+     * @param noGoals              the total number of goals
+     * @param steadyStateBatchSize steady-state batch size
+     * @return the expected number of steady-state repeats
+     */
+    public static int getExpectedNumberOfSteadyStateRepeats(int noGoals, int steadyStateBatchSize)
+    {
+        int bs = Math.max(1, steadyStateBatchSize);
+        return (noGoals + bs - 1) / bs;
     }
 
     /**
@@ -203,7 +241,57 @@ public class MOEADGoalsManager extends AbstractGoalsManager
      */
     public GoalID getCurrentGoalToBeUpdated(int steadyStateRepeat)
     {
-        return _updatesSequence[steadyStateRepeat];
+        return _updatesSequence[steadyStateRepeat * _steadyStateBatchSize];
+    }
+
+    /**
+     * Returns the current goals to be updated (batch linked to the steady-state repeat). If the steady-state batch
+     * size equals 1, the returned array consists of one element (the same as returned by
+     * {@link MOEADGoalsManager#getCurrentGoalToBeUpdated(int)}). Note that the last batch may be smaller than the
+     * batch size.
+     *
+     * @param steadyStateRepeat steady-state repeat no.
+     * @return goals to be updated (empty array if all goals were already processed)
+     */
+    public GoalID[] getCurrentGoalsToBeUpdated(int steadyStateRepeat)
+    {
+        int from = Math.min(steadyStateRepeat * _steadyStateBatchSize, _updatesSequence.length);
+        int to = Math.min(from + _steadyStateBatchSize, _updatesSequence.length);
+        GoalID[] batch = new GoalID[to - from];
+        System.arraycopy(_updatesSequence, from, batch, 0, batch.length);
+        return batch;
+    }
+
+    /**
+     * Getter for the steady-state batch size.
+     *
+     * @return steady-state batch size
+     */
+    public int getSteadyStateBatchSize()
+    {
+        return _steadyStateBatchSize;
+    }
+
+    /**
+     * Setter for the numbers of offspring solutions generated for subsequent goals in the current batch (1:1 mapping
+     * with {@link MOEADGoalsManager#getCurrentGoalsToBeUpdated(int)}).
+     *
+     * @param batchOffspringCounts the numbers of offspring solutions generated for subsequent goals (can be null)
+     */
+    public void setBatchOffspringCounts(int[] batchOffspringCounts)
+    {
+        _batchOffspringCounts = batchOffspringCounts;
+    }
+
+    /**
+     * Getter for the numbers of offspring solutions generated for subsequent goals in the current batch (1:1 mapping
+     * with {@link MOEADGoalsManager#getCurrentGoalsToBeUpdated(int)}).
+     *
+     * @return the numbers of offspring solutions generated for subsequent goals (can be null)
+     */
+    public int[] getBatchOffspringCounts()
+    {
+        return _batchOffspringCounts;
     }
 
     /**
@@ -382,4 +470,13 @@ public class MOEADGoalsManager extends AbstractGoalsManager
         }
 
     }
+
+    /**
+     * Releases the resources held by the neighborhood constructor (see {@link INeighborhoodConstructor#dispose()}).
+     * The object can still be used afterward.
+     */
+    public void dispose()
+    {
+        if (_NC != null) _NC.dispose();
+    }
 }
@@ -33,4 +33,12 @@ public interface INeighborhoodConstructor
      */
     Neighborhood getNeighborhood(Family family, ISimilarity similarity, int size, Family[] scope);
 
+    /**
+     * Releases the resources held by the constructor (e.g., thread pools). The default implementation does nothing.
+     */
+    default void dispose()
+    {
+
+    }
+
 }
@@ -0,0 +1,253 @@
+package emo.utils.decomposition.neighborhood.constructor;
+
+import emo.utils.decomposition.family.Family;
+import emo.utils.decomposition.goal.GoalID;
+import emo.utils.decomposition.goal.GoalWrapper;
+import emo.utils.decomposition.goal.IGoal;
+import emo.utils.decomposition.neighborhood.Neighborhood;
+import emo.utils.decomposition.similarity.AbstractCos;
+import emo.utils.decomposition.similarity.AbstractEuclidean;
+import emo.utils.decomposition.similarity.ISimilarity;
+import space.nn.KDTree;
+import thread.LazyThreadPool;
+
+import java.util.Arrays;
+import java.util.LinkedList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+
+/**
+ * Neighborhood constructor that employs a k-d tree ({@link KDTree}) built over the goals' parameter vectors (e.g.,
+ * weight vectors). It supports the Euclidean ({@link AbstractEuclidean}) and cosine ({@link AbstractCos}) similarities
+ * (for the latter, the tree is built over the vectors scaled to unit lengths, as the cosine similarity is a monotonic
+ * function of the Euclidean distance between such vectors). For each reference goal, the tree provides a small set of
+ * candidates (the nearest ones, with a safety margin for rounding errors), which are then ranked using the similarity
+ * measure itself. The ties are resolved in favor of goals that come first in the scope (as in
+ * {@link InsertionSortConstructor}), hence the constructed neighborhoods are identical to those derived by
+ * {@link InsertionSortConstructor}, but the cost is reduced from O(H^2) to roughly O(H log H) similarity calculations
+ * (H = the number of goals). The reference goals can be processed in parallel (the thread pool is instantiated on
+ * demand, see {@link LazyThreadPool}, and released via {@link #dispose()}). If the similarity measure is not
+ * supported or the parameter vectors are not suitable (e.g., they are of different lengths, contain non-finite values,
+ * or, in the case of the cosine similarity, are zero vectors), the construction is delegated to
+ * {@link InsertionSortConstructor}.
+ *
+ * @author MTomczyk
+ */
+
+public class KDTreeConstructor extends AbstractNeighborhoodConstructor implements INeighborhoodConstructor
+{
+    /**
+     * Relative tolerance used when gathering candidates (safety margin for rounding errors).
+     */
+    private static final double RELATIVE_TOLERANCE = 1.0E-9d;
+
+    /**
+     * Absolute tolerance used when gathering candidates for the cosine similarity (safety margin for rounding errors).
+     */
+    private static final double ABSOLUTE_TOLERANCE = 1.0E-9d;
+
+    /**
+     * If the number of reference goals is smaller than this threshold, they are processed sequentially.
+     */
+    private static final int MIN_GOALS_FOR_PARALLELISM = 256;
+
+    /**
+     * Thread pool used to process the reference goals in parallel.
+     */
+    private final LazyThreadPool _pool;
+
+    /**
+     * Default constructor (the reference goals are processed sequentially).
+     */
+    public KDTreeConstructor()
+    {
+        this(1);
+    }
+
+    /**
+     * Parameterized constructor.
+     *
+     * @param noThreads the number of threads used for processing the reference goals (at least 1)
+     */
+    public KDTreeConstructor(int noThreads)
+    {
+        _pool = new LazyThreadPool(noThreads);
+    }
+
+    /**
+     * Constructs and returns a neighborhood structure for a given family of goals.
+     *
+     * @param family     goals family
+     * @param similarity similarity measure
+     * @param size       neighborhood size (should be smaller/equal the total number of goals stored in the scope)
+     * @param scope      if provided, neighbors are supposed to be determined using the provided families (it can be a
+     *                   subset of all families, stored in an arbitrary order)
+     * @return constructed neighborhood
+     */
+    @Override
+    public Neighborhood getNeighborhood(Family family, ISimilarity similarity, int size, Family[] scope)
+    {
+        int total = 0;
+        for (Family f : scope) total += f.getSize();
+        boolean euclidean = isDeclaredBy(similarity, AbstractEuclidean.class);
+        boolean cos = isDeclaredBy(similarity, AbstractCos.class);
+        if ((size <= 1) || (size > total) || ((!euclidean) && (!cos)))
+            return new InsertionSortConstructor().getNeighborhood(family, similarity, size, scope);
+
+        // goals in the scope (flat order = order of the insertion-sort scan)
+        GoalWrapper[] goals = new GoalWrapper[total];
+        double[][] keys = new double[total][];
+        int idx = 0;
+        for (Family f : scope)
+        {
+            for (GoalWrapper g : f.getGoals())
+            {
+                double[] key = getKey(g, cos);
+                if ((key == null) || ((idx > 0) && (key.length != keys[0].length)))
+                    return new InsertionSortConstructor().getNeighborhood(family, similarity, size, scope);
+                goals[idx] = g;
+                keys[idx++] = key;
+            }
+        }
+
+        GoalID[][] N = new GoalID[family.getSize()][];
+        double[][] queries = new double[family.getSize()][];
+        for (int i = 0; i < family.getSize(); i++)
+        {
+            queries[i] = getKey(family.getGoal(i), cos);
+            if ((queries[i] == null) || (queries[i].length != keys[0].length))
+                return new InsertionSortConstructor().getNeighborhood(family, similarity, size, scope);
+        }
+
+        KDTree tree = new KDTree(keys, null, 2.0d, null);
+        double absoluteTolerance = cos ? ABSOLUTE_TOLERANCE : 0.0d;
+
+        int noThreads = _pool.getNoThreads();
+        if ((noThreads == 1) || (family.getSize() < MIN_GOALS_FOR_PARALLELISM))
+        {
+            fill(N, family, similarity, size, goals, queries, tree, absoluteTolerance, 0, family.getSize());
+            return new Neighborhood(N);
+        }
+
+        int chunk = (family.getSize() + noThreads - 1) / noThreads;
+        LinkedList<Future<?>> futures = new LinkedList<>();
+        for (int b = 0; b < family.getSize(); b += chunk)
+        {
+            int f = b;
+            int t = Math.min(family.getSize(), b + chunk);
+            futures.add(_pool.submit(() ->
+                    fill(N, family, similarity, size, goals, queries, tree, absoluteTolerance, f, t)));
+        }
+        try
+        {
+            LazyThreadPool.waitForAll(futures);
+        } catch (InterruptedException e)
+        {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("The neighborhood construction was interrupted", e);
+        } catch (ExecutionException e)
+        {
+            throw new IllegalStateException("Error occurred when constructing the neighborhood " +
+                    e.getCause(), e.getCause());
+        }
+        return new Neighborhood(N);
+    }
+
+    /**
+     * Shuts down the thread pool (if instantiated). The constructor can still be used afterward (a new pool will be
+     * instantiated on demand).
+     */
+    @Override
+    public void dispose()
+    {
+        _pool.dispose();
+    }
+
+    /**
+     * Auxiliary method constructing the neighborhoods of the reference goals in the given range.
+     *
+     * @param N                 neighborhood matrix to be filled
+     * @param family            goals family
+     * @param similarity        similarity measure
+     * @param size              neighborhood size
+     * @param goals             goals in the scope (flat order)
+     * @param queries           keys of the reference goals
+     * @param tree              k-d tree built over the keys of the goals in the scope
+     * @param absoluteTolerance absolute tolerance used when gathering candidates
+     * @param from              index of the first reference goal (inclusive)
+     * @param to                index of the last reference goal (exclusive)
+     */
+    private static void fill(GoalID[][] N, Family family, ISimilarity similarity, int size, GoalWrapper[] goals,
+                             double[][] queries, KDTree tree, double absoluteTolerance, int from, int to)
+    {
+        boolean isLessMeaningCloser = similarity.isLessMeaningCloser();
+        for (int i = from; i < to; i++)
+        {
+            GoalWrapper refGoal = family.getGoal(i);
+            int[] candidates = tree.getKNearest(queries[i], size, RELATIVE_TOLERANCE, absoluteTolerance);
+            double[] s = new double[candidates.length];
+            Integer[] order = new Integer[candidates.length];
+            for (int c = 0; c < candidates.length; c++)
+            {
+                order[c] = c;
+                s[c] = similarity.calculateSimilarity(refGoal, goals[candidates[c]]);
+            }
+            // final ranking using the similarity measure (ties: the scan order)
+            Arrays.sort(order, (a, b) -> {
+                int c = isLessMeaningCloser ? Double.compare(s[a], s[b]) : Double.compare(s[b], s[a]);
+                if (c != 0) return c;
+                return Integer.compare(candidates[a], candidates[b]);
+            });
+            N[i] = new GoalID[size];
+            for (int j = 0; j < size; j++) N[i][j] = goals[candidates[order[j]]].getID();
+        }
+    }
+
+    /**
+     * Auxiliary method returning the key (point indexed by the tree) of a goal.
+     *
+     * @param goal goal
+     * @param cos  if true, the parameter vector is scaled to the unit length
+     * @return the key (null, if the goal is not suitable)
+     */
+    private static double[] getKey(IGoal goal, boolean cos)
+    {
+        double[][] params = goal.getParams();
+        if ((params == null) || (params.length == 0) || (params[0] == null)) return null;
+        double[] key = params[0].clone();
+        double length = 0.0d;
+        for (double v : key)
+        {
+            if (!Double.isFinite(v)) return null;
+            length += v * v;
+        }
+        if (cos)
+        {
+            length = Math.sqrt(length);
+            if (!(length > 0.0d) || !Double.isFinite(length)) return null;
+            for (int j = 0; j < key.length; j++) key[j] /= length;
+        }
+        return key;
+    }
+
+    /**
+     * Auxiliary method checking if the similarity calculation is implemented by the given class (i.e., it is not
+     * overwritten by a subclass).
+     *
+     * @param similarity similarity measure
+     * @param c          class
+     * @return true, if the calculation is implemented by the class
+     */
+    private static boolean isDeclaredBy(ISimilarity similarity, Class<?> c)
+    {
+        if ((similarity == null) || (!c.isInstance(similarity))) return false;
+        try
+        {
+            return similarity.getClass().getMethod("calculateSimilarity", IGoal.class, IGoal.class)
+                    .getDeclaringClass().equals(c);
+        } catch (NoSuchMethodException e)
+        {
+            return false;
+        }
+    }
+}
@@ -2,9 +2,8 @@ package emo.utils.decomposition.nsgaiii;
 
 import emo.utils.decomposition.AbstractGoalsManager;
 import emo.utils.decomposition.family.Family;
-import emo.utils.decomposition.family.FamilyID;
 import emo.utils.decomposition.goal.Assignment;
-import emo.utils.decomposition.goal.GoalID;
+import emo.utils.decomposition.goal.GoalWrapper;
 import emo.utils.decomposition.goal.IGoal;
 import population.Specimen;
 
@@ -14,7 +13,10 @@ import java.util.ListIterator;
 
 /**
  * Class providing various functionalities for maintaining/processing goals/assignments in a
- * decomposition-based algorithm founded on the NSGA-III algorithm.
+ * decomposition-based algorithm founded on the NSGA-III algorithm. If all goals are point-line projections sharing the
+ * same normalizations (the default NSGA-III setting), the closest goals are found using a specialized kernel
+ * ({@link PLPAssignmentKernel}) that works on packed primitive matrices; otherwise, the goals are evaluated one by one.
+ * In both cases, the results are the same.
  *
  * @author MTomczyk
  */
@@ -46,6 +48,12 @@ public class NSGAIIIGoalsManager extends AbstractGoalsManager
         {
             super(goals);
         }
+
+        /**
+         * The number of threads used when assigning specimens to their closest goals (used only by the specialized
+         * kernel; see {@link PLPAssignmentKernel}).
+         */
+        public int _noThreads = 1;
     }
 
     /**
@@ -53,6 +61,26 @@ public class NSGAIIIGoalsManager extends AbstractGoalsManager
      */
     private final double _ncDelta = 0.000001d;
 
+    /**
+     * Specialized kernel used for finding the closest goals.
+     */
+    private final PLPAssignmentKernel _kernel;
+
+    /**
+     * Auxiliary array storing the indices of the processed specimens (reused).
+     */
+    private int[] _indices = new int[0];
+
+    /**
+     * Auxiliary array storing the flat indices of the closest goals (reused).
+     */
+    private int[] _closest = new int[0];
+
+    /**
+     * Auxiliary array storing the evaluations attained by the specimens on their closest goals (reused).
+     */
+    private double[] _bestEvaluations = new double[0];
+
     /**
      * Parameterized constructor.
      *
@@ -62,6 +90,7 @@ public class NSGAIIIGoalsManager extends AbstractGoalsManager
     {
         super(p);
         for (Family f : _F) f.instantiateDefaultAssignments();
+        _kernel = new PLPAssignmentKernel(p._noThreads);
     }
 
     /**
@@ -96,60 +125,87 @@ public class NSGAIIIGoalsManager extends AbstractGoalsManager
             f.resetAssignmentsLists();
         }
 
-        boolean notLastFront;
+        // gather the specimens (the number of specimens in the passed fronts is stored as lastFrontStart)
+        int n = 0;
+        for (LinkedList<Integer> front : fronts) n += front.size();
+        if (_indices.length < n)
+        {
+            int capacity = Math.max(n, 2 * _indices.length);
+            _indices = new int[capacity];
+            _closest = new int[capacity];
+            _bestEvaluations = new double[capacity];
+        }
+        int lastFrontStart = 0;
+        int idx = 0;
         ListIterator<LinkedList<Integer>> listIt = fronts.listIterator();
-        LinkedList<Integer> front;
-
-        // for each specimen
         while (listIt.hasNext())
         {
-            front = listIt.next();
-            notLastFront = listIt.hasNext();
+            LinkedList<Integer> front = listIt.next();
+            if (!listIt.hasNext()) lastFrontStart = idx;
+            for (Integer id : front) _indices[idx++] = id;
+        }
 
-            for (Integer id : front)
-            {
-                Specimen specimen = population.get(id);
-                // find the best assignment
-                GoalID gID = findClosestGoal(specimen);
-                // get the assignment
-                Assignment assignment = _F[gID.getFamilyArrayIndex()].getAssignment(gID.getGoalArrayIndex());
-
-                // if not in the last (ambiguous) front, increase NC
-                if (notLastFront) assignment.incrementNicheCount();
-                // else add a specimen to the assignment
-                else assignment.insertSpecimen(specimen);
-            }
+        // find the closest goals
+        if (_kernel.update(_F)) _kernel.findClosestGoals(population, _indices, n, _closest, _bestEvaluations);
+        else for (int i = 0; i < n; i++) findClosestGoal(population.get(_indices[i]), i);
+
+        // map the flat indices onto assignments
+        Assignment[] assignments = getFlatAssignments();
+        for (int i = 0; i < n; i++)
+        {
+            Assignment assignment = assignments[_closest[i]];
+            // if not in the last (ambiguous) front, increase NC
+            if (i < lastFrontStart) assignment.incrementNicheCount();
+            // else add a specimen to the assignment
+            else assignment.insertSpecimen(population.get(_indices[i]), _bestEvaluations[i]);
         }
     }
 
     /**
-     * Auxiliary method for finding the closest goal to a given input specimen.
-     * Note that it is assumed that all goals are either to be minimized or maximized (mixing is not allowed).
+     * Auxiliary method returning the assignments of all families as a flat array (the flat index of a goal is the sum
+     * of the sizes of the preceding families + its index in the family).
+     *
+     * @return flat array of assignments
+     */
+    private Assignment[] getFlatAssignments()
+    {
+        Assignment[] assignments = new Assignment[_totalNoGoals];
+        int idx = 0;
+        for (Family f : _F)
+            for (Assignment a : f.getAssignments()) assignments[idx++] = a;
+        return assignments;
+    }
+
+    /**
+     * Auxiliary method for finding the closest goal to a given input specimen (generic variant; goals are evaluated one
+     * by one). The flat index of the closest goal and the evaluation are stored in the auxiliary arrays at the
+     * specified position. Note that it is assumed that all goals are either to be minimized or maximized (mixing is not
+     * allowed).
      *
      * @param specimen input specimen
-     * @return pointer to the closest goal
+     * @param i        position in the auxiliary arrays
      */
-    private GoalID findClosestGoal(Specimen specimen)
+    private void findClosestGoal(Specimen specimen, int i)
     {
-        int fID = 0;
-        int gID = 0;
+        int best = 0;
+        int idx = 0;
         double bestEvaluation = _F[0].getGoals()[0].evaluate(specimen);
-        for (int f = 0; f < _F.length; f++)
+        for (Family f : _F)
         {
-            for (int g = 0; g < _F[f].getSize(); g++)
+            for (GoalWrapper goal : f.getGoals())
             {
-                double evaluation = _F[f].getGoals()[g].evaluate(specimen);
-                if (
-                        ((_F[f].getGoals()[g].isLessPreferred()) && (Double.compare(evaluation, bestEvaluation) < 0)) ||
-                                ((!_F[f].getGoals()[g].isLessPreferred()) && (Double.compare(evaluation, bestEvaluation) > 0)))
+                double evaluation = goal.evaluate(specimen);
+                if (((goal.isLessPreferred()) && (Double.compare(evaluation, bestEvaluation) < 0)) ||
+                        ((!goal.isLessPreferred()) && (Double.compare(evaluation, bestEvaluation) > 0)))
                 {
                     bestEvaluation = evaluation;
-                    fID = f;
-                    gID = g;
+                    best = idx;
                 }
+                idx++;
             }
         }
-        return new GoalID(new FamilyID(fID), gID);
+        _closest[i] = best;
+        _bestEvaluations[i] = bestEvaluation;
     }
 
     /**
@@ -184,4 +240,13 @@ public class NSGAIIIGoalsManager extends AbstractGoalsManager
 
         return assignments;
     }
+
+    /**
+     * Releases the resources (shuts down the thread pool used for assigning specimens to goals, if instantiated; see
+     * {@link PLPAssignmentKernel#dispose()}). The object can still be used afterward.
+     */
+    public void dispose()
+    {
+        _kernel.dispose();
+    }
 }
@@ -0,0 +1,247 @@
+package emo.utils.decomposition.nsgaiii;
+
+import emo.utils.decomposition.family.Family;
+import emo.utils.decomposition.goal.GoalWrapper;
+import emo.utils.decomposition.goal.IGoal;
+import emo.utils.decomposition.goal.definitions.AbstractScalarGoal;
+import emo.utils.decomposition.goal.definitions.PointLineProjection;
+import population.Specimen;
+import space.normalization.INormalization;
+import space.scalarfunction.AbstractScalarizingFunction;
+import thread.LazyThreadPool;
+
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+
+/**
+ * Specialized engine for assigning specimens to their closest goals when all goals are point-line projections
+ * ({@link PointLineProjection}; the perpendicular distances to the reference directions, as in NSGA-III) sharing the
+ * same normalizations. The reference directions (of all families; the flat index of a goal is the sum of the sizes of
+ * the preceding families + its index in the family) and the normalized objective vectors are packed into primitive
+ * row-major matrices, and the distances are computed in blocked loops (a block of specimens is processed against one
+ * reference direction at a time, so that each direction is loaded once per block), with no virtual calls and no
+ * allocations per specimen. The arithmetic mirrors {@link space.scalarfunction.PointLineProjection#evaluate(double[])},
+ * so the distances (and the ties resolution: the first closest goal is selected) are identical to those derived by
+ * the goals. The specimens can be processed in parallel (the results do not depend on the number of threads; the
+ * thread pool is instantiated on demand, see {@link LazyThreadPool}, and released via {@link #dispose()}). The object is not thread-safe
+ * (the buffers are reused between calls).
+ *
+ * @author MTomczyk
+ */
+public class PLPAssignmentKernel
+{
+    /**
+     * The number of specimens processed together (against one reference direction at a time).
+     */
+    private static final int BLOCK_SIZE = 32;
+
+    /**
+     * If the number of specimens is smaller than this threshold, they are processed sequentially.
+     */
+    private static final int MIN_SPECIMENS_FOR_PARALLELISM = 256;
+
+    /**
+     * Thread pool used to process the specimens in parallel.
+     */
+    private final LazyThreadPool _pool;
+
+    /**
+     * The number of goals (reference directions).
+     */
+    private int _H = 0;
+
+    /**
+     * The number of objectives.
+     */
+    private int _M = 0;
+
+    /**
+     * Reference directions (row-major; the h-th direction starts at position h * M).
+     */
+    private double[] _directions = new double[0];
+
+    /**
+     * Squared lengths of the reference directions.
+     */
+    private double[] _squaredLengths = new double[0];
+
+    /**
+     * Normalizations shared by the goals (can be null).
+     */
+    private INormalization[] _normalizations = null;
+
+    /**
+     * Normalized objective vectors of the processed specimens (row-major).
+     */
+    private double[] _points = new double[0];
+
+    /**
+     * Parameterized constructor.
+     *
+     * @param noThreads the number of threads used (at least 1)
+     */
+    public PLPAssignmentKernel(int noThreads)
+    {
+        _pool = new LazyThreadPool(noThreads);
+    }
+
+    /**
+     * Packs the reference directions of the goals. Should be called before each assignment step (the goals' parameters
+     * and normalizations may change). The cost is O(HM) (negligible when compared to the assignment step).
+     *
+     * @param families families of goals
+     * @return true, if the goals are supported (all are point-line projections with equal numbers of dimensions and the
+     * same normalizations); false otherwise (the kernel cannot be used)
+     */
+    public boolean update(Family[] families)
+    {
+        _H = 0;
+        _M = 0;
+        if (families == null) return false;
+        int H = 0;
+        for (Family f : families) H += f.getSize();
+        if (H == 0) return false;
+
+        int h = 0;
+        for (Family f : families)
+        {
+            for (GoalWrapper gw : f.getGoals())
+            {
+                IGoal goal = gw.getGoal();
+                if (goal == null || !goal.getClass().equals(PointLineProjection.class)) return false;
+                AbstractScalarizingFunction plp = (AbstractScalarizingFunction)
+                        ((AbstractScalarGoal) goal).getScalarizingFunction();
+                double[] w = plp.getWeights();
+                if (w == null) return false;
+                if (h == 0)
+                {
+                    _M = w.length;
+                    _normalizations = plp.getNormalizations();
+                    if (_directions.length < H * _M) _directions = new double[H * _M];
+                    if (_squaredLengths.length < H) _squaredLengths = new double[H];
+                }
+                else if ((w.length != _M) || (plp.getNormalizations() != _normalizations)) return false;
+                System.arraycopy(w, 0, _directions, h * _M, _M);
+                double sl = 0.0d;
+                for (double v : w) sl += v * v;
+                _squaredLengths[h++] = sl;
+            }
+        }
+        if ((_normalizations != null) && (_normalizations.length < _M)) return false;
+        _H = H;
+        return true;
+    }
+
+    /**
+     * Finds the closest goals for the selected specimens. The method should be called after a successful
+     * {@link #update(Family[])}.
+     *
+     * @param population population
+     * @param indices    indices of the specimens to process (the first n entries are considered)
+     * @param n          the number of specimens to process
+     * @param closest    array to be filled with the flat indices of the closest goals (length at least n)
+     * @param distances  array to be filled with the distances to the closest goals (length at least n)
+     */
+    public void findClosestGoals(ArrayList<Specimen> population, int[] indices, int n, int[] closest,
+                                 double[] distances)
+    {
+        if (_points.length < n * _M) _points = new double[Math.max(n * _M, 2 * _points.length)];
+        for (int i = 0; i < n; i++)
+        {
+            double[] e = population.get(indices[i]).getEvaluations();
+            int o = i * _M;
+            if (_normalizations == null) System.arraycopy(e, 0, _points, o, _M);
+            else for (int j = 0; j < _M; j++) _points[o + j] = _normalizations[j].getNormalized(e[j]);
+        }
+
+        int noThreads = _pool.getNoThreads();
+        if ((noThreads == 1) || (n < MIN_SPECIMENS_FOR_PARALLELISM))
+        {
+            process(closest, distances, 0, n);
+            return;
+        }
+
+        // chunks are aligned with the blocks
+        int chunk = ((n + noThreads - 1) / noThreads + BLOCK_SIZE - 1) / BLOCK_SIZE * BLOCK_SIZE;
+        LinkedList<Future<?>> futures = new LinkedList<>();
+        for (int b = 0; b < n; b += chunk)
+        {
+            int f = b;
+            int t = Math.min(n, b + chunk);
+            futures.add(_pool.submit(() -> process(closest, distances, f, t)));
+        }
+        try
+        {
+            LazyThreadPool.waitForAll(futures);
+        } catch (InterruptedException e)
+        {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("The goals assignment was interrupted", e);
+        } catch (ExecutionException e)
+        {
+            throw new IllegalStateException("Error occurred when assigning specimens to goals " +
+                    e.getCause(), e.getCause());
+        }
+    }
+
+    /**
+     * Shuts down the thread pool (if instantiated). The kernel can still be used afterward (a new pool will be
+     * instantiated on demand).
+     */
+    public void dispose()
+    {
+        _pool.dispose();
+    }
+
+    /**
+     * Auxiliary method processing the packed points in the given range (block by block).
+     *
+     * @param closest   array to be filled with the flat indices of the closest goals
+     * @param distances array to be filled with the distances to the closest goals
+     * @param from      index of the first point (inclusive)
+     * @param to        index of the last point (exclusive)
+     */
+    private void process(int[] closest, double[] distances, int from, int to)
+    {
+        for (int b = from; b < to; b += BLOCK_SIZE)
+        {
+            int e = Math.min(to, b + BLOCK_SIZE);
+            for (int h = 0; h < _H; h++)
+            {
+                int ro = h * _M;
+                double sl = _squaredLengths[h];
+                for (int i = b; i < e; i++)
+                {
+                    int po = i * _M;
+                    double dot = 0.0d;
+                    for (int j = 0; j < _M; j++) dot += _directions[ro + j] * _points[po + j];
+                    double c = dot / sl;
+                    double d = 0.0d;
+                    for (int j = 0; j < _M; j++)
+                    {
+                        double diff = _directions[ro + j] * c - _points[po + j];
+                        d += diff * diff;
+                    }
+                    d = Math.sqrt(d);
+                    if ((h == 0) || (Double.compare(d, distances[i]) < 0))
+                    {
+                        distances[i] = d;
+                        closest[i] = h;
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Getter for the number of goals packed (0, if the goals are not supported).
+     *
+     * @return the number of goals
+     */
+    public int getNoGoals()
+    {
+        return _H;
+    }
+}
@@ -1,19 +1,25 @@
 package emo.utils.density;
 
-import datastructure.graph.bst.BST;
 import datastructure.graph.bst.INodeValue;
-import datastructure.graph.bst.TreeNode;
 import population.Specimen;
 import space.normalization.INormalization;
+import thread.LazyThreadPool;
 import valuewrapper.DoubleWrapper;
 
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.LinkedList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
 
 
 /**
- * Class for calculating solutions' crowding distances.
+ * Class for calculating solutions' crowding distances. The evaluations of the front members are packed into a
+ * primitive (row-major) matrix, and, for each criterion, the members are ordered using a stable index sort (ties are
+ * resolved according to the order in the front list; specimens are assumed to be uniquely identified). The members
+ * that are extreme in at least one criterion are assigned the "infinity" value; the remaining ones are assigned the
+ * mean (over criteria) of the (optionally normalized) differences between their neighbors' evaluations. The criteria
+ * can be processed in parallel (the results do not depend on the number of threads; the thread pool is instantiated
+ * on demand, see {@link LazyThreadPool}, and released via {@link #dispose()}).
  *
  * @author MTomczyk
  */
@@ -102,19 +108,42 @@ public class CrowdingDistance
         }
     }
 
+    /**
+     * If the front size is smaller than this threshold, the criteria are processed sequentially.
+     */
+    private static final int MIN_FRONT_SIZE_FOR_PARALLELISM = 256;
+
     /**
      * The number of considered criteria.
      */
     private final int _criteria;
 
+    /**
+     * Thread pool used to process the criteria in parallel (the number of threads does not exceed the number of
+     * criteria).
+     */
+    private final LazyThreadPool _pool;
+
     /**
      * Parameterized constructor.
      *
      * @param criteria array of criteria
      */
     public CrowdingDistance(int criteria)
+    {
+        this(criteria, 1);
+    }
+
+    /**
+     * Parameterized constructor.
+     *
+     * @param criteria  array of criteria
+     * @param noThreads the number of threads used (the criteria are processed in parallel)
+     */
+    public CrowdingDistance(int criteria, int noThreads)
     {
         _criteria = criteria;
+        _pool = new LazyThreadPool(Math.min(noThreads, criteria));
     }
 
 
@@ -133,59 +162,157 @@ public class CrowdingDistance
                                                      INormalization[] normalizations,
                                                      double infinity)
     {
+        double[] values = new double[front.size() * _criteria];
+        int i = 0;
+        for (Integer idx : front)
+            System.arraycopy(specimens.get(idx).getEvaluations(), 0, values, _criteria * i++, _criteria);
+        return calculate(values, front.size(), normalizations, infinity);
+    }
 
-        double[] result = new double[front.size()];
+    /**
+     * Calculates crowding distances.
+     *
+     * @param values         evaluations of the front members (row-major)
+     * @param n              the number of front members
+     * @param normalizations normalizations (optional; can be null)
+     * @param infinity       substitute for the infinite number
+     * @return array of calculated crowding distances
+     */
+    private double[] calculate(double[] values, int n, INormalization[] normalizations, double infinity)
+    {
+        double[] result = new double[n];
+        if ((n == 0) || (_criteria == 0)) return result;
 
-        BST[] BSTs = new BST[_criteria];
+        // differences between the neighbors (criterion-major)
+        double[] crowding = new double[_criteria * n];
+        // flags indicating members that are extreme in at least one criterion
+        boolean[] extreme = new boolean[n];
 
-        for (int c = 0; c < _criteria; c++)
+        if ((_pool.getNoThreads() == 1) || (n < MIN_FRONT_SIZE_FOR_PARALLELISM))
+        {
+            int[] order = new int[n];
+            int[] aux = new int[n];
+            for (int c = 0; c < _criteria; c++) processCriterion(values, n, c, normalizations, crowding, extreme, order, aux);
+        }
+        else
         {
-            BSTs[c] = new BST(specimens.size());
-            for (Integer idx : front) BSTs[c].insert(new SpecimenCriterion(specimens.get(idx), c));
+            LinkedList<Future<?>> futures = new LinkedList<>();
+            for (int c = 0; c < _criteria; c++)
+            {
+                int criterion = c;
+                futures.add(_pool.submit(() -> processCriterion(values, n, criterion, normalizations,
+                        crowding, extreme, new int[n], new int[n])));
+            }
+            try
+            {
+                LazyThreadPool.waitForAll(futures);
+            } catch (InterruptedException e)
+            {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("The crowding distance calculation was interrupted", e);
+            } catch (ExecutionException e)
+            {
+                throw new IllegalStateException("Error occurred when calculating crowding distances " +
+                        e.getCause(), e.getCause());
+            }
         }
 
-        int resultIDX = 0;
-        for (Integer idx : front)
+        for (int i = 0; i < n; i++)
         {
-            double[] crowding = new double[_criteria];
+            if (extreme[i])
+            {
+                result[i] = infinity;
+                continue;
+            }
+            double r = 0.0d;
+            for (int c = 0; c < _criteria; c++) r += crowding[c * n + i];
+            r /= _criteria;
+            if (Double.compare(crowding[i], infinity) == 0) r = infinity;
+            result[i] = r;
+        }
+        return result;
+    }
 
-            for (int c = 0; c < _criteria; c++)
+    /**
+     * Shuts down the thread pool (if instantiated). The object can still be used afterward (a new pool will be
+     * instantiated on demand).
+     */
+    public void dispose()
+    {
+        _pool.dispose();
+    }
+
+    /**
+     * Auxiliary method that sorts the front members according to the c-th criterion and stores the differences
+     * between the neighbors' evaluations (the extreme members are flagged).
+     *
+     * @param values         evaluations of the front members (row-major)
+     * @param n              the number of front members
+     * @param c              criterion index
+     * @param normalizations normalizations (optional; can be null)
+     * @param crowding       array to be filled (criterion-major)
+     * @param extreme        flags to be set for the extreme members
+     * @param order          auxiliary array (length at least n)
+     * @param aux            auxiliary array (length at least n)
+     */
+    private void processCriterion(double[] values, int n, int c, INormalization[] normalizations,
+                                  double[] crowding, boolean[] extreme, int[] order, int[] aux)
+    {
+        for (int i = 0; i < n; i++) order[i] = i;
+        sort(values, c, order, aux, n);
+        int o = c * n;
+        extreme[order[0]] = true;
+        extreme[order[n - 1]] = true;
+        for (int r = 1; r < n - 1; r++)
+        {
+            double vA = values[order[r + 1] * _criteria + c];
+            double vB = values[order[r - 1] * _criteria + c];
+            if (normalizations != null)
             {
-                TreeNode TN = BSTs[c].getTN_Map().get(new SpecimenCriterion(specimens.get(idx), c));
-                TreeNode previous = BSTs[c].getInorderPredecessor(TN);
-                if (previous == null)
-                {
-                    Arrays.fill(crowding, infinity);
-                    break;
-                }
-                TreeNode next = BSTs[c].getInorderSuccessor(TN);
-                if (next == null)
-                {
-                    Arrays.fill(crowding, infinity);
-                    break;
-                }
+                INormalization nz = normalizations[c];
+                crowding[o + order[r]] = Math.abs(nz.getNormalized(vA) - nz.getNormalized(vB));
+            }
+            else crowding[o + order[r]] = Math.abs(vA - vB);
+        }
+    }
 
-                if (normalizations != null)
-                {
-                    INormalization n = normalizations[c];
-                    double vA = next.getNodeValue().getValue();
-                    double vB = previous.getNodeValue().getValue();
-                    crowding[c] = Math.abs(n.getNormalized(vA) - n.getNormalized(vB));
-                }
-                else
+    /**
+     * Auxiliary method sorting the indices according to the c-th criterion (stable bottom-up merge sort; ascending
+     * order imposed by {@link Double#compare(double, double)}).
+     *
+     * @param values evaluations (row-major)
+     * @param c      criterion index
+     * @param order  indices to be sorted
+     * @param aux    auxiliary array
+     * @param n      the number of indices
+     */
+    private void sort(double[] values, int c, int[] order, int[] aux, int n)
+    {
+        int[] src = order;
+        int[] dst = aux;
+        for (int width = 1; width < n; width *= 2)
+        {
+            for (int lo = 0; lo < n; lo += 2 * width)
+            {
+                int mid = Math.min(lo + width, n);
+                int hi = Math.min(lo + 2 * width, n);
+                int i = lo;
+                int j = mid;
+                int k = lo;
+                while ((i < mid) && (j < hi))
                 {
-                    double vA = next.getNodeValue().getValue();
-                    double vB = previous.getNodeValue().getValue();
-                    crowding[c] = Math.abs(vA - vB);
+                    if (Double.compare(values[src[j] * _criteria + c], values[src[i] * _criteria + c]) < 0)
+                        dst[k++] = src[j++];
+                    else dst[k++] = src[i++];
                 }
+                while (i < mid) dst[k++] = src[i++];
+                while (j < hi) dst[k++] = src[j++];
             }
-            double r = 0.0f;
-            for (double c : crowding) r += c;
-            r /= crowding.length;
-            if (Double.compare(crowding[0], infinity) == 0) r = infinity;
-            result[resultIDX++] = r;
+            int[] tmp = src;
+            src = dst;
+            dst = tmp;
         }
-        return result;
+        if (src != order) System.arraycopy(src, 0, order, 0, n);
     }
 
     /**
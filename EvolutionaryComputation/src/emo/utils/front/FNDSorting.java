@@ -1,6 +1,10 @@
 package emo.utils.front;
 
 import alternative.AbstractAlternatives;
+import criterion.Criteria;
+import emo.utils.front.nds.INDSorting;
+import emo.utils.front.nds.NDSAlgorithm;
+import emo.utils.front.nds.NDSUtils;
 import population.Specimen;
 import relation.dominance.Dominance;
 
@@ -8,7 +12,11 @@ import java.util.ArrayList;
 import java.util.LinkedList;
 
 /**
- * Class implementing the fast non-dominated sorting algorithm.
+ * Class implementing the fast non-dominated sorting algorithm. The sorting can be delegated to more efficient
+ * algorithms (see {@link NDSAlgorithm}) operating on a primitive matrix view of the alternatives. The delegation is
+ * performed only when the exact comparisons are consistent with the epsilon-tolerant dominance relation (see
+ * {@link NDSUtils#isExactlyComparable(double[][], double)}); otherwise, the original algorithm is run. In both cases,
+ * the output (including the order of the front members) is the same.
  *
  * @author MTomczyk
  */
@@ -18,16 +26,33 @@ public class FNDSorting
     /**
      * Dominance relation used for comparing alternatives.
      */
-    private final Dominance _relation;
+    protected final Dominance _relation;
 
     /**
-     * Parameterized constructor.
+     * Non-dominated sorting algorithm used.
+     */
+    protected final NDSAlgorithm _algorithm;
+
+    /**
+     * Parameterized constructor (the algorithm is selected automatically; see {@link NDSAlgorithm#select(int, int)}).
      *
      * @param relation dominance relation used for comparing alternatives.
      */
     public FNDSorting(Dominance relation)
+    {
+        this(relation, NDSAlgorithm.AUTO);
+    }
+
+    /**
+     * Parameterized constructor.
+     *
+     * @param relation  dominance relation used for comparing alternatives.
+     * @param algorithm non-dominated sorting algorithm used
+     */
+    public FNDSorting(Dominance relation, NDSAlgorithm algorithm)
     {
         _relation = relation;
+        _algorithm = algorithm;
     }
 
     /**
@@ -58,6 +83,52 @@ public class FNDSorting
         if (alternatives.isEmpty()) return new LinkedList<>();
         if (stopAfter == 0) return new LinkedList<>();
 
+        Criteria criteria = _relation.getCriteria();
+        NDSAlgorithm algorithm = _algorithm;
+        if (algorithm == NDSAlgorithm.AUTO) algorithm = NDSAlgorithm.select(alternatives.size(), criteria._no);
+        INDSorting sorting = algorithm.getInstance(criteria._no);
+        if (sorting != null)
+        {
+            double[][] points = getMinimizationMatrix(alternatives, criteria);
+            if (NDSUtils.isExactlyComparable(points, _relation.getEpsilon()))
+                return NDSUtils.getFronts(points, NDSUtils.getRanks(points, sorting), stopAfter);
+        }
+
+        return getFrontAssignmentsFNDS(alternatives, stopAfter);
+    }
+
+    /**
+     * Auxiliary method that constructs a primitive matrix view of the alternatives (rows correspond to alternatives;
+     * the performances on gain-type criteria are negated so that all the objectives are to be minimized).
+     *
+     * @param alternatives wrapper for the array of alternatives
+     * @param criteria     considered criteria
+     * @return matrix view of the alternatives
+     */
+    protected static double[][] getMinimizationMatrix(AbstractAlternatives<?> alternatives, Criteria criteria)
+    {
+        double[][] points = new double[alternatives.size()][criteria._no];
+        for (int i = 0; i < alternatives.size(); i++)
+        {
+            double[] p = alternatives.get(i).getPerformanceVector();
+            for (int j = 0; j < criteria._no; j++)
+                points[i][j] = criteria._c[j].isGain() ? -p[j] : p[j];
+        }
+        return points;
+    }
+
+    /**
+     * Assign alternatives into non-dominated fronts using the original fast non-dominated sorting algorithm
+     * (O(MN^2)).
+     *
+     * @param alternatives wrapper for the array of alternatives
+     * @param stopAfter    the assignment process is stopped after the number of already assigned alternatives in
+     *                     constructed fronts exceeds this value
+     * @return list of lists (represents different levels) of integers (ids of alternatives in the input array).
+     */
+    protected LinkedList<LinkedList<Integer>> getFrontAssignmentsFNDS(AbstractAlternatives<?> alternatives, int stopAfter)
+    {
+
         LinkedList<LinkedList<Integer>> fronts = new LinkedList<>();
         ArrayList<LinkedList<Integer>> S = new ArrayList<>(alternatives.size()); // WHO IS DOMINATED BY THE SOLUTION
 
@@ -0,0 +1,165 @@
+package emo.utils.front;
+
+import alternative.AbstractAlternatives;
+import alternative.Alternative;
+import emo.utils.front.nds.ENSBS;
+import emo.utils.front.nds.INDSorting;
+import emo.utils.front.nds.IncrementalFronts;
+import emo.utils.front.nds.NDSAlgorithm;
+import emo.utils.front.nds.NDSUtils;
+import relation.dominance.Dominance;
+
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.LinkedList;
+
+/**
+ * Extension of {@link FNDSorting} that keeps the fronts determined in the previous call and updates them incrementally
+ * (see {@link IncrementalFronts}). The alternatives are matched with the previously sorted ones by reference. The
+ * alternatives that were not present in the previous call are inserted into the fronts, and those that are no longer
+ * present are removed. If the number of such changes is large (e.g., in a generational EMOA), the fronts are
+ * constructed from scratch. The approach is suitable for steady-state EMOAs (e.g., NSGA-II with the offspring size of
+ * 1), where only one alternative is replaced between subsequent calls. The output is the same as that of
+ * {@link FNDSorting} (including the order of front members).
+ *
+ * @author MTomczyk
+ */
+public class IncrementalFNDSorting extends FNDSorting
+{
+    /**
+     * If the number of changes (inserted + removed alternatives) exceeds this fraction of the number of alternatives,
+     * the fronts are constructed from scratch.
+     */
+    private final double _maxChangesRatio;
+
+    /**
+     * Incrementally maintained fronts.
+     */
+    private final IncrementalFronts _fronts = new IncrementalFronts();
+
+    /**
+     * Maps the alternatives sorted in the previous call to the points stored in the fronts.
+     */
+    private IdentityHashMap<Alternative, IncrementalFronts.Point> _points = new IdentityHashMap<>();
+
+    /**
+     * Parameterized constructor (the fronts are constructed from scratch if more than 25% of the alternatives change).
+     *
+     * @param relation dominance relation used for comparing alternatives.
+     */
+    public IncrementalFNDSorting(Dominance relation)
+    {
+        this(relation, NDSAlgorithm.AUTO, 0.25d);
+    }
+
+    /**
+     * Parameterized constructor.
+     *
+     * @param relation        dominance relation used for comparing alternatives.
+     * @param algorithm       non-dominated sorting algorithm used when the fronts are constructed from scratch
+     * @param maxChangesRatio if the number of changes (inserted + removed alternatives) exceeds this fraction of the
+     *                        number of alternatives, the fronts are constructed from scratch
+     */
+    public IncrementalFNDSorting(Dominance relation, NDSAlgorithm algorithm, double maxChangesRatio)
+    {
+        super(relation, algorithm);
+        _maxChangesRatio = maxChangesRatio;
+    }
+
+    /**
+     * Assign alternatives into non-dominated fronts. The output is a list of lists (represents different levels) of
+     * integers (ids of alternatives in the input array).
+     *
+     * @param alternatives wrapper for the array of alternatives
+     * @param stopAfter    the assignment process is stopped after the number of already assigned alternatives in
+     *                     constructed fronts exceeds this value (breaks can be triggered only after completion of a
+     *                     whole front, not during this process).
+     * @return list of lists (represents different levels) of integers (ids of alternatives in the input array).
+     */
+    @Override
+    public LinkedList<LinkedList<Integer>> getFrontAssignments(AbstractAlternatives<?> alternatives, int stopAfter)
+    {
+        if (alternatives.isEmpty()) return new LinkedList<>();
+        if (stopAfter == 0) return new LinkedList<>();
+
+        double[][] points = getMinimizationMatrix(alternatives, _relation.getCriteria());
+        if (!NDSUtils.isExactlyComparable(points, _relation.getEpsilon()))
+        {
+            reset();
+            return getFrontAssignmentsFNDS(alternatives, stopAfter);
+        }
+
+        int n = alternatives.size();
+        IncrementalFronts.Point[] handles = new IncrementalFronts.Point[n];
+        IdentityHashMap<Alternative, IncrementalFronts.Point> current = new IdentityHashMap<>(2 * n);
+        boolean[] inserted = new boolean[n];
+        int changes = 0;
+        boolean duplicates = false;
+
+        for (int i = 0; i < n; i++)
+        {
+            Alternative a = alternatives.get(i);
+            if (current.containsKey(a)) duplicates = true;
+            IncrementalFronts.Point p = _points.remove(a);
+            if ((p != null) && (!Arrays.equals(p.getCoordinates(), points[i])))
+            {
+                _fronts.remove(p);
+                changes++;
+                p = null;
+            }
+            if (p == null)
+            {
+                inserted[i] = true;
+                changes++;
+            }
+            else handles[i] = p;
+            current.put(a, p);
+        }
+        changes += _points.size();
+
+        if ((duplicates) || (_fronts.getSize() == 0) || (changes > _maxChangesRatio * n))
+        {
+            NDSAlgorithm algorithm = _algorithm;
+            if (algorithm == NDSAlgorithm.AUTO) algorithm = NDSAlgorithm.select(n, points[0].length);
+            INDSorting sorting = algorithm.getInstance(points[0].length);
+            if (sorting == null) sorting = new ENSBS();
+            handles = _fronts.load(points, NDSUtils.getRanks(points, sorting));
+            current.clear();
+            if (!duplicates) for (int i = 0; i < n; i++) current.put(alternatives.get(i), handles[i]);
+        }
+        else
+        {
+            for (IncrementalFronts.Point p : _points.values()) _fronts.remove(p);
+            for (int i = 0; i < n; i++)
+            {
+                if (!inserted[i]) continue;
+                handles[i] = _fronts.insert(points[i]);
+                current.put(alternatives.get(i), handles[i]);
+            }
+        }
+        _points = current;
+
+        int[] ranks = new int[n];
+        for (int i = 0; i < n; i++) ranks[i] = handles[i].getRank();
+        return NDSUtils.getFronts(points, ranks, stopAfter);
+    }
+
+    /**
+     * Clears the maintained fronts (the next call will construct them from scratch).
+     */
+    public void reset()
+    {
+        _fronts.clear();
+        _points.clear();
+    }
+
+    /**
+     * Getter for the incrementally maintained fronts.
+     *
+     * @return incrementally maintained fronts
+     */
+    public IncrementalFronts getFronts()
+    {
+        return _fronts;
+    }
+}
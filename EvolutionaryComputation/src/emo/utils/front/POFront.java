@@ -1,7 +1,6 @@
 package emo.utils.front;
 
 import alternative.AbstractAlternatives;
-import alternative.Alternative;
 import model.internals.AbstractInternalModel;
 
 import java.util.ArrayList;
@@ -56,73 +55,138 @@ public class POFront
                                                                                                  ArrayList<T> models,
                                                                                                  int stopAfter)
     {
+        UtilityMatrix utilities = new UtilityMatrix();
+        utilities.update(alternatives, models);
+        return getFrontAssignments(utilities, stopAfter);
+    }
 
-        LinkedList<LinkedList<Integer>> fronts = new LinkedList<>();
-        int assigned = 0;
+    /**
+     * Constructs fronts of potential optimality using precomputed utilities (see {@link UtilityMatrix}). This method
+     * assigns each alternative into a front.
+     *
+     * @param utilities utility matrix (models x alternatives)
+     * @return fronts of potential optimality (each element in the list is one front; the internal list consists of indices
+     * pointing to alternatives in the input alternatives set
+     */
+    public LinkedList<LinkedList<Integer>> getFrontAssignments(UtilityMatrix utilities)
+    {
+        return getFrontAssignments(utilities, utilities.getNoAlternatives());
+    }
 
-        boolean[] passedAlternative = new boolean[alternatives.size()];
-        boolean[] selectedAlternative = new boolean[alternatives.size()];
-        int selected = 0;
+    /**
+     * Constructs fronts of potential optimality using precomputed utilities (see {@link UtilityMatrix}). This method
+     * stops the process after a specified number of assignments is done (the process starts from the first front,
+     * construct a single front cannot be interrupted). Each front consists of the best not-yet-assigned alternatives
+     * of the models (ties are resolved in favor of the alternative with the smallest index). The best alternatives are
+     * maintained incrementally: each model's row is arranged into a binary heap (O(A) per model), from which the
+     * assigned alternatives are lazily removed, so the total cost is O(MA + MA log A) in the worst case, instead of
+     * O(MA) per front.
+     *
+     * @param utilities utility matrix (models x alternatives)
+     * @param stopAfter specifier after how many assignments the process should stop
+     * @return fronts of potential optimality (each element in the list is one front; the internal list consists of indices
+     * pointing to alternatives in the input alternatives set
+     */
+    public LinkedList<LinkedList<Integer>> getFrontAssignments(UtilityMatrix utilities, int stopAfter)
+    {
+        LinkedList<LinkedList<Integer>> fronts = new LinkedList<>();
+        int A = utilities.getNoAlternatives();
+        int M = utilities.getNoModels();
+        if ((A == 0) || (M == 0) || (stopAfter <= 0)) return fronts;
+
+        double[] u = utilities.getUtilities();
+        boolean[] lessPreferred = new boolean[M];
+        int[] heaps = new int[M * A];
+        int[] sizes = new int[M];
+        for (int m = 0; m < M; m++)
+        {
+            lessPreferred[m] = utilities.isLessPreferred(m);
+            int o = m * A;
+            for (int i = 0; i < A; i++) heaps[o + i] = i;
+            sizes[m] = A;
+            for (int i = A / 2 - 1; i >= 0; i--) siftDown(heaps, o, A, i, u, lessPreferred[m]);
+        }
 
+        boolean[] passedAlternative = new boolean[A];
+        boolean[] selectedAlternative = new boolean[A];
+        int assigned = 0;
 
-        while ((assigned <= alternatives.size()) && (assigned < stopAfter))
+        while ((assigned <= A) && (assigned < stopAfter))
         {
-
-            for (T M : models)
+            int selected = 0;
+            for (int m = 0; m < M; m++)
             {
-                boolean lessPreferred = M.isLessPreferred();
-
-                Alternative incumbentAlternative = null;
-                double incumbentEvaluation = Double.POSITIVE_INFINITY;
-                int incumbentIndex = 0;
-                if (!lessPreferred) incumbentEvaluation = Double.NEGATIVE_INFINITY;
-
-                for (int i = 0; i < alternatives.size(); i++)
+                int o = m * A;
+                // lazy removal of the already assigned alternatives
+                while ((sizes[m] > 0) && (passedAlternative[heaps[o]]))
                 {
-                    if (passedAlternative[i]) continue;
-                    Alternative a = alternatives.get(i);
-
-                    double ce = M.evaluate(a);
-                    if ((incumbentAlternative == null) ||
-                            ((lessPreferred) && (Double.compare(ce, incumbentEvaluation) < 0)) ||
-                            ((!lessPreferred) && (Double.compare(ce, incumbentEvaluation) > 0))
-
-                    )
-                    {
-                        incumbentEvaluation = ce;
-                        incumbentAlternative = a;
-                        incumbentIndex = i;
-                    }
-
-                }
-
-                if (incumbentAlternative != null)
-                {
-                    if (!selectedAlternative[incumbentIndex]) selected++;
-                    selectedAlternative[incumbentIndex] = true;
+                    heaps[o] = heaps[o + --sizes[m]];
+                    siftDown(heaps, o, sizes[m], 0, u, lessPreferred[m]);
                 }
+                if (sizes[m] == 0) continue;
+                if (!selectedAlternative[heaps[o]]) selected++;
+                selectedAlternative[heaps[o]] = true;
             }
 
-            if (selected > 0)
+            if (selected == 0) break;
+
+            LinkedList<Integer> f = new LinkedList<>();
+            for (int i = 0; i < A; i++)
             {
-                LinkedList<Integer> f = new LinkedList<>();
-                for (int i = 0; i < selectedAlternative.length; i++)
+                if (selectedAlternative[i])
                 {
-                    if (selectedAlternative[i])
-                    {
-                        f.add(i);
-                        passedAlternative[i] = true;
-                        selectedAlternative[i] = false;
-                    }
+                    f.add(i);
+                    passedAlternative[i] = true;
+                    selectedAlternative[i] = false;
                 }
-                selected = 0;
-                fronts.add(f);
-                assigned += f.size();
-
             }
-            else break;
+            fronts.add(f);
+            assigned += f.size();
         }
 
         return fronts;
     }
+
+    /**
+     * Auxiliary method restoring the heap property (the best alternative at the root) of a model's heap.
+     *
+     * @param heaps         heaps (the model's heap starts at position o)
+     * @param o             offset of the model's heap (and row of utilities)
+     * @param size          heap size
+     * @param i             index of the element to be sifted down
+     * @param u             utilities
+     * @param lessPreferred true if smaller values are preferred, false otherwise
+     */
+    private static void siftDown(int[] heaps, int o, int size, int i, double[] u, boolean lessPreferred)
+    {
+        int e = heaps[o + i];
+        while (true)
+        {
+            int c = 2 * i + 1;
+            if (c >= size) break;
+            if ((c + 1 < size) && (isBetter(heaps[o + c + 1], heaps[o + c], o, u, lessPreferred))) c++;
+            if (!isBetter(heaps[o + c], e, o, u, lessPreferred)) break;
+            heaps[o + i] = heaps[o + c];
+            i = c;
+        }
+        heaps[o + i] = e;
+    }
+
+    /**
+     * Auxiliary method checking if one alternative is preferred over another one by a model (ties are resolved in favor
+     * of the alternative with the smaller index).
+     *
+     * @param a             index of the first alternative
+     * @param b             index of the second alternative
+     * @param o             offset of the model's row of utilities
+     * @param u             utilities
+     * @param lessPreferred true if smaller values are preferred, false otherwise
+     * @return true, if the first alternative is preferred
+     */
+    private static boolean isBetter(int a, int b, int o, double[] u, boolean lessPreferred)
+    {
+        int c = Double.compare(u[o + a], u[o + b]);
+        if (c == 0) return a < b;
+        return lessPreferred ? c < 0 : c > 0;
+    }
 }
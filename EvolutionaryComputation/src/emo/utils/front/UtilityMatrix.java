@@ -0,0 +1,266 @@
+package emo.utils.front;
+
+import alternative.AbstractAlternatives;
+import exeption.PreferenceModelException;
+import model.IPreferenceModel;
+import model.internals.AbstractInternalModel;
+import thread.LazyThreadPool;
+
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+
+/**
+ * Matrix of utilities (scores) attained by alternatives when evaluated by a set of preference model instances. Each
+ * (model, alternative) pair is evaluated exactly once per update, and the scores are stored in a primitive row-major
+ * block (the m-th model's row starts at position m * A, where A is the number of alternatives). Thus, the matrix can be
+ * computed once per generation and shared by the procedures that would otherwise re-evaluate the same pairs many times
+ * (e.g., constructing fronts of potential optimality; see {@link POFront#getFrontAssignments(UtilityMatrix, int)}).
+ * The pairs of internal models can be evaluated in parallel (the results do not depend on the number of threads; the
+ * internal models must then be safe for concurrent evaluation; the thread pool is instantiated on demand, see
+ * {@link LazyThreadPool}, and released via {@link #dispose()}). The top-level preference model (see
+ * {@link #update(AbstractAlternatives, IPreferenceModel)}) is always evaluated sequentially, as it is not assumed to be
+ * thread-safe. The arrays are reused between updates (they are reallocated only when their capacities are exceeded),
+ * hence the object is not thread-safe.
+ *
+ * @author MTomczyk
+ */
+public class UtilityMatrix
+{
+    /**
+     * Auxiliary interface for objects evaluating a (model, alternative) pair.
+     */
+    private interface IPairEvaluator
+    {
+        /**
+         * Evaluates a (model, alternative) pair.
+         *
+         * @param m model index
+         * @param a alternative index
+         * @return attained score
+         * @throws PreferenceModelException the exception can be thrown
+         */
+        double evaluate(int m, int a) throws PreferenceModelException;
+    }
+
+    /**
+     * If the number of pairs is smaller than this threshold, they are evaluated sequentially.
+     */
+    private static final int MIN_PAIRS_FOR_PARALLELISM = 256;
+
+    /**
+     * Thread pool used to evaluate the pairs in parallel.
+     */
+    private final LazyThreadPool _pool;
+
+    /**
+     * The number of models (rows).
+     */
+    private int _M = 0;
+
+    /**
+     * The number of alternatives (columns).
+     */
+    private int _A = 0;
+
+    /**
+     * Utilities (row-major; the m-th model's row starts at position m * A).
+     */
+    private double[] _utilities = new double[0];
+
+    /**
+     * Flags indicating whether the models prefer smaller scores.
+     */
+    private boolean[] _lessPreferred = new boolean[0];
+
+    /**
+     * Default constructor (the pairs are evaluated sequentially).
+     */
+    public UtilityMatrix()
+    {
+        this(1);
+    }
+
+    /**
+     * Parameterized constructor.
+     *
+     * @param noThreads the number of threads used for evaluating the pairs of internal models (at least 1)
+     */
+    public UtilityMatrix(int noThreads)
+    {
+        _pool = new LazyThreadPool(noThreads);
+    }
+
+    /**
+     * Evaluates all (model, alternative) pairs (one row per internal model; possibly in parallel).
+     *
+     * @param alternatives alternatives set
+     * @param models       preference models
+     * @param <T>          definition of the preference model
+     */
+    public <T extends AbstractInternalModel> void update(AbstractAlternatives<?> alternatives, ArrayList<T> models)
+    {
+        int M = models == null ? 0 : models.size();
+        resize(M, alternatives == null ? 0 : alternatives.size());
+        for (int m = 0; m < M; m++) _lessPreferred[m] = models.get(m).isLessPreferred();
+        try
+        {
+            fill((m, a) -> models.get(m).evaluate(alternatives.get(a)));
+        } catch (PreferenceModelException e)
+        {
+            // internal models do not throw checked exceptions
+            throw new IllegalStateException("Error occurred when evaluating alternatives " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Evaluates the alternatives using the top-level preference model (the matrix consists of a single row). The
+     * evaluation is delegated to {@link IPreferenceModel#evaluate(alternative.Alternative)} and is done sequentially
+     * (the model is not assumed to be thread-safe).
+     *
+     * @param alternatives alternatives set
+     * @param model        preference model
+     * @throws PreferenceModelException the exception is thrown if the evaluation fails
+     */
+    public void update(AbstractAlternatives<?> alternatives, IPreferenceModel<?> model) throws PreferenceModelException
+    {
+        resize(1, alternatives == null ? 0 : alternatives.size());
+        _lessPreferred[0] = model.isLessPreferred();
+        fill((m, a) -> model.evaluate(alternatives.get(a)), 0, _A);
+    }
+
+    /**
+     * Auxiliary method adjusting the dimensions of the matrix.
+     *
+     * @param M the number of models
+     * @param A the number of alternatives
+     */
+    private void resize(int M, int A)
+    {
+        _M = M;
+        _A = A;
+        if (_utilities.length < M * A) _utilities = new double[Math.max(M * A, 2 * _utilities.length)];
+        if (_lessPreferred.length < M) _lessPreferred = new boolean[Math.max(M, 2 * _lessPreferred.length)];
+    }
+
+    /**
+     * Auxiliary method evaluating all pairs (possibly in parallel).
+     *
+     * @param evaluator pair evaluator
+     * @throws PreferenceModelException the exception is thrown if the evaluation fails
+     */
+    private void fill(IPairEvaluator evaluator) throws PreferenceModelException
+    {
+        int pairs = _M * _A;
+        int noThreads = _pool.getNoThreads();
+        if ((noThreads == 1) || (pairs < MIN_PAIRS_FOR_PARALLELISM))
+        {
+            fill(evaluator, 0, pairs);
+            return;
+        }
+
+        int chunk = (pairs + noThreads - 1) / noThreads;
+        LinkedList<Future<Void>> futures = new LinkedList<>();
+        for (int b = 0; b < pairs; b += chunk)
+        {
+            int f = b;
+            int t = Math.min(pairs, b + chunk);
+            Callable<Void> task = () -> {
+                fill(evaluator, f, t);
+                return null;
+            };
+            futures.add(_pool.submit(task));
+        }
+        try
+        {
+            LazyThreadPool.waitForAll(futures);
+        } catch (InterruptedException e)
+        {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("The evaluation of alternatives was interrupted", e);
+        } catch (ExecutionException e)
+        {
+            if (e.getCause() instanceof PreferenceModelException) throw (PreferenceModelException) e.getCause();
+            throw new IllegalStateException("Error occurred when evaluating alternatives " +
+                    e.getCause(), e.getCause());
+        }
+    }
+
+    /**
+     * Shuts down the thread pool (if instantiated). The matrix can still be used afterward (a new pool will be
+     * instantiated on demand).
+     */
+    public void dispose()
+    {
+        _pool.dispose();
+    }
+
+    /**
+     * Auxiliary method evaluating the pairs in the given range (flat, row-major indices).
+     *
+     * @param evaluator pair evaluator
+     * @param from      index of the first pair (inclusive)
+     * @param to        index of the last pair (exclusive)
+     * @throws PreferenceModelException the exception is thrown if the evaluation fails
+     */
+    private void fill(IPairEvaluator evaluator, int from, int to) throws PreferenceModelException
+    {
+        for (int p = from; p < to; p++) _utilities[p] = evaluator.evaluate(p / _A, p % _A);
+    }
+
+    /**
+     * Getter for the number of models (rows).
+     *
+     * @return the number of models
+     */
+    public int getNoModels()
+    {
+        return _M;
+    }
+
+    /**
+     * Getter for the number of alternatives (columns).
+     *
+     * @return the number of alternatives
+     */
+    public int getNoAlternatives()
+    {
+        return _A;
+    }
+
+    /**
+     * Returns the score attained by the a-th alternative when evaluated by the m-th model.
+     *
+     * @param m model index
+     * @param a alternative index
+     * @return attained score
+     */
+    public double getUtility(int m, int a)
+    {
+        return _utilities[m * _A + a];
+    }
+
+    /**
+     * Returns the utilities block (row-major; the m-th model's row starts at position m * A; the array can be longer
+     * than M * A). The array is reused between updates (should not be modified).
+     *
+     * @return utilities block
+     */
+    public double[] getUtilities()
+    {
+        return _utilities;
+    }
+
+    /**
+     * Checks whether the m-th model prefers smaller scores.
+     *
+     * @param m model index
+     * @return true if smaller values are preferred, false otherwise
+     */
+    public boolean isLessPreferred(int m)
+    {
+        return _lessPreferred[m];
+    }
+}
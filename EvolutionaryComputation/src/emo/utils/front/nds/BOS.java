@@ -0,0 +1,100 @@
+package emo.utils.front.nds;
+
+/**
+ * Implementation of the best order sort (BOS; see Roy, P.C., Islam, M.M., Deb, K.: Best Order Sort: A New Algorithm to
+ * Non-dominated Sorting for Evolutionary Multi-objective Optimization, GECCO '16 Companion, 2016). The points are
+ * sorted independently for each objective (ties are broken using the lexicographic order). The sorted lists are
+ * traversed simultaneously (one position at a time for each objective), and a point is ranked when it is encountered
+ * for the first time. A point can be dominated only by the points encountered before in the currently traversed
+ * list, and the comparisons are restricted to the objectives for which the compared point has not been encountered
+ * yet. The algorithm is suitable for many objectives.
+ *
+ * @author MTomczyk
+ */
+public class BOS implements INDSorting
+{
+    /**
+     * Assigns the points their ranks.
+     *
+     * @param points points to be ranked (pairwise distinct, sorted lexicographically in ascending order)
+     * @return ranks of the points
+     */
+    @Override
+    public int[] getRanks(double[][] points)
+    {
+        int n = points.length;
+        int[] ranks = new int[n];
+        if (n == 0) return ranks;
+        int m = points[0].length;
+
+        int[][] Q = new int[m][];
+        for (int j = 0; j < m; j++) Q[j] = NDSUtils.getSortedIndices(points, j);
+
+        boolean[][] seen = new boolean[n][m];
+        boolean[] ranked = new boolean[n];
+        NDSUtils.Fronts[] L = new NDSUtils.Fronts[m];
+        for (int j = 0; j < m; j++) L[j] = new NDSUtils.Fronts(n);
+
+        int noFronts = 0;
+        int noRanked = 0;
+
+        for (int i = 0; (i < n) && (noRanked < n); i++)
+        {
+            for (int j = 0; j < m; j++)
+            {
+                int s = Q[j][i];
+                seen[s][j] = true;
+                if (ranked[s])
+                {
+                    L[j].add(ranks[s], s);
+                    continue;
+                }
+
+                int k = 0;
+                while ((k < noFronts) && (isDominated(points, seen, L[j], k, s))) k++;
+                if (k == noFronts) noFronts++;
+
+                ranks[s] = k;
+                ranked[s] = true;
+                L[j].add(k, s);
+                noRanked++;
+            }
+        }
+        return ranks;
+    }
+
+    /**
+     * Checks if the point is dominated by a member of the k-th front (restricted to the members encountered in the
+     * currently traversed list).
+     *
+     * @param points points
+     * @param seen   flags indicating which objectives were already traversed for each point
+     * @param L      fronts (members encountered in the currently traversed list)
+     * @param k      front index
+     * @param s      index of the point being ranked
+     * @return true if the point is dominated, false otherwise
+     */
+    private static boolean isDominated(double[][] points, boolean[][] seen, NDSUtils.Fronts L, int k, int s)
+    {
+        if (k >= L._noFronts) return false;
+        int[] members = L._members[k];
+        double[] p = points[s];
+        for (int i = L._sizes[k] - 1; i >= 0; i--)
+        {
+            int t = members[i];
+            boolean[] sT = seen[t];
+            double[] q = points[t];
+            boolean dominates = true;
+            for (int j = 0; j < p.length; j++)
+            {
+                if ((!sT[j]) && (Double.compare(p[j], q[j]) < 0))
+                {
+                    dominates = false;
+                    break;
+                }
+            }
+            if (dominates) return true;
+        }
+        return false;
+    }
+}
@@ -0,0 +1,41 @@
+package emo.utils.front.nds;
+
+/**
+ * Implementation of the efficient non-dominated sort with the binary search strategy (ENS-BS; see Zhang, X., Tian, Y.,
+ * Cheng, R., Jin, Y.: An Efficient Approach to Nondominated Sorting for Evolutionary Multiobjective Optimization, IEEE
+ * Transactions on Evolutionary Computation 19(2), 2015). The points are processed in the lexicographic order. The
+ * front to which a point belongs is found using a binary search over the fronts constructed so far (if a point is
+ * dominated by a member of the k-th front, it is also dominated by a member of each preceding front). The strategy is
+ * suitable when the number of fronts is large (e.g., for few objectives).
+ *
+ * @author MTomczyk
+ */
+public class ENSBS implements INDSorting
+{
+    /**
+     * Assigns the points their ranks.
+     *
+     * @param points points to be ranked (pairwise distinct, sorted lexicographically in ascending order)
+     * @return ranks of the points
+     */
+    @Override
+    public int[] getRanks(double[][] points)
+    {
+        int[] ranks = new int[points.length];
+        NDSUtils.Fronts fronts = new NDSUtils.Fronts(points.length);
+        for (int p = 0; p < points.length; p++)
+        {
+            int l = 0;
+            int r = fronts._noFronts;
+            while (l < r)
+            {
+                int k = (l + r) >>> 1;
+                if (fronts.isDominated(points, k, p)) l = k + 1;
+                else r = k;
+            }
+            fronts.add(l, p);
+            ranks[p] = l;
+        }
+        return ranks;
+    }
+}
@@ -0,0 +1,35 @@
+package emo.utils.front.nds;
+
+/**
+ * Implementation of the efficient non-dominated sort with the sequential search strategy (ENS-SS; see Zhang, X., Tian,
+ * Y., Cheng, R., Jin, Y.: An Efficient Approach to Nondominated Sorting for Evolutionary Multiobjective Optimization,
+ * IEEE Transactions on Evolutionary Computation 19(2), 2015). The points are processed in the lexicographic order. Each
+ * point is compared with the fronts constructed so far, starting from the first one, and it is assigned to the first
+ * front that does not contain a point dominating it. The strategy is suitable when the number of fronts is small (e.g.,
+ * for many objectives).
+ *
+ * @author MTomczyk
+ */
+public class ENSSS implements INDSorting
+{
+    /**
+     * Assigns the points their ranks.
+     *
+     * @param points points to be ranked (pairwise distinct, sorted lexicographically in ascending order)
+     * @return ranks of the points
+     */
+    @Override
+    public int[] getRanks(double[][] points)
+    {
+        int[] ranks = new int[points.length];
+        NDSUtils.Fronts fronts = new NDSUtils.Fronts(points.length);
+        for (int p = 0; p < points.length; p++)
+        {
+            int k = 0;
+            while ((k < fronts._noFronts) && (fronts.isDominated(points, k, p))) k++;
+            fronts.add(k, p);
+            ranks[p] = k;
+        }
+        return ranks;
+    }
+}
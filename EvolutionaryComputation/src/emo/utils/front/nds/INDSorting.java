@@ -0,0 +1,21 @@
+package emo.utils.front.nds;
+
+/**
+ * Interface for algorithms that rank points according to the non-dominated sorting (Pareto dominance; all objectives
+ * are to be minimized). The input points are assumed to be pairwise distinct and sorted lexicographically in
+ * ascending order (see {@link NDSUtils#getRanks(double[][], INDSorting)}, which prepares such input). Thanks to this
+ * assumption, a point can be dominated only by points that precede it in the input array.
+ *
+ * @author MTomczyk
+ */
+public interface INDSorting
+{
+    /**
+     * Assigns the points their ranks (0 = the first non-dominated front, 1 = the second, etc.). The rank of a point
+     * equals 1 + the maximum rank of the points that dominate it (0 if the point is non-dominated).
+     *
+     * @param points points to be ranked (pairwise distinct, sorted lexicographically in ascending order)
+     * @return ranks of the points
+     */
+    int[] getRanks(double[][] points);
+}
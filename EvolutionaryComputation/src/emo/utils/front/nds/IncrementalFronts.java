@@ -0,0 +1,272 @@
+package emo.utils.front.nds;
+
+import java.util.ArrayList;
+
+/**
+ * Data structure maintaining the non-dominated fronts (ranks) of a dynamic set of points (Pareto dominance; all
+ * objectives are to be minimized; exact comparisons). It supports inserting and removing a single point without
+ * sorting the whole set from scratch (see Li, K., Deb, K., Zhang, Q., Zhang, Q.: Efficient Nondomination Level Update
+ * Method for Steady-State Evolutionary Multiobjective Optimization, IEEE Transactions on Cybernetics 47(9), 2017). When
+ * a point is inserted, its rank is found using a binary search over the fronts, and the members dominated by the point
+ * are moved to the subsequent fronts (the changes cascade only through the moved points). When a point is removed, the
+ * members it dominated in the subsequent front are moved up if no other member of its front dominates them (again, the
+ * changes cascade only through the moved points). The order of members within fronts is not preserved.
+ *
+ * @author MTomczyk
+ */
+public class IncrementalFronts
+{
+    /**
+     * Point stored in the structure (handle used to query the rank and to remove the point).
+     */
+    public static class Point
+    {
+        /**
+         * Point coordinates.
+         */
+        private final double[] _coordinates;
+
+        /**
+         * Current rank (front index); -1 if the point is not stored.
+         */
+        private int _rank = -1;
+
+        /**
+         * Position in the front's list.
+         */
+        private int _position = -1;
+
+        /**
+         * Parameterized constructor.
+         *
+         * @param coordinates point coordinates
+         */
+        private Point(double[] coordinates)
+        {
+            _coordinates = coordinates;
+        }
+
+        /**
+         * Getter for the point coordinates (reference is returned, not a clone).
+         *
+         * @return point coordinates
+         */
+        public double[] getCoordinates()
+        {
+            return _coordinates;
+        }
+
+        /**
+         * Getter for the current rank (0 = the first non-dominated front, 1 = the second, etc.).
+         *
+         * @return current rank (-1 if the point is not stored)
+         */
+        public int getRank()
+        {
+            return _rank;
+        }
+    }
+
+    /**
+     * Fronts (lists of members).
+     */
+    private final ArrayList<ArrayList<Point>> _fronts = new ArrayList<>();
+
+    /**
+     * The number of stored points.
+     */
+    private int _size = 0;
+
+    /**
+     * Inserts a point.
+     *
+     * @param coordinates point coordinates (reference is stored, not a clone)
+     * @return handle of the inserted point
+     */
+    public Point insert(double[] coordinates)
+    {
+        Point p = new Point(coordinates);
+        int l = 0;
+        int r = _fronts.size();
+        while (l < r)
+        {
+            int k = (l + r) >>> 1;
+            if (isDominated(_fronts.get(k), p)) l = k + 1;
+            else r = k;
+        }
+
+        ArrayList<Point> moved = new ArrayList<>();
+        if (l < _fronts.size())
+        {
+            ArrayList<Point> front = _fronts.get(l);
+            for (int i = front.size() - 1; i >= 0; i--)
+            {
+                Point q = front.get(i);
+                if (NDSUtils.isDominating(p._coordinates, q._coordinates)) moved.add(q);
+            }
+        }
+        add(l, p);
+        _size++;
+
+        for (int k = l + 1; !moved.isEmpty(); k++)
+        {
+            ArrayList<Point> next = new ArrayList<>();
+            if (k < _fronts.size())
+            {
+                ArrayList<Point> front = _fronts.get(k);
+                for (int i = front.size() - 1; i >= 0; i--)
+                {
+                    Point q = front.get(i);
+                    if (isDominated(moved, q)) next.add(q);
+                }
+            }
+            for (Point q : moved)
+            {
+                detach(q);
+                add(k, q);
+            }
+            moved = next;
+        }
+        return p;
+    }
+
+    /**
+     * Removes the point.
+     *
+     * @param p handle of the point to be removed (returned by {@link #insert(double[])})
+     */
+    public void remove(Point p)
+    {
+        if (p._rank < 0) return;
+        int k = p._rank;
+        detach(p);
+        _size--;
+
+        ArrayList<Point> removed = new ArrayList<>(1);
+        removed.add(p);
+        for (; (k + 1 < _fronts.size()) && (!removed.isEmpty()); k++)
+        {
+            ArrayList<Point> front = _fronts.get(k);
+            ArrayList<Point> next = _fronts.get(k + 1);
+            ArrayList<Point> moved = new ArrayList<>();
+            for (int i = next.size() - 1; i >= 0; i--)
+            {
+                Point q = next.get(i);
+                if ((isDominated(removed, q)) && (!isDominated(front, q))) moved.add(q);
+            }
+            for (Point q : moved)
+            {
+                detach(q);
+                add(k, q);
+            }
+            removed = moved;
+        }
+
+        while ((!_fronts.isEmpty()) && (_fronts.get(_fronts.size() - 1).isEmpty()))
+            _fronts.remove(_fronts.size() - 1);
+    }
+
+    /**
+     * Removes all the points.
+     */
+    public void clear()
+    {
+        for (ArrayList<Point> front : _fronts)
+            for (Point p : front)
+            {
+                p._rank = -1;
+                p._position = -1;
+            }
+        _fronts.clear();
+        _size = 0;
+    }
+
+    /**
+     * Getter for the number of stored points.
+     *
+     * @return the number of stored points
+     */
+    public int getSize()
+    {
+        return _size;
+    }
+
+    /**
+     * Getter for the number of fronts.
+     *
+     * @return the number of fronts
+     */
+    public int getNoFronts()
+    {
+        return _fronts.size();
+    }
+
+    /**
+     * Bulk-loads the points with known ranks (the structure is cleared first). It can be used to initialize the
+     * structure with the ranks determined by a non-dominated sorting algorithm (see
+     * {@link NDSUtils#getRanks(double[][], INDSorting)}).
+     *
+     * @param points points (each row is one point; references are stored, not clones)
+     * @param ranks  ranks of the points
+     * @return handles of the loaded points (i-th element corresponds to the i-th point)
+     */
+    public Point[] load(double[][] points, int[] ranks)
+    {
+        clear();
+        Point[] handles = new Point[points.length];
+        for (int i = 0; i < points.length; i++)
+        {
+            handles[i] = new Point(points[i]);
+            add(ranks[i], handles[i]);
+        }
+        _size = points.length;
+        return handles;
+    }
+
+    /**
+     * Auxiliary method that adds the point to the k-th front (the fronts are created if needed).
+     *
+     * @param k front index
+     * @param p point
+     */
+    private void add(int k, Point p)
+    {
+        while (_fronts.size() <= k) _fronts.add(new ArrayList<>());
+        ArrayList<Point> front = _fronts.get(k);
+        p._rank = k;
+        p._position = front.size();
+        front.add(p);
+    }
+
+    /**
+     * Auxiliary method that detaches the point from its front (the last member of the front takes its position).
+     *
+     * @param p point
+     */
+    private void detach(Point p)
+    {
+        ArrayList<Point> front = _fronts.get(p._rank);
+        Point last = front.remove(front.size() - 1);
+        if (last != p)
+        {
+            front.set(p._position, last);
+            last._position = p._position;
+        }
+        p._rank = -1;
+        p._position = -1;
+    }
+
+    /**
+     * Auxiliary method that checks if the point is dominated by any of the points stored in the list.
+     *
+     * @param points list of points
+     * @param p      point
+     * @return true if the point is dominated, false otherwise
+     */
+    private static boolean isDominated(ArrayList<Point> points, Point p)
+    {
+        for (int i = points.size() - 1; i >= 0; i--)
+            if (NDSUtils.isDominating(points.get(i)._coordinates, p._coordinates)) return true;
+        return false;
+    }
+}
@@ -0,0 +1,80 @@
+package emo.utils.front.nds;
+
+/**
+ * Provides flags indicating which non-dominated sorting algorithm should be used (see
+ * {@link emo.utils.front.FNDSorting}).
+ *
+ * @author MTomczyk
+ */
+public enum NDSAlgorithm
+{
+    /**
+     * The fast non-dominated sorting algorithm (O(MN^2); compares all pairs of alternatives).
+     */
+    FNDS,
+
+    /**
+     * The efficient non-dominated sort with the sequential search strategy (see {@link ENSSS}).
+     */
+    ENS_SS,
+
+    /**
+     * The efficient non-dominated sort with the binary search strategy (see {@link ENSBS}).
+     */
+    ENS_BS,
+
+    /**
+     * The sweep algorithm dedicated to bi-objective problems (see {@link Sweep2D}). If the number of objectives differs
+     * from 2, {@link #ENS_BS} is used instead.
+     */
+    SWEEP_2D,
+
+    /**
+     * The best order sort (see {@link BOS}).
+     */
+    BOS,
+
+    /**
+     * The algorithm is selected based on the population size and the number of objectives (see
+     * {@link #select(int, int)}).
+     */
+    AUTO;
+
+    /**
+     * Population size below which {@link #AUTO} selects {@link #FNDS} (the overhead of the alternative algorithms does
+     * not pay off for small populations).
+     */
+    public static final int FNDS_THRESHOLD = 32;
+
+    /**
+     * Selects the algorithm based on the population size and the number of objectives: {@link #FNDS} for small
+     * populations, {@link #SWEEP_2D} for two objectives, {@link #ENS_BS} for up to four objectives (many fronts are
+     * expected), and {@link #BOS} otherwise.
+     *
+     * @param n population size
+     * @param m the number of objectives
+     * @return selected algorithm (never {@link #AUTO})
+     */
+    public static NDSAlgorithm select(int n, int m)
+    {
+        if (n < FNDS_THRESHOLD) return FNDS;
+        if (m == 2) return SWEEP_2D;
+        if (m <= 4) return ENS_BS;
+        return BOS;
+    }
+
+    /**
+     * Instantiates the sorting algorithm represented by the flag.
+     *
+     * @param m the number of objectives
+     * @return sorting algorithm (null for {@link #FNDS} and {@link #AUTO})
+     */
+    public INDSorting getInstance(int m)
+    {
+        if (this == ENS_SS) return new ENSSS();
+        if (this == ENS_BS) return new ENSBS();
+        if (this == SWEEP_2D) return m == 2 ? new Sweep2D() : new ENSBS();
+        if (this == BOS) return new BOS();
+        return null;
+    }
+}
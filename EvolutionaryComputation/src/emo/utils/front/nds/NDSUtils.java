@@ -0,0 +1,271 @@
+package emo.utils.front.nds;
+
+import java.util.Arrays;
+import java.util.LinkedList;
+
+/**
+ * Provides various auxiliary methods supporting the non-dominated sorting algorithms (see {@link INDSorting}). The
+ * methods operate on primitive matrices (each row is one point; all objectives are to be minimized).
+ *
+ * @author MTomczyk
+ */
+public class NDSUtils
+{
+    /**
+     * Auxiliary container for the fronts constructed by the sorting algorithms (the members are stored in primitive
+     * arrays in the order of their addition).
+     */
+    static class Fronts
+    {
+        /**
+         * Front members (indices of points); rows correspond to fronts (lazily instantiated).
+         */
+        final int[][] _members;
+
+        /**
+         * The numbers of members in the fronts.
+         */
+        final int[] _sizes;
+
+        /**
+         * The number of fronts (index of the last non-empty front + 1).
+         */
+        int _noFronts = 0;
+
+        /**
+         * Parameterized constructor.
+         *
+         * @param n the number of points (determines the maximal number of fronts)
+         */
+        Fronts(int n)
+        {
+            _members = new int[n][];
+            _sizes = new int[n];
+        }
+
+        /**
+         * Adds a point to the k-th front.
+         *
+         * @param k front index
+         * @param p point index
+         */
+        void add(int k, int p)
+        {
+            if (_members[k] == null) _members[k] = new int[8];
+            else if (_sizes[k] == _members[k].length) _members[k] = Arrays.copyOf(_members[k], 2 * _sizes[k]);
+            _members[k][_sizes[k]++] = p;
+            if (k >= _noFronts) _noFronts = k + 1;
+        }
+
+        /**
+         * Checks if the p-th point is dominated by any member of the k-th front. It is assumed that the points are
+         * pairwise distinct and sorted lexicographically and that the front members precede the p-th point (hence,
+         * the first objective is not compared, and no check for the strict improvement is needed). The members are
+         * compared starting from the most recently added one (which is usually the closest one).
+         *
+         * @param points points
+         * @param k      front index
+         * @param p      point index
+         * @return true if the point is dominated by any member of the front, false otherwise
+         */
+        boolean isDominated(double[][] points, int k, int p)
+        {
+            int[] members = _members[k];
+            double[] b = points[p];
+            for (int i = _sizes[k] - 1; i >= 0; i--)
+            {
+                double[] a = points[members[i]];
+                int j = 1;
+                while ((j < b.length) && (Double.compare(a[j], b[j]) <= 0)) j++;
+                if (j == b.length) return true;
+            }
+            return false;
+        }
+    }
+
+    /**
+     * Checks if the points can be sorted using exact comparisons in a way that is consistent with the epsilon-tolerant
+     * dominance (see {@link relation.dominance.DominanceUtils#isDominating(alternative.Alternative,
+     * alternative.Alternative, criterion.Criteria, double)}). This holds if the matrix contains no NaNs and no two
+     * distinct values in any column are within the epsilon tolerance (so that each epsilon-tolerant comparison gives the
+     * same result as the exact one). The check is O(MN log N).
+     *
+     * @param points  points (each row is one point)
+     * @param epsilon epsilon-tolerance (non-negative)
+     * @return true if the exact comparisons are consistent with the epsilon-tolerant ones, false otherwise
+     */
+    public static boolean isExactlyComparable(double[][] points, double epsilon)
+    {
+        if (Double.isNaN(epsilon) || (Double.compare(epsilon, 0.0d) < 0)) return false;
+        if (points.length == 0) return true;
+        double[] column = new double[points.length];
+        for (int j = 0; j < points[0].length; j++)
+        {
+            for (int i = 0; i < points.length; i++)
+            {
+                if (Double.isNaN(points[i][j])) return false;
+                column[i] = points[i][j];
+            }
+            Arrays.sort(column);
+            for (int i = 1; i < column.length; i++)
+            {
+                double x = column[i - 1];
+                double y = column[i];
+                if (Double.compare(x, y) == 0) continue;
+                if ((Double.compare(x + epsilon, y) >= 0) || (Double.compare(y - epsilon, x) <= 0)) return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Checks if point A dominates point B (exact comparisons; all objectives are to be minimized).
+     *
+     * @param A the first point
+     * @param B the second point
+     * @return true if A dominates B, false otherwise
+     */
+    public static boolean isDominating(double[] A, double[] B)
+    {
+        boolean better = false;
+        for (int j = 0; j < A.length; j++)
+        {
+            int c = Double.compare(A[j], B[j]);
+            if (c > 0) return false;
+            if (c < 0) better = true;
+        }
+        return better;
+    }
+
+    /**
+     * Compares two points lexicographically.
+     *
+     * @param A the first point
+     * @param B the second point
+     * @return negative value if A precedes B, 0 if the points are equal, positive value otherwise
+     */
+    public static int compareLexicographically(double[] A, double[] B)
+    {
+        for (int j = 0; j < A.length; j++)
+        {
+            int c = Double.compare(A[j], B[j]);
+            if (c != 0) return c;
+        }
+        return 0;
+    }
+
+    /**
+     * Returns indices of the points sorted according to the j-th objective (ties are broken by indices).
+     *
+     * @param points points
+     * @param j      objective index
+     * @return sorted indices
+     */
+    public static int[] getSortedIndices(double[][] points, int j)
+    {
+        Integer[] idx = new Integer[points.length];
+        for (int i = 0; i < points.length; i++) idx[i] = i;
+        Arrays.sort(idx, (a, b) -> {
+            int c = Double.compare(points[a][j], points[b][j]);
+            if (c != 0) return c;
+            return Integer.compare(a, b);
+        });
+        int[] r = new int[points.length];
+        for (int i = 0; i < points.length; i++) r[i] = idx[i];
+        return r;
+    }
+
+    /**
+     * Ranks the points using the provided sorting algorithm (0 = the first non-dominated front, 1 = the second, etc.).
+     * The method sorts the points lexicographically and merges duplicates (equal points are assigned the same rank)
+     * before passing them to the algorithm.
+     *
+     * @param points  points (each row is one point; all objectives are to be minimized)
+     * @param sorting non-dominated sorting algorithm
+     * @return ranks of the points (i-th element corresponds to the i-th row of the input matrix)
+     */
+    public static int[] getRanks(double[][] points, INDSorting sorting)
+    {
+        int n = points.length;
+        int[] ranks = new int[n];
+        if (n == 0) return ranks;
+
+        Integer[] idx = new Integer[n];
+        for (int i = 0; i < n; i++) idx[i] = i;
+        Arrays.sort(idx, (a, b) -> compareLexicographically(points[a], points[b]));
+
+        int[] unique = new int[n]; // maps input points to the unique ones
+        double[][] U = new double[n][];
+        int u = 0;
+        for (int i = 0; i < n; i++)
+        {
+            if ((i == 0) || (compareLexicographically(points[idx[i - 1]], points[idx[i]]) != 0))
+                U[u++] = points[idx[i]];
+            unique[idx[i]] = u - 1;
+        }
+
+        int[] r = sorting.getRanks(u == n ? U : Arrays.copyOf(U, u));
+        for (int i = 0; i < n; i++) ranks[i] = r[unique[i]];
+        return ranks;
+    }
+
+    /**
+     * Constructs the fronts based on the ranks. The output is exactly the same as that of the fast non-dominated
+     * sorting algorithm (see {@link emo.utils.front.FNDSorting}), including the order of front members: the first front
+     * lists its members in ascending order of indices; the members of each subsequent front are ordered by the
+     * position (in the preceding front) of their last dominator in the preceding front, and then by indices.
+     *
+     * @param points    points (each row is one point; all objectives are to be minimized)
+     * @param ranks     ranks of the points (see {@link #getRanks(double[][], INDSorting)})
+     * @param stopAfter the construction is stopped after the number of already assigned points in constructed fronts
+     *                  exceeds this value (breaks can be triggered only after completion of a whole front)
+     * @return list of lists (represents different levels) of integers (indices of points in the input array)
+     */
+    public static LinkedList<LinkedList<Integer>> getFronts(double[][] points, int[] ranks, int stopAfter)
+    {
+        LinkedList<LinkedList<Integer>> fronts = new LinkedList<>();
+        int n = points.length;
+        if ((n == 0) || (stopAfter == 0)) return fronts;
+
+        int noFronts = 0;
+        for (int r : ranks) if (r + 1 > noFronts) noFronts = r + 1;
+        int[] start = new int[noFronts + 1];
+        for (int r : ranks) start[r + 1]++;
+        for (int k = 0; k < noFronts; k++) start[k + 1] += start[k];
+        int[] byRank = new int[n]; // indices grouped by ranks (ascending order within groups)
+        int[] fill = Arrays.copyOf(start, noFronts);
+        for (int i = 0; i < n; i++) byRank[fill[ranks[i]]++] = i;
+
+        int[] previous = Arrays.copyOfRange(byRank, start[0], start[1]);
+        LinkedList<Integer> f = new LinkedList<>();
+        for (int i : previous) f.add(i);
+        fronts.add(f);
+        int assigned = previous.length;
+
+        for (int k = 1; (k < noFronts) && (assigned < stopAfter); k++)
+        {
+            int size = start[k + 1] - start[k];
+            int[] position = new int[size];
+            int[] count = new int[previous.length + 1];
+            for (int i = 0; i < size; i++)
+            {
+                double[] q = points[byRank[start[k] + i]];
+                int p = previous.length - 1;
+                while ((p > 0) && (!isDominating(points[previous[p]], q))) p--;
+                position[i] = p;
+                count[p + 1]++;
+            }
+            for (int p = 0; p < previous.length; p++) count[p + 1] += count[p];
+
+            int[] current = new int[size];
+            for (int i = 0; i < size; i++) current[count[position[i]]++] = byRank[start[k] + i];
+
+            f = new LinkedList<>();
+            for (int i : current) f.add(i);
+            fronts.add(f);
+            assigned += size;
+            previous = current;
+        }
+        return fronts;
+    }
+}
@@ -0,0 +1,44 @@
+package emo.utils.front.nds;
+
+/**
+ * Non-dominated sorting dedicated to bi-objective problems (O(N log N)). The points are processed in the lexicographic
+ * order. Since the first objective values of the points already assigned to fronts do not exceed the value of the point
+ * being processed, the point is dominated by a front if and only if the front's last assigned member (the one having
+ * the smallest second objective value) is not worse in the second objective. These values increase with the front
+ * index; hence, the front is found using a binary search.
+ *
+ * @author MTomczyk
+ */
+public class Sweep2D implements INDSorting
+{
+    /**
+     * Assigns the points their ranks.
+     *
+     * @param points points to be ranked (pairwise distinct, sorted lexicographically in ascending order; each point
+     *               must consist of two objective values)
+     * @return ranks of the points
+     */
+    @Override
+    public int[] getRanks(double[][] points)
+    {
+        int[] ranks = new int[points.length];
+        double[] last = new double[points.length];
+        int noFronts = 0;
+        for (int p = 0; p < points.length; p++)
+        {
+            double v = points[p][1];
+            int l = 0;
+            int r = noFronts;
+            while (l < r)
+            {
+                int k = (l + r) >>> 1;
+                if (Double.compare(last[k], v) <= 0) l = k + 1;
+                else r = k;
+            }
+            last[l] = v;
+            if (l == noFronts) noFronts++;
+            ranks[p] = l;
+        }
+        return ranks;
+    }
+}
@@ -0,0 +1,28 @@
+package indicator;
+
+import population.Specimen;
+
+import java.util.ArrayList;
+
+/**
+ * Interface for performance indicators that can update their values given the changes in the population since the
+ * previous evaluation (e.g., in steady-state or elitist EAs, where only a few specimens are replaced in each generation).
+ * The calls of {@link IPerformanceIndicator#evaluate(ea.IEA)} are expected to compute the value from scratch and
+ * (re)initialize the internal state used by the updates. The changes are determined by {@link IncrementalEvaluation},
+ * which also falls back to the full recalculation when the update is not possible (or not profitable).
+ *
+ * @author MTomczyk
+ */
+public interface IIncrementalPerformanceIndicator extends IPerformanceIndicator
+{
+    /**
+     * Updates the indicator's value. The method can be called only after the state was initialized via
+     * {@link IPerformanceIndicator#evaluate(ea.IEA)} (or a previous update).
+     *
+     * @param population current population
+     * @param inserted   specimens present in the current population but not in the previously evaluated one
+     * @param removed    specimens present in the previously evaluated population but not in the current one
+     * @return performance value (or NaN if the update is not possible; then the full recalculation should be run)
+     */
+    double update(ArrayList<Specimen> population, ArrayList<Specimen> inserted, ArrayList<Specimen> removed);
+}
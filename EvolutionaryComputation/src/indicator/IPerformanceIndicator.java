@@ -42,4 +42,12 @@ public interface IPerformanceIndicator
      * @return cloned instance
      */
     IPerformanceIndicator getInstanceInInitialState();
+
+    /**
+     * Releases the resources held by the indicator (e.g., thread pools). The default implementation does nothing.
+     */
+    default void dispose()
+    {
+
+    }
 }
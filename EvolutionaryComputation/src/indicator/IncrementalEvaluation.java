@@ -0,0 +1,198 @@
+package indicator;
+
+import ea.IEA;
+import population.Specimen;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+
+/**
+ * Auxiliary class that evaluates the population using an incremental performance indicator
+ * ({@link IIncrementalPerformanceIndicator}). It keeps the previously evaluated population (the specimens are matched by
+ * reference, and their evaluation vectors are compared with snapshots) and passes the inserted and removed specimens to
+ * the indicator. The value is computed from scratch when the state is not initialized, when the number of changes is
+ * large, when the evaluations of some retained specimen changed, or when the indicator reports that the update is not
+ * possible. When the population is replaced wholesale (the number of changes is large, e.g., in generational EAs), the
+ * evaluations are not snapshotted (only the references are kept) until a population that can be updated incrementally
+ * is observed again, so the generational EAs do not pay for copying the evaluations in each generation.
+ *
+ * @author MTomczyk
+ */
+public class IncrementalEvaluation
+{
+    /**
+     * Evaluated indicator.
+     */
+    private final IIncrementalPerformanceIndicator _indicator;
+
+    /**
+     * If the number of changes (inserted + removed specimens) exceeds this fraction of the population size, the value is
+     * computed from scratch.
+     */
+    private final double _maxChangesRatio;
+
+    /**
+     * Previously evaluated population (specimens mapped to the snapshots of their evaluations; null = the state is not
+     * initialized).
+     */
+    private IdentityHashMap<Specimen, double[]> _previous = null;
+
+    /**
+     * If true, the previously evaluated population is stored without the snapshots of the evaluations (the map values
+     * are null), as it was replaced wholesale.
+     */
+    private boolean _snapshotsSkipped = false;
+
+    /**
+     * The number of updates performed (for statistics).
+     */
+    private int _noUpdates = 0;
+
+    /**
+     * The number of full recalculations performed (for statistics).
+     */
+    private int _noRecalculations = 0;
+
+    /**
+     * Parameterized constructor (the value is computed from scratch if more than 50% of the specimens change).
+     *
+     * @param indicator evaluated indicator
+     */
+    public IncrementalEvaluation(IIncrementalPerformanceIndicator indicator)
+    {
+        this(indicator, 0.5d);
+    }
+
+    /**
+     * Parameterized constructor.
+     *
+     * @param indicator       evaluated indicator
+     * @param maxChangesRatio if the number of changes (inserted + removed specimens) exceeds this fraction of the
+     *                        population size, the value is computed from scratch
+     */
+    public IncrementalEvaluation(IIncrementalPerformanceIndicator indicator, double maxChangesRatio)
+    {
+        _indicator = indicator;
+        _maxChangesRatio = maxChangesRatio;
+    }
+
+    /**
+     * Evaluates the EA's performance.
+     *
+     * @param ea evolutionary algorithm
+     * @return performance value
+     */
+    public double evaluate(IEA ea)
+    {
+        ArrayList<Specimen> population = ea.getSpecimensContainer().getPopulation();
+        if ((population == null) || (population.isEmpty())) return recalculate(ea, null, true);
+
+        IdentityHashMap<Specimen, double[]> current = new IdentityHashMap<>(2 * population.size());
+        if (_previous == null) return recalculate(ea, current, true);
+        if (_snapshotsSkipped) return recalculate(ea, current, !isReplacedWholesale(population));
+
+        ArrayList<Specimen> inserted = new ArrayList<>();
+        boolean changed = false;
+        for (Specimen s : population)
+        {
+            if (current.containsKey(s)) return recalculate(ea, current, true); // duplicated references
+            double[] snapshot = _previous.get(s);
+            if (snapshot == null) inserted.add(s);
+            else if (!Arrays.equals(snapshot, s.getEvaluations())) changed = true;
+            current.put(s, snapshot);
+        }
+        if (changed) return recalculate(ea, current, true);
+
+        ArrayList<Specimen> removed = new ArrayList<>();
+        for (Specimen s : _previous.keySet())
+            if (!current.containsKey(s)) removed.add(s);
+        if (inserted.size() + removed.size() > _maxChangesRatio * population.size())
+            return recalculate(ea, current, false);
+
+        double value = _indicator.update(population, inserted, removed);
+        if (Double.isNaN(value)) return recalculate(ea, current, true);
+        for (Specimen s : inserted) current.put(s, s.getEvaluations().clone());
+        _previous = current;
+        _noUpdates++;
+        return value;
+    }
+
+    /**
+     * Auxiliary method checking if the population differs from the previously evaluated one so much that it would be
+     * computed from scratch anyway (see {@link #_maxChangesRatio}).
+     *
+     * @param population current population
+     * @return true = the population was replaced wholesale; false otherwise
+     */
+    private boolean isReplacedWholesale(ArrayList<Specimen> population)
+    {
+        int retained = 0;
+        for (Specimen s : population)
+            if (_previous.containsKey(s)) retained++;
+        return (population.size() - retained) + (_previous.size() - retained) > _maxChangesRatio * population.size();
+    }
+
+    /**
+     * Auxiliary method computing the value from scratch.
+     *
+     * @param ea        evolutionary algorithm
+     * @param current   map to be filled with the current population (null = the state is not initialized)
+     * @param snapshots if true, the evaluations are snapshotted; otherwise, only the references are stored
+     * @return performance value
+     */
+    private double recalculate(IEA ea, IdentityHashMap<Specimen, double[]> current, boolean snapshots)
+    {
+        _noRecalculations++;
+        double value = _indicator.evaluate(ea);
+        if (current != null)
+        {
+            current.clear();
+            for (Specimen s : ea.getSpecimensContainer().getPopulation())
+                current.put(s, snapshots ? s.getEvaluations().clone() : null);
+        }
+        _previous = current;
+        _snapshotsSkipped = !snapshots;
+        return value;
+    }
+
+    /**
+     * Clears the state (the next evaluation will be computed from scratch).
+     */
+    public void reset()
+    {
+        _previous = null;
+        _snapshotsSkipped = false;
+    }
+
+    /**
+     * Checks if the snapshots of the evaluations are currently skipped (the previously evaluated population was
+     * replaced wholesale).
+     *
+     * @return true = the snapshots are skipped; false otherwise
+     */
+    public boolean areSnapshotsSkipped()
+    {
+        return _snapshotsSkipped;
+    }
+
+    /**
+     * Getter for the number of updates performed.
+     *
+     * @return the number of updates performed
+     */
+    public int getNoUpdates()
+    {
+        return _noUpdates;
+    }
+
+    /**
+     * Getter for the number of full recalculations performed.
+     *
+     * @return the number of full recalculations performed
+     */
+    public int getNoRecalculations()
+    {
+        return _noRecalculations;
+    }
+}
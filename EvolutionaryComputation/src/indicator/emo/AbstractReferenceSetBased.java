@@ -3,9 +3,22 @@ package indicator.emo;
 import indicator.AbstractPerformanceIndicator;
 import indicator.IPerformanceIndicator;
 import space.distance.IDistance;
+import space.nn.INearestNeighbourSearch;
+import space.nn.NearestNeighbourSearch;
+import thread.LazyThreadPool;
+
+import java.util.LinkedList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
 
 /**
  * Abstract class that provides common functionalities for performance indicators based on comparison with a reference set.
+ * The nearest neighbour queries can be answered using spatial indices (see {@link NearestNeighbourSearch}). The index
+ * built over the reference set is constructed once (lazily) and shared by the instances cloned via
+ * {@link IPerformanceIndicator#getInstanceInInitialState()}. The queries can be processed in parallel (the results do
+ * not depend on the number of threads; each clone has its own pool, released via {@link #dispose()}). The
+ * distances are always calculated as d(evaluation vector, reference point), as the distance function can be
+ * asymmetric.
  *
  * @author MTomczyk
  */
@@ -13,6 +26,22 @@ import space.distance.IDistance;
 
 public abstract class AbstractReferenceSetBased extends AbstractPerformanceIndicator implements IPerformanceIndicator
 {
+    /**
+     * Auxiliary class storing the lazily constructed index built over the reference set (shared between clones).
+     */
+    private static class ReferenceSetIndex
+    {
+        /**
+         * The index (null, if not constructed yet).
+         */
+        private INearestNeighbourSearch _index = null;
+    }
+
+    /**
+     * If the number of queries is smaller than this threshold, they are processed sequentially.
+     */
+    private static final int MIN_QUERIES_FOR_PARALLELISM = 256;
+
     /**
      * Distance function employed.
      */
@@ -24,15 +53,181 @@ public abstract class AbstractReferenceSetBased extends AbstractPerformanceIndic
     protected final double[][] _referenceSet;
 
     /**
-     * Parameterized constructor.
+     * Method used for the nearest neighbour search.
+     */
+    protected final NearestNeighbourSearch _search;
+
+    /**
+     * The number of threads used for processing nearest neighbour queries.
+     */
+    protected final int _noThreads;
+
+    /**
+     * Index built over the reference set (shared between clones).
+     */
+    private final ReferenceSetIndex _referenceSetIndex;
+
+    /**
+     * Thread pool used to process the queries in parallel (not shared between clones).
+     */
+    private final LazyThreadPool _pool;
+
+    /**
+     * Parameterized constructor (the nearest neighbour search method is {@link NearestNeighbourSearch#AUTO}; the
+     * queries are processed sequentially).
      *
      * @param distance     distance function employed
      * @param referenceSet reference set employed
      */
     public AbstractReferenceSetBased(IDistance distance, double[][] referenceSet)
+    {
+        this(distance, referenceSet, NearestNeighbourSearch.AUTO, 1);
+    }
+
+    /**
+     * Parameterized constructor.
+     *
+     * @param distance     distance function employed
+     * @param referenceSet reference set employed
+     * @param search       method used for the nearest neighbour search
+     * @param noThreads    the number of threads used for processing nearest neighbour queries
+     */
+    public AbstractReferenceSetBased(IDistance distance, double[][] referenceSet, NearestNeighbourSearch search,
+                                     int noThreads)
     {
         super(true);
         _distance = distance;
         _referenceSet = referenceSet;
+        _search = search;
+        _noThreads = Math.max(1, noThreads);
+        _referenceSetIndex = new ReferenceSetIndex();
+        _pool = new LazyThreadPool(_noThreads);
+    }
+
+    /**
+     * Constructor that copies the parameters of the provided indicator (references are passed). The index built over
+     * the reference set is shared.
+     *
+     * @param indicator indicator whose parameters are copied
+     */
+    protected AbstractReferenceSetBased(AbstractReferenceSetBased indicator)
+    {
+        super(true);
+        _distance = indicator._distance;
+        _referenceSet = indicator._referenceSet;
+        _search = indicator._search;
+        _noThreads = indicator._noThreads;
+        _referenceSetIndex = indicator._referenceSetIndex;
+        _pool = new LazyThreadPool(_noThreads);
+    }
+
+    /**
+     * Returns the index built over the reference set (constructed upon the first call).
+     *
+     * @return the index
+     */
+    protected INearestNeighbourSearch getReferenceSetIndex()
+    {
+        synchronized (_referenceSetIndex)
+        {
+            if (_referenceSetIndex._index == null)
+                _referenceSetIndex._index = _search.getInstance(_referenceSet, _distance);
+            return _referenceSetIndex._index;
+        }
+    }
+
+    /**
+     * Determines the distances between the queries and their nearest points (calculated as d(query, point)). The
+     * queries are processed in parallel if the number of threads is greater than 1.
+     *
+     * @param points  indexed points
+     * @param index   index built over the points
+     * @param queries queries
+     * @return distances to the nearest points (positive infinity, if not found)
+     */
+    protected double[] getNearestDistances(double[][] points, INearestNeighbourSearch index, double[][] queries)
+    {
+        return getNearestDistances(points, index, queries, null, false);
+    }
+
+    /**
+     * Determines the distances between the queries and their nearest points. The queries are processed in parallel if
+     * the number of threads is greater than 1.
+     *
+     * @param points     indexed points
+     * @param index      index built over the points (should use the same order of arguments, see
+     *                   {@link NearestNeighbourSearch#getInstance(double[][], IDistance, boolean)})
+     * @param queries    queries
+     * @param nearest    optional array (can be null) to be filled with the indices of the nearest points (-1, if not
+     *                   found)
+     * @param pointFirst if true, the distances are calculated as d(point, query); d(query, point) otherwise
+     * @return distances to the nearest points (positive infinity, if not found)
+     */
+    protected double[] getNearestDistances(double[][] points, INearestNeighbourSearch index, double[][] queries,
+                                           int[] nearest, boolean pointFirst)
+    {
+        double[] distances = new double[queries.length];
+        if ((_noThreads == 1) || (queries.length < MIN_QUERIES_FOR_PARALLELISM))
+        {
+            fillNearestDistances(points, index, queries, distances, nearest, pointFirst, 0, queries.length);
+            return distances;
+        }
+
+        int chunk = (queries.length + _noThreads - 1) / _noThreads;
+        LinkedList<Future<?>> futures = new LinkedList<>();
+        for (int b = 0; b < queries.length; b += chunk)
+        {
+            int f = b;
+            int t = Math.min(queries.length, b + chunk);
+            futures.add(_pool.submit(() ->
+                    fillNearestDistances(points, index, queries, distances, nearest, pointFirst, f, t)));
+        }
+        try
+        {
+            LazyThreadPool.waitForAll(futures);
+        } catch (InterruptedException e)
+        {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("The nearest neighbour search was interrupted", e);
+        } catch (ExecutionException e)
+        {
+            throw new IllegalStateException("Error occurred when searching for nearest neighbours " +
+                    e.getCause(), e.getCause());
+        }
+        return distances;
+    }
+
+    /**
+     * Releases the thread pool used to process the queries (the index shared between clones is kept).
+     */
+    @Override
+    public void dispose()
+    {
+        _pool.dispose();
+    }
+
+    /**
+     * Auxiliary method determining the distances between the queries (in the given range) and their nearest points.
+     *
+     * @param points     indexed points
+     * @param index      index built over the points
+     * @param queries    queries
+     * @param distances  array to be filled
+     * @param nearest    optional array to be filled with the indices of the nearest points (can be null)
+     * @param pointFirst if true, the distances are calculated as d(point, query); d(query, point) otherwise
+     * @param from       index of the first query (inclusive)
+     * @param to         index of the last query (exclusive)
+     */
+    private void fillNearestDistances(double[][] points, INearestNeighbourSearch index, double[][] queries,
+                                      double[] distances, int[] nearest, boolean pointFirst, int from, int to)
+    {
+        for (int i = from; i < to; i++)
+        {
+            int n = index.getNearest(queries[i]);
+            if (nearest != null) nearest[i] = n;
+            if (n == -1) distances[i] = Double.POSITIVE_INFINITY;
+            else if (pointFirst) distances[i] = _distance.getDistance(points[n], queries[i]);
+            else distances[i] = _distance.getDistance(queries[i], points[n]);
+        }
     }
 }
@@ -0,0 +1,717 @@
+package indicator.emo;
+
+import ea.IEA;
+import indicator.AbstractPerformanceIndicator;
+import indicator.IPerformanceIndicator;
+import population.Specimen;
+import random.AbstractRandomNumberGenerator;
+import random.IRandom;
+import random.MersenneTwister64;
+import space.normalization.INormalization;
+import thread.LazyThreadPool;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+
+/**
+ * Approximate hypervolume indicator intended for many-objective problems (for which the exact calculations, see
+ * {@link HV}, are intractable). The hypervolume is estimated by sampling points in the box spanned between the
+ * component-wise minimum of the (normalized) evaluation vectors and the reference point. The estimate is the box volume
+ * multiplied by the fraction of the samples weakly dominated by at least one vector. The samples are drawn in rounds of
+ * a fixed size, and the procedure stops when the half-width of the (normal approximation-based) confidence interval
+ * drops below the required error (or when the maximal number of samples is reached). The samples can be drawn using the
+ * Monte Carlo method (uniform samples generated by the provided random number generator) or the quasi-Monte Carlo
+ * method (Halton sequence randomly shifted once per evaluation; the same error bound is used as a stopping criterion,
+ * which is conservative for this method). The dominance checks are run in parallel. The samples are generated by the
+ * calling thread (or derived from their indices, in the case of the quasi-Monte Carlo method), and the results do not
+ * depend on the number of threads used. Hence, the results are reproducible, given the random number generator's seed.
+ * The clones (see {@link #getInstanceInInitialState()}) do not share the generator: each clone derives its own
+ * generator, when evaluating an EA for the first time, from the seed of the EA's generator (i.e., the trial's seed;
+ * the EA's generator is not consumed). Hence, the results obtained for a trial do not depend on the order in which the
+ * clones were created. As in {@link HV}, it is assumed that all the objectives are to be minimized and the points that
+ * do not dominate the reference point do not contribute to the hypervolume.
+ *
+ * @author MTomczyk
+ */
+public class ApproximateHV extends AbstractPerformanceIndicator implements IPerformanceIndicator
+{
+    /**
+     * Sampling methods.
+     */
+    public enum Sampling
+    {
+        /**
+         * Uniform samples generated by the random number generator.
+         */
+        MONTE_CARLO,
+
+        /**
+         * Halton sequence with a random (Cranley-Patterson) shift drawn once per evaluation.
+         */
+        QUASI_MONTE_CARLO,
+    }
+
+    /**
+     * Params container.
+     */
+    public static class Params
+    {
+        /**
+         * The number of objectives.
+         */
+        public final int _M;
+
+        /**
+         * Normalizations used to map specimens into [0-1]^{the number of objectives M} hypercube. There should be
+         * exactly M such objects provided, each linked to a different objective. Note that the normalizations
+         * can be null (not used) -> the evaluation vectors are explicitly used when calculating the hypervolume.
+         */
+        public final INormalization[] _normalizations;
+
+        /**
+         * Reference point. Provides the upper bound for the objective space. The reference point is assumed to be
+         * already normalized (if null, the vector of ones is used).
+         */
+        public final double[] _rp;
+
+        /**
+         * Random number generator used for sampling. Its seed (if available) is also mixed into the seeds of the
+         * generators derived by the clones (see {@link ApproximateHV#getInstanceInInitialState()}).
+         */
+        public final IRandom _R;
+
+        /**
+         * Sampling method.
+         */
+        public Sampling _sampling = Sampling.MONTE_CARLO;
+
+        /**
+         * Required (absolute) error of the estimate: the sampling stops when the half-width of the confidence interval
+         * (at the {@link Params#_confidence} level) does not exceed this value.
+         */
+        public double _maxError = 1.0E-3;
+
+        /**
+         * Confidence level of the interval used in the stopping criterion (in (0, 1)).
+         */
+        public double _confidence = 0.95d;
+
+        /**
+         * The minimal number of samples.
+         */
+        public int _minSamples = 10000;
+
+        /**
+         * The maximal number of samples (the sampling stops when reached, regardless of the achieved error).
+         */
+        public int _maxSamples = 10000000;
+
+        /**
+         * The number of samples drawn in one round (the stopping criterion is checked after each round). The value
+         * does not depend on the number of threads so that the results are the same regardless of it.
+         */
+        public int _samplesPerRound = 20000;
+
+        /**
+         * The number of threads used for the dominance checks.
+         */
+        public int _noThreads = 1;
+
+        /**
+         * Optional executor used to run the dominance checks. If null and {@link Params#_noThreads} is greater than 1, a
+         * thread pool is instantiated on demand and released when the indicator is disposed (the experimentation
+         * module disposes the per-trial clones when the trials end).
+         */
+        public ExecutorService _executor = null;
+
+        /**
+         * Parameterized constructor.
+         *
+         * @param M  the number of objectives
+         * @param rp reference point; provides the upper bound for the objective space; the reference point is
+         *           assumed to be already normalized
+         * @param R  random number generator used for sampling
+         */
+        public Params(int M, double[] rp, IRandom R)
+        {
+            this(M, null, rp, R);
+        }
+
+        /**
+         * Parameterized constructor.
+         *
+         * @param M              the number of objectives
+         * @param normalizations normalizations used to map specimens into [0-1]^{the number of objectives M} hypercube;
+         *                       there should be exactly M such objects provided, each linked to a different objective;
+         *                       note that the normalizations can be null (not used) -> the evaluation vectors are
+         *                       explicitly used when calculating the hypervolume
+         * @param rp             reference point; provides the upper bound for the objective space; the reference
+         *                       point is assumed to be already normalized
+         * @param R              random number generator used for sampling
+         */
+        public Params(int M, INormalization[] normalizations, double[] rp, IRandom R)
+        {
+            _M = M;
+            _normalizations = normalizations;
+            _rp = rp;
+            _R = R;
+        }
+    }
+
+    /**
+     * The number of objectives.
+     */
+    private final int _M;
+
+    /**
+     * Normalizations used to map specimens into [0-1]^{the number of objectives M} hypercube.
+     */
+    private final INormalization[] _normalizations;
+
+    /**
+     * Reference point.
+     */
+    private final double[] _rp;
+
+    /**
+     * Random number generator used for sampling (null in the case of a clone that has not derived its generator yet).
+     */
+    private IRandom _R;
+
+    /**
+     * Generator provided via the params container of the original indicator (its seed is used when deriving the
+     * generators of the clones).
+     */
+    private final IRandom _referenceR;
+
+    /**
+     * Sampling method.
+     */
+    private final Sampling _sampling;
+
+    /**
+     * Required (absolute) error of the estimate.
+     */
+    private final double _maxError;
+
+    /**
+     * Confidence level of the interval used in the stopping criterion.
+     */
+    private final double _confidence;
+
+    /**
+     * Quantile of the standard normal distribution that corresponds to the confidence level.
+     */
+    private final double _z;
+
+    /**
+     * The minimal number of samples.
+     */
+    private final int _minSamples;
+
+    /**
+     * The maximal number of samples.
+     */
+    private final int _maxSamples;
+
+    /**
+     * The number of samples drawn in one round.
+     */
+    private final int _samplesPerRound;
+
+    /**
+     * The number of threads used for the dominance checks.
+     */
+    private final int _noThreads;
+
+    /**
+     * Executor provided via the params container (null, if not provided; passed to the clones).
+     */
+    private final ExecutorService _providedExecutor;
+
+    /**
+     * Thread pool used to run the dominance checks (wraps the provided executor, if any).
+     */
+    private final LazyThreadPool _pool;
+
+    /**
+     * The number of samples used in the last evaluation.
+     */
+    private int _lastNoSamples = 0;
+
+    /**
+     * Half-width of the confidence interval achieved in the last evaluation.
+     */
+    private double _lastError = 0.0d;
+
+    /**
+     * Parameterized constructor.
+     *
+     * @param p params container
+     */
+    public ApproximateHV(Params p)
+    {
+        this(p, p._R);
+    }
+
+    /**
+     * Parameterized constructor.
+     *
+     * @param p          params container
+     * @param referenceR generator provided via the params container of the original indicator
+     */
+    private ApproximateHV(Params p, IRandom referenceR)
+    {
+        super(false);
+        if (p._rp == null)
+        {
+            _rp = new double[p._M];
+            for (int i = 0; i < p._M; i++) _rp[i] = 1.0d;
+        }
+        else _rp = p._rp;
+        _M = p._M;
+        _normalizations = p._normalizations;
+        _R = p._R;
+        _referenceR = referenceR;
+        _sampling = p._sampling;
+        _maxError = p._maxError;
+        _confidence = p._confidence;
+        _z = getNormalQuantile(0.5d + p._confidence / 2.0d);
+        _minSamples = Math.max(1, p._minSamples);
+        _maxSamples = Math.max(_minSamples, p._maxSamples);
+        _samplesPerRound = Math.max(1, p._samplesPerRound);
+        _noThreads = Math.max(1, p._noThreads);
+        _providedExecutor = p._executor;
+        _pool = new LazyThreadPool(_noThreads, p._executor);
+    }
+
+    /**
+     * Evaluates the EA's performance. If the indicator is a clone that has not derived its random number generator
+     * yet, the generator is derived from the seed of the EA's generator (see {@link #deriveGenerator(IRandom)}).
+     *
+     * @param ea evolutionary algorithm
+     * @return performance value (0 if the specimen container is null)
+     */
+    @Override
+    public double evaluate(IEA ea)
+    {
+        if (_R == null) _R = deriveGenerator(ea.getR());
+        return super.evaluate(ea);
+    }
+
+    /**
+     * Method that estimates the hypervolume.
+     *
+     * @param population input population
+     * @return performance value
+     */
+    @Override
+    protected double evaluate(ArrayList<Specimen> population)
+    {
+        if (_R == null) _R = deriveGenerator(null);
+        _lastNoSamples = 0;
+        _lastError = 0.0d;
+
+        // normalize and keep the points that dominate the reference point
+        double[][] S = new double[population.size()][];
+        int n = 0;
+        for (Specimen specimen : population)
+        {
+            double[] s = specimen.getEvaluations().clone();
+            if (_normalizations != null)
+                for (int j = 0; j < _M; j++) s[j] = _normalizations[j].getNormalized(s[j]);
+            boolean valid = true;
+            for (int j = 0; j < _M; j++)
+                if (!(s[j] <= _rp[j]))
+                {
+                    valid = false;
+                    break;
+                }
+            if (valid) S[n++] = s;
+        }
+        if (n == 0) return 0.0d;
+        double[][] points = Arrays.copyOf(S, n);
+        Arrays.sort(points, (o1, o2) -> Double.compare(o1[0], o2[0]));
+
+        // sampling box
+        double[] lb = points[0].clone();
+        for (double[] p : points)
+            for (int j = 1; j < _M; j++) lb[j] = Math.min(lb[j], p[j]);
+        double[] width = new double[_M];
+        double volume = 1.0d;
+        for (int j = 0; j < _M; j++)
+        {
+            width[j] = _rp[j] - lb[j];
+            volume *= width[j];
+        }
+        if (Double.compare(volume, 0.0d) == 0) return 0.0d;
+
+        double[] shift = null;
+        int[] primes = null;
+        if (_sampling.equals(Sampling.QUASI_MONTE_CARLO))
+        {
+            shift = _R.nextDoubles(_M);
+            primes = getPrimes(_M);
+        }
+
+        double[][] samples = new double[_samplesPerRound][_M];
+        long hits = 0;
+        int drawn = 0;
+        while (drawn < _maxSamples)
+        {
+            int size = Math.min(_samplesPerRound, _maxSamples - drawn);
+            if (shift == null)
+            {
+                for (int i = 0; i < size; i++)
+                    for (int j = 0; j < _M; j++) samples[i][j] = lb[j] + _R.nextDouble() * width[j];
+                hits += countDominated(points, samples, null, 0, size, lb, width);
+            }
+            else hits += countDominated(points, samples, new QMC(primes, shift, drawn), 0, size, lb, width);
+            drawn += size;
+
+            double p = (hits + 1.0d) / (drawn + 2.0d);
+            _lastError = _z * Math.sqrt(p * (1.0d - p) / drawn) * volume;
+            if ((drawn >= _minSamples) && (_lastError <= _maxError)) break;
+        }
+
+        _lastNoSamples = drawn;
+        return volume * ((double) hits / drawn);
+    }
+
+    /**
+     * Auxiliary method that derives the random number generator of a clone. The seed is obtained by mixing the seed of
+     * the provided generator (typically, the EA's generator, which is seeded per trial) with the seed of the reference
+     * generator (see {@link Params#_R}). The provided generator is not consumed. If a seed is not available (e.g., the
+     * generator was derived via a jump), it is treated as 0. Hence, when neither is available, all clones use the same
+     * (fixed) seed.
+     *
+     * @param R generator whose seed is used (can be null)
+     * @return derived generator
+     */
+    private IRandom deriveGenerator(IRandom R)
+    {
+        long seed = 31L * getSeedAsLong(_referenceR) + getSeedAsLong(R);
+        // SplitMix64 finalizer (decorrelates similar seeds)
+        seed = (seed ^ (seed >>> 30)) * 0xbf58476d1ce4e5b9L;
+        seed = (seed ^ (seed >>> 27)) * 0x94d049bb133111ebL;
+        return new MersenneTwister64(seed ^ (seed >>> 31));
+    }
+
+    /**
+     * Auxiliary method that returns the generator's seed as a long value.
+     *
+     * @param R random number generator (can be null)
+     * @return seed (0 if not available)
+     */
+    private static long getSeedAsLong(IRandom R)
+    {
+        if (!(R instanceof AbstractRandomNumberGenerator)) return 0L;
+        Object seed = ((AbstractRandomNumberGenerator) R).getSeed();
+        if (seed == null) return 0L;
+        if (seed instanceof Number) return ((Number) seed).longValue();
+        if (seed instanceof long[]) return Arrays.hashCode((long[]) seed);
+        if (seed instanceof int[]) return Arrays.hashCode((int[]) seed);
+        return seed.hashCode();
+    }
+
+    /**
+     * Releases the thread pool used for the dominance checks (a provided executor is left intact).
+     */
+    @Override
+    public void dispose()
+    {
+        _pool.dispose();
+    }
+
+    /**
+     * Auxiliary class that generates samples of a randomly shifted Halton sequence.
+     */
+    private static class QMC
+    {
+        /**
+         * Bases (one per objective).
+         */
+        private final int[] _primes;
+
+        /**
+         * Random shift (one per objective).
+         */
+        private final double[] _shift;
+
+        /**
+         * Index of the first sample in the round (the sequence is continued between rounds).
+         */
+        private final int _offset;
+
+        /**
+         * Parameterized constructor.
+         *
+         * @param primes bases (one per objective)
+         * @param shift  random shift (one per objective)
+         * @param offset index of the first sample in the round (the sequence is continued between rounds)
+         */
+        private QMC(int[] primes, double[] shift, int offset)
+        {
+            _primes = primes;
+            _shift = shift;
+            _offset = offset;
+        }
+
+        /**
+         * Fills the array with the sample (in [0, 1]^M).
+         *
+         * @param index index of the sample in the round
+         * @param s     array to be filled
+         */
+        private void fill(int index, double[] s)
+        {
+            long k = (long) _offset + index + 1;
+            for (int j = 0; j < s.length; j++)
+            {
+                double v = getRadicalInverse(k, _primes[j]) + _shift[j];
+                s[j] = v >= 1.0d ? v - 1.0d : v;
+            }
+        }
+    }
+
+    /**
+     * Auxiliary method counting the samples weakly dominated by at least one point. The work is split into chunks
+     * processed in parallel (if more than one thread is used).
+     *
+     * @param points   points (sorted according to the first objective)
+     * @param samples  samples (used when the quasi-random generator is null; otherwise, the array serves as a buffer)
+     * @param qmc      quasi-random generator (can be null)
+     * @param from     index of the first sample (inclusive)
+     * @param to       index of the last sample (exclusive)
+     * @param lb       lower bound of the sampling box
+     * @param width    widths of the sampling box
+     * @return the number of dominated samples
+     */
+    private long countDominated(double[][] points, double[][] samples, QMC qmc, int from, int to, double[] lb,
+                                double[] width)
+    {
+        int size = to - from;
+        if ((_noThreads == 1) || (size < 2 * _noThreads))
+            return countDominatedSequentially(points, samples, qmc, from, to, lb, width);
+
+        int chunk = (size + _noThreads - 1) / _noThreads;
+        LinkedList<Future<Long>> futures = new LinkedList<>();
+        for (int b = from; b < to; b += chunk)
+        {
+            int f = b;
+            int t = Math.min(to, b + chunk);
+            futures.add(_pool.submit(() -> countDominatedSequentially(points, samples, qmc, f, t, lb, width)));
+        }
+
+        long hits = 0;
+        try
+        {
+            LazyThreadPool.waitForAll(futures);
+            for (Future<Long> f : futures) hits += f.get();
+        } catch (InterruptedException e)
+        {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("The hypervolume estimation was interrupted", e);
+        } catch (ExecutionException e)
+        {
+            throw new IllegalStateException("Error occurred when estimating the hypervolume " + e.getCause(),
+                    e.getCause());
+        }
+        return hits;
+    }
+
+    /**
+     * Auxiliary method counting the samples weakly dominated by at least one point (sequential version).
+     *
+     * @param points  points (sorted according to the first objective)
+     * @param samples samples (used when the quasi-random generator is null; otherwise, the array serves as a buffer)
+     * @param qmc     quasi-random generator (can be null)
+     * @param from    index of the first sample (inclusive)
+     * @param to      index of the last sample (exclusive)
+     * @param lb      lower bound of the sampling box
+     * @param width   widths of the sampling box
+     * @return the number of dominated samples
+     */
+    private long countDominatedSequentially(double[][] points, double[][] samples, QMC qmc, int from, int to,
+                                            double[] lb, double[] width)
+    {
+        long hits = 0;
+        for (int i = from; i < to; i++)
+        {
+            double[] s = samples[i];
+            if (qmc != null)
+            {
+                qmc.fill(i, s);
+                for (int j = 0; j < _M; j++) s[j] = lb[j] + s[j] * width[j];
+            }
+            if (isDominated(points, s)) hits++;
+        }
+        return hits;
+    }
+
+    /**
+     * Checks if the sample is weakly dominated by at least one point.
+     *
+     * @param points points (sorted according to the first objective)
+     * @param s      sample
+     * @return true = the sample is dominated
+     */
+    private static boolean isDominated(double[][] points, double[] s)
+    {
+        for (double[] p : points)
+        {
+            if (p[0] > s[0]) return false; // the remaining points are worse in the first objective
+            boolean dominated = true;
+            for (int j = 1; j < s.length; j++)
+                if (p[j] > s[j])
+                {
+                    dominated = false;
+                    break;
+                }
+            if (dominated) return true;
+        }
+        return false;
+    }
+
+    /**
+     * Calculates the radical inverse of the integer in the given base (van der Corput sequence).
+     *
+     * @param k    integer
+     * @param base base
+     * @return radical inverse (in [0, 1))
+     */
+    private static double getRadicalInverse(long k, int base)
+    {
+        double inv = 1.0d / base;
+        double f = inv;
+        double r = 0.0d;
+        while (k > 0)
+        {
+            r += f * (k % base);
+            k /= base;
+            f *= inv;
+        }
+        return r;
+    }
+
+    /**
+     * Returns the first n prime numbers.
+     *
+     * @param n the number of primes
+     * @return prime numbers
+     */
+    private static int[] getPrimes(int n)
+    {
+        int[] primes = new int[n];
+        int found = 0;
+        for (int c = 2; found < n; c++)
+        {
+            boolean prime = true;
+            for (int i = 0; (i < found) && (primes[i] * primes[i] <= c); i++)
+                if (c % primes[i] == 0)
+                {
+                    prime = false;
+                    break;
+                }
+            if (prime) primes[found++] = c;
+        }
+        return primes;
+    }
+
+    /**
+     * Approximates the quantile function of the standard normal distribution (rational approximation by P.J. Acklam;
+     * relative error below 1.15E-9).
+     *
+     * @param p probability (in (0, 1))
+     * @return quantile
+     */
+    protected static double getNormalQuantile(double p)
+    {
+        double[] a = {-3.969683028665376e+01, 2.209460984245205e+02, -2.759285104469687e+02,
+                1.383577518672690e+02, -3.066479806614716e+01, 2.506628277459239e+00};
+        double[] b = {-5.447609879822406e+01, 1.615858368580409e+02, -1.556989798598866e+02,
+                6.680131188771972e+01, -1.328068155288572e+01};
+        double[] c = {-7.784894002430293e-03, -3.223964580411365e-01, -2.400758277161838e+00,
+                -2.549732539343734e+00, 4.374664141464968e+00, 2.938163982698783e+00};
+        double[] d = {7.784695709041462e-03, 3.224671290700398e-01, 2.445134137142996e+00,
+                3.754408661907416e+00};
+        double low = 0.02425d;
+        if (p <= 0.0d) return Double.NEGATIVE_INFINITY;
+        if (p >= 1.0d) return Double.POSITIVE_INFINITY;
+        if (p < low)
+        {
+            double q = Math.sqrt(-2.0d * Math.log(p));
+            return (((((c[0] * q + c[1]) * q + c[2]) * q + c[3]) * q + c[4]) * q + c[5]) /
+                    ((((d[0] * q + d[1]) * q + d[2]) * q + d[3]) * q + 1.0d);
+        }
+        if (p > 1.0d - low)
+        {
+            double q = Math.sqrt(-2.0d * Math.log(1.0d - p));
+            return -(((((c[0] * q + c[1]) * q + c[2]) * q + c[3]) * q + c[4]) * q + c[5]) /
+                    ((((d[0] * q + d[1]) * q + d[2]) * q + d[3]) * q + 1.0d);
+        }
+        double q = p - 0.5d;
+        double r = q * q;
+        return (((((a[0] * r + a[1]) * r + a[2]) * r + a[3]) * r + a[4]) * r + a[5]) * q /
+                (((((b[0] * r + b[1]) * r + b[2]) * r + b[3]) * r + b[4]) * r + 1.0d);
+    }
+
+    /**
+     * Getter for the number of samples used in the last evaluation.
+     *
+     * @return the number of samples
+     */
+    public int getLastNoSamples()
+    {
+        return _lastNoSamples;
+    }
+
+    /**
+     * Getter for the half-width of the confidence interval achieved in the last evaluation.
+     *
+     * @return half-width of the confidence interval
+     */
+    public double getLastError()
+    {
+        return _lastError;
+    }
+
+    /**
+     * Returns string representation (AHV)
+     *
+     * @return "AHV"
+     */
+    @Override
+    public String toString()
+    {
+        return "AHV";
+    }
+
+    /**
+     * Creates a cloned object in an initial state. The parameters are not deep-copies (references are passed). The
+     * exceptions are the random number generator, which is derived by the clone from the seed of the evaluated EA's
+     * generator (see {@link #evaluate(IEA)}), and the thread pool, which is not shared unless the executor is provided
+     * via the params container. The method does not modify the state of this object, so the clones can be created concurrently.
+     *
+     * @return cloning
+     */
+    @Override
+    public IPerformanceIndicator getInstanceInInitialState()
+    {
+        Params pAHV = new Params(_M, _normalizations, _rp, null);
+        pAHV._sampling = _sampling;
+        pAHV._maxError = _maxError;
+        pAHV._confidence = _confidence;
+        pAHV._minSamples = _minSamples;
+        pAHV._maxSamples = _maxSamples;
+        pAHV._samplesPerRound = _samplesPerRound;
+        pAHV._noThreads = _noThreads;
+        pAHV._executor = _providedExecutor;
+        return new ApproximateHV(pAHV, _referenceR);
+    }
+}
@@ -1,17 +1,28 @@
 package indicator.emo;
 
+import indicator.IIncrementalPerformanceIndicator;
 import indicator.IPerformanceIndicator;
 import population.Specimen;
 import space.distance.IDistance;
+import space.nn.NearestNeighbourSearch;
 import java.util.ArrayList;
+import java.util.IdentityHashMap;
 /**
  * Implementation of the Generational Distance indicator. This implementation quantifies distances to the PF based on
- * the provided set of reference Pareto optimal solutions. Thus, the obtained results are approximations.
+ * the provided set of reference Pareto optimal solutions. Thus, the obtained results are approximations. The indicator
+ * can be updated incrementally (see {@link IIncrementalPerformanceIndicator}): the distances of the specimens are
+ * cached, and only those of the inserted specimens are determined.
  *
  * @author MTomczyk
  */
-public class GD extends AbstractReferenceSetBased implements IPerformanceIndicator
+public class GD extends AbstractReferenceSetBased implements IIncrementalPerformanceIndicator
 {
+    /**
+     * Distances between the specimens evaluated in the previous call and their closest reference points (used by
+     * the incremental updates).
+     */
+    private IdentityHashMap<Specimen, Double> _distances = new IdentityHashMap<>();
+
     /**
      * Parameterized constructor.
      *
@@ -23,6 +34,31 @@ public class GD extends AbstractReferenceSetBased implements IPerformanceIndicat
         super(distance, referenceSet);
     }
 
+    /**
+     * Parameterized constructor.
+     *
+     * @param distance     distance function employed
+     * @param referenceSet reference set employed
+     * @param search       method used for the nearest neighbour search (the index is built once over the reference
+     *                     set and shared with clones)
+     * @param noThreads    the number of threads used for processing nearest neighbour queries
+     */
+    public GD(IDistance distance, double[][] referenceSet, NearestNeighbourSearch search, int noThreads)
+    {
+        super(distance, referenceSet, search, noThreads);
+    }
+
+    /**
+     * Constructor that copies the parameters of the provided indicator (the index built over the reference set is
+     * shared).
+     *
+     * @param gd indicator whose parameters are copied
+     */
+    private GD(GD gd)
+    {
+        super(gd);
+    }
+
     /**
      * Method that calculated the generational distance value.
      *
@@ -32,20 +68,43 @@ public class GD extends AbstractReferenceSetBased implements IPerformanceIndicat
     @Override
     protected double evaluate(ArrayList<Specimen> population)
     {
+        double[][] evaluations = new double[population.size()][];
+        for (int i = 0; i < population.size(); i++) evaluations[i] = population.get(i).getEvaluations();
+
+        // for each solution, find the closest reference point
+        double[] distances = getNearestDistances(_referenceSet, getReferenceSetIndex(), evaluations);
+        _distances = new IdentityHashMap<>(2 * population.size());
+        for (int i = 0; i < population.size(); i++) _distances.put(population.get(i), distances[i]);
         double sum = 0.0d;
+        for (double d : distances) sum += d;
+
+        return sum / population.size();
+    }
 
-        for (Specimen s : population) // for each solution
+    /**
+     * Updates the generational distance value (only the distances of the inserted specimens are determined).
+     *
+     * @param population current population
+     * @param inserted   specimens present in the current population but not in the previously evaluated one
+     * @param removed    specimens present in the previously evaluated population but not in the current one
+     * @return performance value (or NaN if the update is not possible)
+     */
+    @Override
+    public double update(ArrayList<Specimen> population, ArrayList<Specimen> inserted, ArrayList<Specimen> removed)
+    {
+        for (Specimen s : removed) _distances.remove(s);
+        double[][] evaluations = new double[inserted.size()][];
+        for (int i = 0; i < inserted.size(); i++) evaluations[i] = inserted.get(i).getEvaluations();
+        double[] distances = getNearestDistances(_referenceSet, getReferenceSetIndex(), evaluations);
+        for (int i = 0; i < inserted.size(); i++) _distances.put(inserted.get(i), distances[i]);
+
+        double sum = 0.0d; // summed in the population order (as in the full calculation)
+        for (Specimen s : population)
         {
-            double[] e = s.getEvaluations();
-            double bestDistance = Double.POSITIVE_INFINITY; // find the closes reference point
-            for (double[] rp : _referenceSet)
-            {
-                double distance = _distance.getDistance(e, rp);
-                if (Double.compare(distance, bestDistance) < 0) bestDistance = distance;
-            }
-            sum += bestDistance;
+            Double d = _distances.get(s);
+            if (d == null) return Double.NaN;
+            sum += d;
         }
-
         return sum / population.size();
     }
 
@@ -63,13 +122,14 @@ public class GD extends AbstractReferenceSetBased implements IPerformanceIndicat
 
     /**
      * Creates a cloned object in an initial state.
-     * The distance function and the reference sets are not copied (references are passed)
+     * The distance function and the reference sets are not copied (references are passed; the index built over the
+     * reference set is shared)
      *
      * @return cloning
      */
     @Override
     public IPerformanceIndicator getInstanceInInitialState()
     {
-        return new GD(_distance, _referenceSet);
+        return new GD(this);
     }
 }
@@ -2,7 +2,12 @@ package indicator.emo;
 
 import criterion.Criteria;
 import indicator.AbstractPerformanceIndicator;
+import indicator.IIncrementalPerformanceIndicator;
 import indicator.IPerformanceIndicator;
+import indicator.emo.hv.FastWFG;
+import indicator.emo.hv.HV2D;
+import indicator.emo.hv.HV3D;
+import indicator.emo.hv.IHypervolume;
 import population.Specimen;
 import relation.dominance.DominanceUtils;
 import relation.equalevaluations.EqualEvaluationsUtils;
@@ -10,6 +15,9 @@ import space.normalization.INormalization;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
 
 
 /**
@@ -18,11 +26,17 @@ import java.util.Arrays;
  * The scaling (i.e., mapping specimens into a hypercube) is controlled by provided normalization objects
  * ({@link INormalization}, each for a different objective. It is assumed that all the objectives
  * are to be minimized, and the 0-vector represents the best attainable objective vector. In turn, the R-vector is the
- * upper bound, i.e., the reference point used for hypervolume calculation.
+ * upper bound, i.e., the reference point used for hypervolume calculation. The indicator can be updated incrementally
+ * (see {@link IIncrementalPerformanceIndicator}; only for {@link PolicyForNonDominating#IGNORE}): the previous value is
+ * reused when each inserted and each removed point is weakly dominated by some point retained in the population (the
+ * dominated region does not change then); otherwise, the value is calculated from scratch. The data needed for the
+ * updates (normalized evaluations of the evaluated specimens) is stored only after the first update request (the first
+ * request is thus rejected, and the value is calculated from scratch), so that the non-incremental use of the
+ * indicator does not pay for it. The data is not shared with the clones (see {@link #getInstanceInInitialState()}).
  *
  * @author MTomczyk
  */
-public class HV extends AbstractPerformanceIndicator implements IPerformanceIndicator
+public class HV extends AbstractPerformanceIndicator implements IIncrementalPerformanceIndicator
 {
     /**
      * Policies for contribution assessment for normalized points that do not dominate the reference point.
@@ -40,6 +54,28 @@ public class HV extends AbstractPerformanceIndicator implements IPerformanceIndi
         NO_POLICY,
     }
 
+    /**
+     * Algorithms for calculating the hypervolume.
+     */
+    public enum Algorithm
+    {
+        /**
+         * The original recursive WFG implementation (see {@link HV#wfg(double[][])}).
+         */
+        REFERENCE_WFG,
+
+        /**
+         * WFG with slicing and pooled buffers (see {@link FastWFG}).
+         */
+        FAST_WFG,
+
+        /**
+         * Dimension-specialized algorithms: the sweep for two objectives (see {@link HV2D}), the O(N log N) dimension
+         * sweep for three objectives (see {@link HV3D}), and {@link FastWFG} otherwise (recommended).
+         */
+        AUTO,
+    }
+
     /**
      * Params container.
      */
@@ -92,6 +128,15 @@ public class HV extends AbstractPerformanceIndicator implements IPerformanceIndi
          */
         public double _toleranceDuplicates;
 
+        /**
+         * Algorithm used for calculating the hypervolume. The algorithms other than {@link Algorithm#REFERENCE_WFG}
+         * are used only when the policy for non-dominating points is {@link PolicyForNonDominating#IGNORE} and the
+         * number of objectives is at least 2 (otherwise, the reference implementation is run). These algorithms do not
+         * require the point set to be non-dominated nor presorted ({@link Params#_deriveNonDominatedSet} and
+         * {@link Params#_presorting} flags are ignored).
+         */
+        public Algorithm _algorithm = Algorithm.AUTO;
+
         /**
          * Parameterized constructor (tuned to derive non-dominated solutions).
          *
@@ -209,6 +254,28 @@ public class HV extends AbstractPerformanceIndicator implements IPerformanceIndi
      */
     private final Criteria _nCriteria;
 
+    /**
+     * Algorithm used for calculating the hypervolume.
+     */
+    private final Algorithm _algorithm;
+
+    /**
+     * If true, the incremental updates were requested (see {@link #update(ArrayList, ArrayList, ArrayList)}), and the
+     * normalized evaluations are stored when evaluating.
+     */
+    private boolean _incremental = false;
+
+    /**
+     * Normalized evaluations of the specimens evaluated in the previous call (used by the incremental updates; null =
+     * not initialized or not used).
+     */
+    private IdentityHashMap<Specimen, double[]> _normalized = null;
+
+    /**
+     * Value calculated in the previous call.
+     */
+    private double _lastValue = 0.0d;
+
     /**
      * Parameterized constructor.
      *
@@ -230,6 +297,7 @@ public class HV extends AbstractPerformanceIndicator implements IPerformanceIndi
         _deriveUniqueSpecimens = p._deriveUniqueSpecimens;
         _deriveNonDominatedSet = p._deriveNonDominatedSet;
         _toleranceDuplicates = p._toleranceDuplicates;
+        _algorithm = p._algorithm;
         _nCriteria = Criteria.constructCriteria("nC", _M, false);
     }
 
@@ -242,6 +310,102 @@ public class HV extends AbstractPerformanceIndicator implements IPerformanceIndi
      */
     @Override
     protected double evaluate(ArrayList<Specimen> population)
+    {
+        if ((_incremental) && (_policyForNonDominating.equals(PolicyForNonDominating.IGNORE)))
+            _normalized = new IdentityHashMap<>(2 * population.size());
+        else _normalized = null;
+        _lastValue = calculate(population);
+        return _lastValue;
+    }
+
+    /**
+     * Updates the hypervolume value. The previous value is returned if each inserted and each removed point is weakly
+     * dominated by some point retained in the population; otherwise, the value is calculated from scratch. The first
+     * request only enables storing the data needed for the updates (NaN is returned).
+     *
+     * @param population current population
+     * @param inserted   specimens present in the current population but not in the previously evaluated one
+     * @param removed    specimens present in the previously evaluated population but not in the current one
+     * @return performance value (or NaN if the update is not possible)
+     */
+    @Override
+    public double update(ArrayList<Specimen> population, ArrayList<Specimen> inserted, ArrayList<Specimen> removed)
+    {
+        if (!_policyForNonDominating.equals(PolicyForNonDominating.IGNORE)) return Double.NaN;
+        _incremental = true;
+        if (_normalized == null) return Double.NaN;
+
+        ArrayList<double[]> changed = new ArrayList<>(inserted.size() + removed.size());
+        for (Specimen s : removed)
+        {
+            double[] e = _normalized.remove(s);
+            if (e == null) return Double.NaN;
+            changed.add(e);
+        }
+        for (Specimen s : inserted)
+        {
+            double[] e = getNormalized(s);
+            _normalized.put(s, e);
+            changed.add(e);
+        }
+
+        Set<Specimen> insertedSet = Collections.newSetFromMap(new IdentityHashMap<>(2 * inserted.size()));
+        insertedSet.addAll(inserted);
+        for (double[] e : changed)
+        {
+            boolean dominated = false;
+            for (Specimen s : population)
+            {
+                if (insertedSet.contains(s)) continue;
+                double[] r = _normalized.get(s);
+                if (r == null) return Double.NaN;
+                if (isWeaklyDominating(r, e))
+                {
+                    dominated = true;
+                    break;
+                }
+            }
+            if (!dominated) return evaluate(population);
+        }
+        return _lastValue;
+    }
+
+    /**
+     * Auxiliary method checking if the first vector weakly dominates the second one (exact comparisons).
+     *
+     * @param a the first vector
+     * @param b the second vector
+     * @return true, if a is not worse than b on all objectives
+     */
+    private boolean isWeaklyDominating(double[] a, double[] b)
+    {
+        for (int j = 0; j < _M; j++)
+            if (!(a[j] <= b[j])) return false;
+        return true;
+    }
+
+    /**
+     * Auxiliary method returning the normalized evaluations of the specimen.
+     *
+     * @param specimen specimen
+     * @return normalized evaluations (copy)
+     */
+    private double[] getNormalized(Specimen specimen)
+    {
+        double[] e = specimen.getEvaluations().clone();
+        if (_normalizations != null)
+            for (int j = 0; j < _M; j++) e[j] = _normalizations[j].getNormalized(e[j]);
+        return e;
+    }
+
+    /**
+     * Auxiliary method calculating the hypervolume (the normalized evaluations are stored for the incremental updates,
+     * if used).
+     *
+     * @param population input population
+     * @return performance value
+     */
+    private double calculate(ArrayList<Specimen> population)
     {
         // create raw solution set
         double[][] S;
@@ -250,15 +414,25 @@ public class HV extends AbstractPerformanceIndicator implements IPerformanceIndi
         S = new double[population.size()][];
         for (int i = 0; i < population.size(); i++)
         {
-            S[i] = population.get(i).getEvaluations().clone();
-            if (_normalizations != null)
-                for (int j = 0; j < _M; j++) S[i][j] = _normalizations[j].getNormalized(S[i][j]);
+            S[i] = getNormalized(population.get(i));
+            if (_normalized != null) _normalized.put(population.get(i), S[i]);
         }
 
         // Optionally, derive unique specimens
         if (_deriveUniqueSpecimens)
             S = EqualEvaluationsUtils.removeDuplicates(S, _toleranceDuplicates);
 
+        // use the dedicated algorithms (they handle dominated points)
+        if ((_algorithm != Algorithm.REFERENCE_WFG) && (_M > 1)
+                && (_policyForNonDominating.equals(PolicyForNonDominating.IGNORE)))
+        {
+            int valid = 0;
+            for (double[] s : S)
+                if (DominanceUtils.isGoodAtLeastAs(s, _rp, _nCriteria)) S[valid++] = s;
+            if (valid == 0) return 0.0d;
+            return getHypervolumeAlgorithm().getHypervolume(valid == S.length ? S : Arrays.copyOf(S, valid), _rp);
+        }
+
         // optionally derive non-dominated
         if (_deriveNonDominatedSet)
             S = DominanceUtils.getNonDominatedVectors(S, _nCriteria);
@@ -282,6 +456,23 @@ public class HV extends AbstractPerformanceIndicator implements IPerformanceIndi
         }
     }
 
+    /**
+     * Auxiliary method instantiating the algorithm used for calculating the hypervolume (other than the reference
+     * WFG). A new object is constructed for each calculation, so the (reusable) buffers of the algorithm are not
+     * shared between the calls.
+     *
+     * @return the algorithm
+     */
+    private IHypervolume getHypervolumeAlgorithm()
+    {
+        if (_algorithm == Algorithm.AUTO)
+        {
+            if (_M == 2) return new HV2D();
+            if (_M == 3) return new HV3D();
+        }
+        return new FastWFG();
+    }
+
     /**
      * Te main WFG procedure.
      *
@@ -381,6 +572,7 @@ public class HV extends AbstractPerformanceIndicator implements IPerformanceIndi
         pHV._deriveUniqueSpecimens = _deriveUniqueSpecimens;
         pHV._deriveNonDominatedSet = _deriveNonDominatedSet;
         pHV._toleranceDuplicates = _toleranceDuplicates;
+        pHV._algorithm = _algorithm;
         return new HV(pHV);
     }
 }
@@ -1,22 +1,41 @@
 package indicator.emo;
 
+import indicator.IIncrementalPerformanceIndicator;
 import indicator.IPerformanceIndicator;
 import population.Specimen;
 import space.distance.IDistance;
+import space.nn.NearestNeighbourSearch;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
 
 
 /**
  * Implementation of the Inverted Generational Distance indicator. This implementation quantifies distances to the PF
- * based on the provided set of reference Pareto optimal solutions. Thus, the obtained results are approximations.
+ * based on the provided set of reference Pareto optimal solutions. Thus, the obtained results are approximations. The
+ * indicator can be updated incrementally (see {@link IIncrementalPerformanceIndicator}): the closest specimen of each
+ * reference point is stored, the inserted specimens are compared with the reference points, and the nearest neighbour
+ * search is run only for the reference points whose closest specimens were removed.
  *
  * @author MTomczyk
  */
 
 
-public class IGD extends AbstractReferenceSetBased implements IPerformanceIndicator
+public class IGD extends AbstractReferenceSetBased implements IIncrementalPerformanceIndicator
 {
+    /**
+     * Distances between the reference points and their closest specimens (determined in the previous call; used by
+     * the incremental updates).
+     */
+    private double[] _distances = null;
+
+    /**
+     * The closest specimens of the reference points (determined in the previous call; used by the incremental updates).
+     */
+    private Specimen[] _closest = null;
+
     /**
      * Parameterized constructor.
      *
@@ -28,6 +47,29 @@ public class IGD extends AbstractReferenceSetBased implements IPerformanceIndica
         super(distance, referenceSet);
     }
 
+    /**
+     * Parameterized constructor.
+     *
+     * @param distance     distance function employed
+     * @param referenceSet reference set employed
+     * @param search       method used for the nearest neighbour search (the index is built over the population)
+     * @param noThreads    the number of threads used for processing nearest neighbour queries
+     */
+    public IGD(IDistance distance, double[][] referenceSet, NearestNeighbourSearch search, int noThreads)
+    {
+        super(distance, referenceSet, search, noThreads);
+    }
+
+    /**
+     * Constructor that copies the parameters of the provided indicator.
+     *
+     * @param igd indicator whose parameters are copied
+     */
+    private IGD(IGD igd)
+    {
+        super(igd);
+    }
+
     /**
      * Method that calculated the inverted generational distance value (tobe minimized).
      *
@@ -37,19 +79,85 @@ public class IGD extends AbstractReferenceSetBased implements IPerformanceIndica
     @Override
     protected double evaluate(ArrayList<Specimen> population)
     {
-        double sum = 0.0d;
+        double[][] evaluations = new double[population.size()][];
+        for (int i = 0; i < population.size(); i++) evaluations[i] = population.get(i).getEvaluations();
 
-        for (double[] rp : _referenceSet) // for each reference point
+        // for each reference point, find the closest specimen
+        int[] nearest = new int[_referenceSet.length];
+        _distances = getNearestDistances(evaluations, _search.getInstance(evaluations, _distance, true),
+                _referenceSet, nearest, true);
+        _closest = new Specimen[_referenceSet.length];
+        for (int r = 0; r < _referenceSet.length; r++)
+            if (nearest[r] != -1) _closest[r] = population.get(nearest[r]);
+        return getValue();
+    }
+
+    /**
+     * Updates the inverted generational distance value. The inserted specimens are compared with all the reference
+     * points (hence, the value is calculated from scratch if the number of inserted specimens is not small), and the
+     * closest specimens are searched for only for the reference points whose closest specimens were removed.
+     *
+     * @param population current population
+     * @param inserted   specimens present in the current population but not in the previously evaluated one
+     * @param removed    specimens present in the previously evaluated population but not in the current one
+     * @return performance value (or NaN if the update is not possible)
+     */
+    @Override
+    public double update(ArrayList<Specimen> population, ArrayList<Specimen> inserted, ArrayList<Specimen> removed)
+    {
+        if (_distances == null) return Double.NaN;
+        if (inserted.size() > 32 - Integer.numberOfLeadingZeros(population.size())) return evaluate(population);
+
+        Set<Specimen> removedSet = Collections.newSetFromMap(new IdentityHashMap<>(2 * removed.size()));
+        removedSet.addAll(removed);
+
+        int affected = 0;
+        int[] queries = new int[_referenceSet.length];
+        for (int r = 0; r < _referenceSet.length; r++)
+        {
+            if ((_closest[r] == null) || (removedSet.contains(_closest[r])))
+            {
+                queries[affected++] = r;
+                continue;
+            }
+            for (Specimen s : inserted)
+            {
+                double d = _distance.getDistance(s.getEvaluations(), _referenceSet[r]);
+                if (Double.compare(d, _distances[r]) < 0)
+                {
+                    _distances[r] = d;
+                    _closest[r] = s;
+                }
+            }
+        }
+
+        if (affected > 0)
         {
-            double bestDistance = Double.POSITIVE_INFINITY; // find the closes specimen
-            for (Specimen s : population)
+            double[][] evaluations = new double[population.size()][];
+            for (int i = 0; i < population.size(); i++) evaluations[i] = population.get(i).getEvaluations();
+            double[][] q = new double[affected][];
+            for (int i = 0; i < affected; i++) q[i] = _referenceSet[queries[i]];
+            int[] nearest = new int[affected];
+            double[] distances = getNearestDistances(evaluations, _search.getInstance(evaluations, _distance, true),
+                    q, nearest, true);
+            for (int i = 0; i < affected; i++)
             {
-                double distance = _distance.getDistance(s.getEvaluations(), rp);
-                if (Double.compare(distance, bestDistance) < 0) bestDistance = distance;
+                _distances[queries[i]] = distances[i];
+                _closest[queries[i]] = nearest[i] == -1 ? null : population.get(nearest[i]);
             }
-            sum += bestDistance;
         }
+        return getValue();
+    }
 
+    /**
+     * Auxiliary method calculating the indicator value from the stored distances.
+     *
+     * @return performance value
+     */
+    private double getValue()
+    {
+        double sum = 0.0d;
+        for (double d : _distances) sum += d;
         return sum / _referenceSet.length;
     }
 
@@ -73,6 +181,6 @@ public class IGD extends AbstractReferenceSetBased implements IPerformanceIndica
     @Override
     public IPerformanceIndicator getInstanceInInitialState()
     {
-        return new IGD(_distance, _referenceSet);
+        return new IGD(this);
     }
 }
@@ -0,0 +1,198 @@
+package indicator.emo.hv;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Implementation of the WFG algorithm for the exact hypervolume calculation (see While, L., Bradstreet, L., Barone,
+ * L.: A Fast Way of Calculating Exact Hypervolumes, IEEE Transactions on Evolutionary Computation 16(1), 2012) that
+ * employs slicing and pooled buffers. At each recursion level, the points are sorted according to the last considered
+ * objective, and the hypervolume is computed as a sum of the exclusive contributions of the points in the remaining
+ * objectives, weighted by their distances to the reference point in the last objective (one objective less per
+ * recursion level). The limit sets (points bounded by the currently processed one) are stored in buffers allocated
+ * once per recursion level and reused (no allocations during the calculations, apart from the buffers' growth), and
+ * they are reduced to their non-dominated subsets. Two-objective subproblems are solved using a sweep (see
+ * {@link HV2D}). The object is not thread-safe (the buffers are shared between calls).
+ *
+ * @author MTomczyk
+ */
+public class FastWFG implements IHypervolume
+{
+    /**
+     * Buffers for the limit sets (the first index corresponds to the recursion level).
+     */
+    private double[][][] _pool = new double[0][][];
+
+    /**
+     * Comparators sorting points according to the selected objective (ascending order).
+     */
+    private List<Comparator<double[]>> _comparators = null;
+
+    /**
+     * Calculates the hypervolume (see {@link IHypervolume#getHypervolume(double[][], double[])}).
+     *
+     * @param points points (each row is one point)
+     * @param rp     reference point (its length determines the number of objectives)
+     * @return hypervolume
+     */
+    @Override
+    public double getHypervolume(double[][] points, double[] rp)
+    {
+        int m = rp.length;
+        int n = points.length;
+        if (n == 0) return 0.0d;
+        if (m == 1)
+        {
+            double min = rp[0];
+            for (double[] p : points) min = Math.min(min, p[0]);
+            return rp[0] - min;
+        }
+        prepare(n, m);
+        return hv(points, n, m, 0, rp);
+    }
+
+    /**
+     * Auxiliary method that prepares the buffers and comparators.
+     *
+     * @param n the number of points
+     * @param m the number of objectives
+     */
+    private void prepare(int n, int m)
+    {
+        if (_comparators == null) _comparators = new ArrayList<>(m);
+        for (int j = _comparators.size(); j < m; j++)
+        {
+            int o = j;
+            _comparators.add((p1, p2) -> Double.compare(p1[o], p2[o]));
+        }
+
+        if (_pool.length < m) _pool = Arrays.copyOf(_pool, m);
+        for (int l = 1; l < m; l++)
+        {
+            if ((_pool[l] == null) || (_pool[l].length < n) || (_pool[l][0].length < m))
+            {
+                _pool[l] = new double[n][m];
+            }
+        }
+    }
+
+    /**
+     * Calculates the hypervolume of the first n points in the first m objectives.
+     *
+     * @param points points
+     * @param n      the number of points to consider
+     * @param m      the number of objectives to consider
+     * @param level  recursion level
+     * @param rp     reference point
+     * @return hypervolume
+     */
+    private double hv(double[][] points, int n, int m, int level, double[] rp)
+    {
+        if (n == 0) return 0.0d;
+        if (m == 2) return HV2D.getHypervolume(points, n, rp);
+        if (n == 1)
+        {
+            double v = 1.0d;
+            for (int j = 0; j < m; j++) v *= rp[j] - points[0][j];
+            return v;
+        }
+
+        int d = m - 1;
+        Arrays.sort(points, 0, n, _comparators.get(d));
+        double volume = 0.0d;
+        for (int i = 0; i < n; i++)
+        {
+            double h = rp[d] - points[i][d];
+            if (Double.compare(h, 0.0d) == 0) continue;
+            volume += h * exclhv(points, i, d, level, rp);
+        }
+        return volume;
+    }
+
+    /**
+     * Calculates the exclusive hypervolume of the i-th point (in the first m objectives) with respect to the points that
+     * precede it in the array.
+     *
+     * @param points points
+     * @param i      index of the processed point
+     * @param m      the number of objectives to consider
+     * @param level  recursion level
+     * @param rp     reference point
+     * @return exclusive hypervolume
+     */
+    private double exclhv(double[][] points, int i, int m, int level, double[] rp)
+    {
+        double[] p = points[i];
+        double volume = 1.0d;
+        for (int j = 0; j < m; j++) volume *= rp[j] - p[j];
+        if ((i == 0) || (Double.compare(volume, 0.0d) == 0)) return volume;
+
+        double[][] ls = _pool[level + 1];
+        int size = 0;
+        for (int t = 0; t < i; t++)
+        {
+            double[] q = points[t];
+            double[] l = ls[size];
+            for (int j = 0; j < m; j++) l[j] = Math.max(q[j], p[j]);
+
+            // the candidate is skipped if dominated by (or equal to) any point already in the limit set; the points it
+            // dominates are removed (swapped beyond the limit set's size)
+            int cp = size;
+            boolean dominated = false;
+            int k = 0;
+            while (k < size)
+            {
+                int c = compare(ls[k], l, m);
+                if (c <= 0)
+                {
+                    dominated = true;
+                    break;
+                }
+                if (c == 2) swap(ls, k, --size);
+                else k++;
+            }
+            if (!dominated) swap(ls, cp, size++);
+        }
+        return volume - hv(ls, size, m, level + 1, rp);
+    }
+
+    /**
+     * Auxiliary method swapping two rows of the buffer.
+     *
+     * @param ls buffer
+     * @param a  the first row index
+     * @param b  the second row index
+     */
+    private static void swap(double[][] ls, int a, int b)
+    {
+        double[] tmp = ls[a];
+        ls[a] = ls[b];
+        ls[b] = tmp;
+    }
+
+    /**
+     * Auxiliary method comparing two points in the first m objectives.
+     *
+     * @param a the first point
+     * @param b the second point
+     * @param m the number of objectives to consider
+     * @return -1 if a dominates b, 0 if the points are equal, 2 if b dominates a, 1 otherwise
+     */
+    private static int compare(double[] a, double[] b, int m)
+    {
+        boolean aBetter = false;
+        boolean bBetter = false;
+        for (int j = 0; j < m; j++)
+        {
+            int c = Double.compare(a[j], b[j]);
+            if (c < 0) aBetter = true;
+            else if (c > 0) bBetter = true;
+            if ((aBetter) && (bBetter)) return 1;
+        }
+        if (aBetter) return -1;
+        if (bBetter) return 2;
+        return 0;
+    }
+}
@@ -0,0 +1,54 @@
+package indicator.emo.hv;
+
+import java.util.Arrays;
+
+/**
+ * Exact hypervolume calculation dedicated to bi-objective problems (O(N log N)). The points are sorted according to
+ * the first objective, and the dominated region is swept as a sum of rectangles.
+ *
+ * @author MTomczyk
+ */
+public class HV2D implements IHypervolume
+{
+    /**
+     * Calculates the hypervolume (see {@link IHypervolume#getHypervolume(double[][], double[])}).
+     *
+     * @param points points (each row is one point; only the first two coordinates are considered)
+     * @param rp     reference point
+     * @return hypervolume
+     */
+    @Override
+    public double getHypervolume(double[][] points, double[] rp)
+    {
+        return getHypervolume(points, points.length, rp);
+    }
+
+    /**
+     * Calculates the hypervolume of the first n points stored in the array.
+     *
+     * @param points points (each row is one point; only the first two coordinates are considered)
+     * @param n      the number of points to consider
+     * @param rp     reference point
+     * @return hypervolume
+     */
+    public static double getHypervolume(double[][] points, int n, double[] rp)
+    {
+        Arrays.sort(points, 0, n, (o1, o2) -> {
+            int c = Double.compare(o1[0], o2[0]);
+            if (c != 0) return c;
+            return Double.compare(o1[1], o2[1]);
+        });
+        double volume = 0.0d;
+        double y = rp[1];
+        for (int i = 0; i < n; i++)
+        {
+            double[] p = points[i];
+            if (Double.compare(p[1], y) < 0)
+            {
+                volume += (rp[0] - p[0]) * (y - p[1]);
+                y = p[1];
+            }
+        }
+        return volume;
+    }
+}
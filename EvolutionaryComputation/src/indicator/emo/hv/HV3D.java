@@ -0,0 +1,81 @@
+package indicator.emo.hv;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Exact hypervolume calculation dedicated to three-objective problems (O(N log N); see Beume, N., Fonseca, C.M.,
+ * Lopez-Ibanez, M., Paquete, L., Vahrenhold, J.: On the Complexity of Computing the Hypervolume Indicator, IEEE
+ * Transactions on Evolutionary Computation 13(5), 2009). The points are processed in ascending order of the third
+ * objective. The non-dominated staircase of the already processed points (projected onto the first two objectives) is
+ * stored in a balanced search tree, and the area it dominates is updated incrementally; the volume is the sum of slabs
+ * (area x thickness in the third objective).
+ *
+ * @author MTomczyk
+ */
+public class HV3D implements IHypervolume
+{
+    /**
+     * Calculates the hypervolume (see {@link IHypervolume#getHypervolume(double[][], double[])}).
+     *
+     * @param points points (each row is one point; only the first three coordinates are considered)
+     * @param rp     reference point
+     * @return hypervolume
+     */
+    @Override
+    public double getHypervolume(double[][] points, double[] rp)
+    {
+        int n = points.length;
+        if (n == 0) return 0.0d;
+        Arrays.sort(points, (o1, o2) -> Double.compare(o1[2], o2[2]));
+
+        TreeMap<Double, Double> front = new TreeMap<>(); // x -> y (y decreases as x increases)
+        double area = 0.0d;
+        double volume = 0.0d;
+
+        for (int i = 0; i < n; i++)
+        {
+            double[] p = points[i];
+            area += insert(front, p[0], p[1], rp);
+            double next = i + 1 < n ? points[i + 1][2] : rp[2];
+            volume += area * (next - p[2]);
+        }
+        return volume;
+    }
+
+    /**
+     * Auxiliary method that inserts the point into the staircase (the points it dominates are removed).
+     *
+     * @param front staircase (x -> y)
+     * @param x     the first coordinate
+     * @param y     the second coordinate
+     * @param rp    reference point
+     * @return the increase in the dominated area
+     */
+    private static double insert(TreeMap<Double, Double> front, double x, double y, double[] rp)
+    {
+        Map.Entry<Double, Double> left = front.floorEntry(x);
+        if ((left != null) && (Double.compare(left.getValue(), y) <= 0)) return 0.0d; // dominated
+
+        Map.Entry<Double, Double> pred = front.lowerEntry(x);
+        double h = pred == null ? rp[1] : pred.getValue(); // the current height of the staircase at x
+        double cx = x;
+        double delta = 0.0d;
+
+        Map.Entry<Double, Double> s = front.ceilingEntry(x);
+        while (s != null)
+        {
+            delta += (s.getKey() - cx) * (h - y);
+            if (Double.compare(s.getValue(), y) < 0) break;
+            cx = s.getKey();
+            h = s.getValue();
+            front.remove(s.getKey());
+            s = front.higherEntry(cx);
+        }
+        if (s == null) delta += (rp[0] - cx) * (h - y);
+
+        front.put(x, y);
+        return delta;
+    }
+}
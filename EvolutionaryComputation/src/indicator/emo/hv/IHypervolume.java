@@ -0,0 +1,21 @@
+package indicator.emo.hv;
+
+/**
+ * Interface for algorithms calculating the exact hypervolume of a point set (all objectives are to be minimized).
+ *
+ * @author MTomczyk
+ */
+public interface IHypervolume
+{
+    /**
+     * Calculates the hypervolume of the region dominated by the points and bounded by the reference point. The points
+     * are assumed not to exceed the reference point in any dimension (points equal to the reference point in some
+     * dimension contribute nothing). The point set does not have to be non-dominated (dominated points and duplicates
+     * do not contribute). The input array can be reordered by the method, but the points are not modified.
+     *
+     * @param points points (each row is one point)
+     * @param rp     reference point
+     * @return hypervolume
+     */
+    double getHypervolume(double[][] points, double[] rp);
+}
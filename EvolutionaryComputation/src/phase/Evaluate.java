@@ -75,4 +75,13 @@ public class Evaluate extends AbstractEvaluatePhase implements IPhase
             ea.getSpecimensContainer().incrementPerformedFunctionEvaluations(offspring.size());
         }
     }
+
+    /**
+     * Disposes the evaluator.
+     */
+    @Override
+    public void dispose()
+    {
+        _evaluate.dispose();
+    }
 }
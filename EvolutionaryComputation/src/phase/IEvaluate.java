@@ -28,4 +28,13 @@ public interface IEvaluate
      * @throws PhaseException the exception can be thrown 
      */
     void evaluateSpecimens(ArrayList<Specimen> specimens) throws PhaseException;
+
+    /**
+     * Releases the resources held by the evaluator (e.g., thread pools). Called when the EA is disposed (see
+     * {@link IPhase#dispose()}). The default implementation does nothing.
+     */
+    default void dispose()
+    {
+
+    }
 }
@@ -27,4 +27,13 @@ public interface IPhase
      * @return name
      */
     String getName();
+
+    /**
+     * Releases the resources held by the phase (e.g., thread pools). Called when the EA is disposed (see
+     * {@link AbstractPhasesEA#dispose()}). The default implementation does nothing.
+     */
+    default void dispose()
+    {
+
+    }
 }
@@ -0,0 +1,244 @@
+package phase;
+
+import exception.PhaseException;
+import population.Specimen;
+import thread.LazyThreadPool;
+import thread.Partitioner;
+
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+/**
+ * Implementation of {@link IEvaluate} that wraps another (base) evaluator and runs it in parallel. The input list of
+ * specimens is split into contiguous chunks; each chunk is evaluated by the base evaluator as an independent task
+ * submitted to an executor. The method returns after all the chunks are processed. The specimens are never reordered
+ * and each specimen is evaluated exactly once, hence the results (and the number of performed function evaluations
+ * counted by {@link Evaluate}) do not depend on the number of threads used. IMPORTANT NOTE: the base evaluator must be
+ * thread-safe, i.e., it should not use any shared mutable state (e.g., a shared scratch array or a random number
+ * generator) when evaluating specimens. The default evaluators (e.g., {@link DoubleEvaluate} wrapping the DTLZ or WFG
+ * objective functions) satisfy this requirement.
+ *
+ * @author MTomczyk
+ */
+public class ParallelEvaluate implements IEvaluate
+{
+    /**
+     * Params container.
+     */
+    public static class Params
+    {
+        /**
+         * Base evaluator (must be thread-safe).
+         */
+        public IEvaluate _evaluate;
+
+        /**
+         * The number of threads used. If the executor is not provided ({@link Params#_executor} is null), a fixed
+         * thread pool of this size is constructed. If chunk size is not specified ({@link Params#_chunkSize} less than
+         * 1), the specimens are split into (at most) this many chunks of (approximately) equal sizes.
+         */
+        public int _noThreads = Runtime.getRuntime().availableProcessors();
+
+        /**
+         * Chunk size (the number of specimens evaluated in one task). If less than 1, the chunks are derived based on
+         * the number of threads (see {@link Params#_noThreads}). Smaller chunks improve the load balancing when the
+         * evaluation times vary significantly among the specimens.
+         */
+        public int _chunkSize = 0;
+
+        /**
+         * Optional executor used to run tasks (e.g., a {@link java.util.concurrent.ForkJoinPool}). If null, a
+         * {@link LazyThreadPool} of {@link Params#_noThreads} threads is owned by the evaluator. A provided executor is
+         * not shut down by this class.
+         */
+        public ExecutorService _executor = null;
+
+        /**
+         * If the number of specimens to evaluate is less than this threshold, the evaluation is performed sequentially
+         * on the calling thread.
+         */
+        public int _minSpecimensForParallelism = 2;
+
+        /**
+         * Parameterized constructor.
+         *
+         * @param evaluate base evaluator (must be thread-safe)
+         */
+        public Params(IEvaluate evaluate)
+        {
+            _evaluate = evaluate;
+        }
+
+        /**
+         * Parameterized constructor.
+         *
+         * @param evaluate  base evaluator (must be thread-safe)
+         * @param noThreads the number of threads used
+         */
+        public Params(IEvaluate evaluate, int noThreads)
+        {
+            _evaluate = evaluate;
+            _noThreads = noThreads;
+        }
+    }
+
+    /**
+     * Base evaluator.
+     */
+    private final IEvaluate _evaluate;
+
+    /**
+     * The number of threads used.
+     */
+    private final int _noThreads;
+
+    /**
+     * Chunk size (if less than 1, the chunks are derived based on the number of threads).
+     */
+    private final int _chunkSize;
+
+    /**
+     * If the number of specimens to evaluate is less than this threshold, the evaluation is performed sequentially.
+     */
+    private final int _minSpecimensForParallelism;
+
+    /**
+     * Thread pool used to run tasks (wraps the provided executor, if any).
+     */
+    private final LazyThreadPool _pool;
+
+    /**
+     * Parameterized constructor.
+     *
+     * @param evaluate  base evaluator (must be thread-safe)
+     * @param noThreads the number of threads used
+     */
+    public ParallelEvaluate(IEvaluate evaluate, int noThreads)
+    {
+        this(new Params(evaluate, noThreads));
+    }
+
+    /**
+     * Parameterized constructor.
+     *
+     * @param p params container
+     */
+    public ParallelEvaluate(Params p)
+    {
+        _evaluate = p._evaluate;
+        _noThreads = Math.max(1, p._noThreads);
+        _chunkSize = p._chunkSize;
+        _minSpecimensForParallelism = p._minSpecimensForParallelism;
+        _pool = new LazyThreadPool(_noThreads, p._executor);
+    }
+
+    /**
+     * Evaluates specimens. The specimens are split into chunks evaluated in parallel by the base evaluator. The method
+     * waits until all the chunks are processed.
+     *
+     * @param specimens array of specimens to be evaluated
+     * @throws PhaseException the exception can be thrown (e.g., when the base evaluator fails)
+     */
+    @Override
+    public void evaluateSpecimens(ArrayList<Specimen> specimens) throws PhaseException
+    {
+        if (specimens == null) return;
+        if ((_noThreads == 1) || (specimens.size() < Math.max(2, _minSpecimensForParallelism)))
+        {
+            _evaluate.evaluateSpecimens(specimens);
+            return;
+        }
+
+        int[] p = getPartitions(specimens.size());
+        if (p.length == 2)
+        {
+            _evaluate.evaluateSpecimens(specimens);
+            return;
+        }
+
+        LinkedList<Future<?>> futures = new LinkedList<>();
+        for (int i = 0; i < p.length; i += 2)
+        {
+            ArrayList<Specimen> chunk = new ArrayList<>(specimens.subList(p[i], p[i + 1]));
+            futures.add(_pool.submit(() -> {
+                _evaluate.evaluateSpecimens(chunk);
+                return null;
+            }));
+        }
+
+        try
+        {
+            LazyThreadPool.waitForAll(futures);
+        } catch (InterruptedException e)
+        {
+            Thread.currentThread().interrupt();
+            throw new PhaseException("Parallel evaluation was interrupted", this.getClass(), e);
+        } catch (ExecutionException e)
+        {
+            if (e.getCause() instanceof PhaseException) throw (PhaseException) e.getCause();
+            throw new PhaseException("Error occurred when evaluating specimens in parallel " + e.getCause(),
+                    this.getClass(), e.getCause());
+        }
+    }
+
+    /**
+     * Auxiliary method for constructing the chunks.
+     *
+     * @param size the number of specimens
+     * @return array whose elements are ends [begin1, end1, begin2, end2, ...] of chunks (left sides are closed, right
+     * sides are open)
+     */
+    private int[] getPartitions(int size)
+    {
+        if (_chunkSize < 1)
+        {
+            int[] p = Partitioner.generatePartitions(size, _noThreads);
+            int threads = Partitioner.getValidNoThreads(p, _noThreads);
+            int[] r = new int[2 * threads];
+            System.arraycopy(p, 0, r, 0, r.length);
+            return r;
+        }
+
+        int chunks = (size + _chunkSize - 1) / _chunkSize;
+        int[] r = new int[2 * chunks];
+        for (int i = 0; i < chunks; i++)
+        {
+            r[2 * i] = i * _chunkSize;
+            r[2 * i + 1] = Math.min(size, (i + 1) * _chunkSize);
+        }
+        return r;
+    }
+
+    /**
+     * Getter for the base evaluator.
+     *
+     * @return base evaluator
+     */
+    public IEvaluate getBaseEvaluator()
+    {
+        return _evaluate;
+    }
+
+    /**
+     * Getter for the number of threads used.
+     *
+     * @return the number of threads used
+     */
+    public int getNoThreads()
+    {
+        return _noThreads;
+    }
+
+    /**
+     * Releases the owned thread pool (the provided executor is left intact). Called by the evaluation phase when the
+     * EA is disposed.
+     */
+    @Override
+    public void dispose()
+    {
+        _pool.dispose();
+    }
+}
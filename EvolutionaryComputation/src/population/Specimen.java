@@ -4,13 +4,20 @@ import alternative.Alternative;
 import alternative.IAlternativeWrapper;
 
 /**
- * Class representing a specimen.
+ * Class representing a specimen. The name of the underlying alternative is derived lazily from the specimen ID (see
+ * {@link Alternative#setNameSource(Object)}), i.e., the string is not constructed unless requested.
  *
  * @author MTomczyk
  */
 
 public class Specimen implements IAlternativeWrapper
 {
+    /**
+     * Default (zeroed) ID assigned to specimens constructed via {@link #Specimen(int)}; the ID is immutable, hence it is
+     * shared (such IDs are typically replaced when the specimens are assigned their final IDs).
+     */
+    private static final SpecimenID DEFAULT_ID = new SpecimenID(0, 0, 0, 0);
+
     /**
      * Chromosome object used to represent a solution in the genetic/decision/phenotypic/problem-specific space.
      */
@@ -42,7 +49,7 @@ public class Specimen implements IAlternativeWrapper
      */
     public Specimen(int criteria)
     {
-        this(criteria, new SpecimenID(0, 0, 0, 0));
+        this(criteria, DEFAULT_ID);
     }
 
     /**
@@ -53,7 +60,8 @@ public class Specimen implements IAlternativeWrapper
      */
     public Specimen(int criteria, SpecimenID id)
     {
-        _alternative = new Alternative(id.toString(), criteria);
+        _alternative = new Alternative((String) null, criteria);
+        _alternative.setNameSource(id);
         _id = id;
     }
 
@@ -96,15 +104,14 @@ public class Specimen implements IAlternativeWrapper
      */
     public Specimen(SpecimenID id, double[] evaluations)
     {
-        String name = "";
-        if (id != null) name = id.toString();
-        _alternative = new Alternative(name, evaluations);
+        _alternative = new Alternative("", evaluations);
+        if (id != null) _alternative.setNameSource(id);
         _id = id;
     }
 
 
     /**
-     * Constructs a deep copy of the specimen.
+     * Constructs a deep copy of the specimen (the ID is immutable, hence it is shared).
      *
      * @return constructed deep copy
      */
@@ -113,7 +120,7 @@ public class Specimen implements IAlternativeWrapper
         Specimen specimen = new Specimen();
         if (_alternative != null) specimen.setAlternative(_alternative.getClone());
         if (_chromosome != null) specimen.setChromosome(_chromosome.getClone());
-        if (_id != null) specimen.setID(_id.getClone());
+        if (_id != null) specimen.setID(_id);
         return specimen;
     }
 
@@ -345,7 +352,7 @@ public class Specimen implements IAlternativeWrapper
     public void setID(SpecimenID id)
     {
         _id = id;
-        if (getAlternative() != null) getAlternative().setName(id.toString());
+        if (getAlternative() != null) getAlternative().setNameSource(id);
     }
 
     /**
@@ -6,15 +6,28 @@ import exception.RunnerException;
 import runner.enums.DisplayMode;
 import runner.enums.UpdaterMode;
 import runner.threads.DisplayAndWaitThread;
+import thread.LazyThreadPool;
 import visualization.IVisualization;
 
+import java.util.Arrays;
+import java.util.LinkedList;
 import java.util.concurrent.BrokenBarrierException;
 import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Executor;
 import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 /**
- * Default (abstract) implementation of the {@link runner.IRunner} interface (responsible for executing EAs).
+ * Default (abstract) implementation of the {@link runner.IRunner} interface (responsible for executing EAs). The EAs
+ * can be executed concurrently (see {@link Params#_noThreads}): in each generation (and during the initialization),
+ * each EA is advanced by a separate task, and the runner waits until all of them finish (the end of the generation
+ * acts as a barrier), so that the post-generation phase (e.g., updating the visualization) observes a consistent state.
+ * The visualization updates requested after steady-state repeats (see {@link UpdaterMode#AFTER_STEADY_STATE_REPEAT})
+ * would observe the EAs in the middle of their steps, hence, in this case, the EAs are executed sequentially (the
+ * number of threads is ignored). The concurrent mode requires the EAs
+ * to be independent (in particular, they should not share random number generators; otherwise, the results are not
+ * reproducible). The runner measures the time each EA spends on its generations (see {@link #getGenerationTimes()}).
  *
  * @author MTomczyk
  */
@@ -54,6 +67,13 @@ public abstract class AbstractRunner implements IRunner
          */
         public UpdaterMode _updaterMode = UpdaterMode.AFTER_GENERATION;
 
+        /**
+         * The number of threads used to advance the EAs concurrently (1 = sequential execution; the EAs must be
+         * independent, e.g., they should not share random number generators). Ignored (sequential execution) if the
+         * visualization is updated after each steady-state repeat (see {@link UpdaterMode#AFTER_STEADY_STATE_REPEAT}).
+         */
+        public int _noThreads = 1;
+
         /**
          * Parameterized constructor.
          *
@@ -98,6 +118,20 @@ public abstract class AbstractRunner implements IRunner
     }
 
 
+    /**
+     * Auxiliary interface for tasks executed for each EA.
+     */
+    protected interface IEATask
+    {
+        /**
+         * Executes the task.
+         *
+         * @param eaID index of the EA
+         * @throws Exception the exception can be thrown
+         */
+        void execute(int eaID) throws Exception;
+    }
+
     /**
      * Evolutionary algorithm(s).
      */
@@ -142,6 +176,23 @@ public abstract class AbstractRunner implements IRunner
      */
     protected DisplayAndWaitThread _displayAndWaitThread;
 
+    /**
+     * Thread pool used to advance the EAs concurrently (instantiated on demand, only if the number of threads is
+     * greater than 1; released in {@link #dispose()}).
+     */
+    protected final LazyThreadPool _easPool;
+
+    /**
+     * Times (in ms) the EAs spent on their last generations (one element per EA; 1:1 mapping).
+     */
+    protected final double[] _generationTimes;
+
+    /**
+     * Total times (in ms) the EAs spent on their generations (including initialization; one element per EA; 1:1
+     * mapping).
+     */
+    protected final double[] _totalGenerationTimes;
+
 
     /**
      * Parameterized constructor.
@@ -156,6 +207,11 @@ public abstract class AbstractRunner implements IRunner
         _visualization = p._visualization;
         _displayMode = p._displayMode;
         _updatersMode = p._updaterMode;
+        if ((_visualization != null) && (UpdaterMode.AFTER_STEADY_STATE_REPEAT.equals(_updatersMode)))
+            _easPool = new LazyThreadPool(1);
+        else _easPool = new LazyThreadPool(Math.min(p._noThreads, _eas.length));
+        _generationTimes = new double[_eas.length];
+        _totalGenerationTimes = new double[_eas.length];
         instantiateThreads();
     }
 
@@ -309,7 +365,7 @@ public abstract class AbstractRunner implements IRunner
     {
         try
         {
-            for (IEA ea : _eas) ea.init();
+            executeForEachEA(eaID -> _eas[eaID].init(), true);
         } catch (Exception e)
         {
             wrapException("main init phase", e);
@@ -390,18 +446,15 @@ public abstract class AbstractRunner implements IRunner
     {
         try
         {
-            for (int eaID = 0; eaID < _eas.length; eaID++)
-            {
+            executeForEachEA(eaID -> {
                 if ((generationLimits != null) && (generation >= generationLimits[eaID]))
-                {
-                    continue; // generation limit reached
-                }
+                    return; // generation limit reached
                 IEA ea = _eas[eaID];
                 for (int r = 0; r < _steadyStateRepeats[eaID]; r++)
                 {
                     executeSingleSteadyStateRepeat(ea, generation, r);
                 }
-            }
+            }, false);
         } catch (RunnerException e)
         {
             throw e;
@@ -411,6 +464,63 @@ public abstract class AbstractRunner implements IRunner
         }
     }
 
+    /**
+     * Auxiliary method that executes the task for each EA (concurrently, if the number of threads is greater than 1) and
+     * measures the execution times (see {@link #getGenerationTimes()}). The method returns when all tasks are finished.
+     * If any task fails, the first exception (in the order of EAs) is thrown.
+     *
+     * @param task  task to be executed
+     * @param reset if true, the total times are reset before the execution (initialization)
+     * @throws Exception the exception can be thrown
+     */
+    protected void executeForEachEA(IEATask task, boolean reset) throws Exception
+    {
+        if (reset) Arrays.fill(_totalGenerationTimes, 0.0d);
+        if (_easPool.getNoThreads() == 1)
+        {
+            for (int eaID = 0; eaID < _eas.length; eaID++) executeAndMeasure(task, eaID);
+            return;
+        }
+
+        LinkedList<Future<?>> futures = new LinkedList<>();
+        for (int eaID = 0; eaID < _eas.length; eaID++)
+        {
+            int id = eaID;
+            futures.add(_easPool.submit(() -> {
+                executeAndMeasure(task, id);
+                return null;
+            }));
+        }
+
+        try
+        {
+            LazyThreadPool.waitForAll(futures); // barrier: wait for all EAs
+        } catch (InterruptedException e)
+        {
+            Thread.currentThread().interrupt();
+            throw e;
+        } catch (ExecutionException e)
+        {
+            throw e.getCause() instanceof Exception ? (Exception) e.getCause() : e;
+        }
+    }
+
+    /**
+     * Auxiliary method that executes the task for the EA and measures the execution time.
+     *
+     * @param task task to be executed
+     * @param eaID index of the EA
+     * @throws Exception the exception can be thrown
+     */
+    private void executeAndMeasure(IEATask task, int eaID) throws Exception
+    {
+        long startTime = System.nanoTime();
+        task.execute(eaID);
+        double time = (System.nanoTime() - startTime) / 1000000.0d;
+        _generationTimes[eaID] = time;
+        _totalGenerationTimes[eaID] += time;
+    }
+
     /**
      * Post-"execute single generation" phase.
      *
@@ -587,6 +697,7 @@ public abstract class AbstractRunner implements IRunner
         try
         {
             if (_visualization != null) _visualization.dispose();
+            _easPool.dispose();
             _displayAndWaitExecutor = null;
             _displayAndWaitBarrier = null;
         } catch (Exception e)
@@ -623,4 +734,27 @@ public abstract class AbstractRunner implements IRunner
         if (index < 0) return;
         _steadyStateRepeats[index] = steadyStateRepeats;
     }
+
+    /**
+     * Returns the times (in ms) the EAs spent on their last generations (one element per EA; 1:1 mapping; the
+     * initialization is considered generation 0; negligible if the EA has reached its generation limit). In the concurrent
+     * mode, the times are measured per EA (the wall-clock time of a generation is the maximum).
+     *
+     * @return times of the last generations (the array is reused; should not be modified)
+     */
+    public double[] getGenerationTimes()
+    {
+        return _generationTimes;
+    }
+
+    /**
+     * Returns the total times (in ms) the EAs spent on their generations since the last initialization (one element
+     * per EA; 1:1 mapping).
+     *
+     * @return total times (the array is reused; should not be modified)
+     */
+    public double[] getTotalGenerationTimes()
+    {
+        return _totalGenerationTimes;
+    }
 }
@@ -415,4 +415,79 @@ class MOEADTest
             assertNull(msg);
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * Tests the steady-state batch mode (see {@link AbstractMOEADBuilder#setSteadyStateBatchSize(int)}).
+     */
+    @Test
+    void testSteadyStateBatches()
+    {
+        int gens = 30;
+        int cuts = 12;
+        for (int batchSize : new int[]{1, 2, 7, 16, 200})
+        {
+            MOEAD reference = null;
+            for (int threads : new int[]{1, 3, 8})
+            {
+                IRandom R = new MersenneTwister64(0);
+                AbstractMOOProblemBundle problemBundle = DTLZBundle.getBundle(Problem.DTLZ2, 3, 10);
+                IGoal[] goals = GoalsFactory.getPointLineProjectionsDND(3, cuts, problemBundle._normalizations);
+                MOEADBuilder moeadBuilder = new MOEADBuilder(R);
+                moeadBuilder.setParentsSelector(new Random(2));
+                moeadBuilder.setGoals(goals);
+                moeadBuilder.setProblemImplementations(problemBundle);
+                moeadBuilder.setCriteria(problemBundle._criteria);
+                moeadBuilder.setSimilarity(new Euclidean());
+                moeadBuilder.setNeighborhoodSize(10);
+                moeadBuilder.setDynamicOSBoundsLearningPolicy(problemBundle);
+                moeadBuilder.setSteadyStateBatchSize(batchSize);
+                moeadBuilder.setParallelSpecimensEvaluation(threads);
+                String msg = null;
+                MOEAD moead = null;
+                try
+                {
+                    moead = moeadBuilder.getInstance();
+                } catch (EAException e)
+                {
+                    msg = e.getMessage();
+                }
+                assertNull(msg);
+                assertNotNull(moead);
+                int expectedRepeats = (goals.length + batchSize - 1) / batchSize;
+                assertEquals(expectedRepeats, moead.getExpectedNumberOfSteadyStateRepeats());
+                IRunner runner = new Runner(new Runner.Params(moead, moead.getExpectedNumberOfSteadyStateRepeats()));
+                TestUtils.compare(null, () -> runner.executeEvolution(gens));
+                assertEquals(goals.length, moead.getSpecimensContainer().getPopulation().size());
+                assertEquals(goals.length * gens, moead.getSpecimensContainer().getNoPerformedFunctionEvaluations());
+
+                if (reference == null) reference = moead;
+                else
+                {
+                    ArrayList<Specimen> exp = reference.getSpecimensContainer().getPopulation();
+                    ArrayList<Specimen> res = moead.getSpecimensContainer().getPopulation();
+                    for (int i = 0; i < exp.size(); i++)
+                        TestUtils.assertEquals(exp.get(i).getEvaluations(), res.get(i).getEvaluations(), 0.0d);
+                }
+            }
+        }
+
+        String msg = null;
+        try
+        {
+            MOEADBuilder moeadBuilder = new MOEADBuilder(new MersenneTwister64(0));
+            AbstractMOOProblemBundle problemBundle = DTLZBundle.getBundle(Problem.DTLZ2, 3, 10);
+            moeadBuilder.setParentsSelector(new Random(2));
+            moeadBuilder.setGoals(GoalsFactory.getPointLineProjectionsDND(3, cuts, problemBundle._normalizations));
+            moeadBuilder.setProblemImplementations(problemBundle);
+            moeadBuilder.setCriteria(problemBundle._criteria);
+            moeadBuilder.setSimilarity(new Euclidean());
+            moeadBuilder.setDynamicOSBoundsLearningPolicy(problemBundle);
+            moeadBuilder.setSteadyStateBatchSize(0);
+            moeadBuilder.getInstance();
+        } catch (EAException e)
+        {
+            msg = e.getMessage();
+        }
+        assertEquals("The steady-state batch size must not be less than 1 (equals = 0)", msg);
+    }
+}
@@ -44,6 +44,9 @@ class NSGAIIBuilderTest
             nsgaiiBuilder.setParentsReproducer(dtlzBundle._reproduce);
             TestUtils.compare("No OS bounds learning policy has been set", nsgaiiBuilder::getInstance);
             nsgaiiBuilder.setFixedOSBoundsLearningPolicy(dtlzBundle._normalizations);
+            nsgaiiBuilder.setCrowdingDistanceThreads(0);
+            TestUtils.compare("The number of crowding distance threads should not be less than 1 (equals = 0)", nsgaiiBuilder::getInstance);
+            nsgaiiBuilder.setCrowdingDistanceThreads(2);
 
             TestUtils.compare(null, nsgaiiBuilder::getInstance);
         }
@@ -386,4 +386,65 @@ class NSGAIITest
             assertNull(msg);
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * Tests if the steady-state NSGA-II with the incremental maintenance of non-dominated fronts yields the same
+     * results as the default one.
+     */
+    @Test
+    void steadyStateIncrementalSorting()
+    {
+        for (int m : new int[]{2, 3, 5})
+        {
+            NSGAII reference = getSteadyStateNSGAII(m, false);
+            NSGAII incremental = getSteadyStateNSGAII(m, true);
+            assertNotNull(reference);
+            assertNotNull(incremental);
+            IRunner runner1 = new Runner(new Runner.Params(reference, reference.getPopulationSize()));
+            IRunner runner2 = new Runner(new Runner.Params(incremental, incremental.getPopulationSize()));
+            TestUtils.compare(null, () -> runner1.executeEvolution(10));
+            TestUtils.compare(null, () -> runner2.executeEvolution(10));
+
+            ArrayList<Specimen> exp = reference.getSpecimensContainer().getPopulation();
+            ArrayList<Specimen> res = incremental.getSpecimensContainer().getPopulation();
+            assertEquals(exp.size(), res.size());
+            for (int i = 0; i < exp.size(); i++)
+            {
+                TestUtils.assertEquals(exp.get(i).getEvaluations(), res.get(i).getEvaluations(), 0.0d);
+                assertEquals(exp.get(i).getAlternative().getAuxScore(), res.get(i).getAlternative().getAuxScore(), 0.0d);
+            }
+        }
+    }
+
+    /**
+     * Auxiliary method for instantiating the steady-state NSGA-II (offspring size = 1).
+     *
+     * @param m           the number of objectives
+     * @param incremental if true, the non-dominated fronts are maintained incrementally
+     * @return NSGA-II instance
+     */
+    private static NSGAII getSteadyStateNSGAII(int m, boolean incremental)
+    {
+        int ps = 60;
+        IRandom R = new MersenneTwister64(0);
+        AbstractMOOProblemBundle problemBundle = DTLZBundle.getBundle(Problem.DTLZ1, m, 10);
+        NSGAIIBuilder nsgaiiBuilder = new NSGAIIBuilder(R);
+        nsgaiiBuilder.setParentsSelector(new Random(2));
+        nsgaiiBuilder.setPopulationSize(ps);
+        nsgaiiBuilder.setProblemImplementations(problemBundle);
+        nsgaiiBuilder.setCriteria(problemBundle._criteria);
+        nsgaiiBuilder.setFixedOSBoundsLearningPolicy(problemBundle._normalizations);
+        nsgaiiBuilder.setIncrementalSorting(incremental);
+        nsgaiiBuilder.setEAParamsAdjuster(p -> {
+            p._offspringSize = 1;
+            p._expectedNumberOfSteadyStateRepeats = ps;
+        });
+        try
+        {
+            return nsgaiiBuilder.getInstance();
+        } catch (EAException e)
+        {
+            return null;
+        }
+    }
+}
@@ -61,6 +61,9 @@ class NSGAIIIBuilderTest
             nsgaiiiBuilder.setSpecimenResolveTie(null);
             TestUtils.compare("The procedure for resolving specimen selection ties is not provided", nsgaiiiBuilder::getInstance);
             nsgaiiiBuilder.setSpecimenResolveTie(new RandomSpecimen());
+            nsgaiiiBuilder.setAssignmentThreads(0);
+            TestUtils.compare("The number of assignment threads should not be less than 1 (equals = 0)", nsgaiiiBuilder::getInstance);
+            nsgaiiiBuilder.setAssignmentThreads(4);
             TestUtils.compare(null, nsgaiiiBuilder::getInstance);
         }
     }
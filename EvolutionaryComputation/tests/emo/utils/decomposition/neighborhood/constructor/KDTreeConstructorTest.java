@@ -0,0 +1,78 @@
+package emo.utils.decomposition.neighborhood.constructor;
+
+import emo.utils.decomposition.family.Family;
+import emo.utils.decomposition.family.FamilyID;
+import emo.utils.decomposition.goal.GoalID;
+import emo.utils.decomposition.goal.GoalsFactory;
+import emo.utils.decomposition.goal.IGoal;
+import emo.utils.decomposition.neighborhood.Neighborhood;
+import emo.utils.decomposition.similarity.ISimilarity;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+/**
+ * Tests for the {@link KDTreeConstructor} class.
+ *
+ * @author MTomczyk
+ */
+class KDTreeConstructorTest
+{
+    /**
+     * Auxiliary method comparing two neighborhoods.
+     *
+     * @param expected expected neighborhood
+     * @param result   obtained neighborhood
+     */
+    private static void compare(Neighborhood expected, Neighborhood result)
+    {
+        GoalID[][] e = expected.getNeighborhoodMatrix();
+        GoalID[][] r = result.getNeighborhoodMatrix();
+        assertEquals(e.length, r.length);
+        for (int i = 0; i < e.length; i++)
+        {
+            assertEquals(e[i].length, r[i].length);
+            for (int j = 0; j < e[i].length; j++) assertSame(e[i][j], r[i][j]);
+        }
+    }
+
+    /**
+     * Tests if the neighborhoods are identical to those constructed by {@link InsertionSortConstructor} (various
+     * similarity measures, neighborhood sizes, and scopes; the weight vectors generated using Das and Dennis's method
+     * imply many ties).
+     */
+    @Test
+    void compareWithInsertionSort()
+    {
+        ISimilarity[] similarities = new ISimilarity[]{
+                new emo.utils.decomposition.similarity.lnorm.Euclidean(),
+                new emo.utils.decomposition.similarity.lnorm.Cos(),
+                new emo.utils.decomposition.similarity.pbi.Euclidean(),
+                new emo.utils.decomposition.similarity.pbi.Cos(),
+                new emo.utils.decomposition.similarity.pointlineprojection.Euclidean(),
+                new emo.utils.decomposition.similarity.pointlineprojection.Cos()};
+        int[][] configurations = new int[][]{{2, 99}, {3, 25}, {5, 6}};
+
+        for (int[] c : configurations)
+        {
+            IGoal[] G1 = GoalsFactory.getLNormsDND(c[0], c[1], Double.POSITIVE_INFINITY);
+            IGoal[] G2 = GoalsFactory.getPBIsDND(c[0], c[1] / 2, 5.0d);
+            Family F1 = new Family(new FamilyID(0), G1);
+            Family F2 = new Family(new FamilyID(1), G2);
+            for (ISimilarity similarity : similarities)
+            {
+                for (int size : new int[]{1, 2, 5, 10, 21})
+                {
+                    Neighborhood expected = new InsertionSortConstructor().getNeighborhood(F1, similarity, size);
+                    compare(expected, new KDTreeConstructor().getNeighborhood(F1, similarity, size));
+                    compare(expected, new KDTreeConstructor(4).getNeighborhood(F1, similarity, size));
+
+                    Family[] scope = new Family[]{F2, F1};
+                    expected = new InsertionSortConstructor().getNeighborhood(F1, similarity, size, scope);
+                    compare(expected, new KDTreeConstructor(3).getNeighborhood(F1, similarity, size, scope));
+                }
+            }
+        }
+    }
+}
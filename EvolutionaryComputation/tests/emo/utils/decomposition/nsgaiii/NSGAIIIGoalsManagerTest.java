@@ -2,7 +2,10 @@ package emo.utils.decomposition.nsgaiii;
 
 import alternative.Alternative;
 import criterion.Criteria;
+import emo.utils.decomposition.family.Family;
+import emo.utils.decomposition.family.FamilyID;
 import emo.utils.decomposition.goal.Assignment;
+import emo.utils.decomposition.goal.GoalsFactory;
 import emo.utils.decomposition.goal.IGoal;
 import emo.utils.decomposition.goal.definitions.PointLineProjection;
 import emo.utils.front.FNDSorting;
@@ -10,13 +13,16 @@ import org.junit.jupiter.api.Test;
 import population.Specimen;
 import population.SpecimenID;
 import population.Specimens;
+import random.IRandom;
+import random.MersenneTwister64;
 import relation.dominance.Dominance;
+import space.normalization.INormalization;
+import space.normalization.minmax.Linear;
 
 import java.util.ArrayList;
 import java.util.LinkedList;
 
-import static org.junit.jupiter.api.Assertions.assertEquals;
-import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.*;
 
 
 /**
@@ -112,4 +118,61 @@ class NSGAIIIGoalsManagerTest
         assertEquals(1, assignments.size());
         assertEquals(1, assignments.getFirst().getSpecimens().size());
     }
-}
\ No newline at end of file
+
+    /**
+     * Tests if the specialized kernel ({@link PLPAssignmentKernel}) finds the same closest goals (and distances) as the
+     * goals evaluated one by one.
+     */
+    @Test
+    void kernel()
+    {
+        IRandom R = new MersenneTwister64(0);
+        int M = 8;
+        INormalization[] normalizations = new INormalization[M];
+        for (int j = 0; j < M; j++) normalizations[j] = new Linear(0.0d, 1.0d + j);
+        IGoal[] G = GoalsFactory.getPointLineProjectionsDND(M, 3, normalizations);
+        Family[] F = new Family[]{new Family(new FamilyID(0), G)};
+
+        int n = 700;
+        ArrayList<Specimen> specimens = new ArrayList<>(n);
+        int[] indices = new int[n];
+        for (int i = 0; i < n; i++)
+        {
+            double[] e = new double[M];
+            for (int j = 0; j < M; j++) e[j] = R.nextDouble() * (1.0d + j);
+            specimens.add(new Specimen(i, e));
+            indices[i] = n - 1 - i;
+        }
+
+        for (int threads = 1; threads <= 4; threads += 3)
+        {
+            PLPAssignmentKernel kernel = new PLPAssignmentKernel(threads);
+            assertTrue(kernel.update(F));
+            assertEquals(G.length, kernel.getNoGoals());
+            int[] closest = new int[n];
+            double[] distances = new double[n];
+            kernel.findClosestGoals(specimens, indices, n, closest, distances);
+            for (int i = 0; i < n; i++)
+            {
+                Specimen s = specimens.get(indices[i]);
+                int best = 0;
+                double bestEvaluation = G[0].evaluate(s);
+                for (int g = 1; g < G.length; g++)
+                {
+                    double evaluation = G[g].evaluate(s);
+                    if (Double.compare(evaluation, bestEvaluation) < 0)
+                    {
+                        bestEvaluation = evaluation;
+                        best = g;
+                    }
+                }
+                assertEquals(best, closest[i]);
+                assertEquals(bestEvaluation, distances[i]);
+            }
+        }
+
+        // unsupported goals
+        IGoal[] mixed = new IGoal[]{G[0], GoalsFactory.getLNormsDND(M, 1, 1.0d, normalizations)[0]};
+        assertFalse(new PLPAssignmentKernel(1).update(new Family[]{new Family(new FamilyID(0), mixed)}));
+    }
+}
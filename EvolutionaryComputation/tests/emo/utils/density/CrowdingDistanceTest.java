@@ -3,15 +3,20 @@ package emo.utils.density;
 import alternative.Alternative;
 import alternative.Alternatives;
 import criterion.Criteria;
+import datastructure.graph.bst.BST;
+import datastructure.graph.bst.TreeNode;
 import emo.utils.front.FNDSorting;
 import org.junit.jupiter.api.Test;
 import population.Specimen;
 import population.SpecimenID;
+import random.IRandom;
+import random.MersenneTwister64;
 import relation.dominance.Dominance;
 import space.normalization.INormalization;
 import space.normalization.minmax.Linear;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.LinkedList;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -177,4 +182,98 @@ class CrowdingDistanceTest
             }
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * Reference implementation (binary sorting trees over {@link CrowdingDistance.SpecimenCriterion} nodes).
+     *
+     * @param front          front
+     * @param specimens      specimens
+     * @param criteria       the number of criteria
+     * @param normalizations normalizations (can be null)
+     * @param infinity       substitute for the infinite number
+     * @return crowding distances
+     */
+    private static double[] getReference(LinkedList<Integer> front, ArrayList<Specimen> specimens, int criteria,
+                                         INormalization[] normalizations, double infinity)
+    {
+        double[] result = new double[front.size()];
+        BST[] BSTs = new BST[criteria];
+        for (int c = 0; c < criteria; c++)
+        {
+            BSTs[c] = new BST(specimens.size());
+            for (Integer idx : front) BSTs[c].insert(new CrowdingDistance.SpecimenCriterion(specimens.get(idx), c));
+        }
+        int resultIDX = 0;
+        for (Integer idx : front)
+        {
+            double[] crowding = new double[criteria];
+            for (int c = 0; c < criteria; c++)
+            {
+                TreeNode TN = BSTs[c].getTN_Map().get(new CrowdingDistance.SpecimenCriterion(specimens.get(idx), c));
+                TreeNode previous = BSTs[c].getInorderPredecessor(TN);
+                TreeNode next = BSTs[c].getInorderSuccessor(TN);
+                if ((previous == null) || (next == null))
+                {
+                    Arrays.fill(crowding, infinity);
+                    break;
+                }
+                double vA = next.getNodeValue().getValue();
+                double vB = previous.getNodeValue().getValue();
+                if (normalizations != null)
+                    crowding[c] = Math.abs(normalizations[c].getNormalized(vA) - normalizations[c].getNormalized(vB));
+                else crowding[c] = Math.abs(vA - vB);
+            }
+            double r = 0.0d;
+            for (double c : crowding) r += c;
+            r /= crowding.length;
+            if (Double.compare(crowding[0], infinity) == 0) r = infinity;
+            result[resultIDX++] = r;
+        }
+        return result;
+    }
+
+    /**
+     * Compares the results with the reference implementation based on binary sorting trees (random fronts with many
+     * ties; various numbers of threads).
+     */
+    @Test
+    public void compareWithReference()
+    {
+        IRandom R = new MersenneTwister64(0);
+        for (int t = 0; t < 50; t++)
+        {
+            int m = 1 + R.nextInt(5);
+            int n = 1 + R.nextInt(t < 40 ? 30 : 600);
+            ArrayList<Specimen> s = new ArrayList<>(n);
+            for (int i = 0; i < n; i++)
+            {
+                double[] e = new double[m];
+                for (int j = 0; j < m; j++) e[j] = R.nextInt(10) / 3.0d;
+                s.add(new Specimen(new SpecimenID(0, 0, 0, i), e));
+            }
+            LinkedList<Integer> front = new LinkedList<>();
+            for (int i = 0; i < n; i++) if (R.nextBoolean()) front.add(i);
+
+            INormalization[] normalizations = null;
+            if (R.nextBoolean())
+            {
+                normalizations = new INormalization[m];
+                for (int j = 0; j < m; j++) normalizations[j] = new Linear(0.0d, 1.0d + j);
+            }
+            double infinity = R.nextBoolean() ? Double.POSITIVE_INFINITY : 2.0d;
+            double[] expected = getReference(front, s, m, normalizations, infinity);
+
+            for (int threads = 1; threads <= 3; threads += 2)
+            {
+                CrowdingDistance CD = new CrowdingDistance(m, threads);
+                double[] cd1 = CD.calculateCrowdingDistanceInFront(front, s, normalizations, infinity);
+                assertEquals(expected.length, cd1.length);
+                for (int i = 0; i < expected.length; i++)
+                {
+                    assertEquals(expected[i], cd1[i]);
+                }
+                CD.dispose();
+            }
+        }
+    }
+}
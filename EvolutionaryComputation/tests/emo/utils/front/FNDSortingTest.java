@@ -3,9 +3,12 @@ package emo.utils.front;
 import alternative.Alternative;
 import alternative.Alternatives;
 import criterion.Criteria;
+import emo.utils.front.nds.NDSAlgorithm;
 import org.junit.jupiter.api.Test;
 import population.Specimen;
 import population.Specimens;
+import random.IRandom;
+import random.MersenneTwister64;
 import relation.dominance.Dominance;
 
 import java.util.ArrayList;
@@ -328,4 +331,102 @@ class FNDSortingTest
             }
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * Tests if the alternative sorting algorithms (see {@link NDSAlgorithm}) yield exactly the same fronts (including
+     * the order of front members) as the fast non-dominated sorting algorithm. The data contains ties, duplicates, and
+     * values that differ by less than the epsilon tolerance (for which the original algorithm should be run).
+     */
+    @Test
+    void testAlgorithms()
+    {
+        IRandom R = new MersenneTwister64(0);
+        for (int t = 0; t < 300; t++)
+        {
+            int n = R.nextInt(150);
+            int m = 1 + R.nextInt(7);
+            boolean[] gain = new boolean[m];
+            for (int j = 0; j < m; j++) gain[j] = R.nextBoolean();
+            Criteria C = Criteria.constructCriteria("C", gain);
+            Dominance D = new Dominance(C);
+
+            int levels = 2 + R.nextInt(20);
+            boolean nearTies = R.nextInt(5) == 0;
+            ArrayList<Alternative> A = new ArrayList<>(n);
+            for (int i = 0; i < n; i++)
+            {
+                double[] e = new double[m];
+                for (int j = 0; j < m; j++)
+                {
+                    e[j] = R.nextInt(levels);
+                    if ((nearTies) && (R.nextInt(10) == 0)) e[j] += 1.0E-15;
+                }
+                A.add(new Alternative("a" + i, e));
+            }
+            Alternatives alternatives = new Alternatives(A);
+
+            int stopAfter = R.nextBoolean() ? n : R.nextInt(n + 1);
+            LinkedList<LinkedList<Integer>> exp = new FNDSorting(D, NDSAlgorithm.FNDS).getFrontAssignments(alternatives, stopAfter);
+            for (NDSAlgorithm algorithm : NDSAlgorithm.values())
+            {
+                LinkedList<LinkedList<Integer>> res = new FNDSorting(D, algorithm).getFrontAssignments(alternatives, stopAfter);
+                assertEquals(exp, res);
+            }
+        }
+    }
+
+    /**
+     * Tests if {@link IncrementalFNDSorting} yields exactly the same fronts as {@link FNDSorting} when the alternatives
+     * are replaced one (or a few) at a time and shuffled between subsequent calls.
+     */
+    @Test
+    void testIncremental()
+    {
+        IRandom R = new MersenneTwister64(0);
+        for (int t = 0; t < 20; t++)
+        {
+            int m = 2 + R.nextInt(4);
+            Criteria C = Criteria.constructCriteria("C", m, R.nextBoolean());
+            Dominance D = new Dominance(C);
+            FNDSorting reference = new FNDSorting(D, NDSAlgorithm.FNDS);
+            IncrementalFNDSorting incremental = new IncrementalFNDSorting(D);
+
+            int n = 20 + R.nextInt(100);
+            int levels = 3 + R.nextInt(20);
+            ArrayList<Alternative> A = new ArrayList<>(n);
+            for (int i = 0; i < n; i++) A.add(getRandomAlternative(R, m, levels));
+
+            for (int s = 0; s < 50; s++)
+            {
+                int changes = R.nextInt(10) == 0 ? n : 1 + R.nextInt(3);
+                for (int c = 0; c < changes; c++) A.set(R.nextInt(n), getRandomAlternative(R, m, levels));
+                for (int i = n - 1; i > 0; i--)
+                {
+                    int j = R.nextInt(i + 1);
+                    Alternative a = A.get(i);
+                    A.set(i, A.get(j));
+                    A.set(j, a);
+                }
+                Alternatives alternatives = new Alternatives(A);
+                int stopAfter = R.nextBoolean() ? n : R.nextInt(n + 1);
+                assertEquals(reference.getFrontAssignments(alternatives, stopAfter),
+                        incremental.getFrontAssignments(alternatives, stopAfter));
+            }
+        }
+    }
+
+    /**
+     * Auxiliary method constructing a random alternative.
+     *
+     * @param R      random number generator
+     * @param m      the number of criteria
+     * @param levels the number of discrete values each performance can take
+     * @return random alternative
+     */
+    private static Alternative getRandomAlternative(IRandom R, int m, int levels)
+    {
+        double[] e = new double[m];
+        for (int j = 0; j < m; j++) e[j] = R.nextInt(levels);
+        return new Alternative("a", e);
+    }
+}
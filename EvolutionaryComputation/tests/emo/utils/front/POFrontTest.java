@@ -444,4 +444,100 @@ class POFrontTest
 
 
     }
-}
\ No newline at end of file
+
+    /**
+     * Compares the fronts derived from the utility matrix (possibly evaluated in parallel) with those derived by the
+     * reference procedure (each model evaluates all not-yet-assigned alternatives once per front).
+     */
+    @Test
+    void utilityMatrix()
+    {
+        IRandom R = new MersenneTwister64(0);
+        for (int t = 0; t < 50; t++)
+        {
+            int A = 1 + R.nextInt(120);
+            int M = 1 + R.nextInt(60);
+            ArrayList<LNorm> models = new ArrayList<>(M);
+            for (int i = 0; i < M; i++)
+            {
+                double w = R.nextInt(11) / 10.0d; // coarse weights (ties)
+                models.add(new LNorm(new double[]{w, 1.0d - w}, R.nextBoolean() ? 1.0d : Double.POSITIVE_INFINITY));
+            }
+            double[][] e = new double[A][2];
+            for (int i = 0; i < A; i++)
+            {
+                e[i][0] = R.nextInt(6) / 5.0d; // coarse grid (ties)
+                e[i][1] = R.nextInt(6) / 5.0d;
+            }
+            Alternatives alternatives = new Alternatives(Alternative.getAlternativeArray("A", e));
+
+            for (int threads = 1; threads <= 4; threads += 3)
+            {
+                UtilityMatrix utilities = new UtilityMatrix(threads);
+                utilities.update(alternatives, models);
+                assertEquals(M, utilities.getNoModels());
+                assertEquals(A, utilities.getNoAlternatives());
+                for (int stopAfter = 0; stopAfter <= A + 1; stopAfter += 1 + A / 4)
+                {
+                    LinkedList<LinkedList<Integer>> exp = getReferenceFronts(alternatives, models, stopAfter);
+                    assertEquals(exp, new POFront().getFrontAssignments(utilities, stopAfter));
+                    assertEquals(exp, new POFront().getFrontAssignments(alternatives, models, stopAfter));
+                }
+                utilities.dispose();
+            }
+        }
+    }
+
+    /**
+     * Reference procedure for constructing fronts of potential optimality.
+     *
+     * @param alternatives alternatives set
+     * @param models       preference models
+     * @param stopAfter    specifier after how many assignments the process should stop
+     * @return fronts of potential optimality
+     */
+    private static LinkedList<LinkedList<Integer>> getReferenceFronts(Alternatives alternatives, ArrayList<LNorm> models,
+                                                                      int stopAfter)
+    {
+        LinkedList<LinkedList<Integer>> fronts = new LinkedList<>();
+        boolean[] passed = new boolean[alternatives.size()];
+        int assigned = 0;
+        while (assigned < stopAfter)
+        {
+            boolean[] selected = new boolean[alternatives.size()];
+            boolean any = false;
+            for (LNorm m : models)
+            {
+                int best = -1;
+                double bestEvaluation = 0.0d;
+                for (int i = 0; i < alternatives.size(); i++)
+                {
+                    if (passed[i]) continue;
+                    double ce = m.evaluate(alternatives.get(i));
+                    if ((best == -1) || ((m.isLessPreferred()) && (Double.compare(ce, bestEvaluation) < 0)) ||
+                            ((!m.isLessPreferred()) && (Double.compare(ce, bestEvaluation) > 0)))
+                    {
+                        best = i;
+                        bestEvaluation = ce;
+                    }
+                }
+                if (best != -1)
+                {
+                    selected[best] = true;
+                    any = true;
+                }
+            }
+            if (!any) break;
+            LinkedList<Integer> f = new LinkedList<>();
+            for (int i = 0; i < selected.length; i++)
+            {
+                if (!selected[i]) continue;
+                f.add(i);
+                passed[i] = true;
+            }
+            fronts.add(f);
+            assigned += f.size();
+        }
+        return fronts;
+    }
+}
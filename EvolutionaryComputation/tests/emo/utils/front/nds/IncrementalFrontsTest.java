@@ -0,0 +1,90 @@
+package emo.utils.front.nds;
+
+import org.junit.jupiter.api.Test;
+import random.IRandom;
+import random.MersenneTwister64;
+
+import java.util.ArrayList;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Provides various tests for {@link IncrementalFronts}.
+ *
+ * @author MTomczyk
+ */
+class IncrementalFrontsTest
+{
+    /**
+     * Tests if the ranks maintained incrementally (random insertions and removals) equal the ranks determined from
+     * scratch.
+     */
+    @Test
+    void insertAndRemove()
+    {
+        IRandom R = new MersenneTwister64(0);
+        for (int t = 0; t < 50; t++)
+        {
+            int m = 1 + R.nextInt(5);
+            int levels = 2 + R.nextInt(20);
+            IncrementalFronts fronts = new IncrementalFronts();
+            ArrayList<IncrementalFronts.Point> stored = new ArrayList<>();
+            for (int s = 0; s < 300; s++)
+            {
+                if ((stored.isEmpty()) || (R.nextInt(3) > 0))
+                {
+                    double[] p = new double[m];
+                    for (int j = 0; j < m; j++) p[j] = R.nextInt(levels);
+                    stored.add(fronts.insert(p));
+                }
+                else
+                {
+                    IncrementalFronts.Point p = stored.remove(R.nextInt(stored.size()));
+                    fronts.remove(p);
+                    assertEquals(-1, p.getRank());
+                }
+
+                assertEquals(stored.size(), fronts.getSize());
+                double[][] points = new double[stored.size()][];
+                for (int i = 0; i < stored.size(); i++) points[i] = stored.get(i).getCoordinates();
+                int[] exp = NDSUtils.getRanks(points, new ENSSS());
+                int max = -1;
+                for (int i = 0; i < stored.size(); i++)
+                {
+                    assertEquals(exp[i], stored.get(i).getRank());
+                    max = Math.max(max, exp[i]);
+                }
+                assertEquals(max + 1, fronts.getNoFronts());
+            }
+        }
+    }
+
+    /**
+     * Tests {@link IncrementalFronts#load(double[][], int[])}.
+     */
+    @Test
+    void load()
+    {
+        double[][] points = {{0.0d, 2.0d}, {1.0d, 1.0d}, {2.0d, 2.0d}, {3.0d, 3.0d}};
+        IncrementalFronts fronts = new IncrementalFronts();
+        IncrementalFronts.Point[] handles = fronts.load(points, NDSUtils.getRanks(points, new Sweep2D()));
+        assertEquals(4, fronts.getSize());
+        assertEquals(3, fronts.getNoFronts());
+        int[] exp = {0, 0, 1, 2};
+        for (int i = 0; i < 4; i++) assertEquals(exp[i], handles[i].getRank());
+
+        fronts.remove(handles[1]);
+        exp = new int[]{0, -1, 1, 2};
+        for (int i = 0; i < 4; i++) assertEquals(exp[i], handles[i].getRank());
+
+        fronts.remove(handles[0]);
+        exp = new int[]{-1, -1, 0, 1};
+        for (int i = 0; i < 4; i++) assertEquals(exp[i], handles[i].getRank());
+        assertEquals(2, fronts.getNoFronts());
+
+        IncrementalFronts.Point p = fronts.insert(new double[]{0.0d, 0.0d});
+        assertEquals(0, p.getRank());
+        assertEquals(1, handles[2].getRank());
+        assertEquals(2, handles[3].getRank());
+    }
+}
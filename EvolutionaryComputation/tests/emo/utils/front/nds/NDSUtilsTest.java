@@ -0,0 +1,98 @@
+package emo.utils.front.nds;
+
+import org.junit.jupiter.api.Test;
+import random.IRandom;
+import random.MersenneTwister64;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Provides various tests for {@link NDSUtils} and the non-dominated sorting algorithms.
+ *
+ * @author MTomczyk
+ */
+class NDSUtilsTest
+{
+    /**
+     * Tests {@link NDSUtils#isExactlyComparable(double[][], double)}.
+     */
+    @Test
+    void isExactlyComparable()
+    {
+        assertTrue(NDSUtils.isExactlyComparable(new double[0][], 1.0E-14));
+        assertTrue(NDSUtils.isExactlyComparable(new double[][]{{0.0d, 1.0d}, {0.0d, 2.0d}, {1.0d, 1.0d}}, 1.0E-14));
+        assertTrue(NDSUtils.isExactlyComparable(new double[][]{{0.0d}, {1.0E-15}}, 0.0d));
+        assertFalse(NDSUtils.isExactlyComparable(new double[][]{{0.0d}, {1.0E-15}}, 1.0E-14));
+        assertFalse(NDSUtils.isExactlyComparable(new double[][]{{1.0d, 0.0d}, {0.0d, 1.0E-14}}, 1.0E-14));
+        assertFalse(NDSUtils.isExactlyComparable(new double[][]{{0.0d, Double.NaN}}, 1.0E-14));
+        assertFalse(NDSUtils.isExactlyComparable(new double[][]{{0.0d}, {-0.0d}}, 0.0d));
+        assertFalse(NDSUtils.isExactlyComparable(new double[][]{{0.0d}}, -1.0d));
+        assertTrue(NDSUtils.isExactlyComparable(new double[][]{{Double.POSITIVE_INFINITY}, {1.0d}}, 1.0E-14));
+    }
+
+    /**
+     * Tests if the sorting algorithms assign the same ranks as the brute-force procedure.
+     */
+    @Test
+    void getRanks()
+    {
+        IRandom R = new MersenneTwister64(0);
+        for (int t = 0; t < 200; t++)
+        {
+            int n = R.nextInt(300);
+            int m = 1 + R.nextInt(8);
+            int levels = 2 + R.nextInt(50);
+            double[][] points = new double[n][m];
+            for (int i = 0; i < n; i++)
+                for (int j = 0; j < m; j++)
+                    points[i][j] = R.nextBoolean() ? R.nextInt(levels) : R.nextDouble();
+
+            int[] exp = getRanksBruteForce(points);
+            for (NDSAlgorithm algorithm : NDSAlgorithm.values())
+            {
+                INDSorting sorting = algorithm.getInstance(m);
+                if (sorting == null) continue;
+                int[] res = NDSUtils.getRanks(points, sorting);
+                assertArrayEquals(exp, res);
+            }
+        }
+    }
+
+    /**
+     * Auxiliary method computing ranks in a brute-force manner.
+     *
+     * @param points points
+     * @return ranks
+     */
+    private static int[] getRanksBruteForce(double[][] points)
+    {
+        int n = points.length;
+        int[] ranks = new int[n];
+        boolean[] assigned = new boolean[n];
+        int noAssigned = 0;
+        for (int r = 0; noAssigned < n; r++)
+        {
+            boolean[] current = new boolean[n];
+            for (int i = 0; i < n; i++)
+            {
+                if (assigned[i]) continue;
+                boolean dominated = false;
+                for (int j = 0; j < n; j++)
+                    if ((!assigned[j]) && (NDSUtils.isDominating(points[j], points[i])))
+                    {
+                        dominated = true;
+                        break;
+                    }
+                if (!dominated) current[i] = true;
+            }
+            for (int i = 0; i < n; i++)
+                if (current[i])
+                {
+                    assigned[i] = true;
+                    ranks[i] = r;
+                    noAssigned++;
+                }
+        }
+        return ranks;
+    }
+}
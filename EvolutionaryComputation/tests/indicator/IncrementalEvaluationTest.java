@@ -0,0 +1,154 @@
+package indicator;
+
+import ea.EATimestamp;
+import emo.aposteriori.nsgaii.NSGAII;
+import emo.aposteriori.nsgaii.NSGAIIBuilder;
+import exception.EAException;
+import indicator.emo.GD;
+import indicator.emo.HV;
+import indicator.emo.IGD;
+import org.junit.jupiter.api.Test;
+import population.Specimen;
+import problem.Problem;
+import problem.moo.AbstractMOOProblemBundle;
+import problem.moo.ReferencePointsFactory;
+import problem.moo.dtlz.DTLZBundle;
+import random.IRandom;
+import random.MersenneTwister64;
+import selection.Random;
+import space.distance.Euclidean;
+import utils.TestUtils;
+
+import java.util.ArrayList;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Provides various tests for {@link IncrementalEvaluation}.
+ *
+ * @author MTomczyk
+ */
+class IncrementalEvaluationTest
+{
+    /**
+     * Tests if the incrementally updated values (steady-state NSGA-II) equal the values calculated from scratch.
+     */
+    @Test
+    void steadyState()
+    {
+        int m = 3;
+        int ps = 40;
+        IRandom R = new MersenneTwister64(0);
+        AbstractMOOProblemBundle problemBundle = DTLZBundle.getBundle(Problem.DTLZ2, m, 10);
+        NSGAII ea = getSteadyStateNSGAII(R, problemBundle, ps);
+
+        double[][] rs = ReferencePointsFactory.getRandomReferencePoints(Problem.DTLZ2, 500, m, R);
+        IIncrementalPerformanceIndicator[] indicators = new IIncrementalPerformanceIndicator[]{
+                new GD(new Euclidean(), rs),
+                new IGD(new Euclidean(), rs),
+                new HV(new HV.Params(m, problemBundle._normalizations, new double[]{1.1d, 1.1d, 1.1d}))
+        };
+        IncrementalEvaluation[] evaluations = new IncrementalEvaluation[indicators.length];
+        for (int i = 0; i < indicators.length; i++) evaluations[i] = new IncrementalEvaluation(indicators[i]);
+
+        TestUtils.compare(null, ea::init);
+        for (int g = 1; g < 6; g++)
+        {
+            for (int r = 0; r < ps; r++)
+            {
+                int gen = g;
+                int rep = r;
+                TestUtils.compare(null, () -> ea.step(new EATimestamp(gen, rep)));
+                for (int i = 0; i < indicators.length; i++)
+                {
+                    double expected = indicators[i].getInstanceInInitialState().evaluate(ea);
+                    assertEquals(expected, evaluations[i].evaluate(ea), 1.0E-12);
+                }
+            }
+        }
+
+        for (IncrementalEvaluation evaluation : evaluations)
+        {
+            assertTrue(evaluation.getNoUpdates() > 0);
+            assertTrue(evaluation.getNoRecalculations() > 0);
+        }
+    }
+
+    /**
+     * Tests if the evaluations are not snapshotted when the population is replaced wholesale, and if the incremental
+     * updates are resumed afterward.
+     */
+    @Test
+    void wholesaleReplacement()
+    {
+        int m = 3;
+        int ps = 40;
+        IRandom R = new MersenneTwister64(1);
+        AbstractMOOProblemBundle problemBundle = DTLZBundle.getBundle(Problem.DTLZ2, m, 10);
+        NSGAII ea = getSteadyStateNSGAII(R, problemBundle, ps);
+
+        double[][] rs = ReferencePointsFactory.getRandomReferencePoints(Problem.DTLZ2, 500, m, R);
+        IGD igd = new IGD(new Euclidean(), rs);
+        IncrementalEvaluation evaluation = new IncrementalEvaluation(igd);
+
+        TestUtils.compare(null, ea::init);
+        assertEquals(igd.getInstanceInInitialState().evaluate(ea), evaluation.evaluate(ea), 1.0E-12);
+        assertFalse(evaluation.areSnapshotsSkipped());
+
+        // the population is replaced wholesale (as in generational EAs)
+        ArrayList<Specimen> original = ea.getSpecimensContainer().getPopulation();
+        for (int g = 0; g < 3; g++)
+        {
+            ArrayList<Specimen> replaced = new ArrayList<>(ps);
+            for (Specimen s : original) replaced.add(new Specimen(s.getEvaluations().clone()));
+            ea.getSpecimensContainer().setPopulation(replaced);
+            assertEquals(igd.getInstanceInInitialState().evaluate(ea), evaluation.evaluate(ea), 1.0E-12);
+            assertTrue(evaluation.areSnapshotsSkipped());
+        }
+        ea.getSpecimensContainer().setPopulation(original);
+        assertEquals(igd.getInstanceInInitialState().evaluate(ea), evaluation.evaluate(ea), 1.0E-12);
+        assertTrue(evaluation.areSnapshotsSkipped());
+        assertEquals(0, evaluation.getNoUpdates());
+
+        // steady-state steps (the snapshots are resumed)
+        for (int r = 0; r < ps; r++)
+        {
+            int rep = r;
+            TestUtils.compare(null, () -> ea.step(new EATimestamp(1, rep)));
+            assertEquals(igd.getInstanceInInitialState().evaluate(ea), evaluation.evaluate(ea), 1.0E-12);
+            assertFalse(evaluation.areSnapshotsSkipped());
+        }
+        assertTrue(evaluation.getNoUpdates() > 0);
+    }
+
+    /**
+     * Auxiliary method constructing the steady-state NSGA-II (one offspring per steady-state repeat).
+     *
+     * @param R             random number generator
+     * @param problemBundle problem bundle
+     * @param ps            population size
+     * @return NSGA-II
+     */
+    private static NSGAII getSteadyStateNSGAII(IRandom R, AbstractMOOProblemBundle problemBundle, int ps)
+    {
+        NSGAIIBuilder nsgaiiBuilder = new NSGAIIBuilder(R);
+        nsgaiiBuilder.setParentsSelector(new Random(2));
+        nsgaiiBuilder.setPopulationSize(ps);
+        nsgaiiBuilder.setProblemImplementations(problemBundle);
+        nsgaiiBuilder.setCriteria(problemBundle._criteria);
+        nsgaiiBuilder.setFixedOSBoundsLearningPolicy(problemBundle._normalizations);
+        nsgaiiBuilder.setEAParamsAdjuster(p -> {
+            p._offspringSize = 1;
+            p._expectedNumberOfSteadyStateRepeats = ps;
+        });
+        NSGAII nsgaii = null;
+        try
+        {
+            nsgaii = nsgaiiBuilder.getInstance();
+        } catch (EAException e)
+        {
+            fail(e.getMessage());
+        }
+        return nsgaii;
+    }
+}
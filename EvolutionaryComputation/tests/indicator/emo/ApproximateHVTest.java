@@ -0,0 +1,164 @@
+package indicator.emo;
+
+import emo.aposteriori.nsgaii.NSGAII;
+import emo.aposteriori.nsgaii.NSGAIIBuilder;
+import exception.EAException;
+import org.junit.jupiter.api.Test;
+import population.Specimen;
+import problem.Problem;
+import problem.moo.AbstractMOOProblemBundle;
+import problem.moo.dtlz.DTLZBundle;
+import random.IRandom;
+import random.MersenneTwister64;
+import selection.Random;
+
+import java.util.ArrayList;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+
+/**
+ * Various tests related to the approximate hypervolume calculation ({@link ApproximateHV}).
+ *
+ * @author MTomczyk
+ */
+class ApproximateHVTest
+{
+    /**
+     * Auxiliary method generating random points (some of them do not dominate the reference point).
+     *
+     * @param R random number generator
+     * @param n the number of points
+     * @param m the number of objectives
+     * @return specimens
+     */
+    private static ArrayList<Specimen> getSpecimens(IRandom R, int n, int m)
+    {
+        ArrayList<Specimen> S = new ArrayList<>(n);
+        for (int i = 0; i < n; i++)
+        {
+            double[] e = new double[m];
+            for (int j = 0; j < m; j++) e[j] = 0.2d + R.nextDouble();
+            S.add(new Specimen(e));
+        }
+        return S;
+    }
+
+    /**
+     * Tests if the estimates are close to the exact values (both sampling methods).
+     */
+    @Test
+    void accuracy()
+    {
+        IRandom R = new MersenneTwister64(0);
+        for (ApproximateHV.Sampling sampling : ApproximateHV.Sampling.values())
+        {
+            for (int m = 2; m <= 5; m++)
+            {
+                for (int t = 0; t < 5; t++)
+                {
+                    ArrayList<Specimen> S = getSpecimens(R, 10 + R.nextInt(30), m);
+                    HV hv = new HV(new HV.Params(m, null));
+                    double exact = hv.evaluate(S);
+
+                    ApproximateHV.Params pAHV = new ApproximateHV.Params(m, null, new MersenneTwister64(t));
+                    pAHV._sampling = sampling;
+                    pAHV._maxError = 1.0E-3;
+                    ApproximateHV ahv = new ApproximateHV(pAHV);
+                    double approx = ahv.evaluate(S);
+                    assertTrue(ahv.getLastNoSamples() > 0);
+                    assertTrue(ahv.getLastError() <= 1.0E-3);
+                    assertEquals(exact, approx, 3.0E-3);
+                }
+            }
+        }
+    }
+
+    /**
+     * Tests if the results do not depend on the number of threads used.
+     */
+    @Test
+    void reproducibility()
+    {
+        IRandom R = new MersenneTwister64(1);
+        ArrayList<Specimen> S = getSpecimens(R, 50, 8);
+        for (ApproximateHV.Sampling sampling : ApproximateHV.Sampling.values())
+        {
+            double expected = 0.0d;
+            for (int threads = 1; threads <= 4; threads++)
+            {
+                ApproximateHV.Params pAHV = new ApproximateHV.Params(8, null, new MersenneTwister64(2));
+                pAHV._sampling = sampling;
+                pAHV._noThreads = threads;
+                pAHV._maxSamples = 100000;
+                double v = new ApproximateHV(pAHV).evaluate(S);
+                if (threads == 1) expected = v;
+                else assertEquals(expected, v);
+            }
+            assertTrue(expected > 0.0d);
+        }
+    }
+
+    /**
+     * Tests special cases.
+     */
+    @Test
+    void specialCases()
+    {
+        ApproximateHV ahv = new ApproximateHV(new ApproximateHV.Params(3, null, new MersenneTwister64(0)));
+        ArrayList<Specimen> S = new ArrayList<>();
+        assertEquals(0.0d, ahv.evaluate(S), 1.0E-10);
+        S.add(new Specimen(new double[]{1.5d, 0.0d, 0.0d}));
+        assertEquals(0.0d, ahv.evaluate(S), 1.0E-10);
+        // a single point -> the sampling box equals the dominated region
+        S.add(new Specimen(new double[]{0.5d, 0.5d, 0.5d}));
+        assertEquals(0.125d, ahv.evaluate(S), 1.0E-10);
+        assertEquals(1.96d, ApproximateHV.getNormalQuantile(0.975d), 1.0E-3);
+        assertEquals(0.0d, ApproximateHV.getNormalQuantile(0.5d), 1.0E-8);
+    }
+
+    /**
+     * Tests if the clones derive their generators from the EA's generator (the results do not depend on the order in
+     * which the clones are created and evaluated).
+     */
+    @Test
+    void clones()
+    {
+        int m = 3;
+        AbstractMOOProblemBundle problemBundle = DTLZBundle.getBundle(Problem.DTLZ2, m, 10);
+        NSGAII[] eas = new NSGAII[2];
+        for (int t = 0; t < 2; t++)
+        {
+            NSGAIIBuilder nsgaiiBuilder = new NSGAIIBuilder(new MersenneTwister64(t));
+            nsgaiiBuilder.setParentsSelector(new Random(2));
+            nsgaiiBuilder.setPopulationSize(20);
+            nsgaiiBuilder.setProblemImplementations(problemBundle);
+            nsgaiiBuilder.setCriteria(problemBundle._criteria);
+            nsgaiiBuilder.setFixedOSBoundsLearningPolicy(problemBundle._normalizations);
+            try
+            {
+                eas[t] = nsgaiiBuilder.getInstance();
+                eas[t].init();
+            } catch (EAException e)
+            {
+                fail(e.getMessage());
+            }
+        }
+
+        ApproximateHV.Params pAHV = new ApproximateHV.Params(m, problemBundle._normalizations,
+                new double[]{1.1d, 1.1d, 1.1d}, new MersenneTwister64(0));
+        pAHV._noThreads = 2;
+        ApproximateHV reference = new ApproximateHV(pAHV);
+
+        ApproximateHV a0 = (ApproximateHV) reference.getInstanceInInitialState();
+        ApproximateHV a1 = (ApproximateHV) reference.getInstanceInInitialState();
+        ApproximateHV b1 = (ApproximateHV) reference.getInstanceInInitialState();
+        ApproximateHV b0 = (ApproximateHV) reference.getInstanceInInitialState();
+        double v1 = b1.evaluate(eas[1]);
+        double v0 = a0.evaluate(eas[0]);
+        assertEquals(v0, b0.evaluate(eas[0]));
+        assertEquals(v1, a1.evaluate(eas[1]));
+        assertNotEquals(v0, v1);
+        for (ApproximateHV ahv : new ApproximateHV[]{a0, a1, b0, b1}) ahv.dispose();
+    }
+}
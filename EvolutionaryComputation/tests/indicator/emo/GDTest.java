@@ -2,9 +2,12 @@ package indicator.emo;
 
 import org.junit.jupiter.api.Test;
 import population.Specimen;
+import random.IRandom;
+import random.MersenneTwister64;
 import space.distance.Chebyshev;
 import space.distance.Euclidean;
 import space.distance.IDistance;
+import space.nn.NearestNeighbourSearch;
 
 import java.util.ArrayList;
 
@@ -64,4 +67,33 @@ class GDTest
         double performance = gd.evaluate(specimens);
         assertEquals((1.0d + 1.0d + Math.sqrt(2.0d) + 2.0d * Math.sqrt(2.0d)) / 4.0d, performance, 0.000001d);
     }
-}
\ No newline at end of file
+
+    /**
+     * Tests if the results do not depend on the nearest neighbour search method and the number of threads.
+     */
+    @Test
+    void searchMethods()
+    {
+        IRandom R = new MersenneTwister64(0);
+        double[][] rp = new double[2000][3];
+        for (double[] r : rp)
+            for (int j = 0; j < 3; j++) r[j] = R.nextDouble();
+        ArrayList<Specimen> specimens = new ArrayList<>();
+        for (int i = 0; i < 300; i++) specimens.add(new Specimen(new double[]{R.nextDouble(), R.nextDouble(),
+                R.nextDouble()}));
+
+        for (IDistance distance : new IDistance[]{new Euclidean(), new Chebyshev()})
+        {
+            double expected = new GD(distance, rp, NearestNeighbourSearch.BRUTE_FORCE, 1).evaluate(specimens);
+            for (NearestNeighbourSearch search : NearestNeighbourSearch.values())
+            {
+                for (int threads : new int[]{1, 4})
+                {
+                    GD indicator = new GD(distance, rp, search, threads);
+                    assertEquals(expected, indicator.evaluate(specimens), 1.0E-12);
+                    assertEquals(expected, ((GD) indicator.getInstanceInInitialState()).evaluate(specimens), 1.0E-12);
+                }
+            }
+        }
+    }
+}
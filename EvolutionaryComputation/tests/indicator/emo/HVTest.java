@@ -470,4 +470,40 @@ class HVTest
         assertEquals(0.04d, hv.evaluate(S), 0.0000001d);
     }
 
-}
\ No newline at end of file
+
+    /**
+     * Tests if the dedicated algorithms (see {@link HV.Algorithm}) yield the same results as the reference WFG
+     * implementation.
+     */
+    @Test
+    void algorithms()
+    {
+        MersenneTwister64 R = new MersenneTwister64(0);
+        for (int M = 2; M <= 6; M++)
+        {
+            for (int t = 0; t < 10; t++)
+            {
+                int n = M <= 3 ? 200 : 30;
+                ArrayList<Specimen> S = new ArrayList<>(n);
+                for (int i = 0; i < n; i++)
+                {
+                    double[] e = new double[M];
+                    for (int j = 0; j < M; j++) e[j] = R.nextBoolean() ? 0.1d * R.nextInt(12) : 1.1d * R.nextDouble();
+                    S.add(new Specimen(e));
+                }
+
+                double exp = 0.0d;
+                for (HV.Algorithm algorithm : HV.Algorithm.values())
+                {
+                    HV.Params pHV = new HV.Params(M, null, null);
+                    pHV._algorithm = algorithm;
+                    HV hv = new HV(pHV);
+                    double result = hv.evaluate(S);
+                    if (algorithm == HV.Algorithm.REFERENCE_WFG) exp = result;
+                    else assertEquals(exp, result, 1.0E-10);
+                    assertEquals(result, ((HV) hv.getInstanceInInitialState()).evaluate(S), 0.0d);
+                }
+            }
+        }
+    }
+}
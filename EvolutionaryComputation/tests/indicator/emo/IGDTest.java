@@ -2,9 +2,12 @@ package indicator.emo;
 
 import org.junit.jupiter.api.Test;
 import population.Specimen;
+import random.IRandom;
+import random.MersenneTwister64;
 import space.distance.Chebyshev;
 import space.distance.Euclidean;
 import space.distance.IDistance;
+import space.nn.NearestNeighbourSearch;
 
 import java.util.ArrayList;
 
@@ -64,4 +67,71 @@ class IGDTest
         double performance = gd.evaluate(specimens);
         assertEquals((2.0d + 2.0d * Math.sqrt(2.0d) + Math.sqrt(5.0d)) / 4.0d, performance, 0.000001d);
     }
-}
\ No newline at end of file
+
+    /**
+     * Tests if the results do not depend on the nearest neighbour search method and the number of threads.
+     */
+    @Test
+    void searchMethods()
+    {
+        IRandom R = new MersenneTwister64(0);
+        double[][] rp = new double[2000][3];
+        for (double[] r : rp)
+            for (int j = 0; j < 3; j++) r[j] = R.nextDouble();
+        ArrayList<Specimen> specimens = new ArrayList<>();
+        for (int i = 0; i < 300; i++) specimens.add(new Specimen(new double[]{R.nextDouble(), R.nextDouble(),
+                R.nextDouble()}));
+
+        for (IDistance distance : new IDistance[]{new Euclidean(), new Chebyshev()})
+        {
+            double expected = new IGD(distance, rp, NearestNeighbourSearch.BRUTE_FORCE, 1).evaluate(specimens);
+            for (NearestNeighbourSearch search : NearestNeighbourSearch.values())
+            {
+                for (int threads : new int[]{1, 4})
+                {
+                    IGD indicator = new IGD(distance, rp, search, threads);
+                    assertEquals(expected, indicator.evaluate(specimens), 1.0E-12);
+                    assertEquals(expected, ((IGD) indicator.getInstanceInInitialState()).evaluate(specimens), 1.0E-12);
+                }
+            }
+        }
+    }
+
+    /**
+     * Tests if the distances are calculated as d(evaluation vector, reference point) (matters for asymmetric distance
+     * functions).
+     */
+    @Test
+    void asymmetricDistance()
+    {
+        IDistance distance = new Euclidean()
+        {
+            @Override
+            public double getDistance(double[] a, double[] b)
+            {
+                double d = 0.0d;
+                for (int j = 0; j < a.length; j++) d += Math.max(0.0d, a[j] - b[j]);
+                return d;
+            }
+        };
+        IRandom R = new MersenneTwister64(0);
+        double[][] rp = new double[300][3];
+        for (double[] r : rp)
+            for (int j = 0; j < 3; j++) r[j] = R.nextDouble();
+        ArrayList<Specimen> specimens = new ArrayList<>();
+        for (int i = 0; i < 50; i++) specimens.add(new Specimen(new double[]{R.nextDouble(), R.nextDouble(),
+                R.nextDouble()}));
+
+        double expected = 0.0d;
+        for (double[] r : rp)
+        {
+            double best = Double.POSITIVE_INFINITY;
+            for (Specimen s : specimens) best = Math.min(best, distance.getDistance(s.getEvaluations(), r));
+            expected += best;
+        }
+        expected /= rp.length;
+        for (int threads : new int[]{1, 4})
+            assertEquals(expected, new IGD(distance, rp, NearestNeighbourSearch.AUTO, threads).evaluate(specimens),
+                    1.0E-12);
+    }
+}
@@ -0,0 +1,117 @@
+package indicator.emo.hv;
+
+import org.junit.jupiter.api.Test;
+import random.IRandom;
+import random.MersenneTwister64;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Provides various tests for the implementations of {@link IHypervolume}.
+ *
+ * @author MTomczyk
+ */
+class IHypervolumeTest
+{
+    /**
+     * Tests the algorithms on random integer point sets (including dominated points and duplicates) for which the
+     * hypervolume is calculated exactly by counting the dominated unit cells.
+     */
+    @Test
+    void getHypervolume()
+    {
+        IRandom R = new MersenneTwister64(0);
+        int levels = 6;
+        for (int m = 1; m <= 5; m++)
+        {
+            for (int t = 0; t < 50; t++)
+            {
+                int n = R.nextInt(40);
+                double[][] points = new double[n][m];
+                for (int i = 0; i < n; i++)
+                    for (int j = 0; j < m; j++) points[i][j] = R.nextInt(levels + 1);
+                double[] rp = new double[m];
+                for (int j = 0; j < m; j++) rp[j] = levels;
+
+                double exp = countDominatedCells(points, m, levels);
+                assertEquals(exp, new FastWFG().getHypervolume(copy(points), rp), 1.0E-9);
+                if (m == 2) assertEquals(exp, new HV2D().getHypervolume(copy(points), rp), 1.0E-9);
+                if (m == 3) assertEquals(exp, new HV3D().getHypervolume(copy(points), rp), 1.0E-9);
+            }
+        }
+    }
+
+    /**
+     * Tests if the pooled buffers of {@link FastWFG} are correctly reused between calls (varying sizes).
+     */
+    @Test
+    void reuse()
+    {
+        IRandom R = new MersenneTwister64(1);
+        FastWFG wfg = new FastWFG();
+        for (int t = 0; t < 30; t++)
+        {
+            int m = 2 + R.nextInt(4);
+            int n = R.nextInt(30);
+            double[][] points = new double[n][m];
+            for (int i = 0; i < n; i++)
+                for (int j = 0; j < m; j++) points[i][j] = R.nextInt(5);
+            double[] rp = new double[m];
+            for (int j = 0; j < m; j++) rp[j] = 4.0d;
+            assertEquals(countDominatedCells(points, m, 4), wfg.getHypervolume(points, rp), 1.0E-9);
+        }
+    }
+
+    /**
+     * Auxiliary method counting the unit cells (in the [0, levels]^m box) dominated by the points.
+     *
+     * @param points points
+     * @param m      the number of objectives
+     * @param levels box size
+     * @return the number of dominated cells
+     */
+    private static double countDominatedCells(double[][] points, int m, int levels)
+    {
+        int cells = (int) Math.pow(levels, m);
+        int[] c = new int[m];
+        int count = 0;
+        for (int k = 0; k < cells; k++)
+        {
+            int r = k;
+            for (int j = 0; j < m; j++)
+            {
+                c[j] = r % levels;
+                r /= levels;
+            }
+            for (double[] p : points)
+            {
+                boolean dominates = true;
+                for (int j = 0; j < m; j++)
+                    if (p[j] > c[j])
+                    {
+                        dominates = false;
+                        break;
+                    }
+                if (dominates)
+                {
+                    count++;
+                    break;
+                }
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Auxiliary method copying the points (the algorithms may reorder the input array).
+     *
+     * @param points points
+     * @return copy
+     */
+    private static double[][] copy(double[][] points)
+    {
+        double[][] c = new double[points.length][];
+        for (int i = 0; i < points.length; i++) c[i] = points[i].clone();
+        return c;
+    }
+}
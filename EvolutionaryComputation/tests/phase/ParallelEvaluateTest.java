@@ -0,0 +1,146 @@
+package phase;
+
+import emo.aposteriori.nsgaii.NSGAII;
+import emo.aposteriori.nsgaii.NSGAIIBuilder;
+import exception.EAException;
+import exception.PhaseException;
+import org.junit.jupiter.api.Test;
+import population.Chromosome;
+import population.Specimen;
+import population.SpecimenID;
+import problem.Problem;
+import problem.moo.AbstractMOOProblemBundle;
+import problem.moo.dtlz.DTLZBundle;
+import random.IRandom;
+import random.MersenneTwister64;
+import runner.IRunner;
+import runner.Runner;
+import selection.Random;
+import utils.TestUtils;
+
+import java.util.ArrayList;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Provides various tests for {@link ParallelEvaluate}.
+ *
+ * @author MTomczyk
+ */
+class ParallelEvaluateTest
+{
+    /**
+     * Tests if the parallel evaluation yields the same results as the sequential one (various chunk sizes).
+     */
+    @Test
+    void evaluateSpecimens()
+    {
+        IEvaluate base = new DoubleEvaluate(v -> new double[]{v[0] + v[1], v[0] * v[1]});
+        for (int n : new int[]{0, 1, 2, 5, 17, 100})
+            for (int t : new int[]{1, 2, 3, 8})
+                for (int c : new int[]{0, 1, 4, 50})
+                {
+                    ArrayList<Specimen> specimens = new ArrayList<>(n);
+                    for (int i = 0; i < n; i++)
+                    {
+                        Specimen s = new Specimen(2, new SpecimenID(0, 0, 0, i));
+                        s.setChromosome(new Chromosome(new double[]{i, i + 1}));
+                        specimens.add(s);
+                    }
+
+                    ParallelEvaluate.Params pP = new ParallelEvaluate.Params(base, t);
+                    pP._chunkSize = c;
+                    ParallelEvaluate evaluate = new ParallelEvaluate(pP);
+                    TestUtils.compare(null, () -> evaluate.evaluateSpecimens(specimens));
+                    evaluate.dispose();
+
+                    for (int i = 0; i < n; i++)
+                    {
+                        assertEquals(i, specimens.get(i).getID()._no);
+                        assertEquals(2 * i + 1, specimens.get(i).getEvaluations()[0], 1.0E-10);
+                        assertEquals(i * (i + 1), specimens.get(i).getEvaluations()[1], 1.0E-10);
+                    }
+                }
+    }
+
+    /**
+     * Tests if the exception thrown by the base evaluator is propagated.
+     */
+    @Test
+    void exceptionPropagation()
+    {
+        IEvaluate base = specimens -> {
+            throw new PhaseException("Test", null);
+        };
+        ArrayList<Specimen> specimens = new ArrayList<>(10);
+        for (int i = 0; i < 10; i++) specimens.add(new Specimen(2, new SpecimenID(0, 0, 0, i)));
+        ParallelEvaluate evaluate = new ParallelEvaluate(base, 4);
+        TestUtils.compare("Test", () -> evaluate.evaluateSpecimens(specimens));
+        evaluate.dispose();
+    }
+
+    /**
+     * Tests if NSGA-II runs with the parallel evaluation mode yield the same results as the sequential ones.
+     */
+    @Test
+    void determinism()
+    {
+        int ps = 50;
+        int gens = 30;
+        NSGAII reference = getNSGAII(ps, 1, 0, false);
+        assertNotNull(reference);
+        IRunner runner = new Runner(new Runner.Params(reference));
+        TestUtils.compare(null, () -> runner.executeEvolution(gens));
+
+        for (int t : new int[]{2, 4, 7})
+            for (int c : new int[]{0, 3})
+                for (boolean fj : new boolean[]{false, true})
+                {
+                    NSGAII nsgaii = getNSGAII(ps, t, c, fj);
+                    assertNotNull(nsgaii);
+                    IRunner parallelRunner = new Runner(new Runner.Params(nsgaii));
+                    TestUtils.compare(null, () -> parallelRunner.executeEvolution(gens));
+                    assertEquals(reference.getSpecimensContainer().getNoPerformedFunctionEvaluations(),
+                            nsgaii.getSpecimensContainer().getNoPerformedFunctionEvaluations());
+                    ArrayList<Specimen> exp = reference.getSpecimensContainer().getPopulation();
+                    ArrayList<Specimen> res = nsgaii.getSpecimensContainer().getPopulation();
+                    assertEquals(exp.size(), res.size());
+                    for (int i = 0; i < exp.size(); i++)
+                    {
+                        TestUtils.assertEquals(exp.get(i).getDoubleDecisionVector(), res.get(i).getDoubleDecisionVector(), 0.0d);
+                        TestUtils.assertEquals(exp.get(i).getEvaluations(), res.get(i).getEvaluations(), 0.0d);
+                    }
+                }
+    }
+
+    /**
+     * Auxiliary method for instantiating NSGA-II.
+     *
+     * @param ps        population size
+     * @param noThreads the number of evaluation threads
+     * @param chunkSize chunk size
+     * @param forkJoin  if true, the common fork-join pool is used as an executor
+     * @return NSGA-II instance
+     */
+    private static NSGAII getNSGAII(int ps, int noThreads, int chunkSize, boolean forkJoin)
+    {
+        IRandom R = new MersenneTwister64(0);
+        AbstractMOOProblemBundle problemBundle = DTLZBundle.getBundle(Problem.DTLZ2, 3, 10);
+        NSGAIIBuilder nsgaiiBuilder = new NSGAIIBuilder(R);
+        nsgaiiBuilder.setParentsSelector(new Random(2));
+        nsgaiiBuilder.setPopulationSize(ps);
+        nsgaiiBuilder.setProblemImplementations(problemBundle);
+        nsgaiiBuilder.setCriteria(problemBundle._criteria);
+        nsgaiiBuilder.setFixedOSBoundsLearningPolicy(problemBundle._normalizations);
+        nsgaiiBuilder.setParallelSpecimensEvaluation(noThreads, chunkSize, forkJoin ? ForkJoinPool.commonPool() : null);
+        if (noThreads > 1) assertInstanceOf(ParallelEvaluate.class, nsgaiiBuilder.getSpecimensEvaluator());
+        try
+        {
+            return nsgaiiBuilder.getInstance();
+        } catch (EAException e)
+        {
+            return null;
+        }
+    }
+}
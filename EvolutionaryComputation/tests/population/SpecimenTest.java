@@ -111,4 +111,24 @@ class SpecimenTest
         assertEquals(s1, s2);
         assertFalse(s1.isChromosomeEqual(s2, Constants.EPSILON));
     }
-}
\ No newline at end of file
+
+    /**
+     * Tests the lazy naming.
+     */
+    @Test
+    public void testLazyName()
+    {
+        Specimen s1 = new Specimen(2);
+        assertEquals(new SpecimenID(0, 0, 0, 0).toString(), s1.getName());
+        SpecimenID id = new SpecimenID(1, 2, 3, 4);
+        s1.setID(id);
+        assertEquals(id.toString(), s1.getName());
+        s1.setChromosome(new Chromosome(new double[]{0.1d, 0.2d}));
+        s1.setEvaluations(new double[]{1.0d, 2.0d});
+
+        Specimen s2 = s1.getClone();
+        assertEquals(s1, s2);
+        assertEquals(s1.getName(), s2.getName());
+        assertNotSame(s1.getDoubleDecisionVector(), s2.getDoubleDecisionVector());
+    }
+}
@@ -0,0 +1,152 @@
+package runner;
+
+import emo.aposteriori.nsgaii.NSGAII;
+import exception.RunnerException;
+import org.junit.jupiter.api.Test;
+import population.Specimen;
+import problem.Problem;
+import problem.moo.AbstractMOOProblemBundle;
+import problem.moo.dtlz.DTLZBundle;
+import random.MersenneTwister64;
+import runner.enums.UpdaterMode;
+import visualization.IVisualization;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Provides various tests for {@link Runner}.
+ *
+ * @author MTomczyk
+ */
+class RunnerTest
+{
+    /**
+     * Tests if the concurrent execution of independent EAs yields the same populations as the sequential one.
+     */
+    @Test
+    void concurrentExecution()
+    {
+        AbstractMOOProblemBundle problemBundle = DTLZBundle.getBundle(Problem.DTLZ2, 3, 10);
+        int[] generations = new int[]{30, 20, 25};
+        ArrayList<ArrayList<double[]>> reference = null;
+        for (int threads : new int[]{1, 3})
+        {
+            NSGAII[] eas = new NSGAII[3];
+            for (int i = 0; i < 3; i++)
+                eas[i] = NSGAII.getNSGAII(i, false, 50, new MersenneTwister64(i), problemBundle);
+            Runner.Params pR = new Runner.Params(eas);
+            pR._noThreads = threads;
+            Runner runner = new Runner(pR);
+
+            String msg = null;
+            try
+            {
+                runner.executeEvolution(generations);
+                assertEquals(3, runner.getGenerationTimes().length);
+                for (int i = 0; i < 3; i++)
+                {
+                    assertTrue(runner.getGenerationTimes()[i] >= 0.0d);
+                    assertTrue(runner.getTotalGenerationTimes()[i] >= runner.getGenerationTimes()[i]);
+                }
+                runner.dispose();
+            } catch (RunnerException e)
+            {
+                msg = e.getMessage();
+            }
+            assertNull(msg);
+
+            ArrayList<ArrayList<double[]>> evaluations = new ArrayList<>();
+            for (NSGAII ea : eas)
+            {
+                ArrayList<double[]> e = new ArrayList<>();
+                for (Specimen s : ea.getSpecimensContainer().getPopulation()) e.add(s.getEvaluations());
+                evaluations.add(e);
+            }
+            if (reference == null) reference = evaluations;
+            else for (int i = 0; i < 3; i++)
+            {
+                assertEquals(reference.get(i).size(), evaluations.get(i).size());
+                for (int j = 0; j < reference.get(i).size(); j++)
+                    assertArrayEquals(reference.get(i).get(j), evaluations.get(i).get(j));
+            }
+        }
+    }
+
+    /**
+     * Tests if the EAs are executed sequentially (by the calling thread) when the visualization is updated after each
+     * steady-state repeat (the update would otherwise observe the EAs in the middle of their steps).
+     */
+    @Test
+    void sequentialWhenUpdatingAfterSteadyStateRepeats()
+    {
+        AbstractMOOProblemBundle problemBundle = DTLZBundle.getBundle(Problem.DTLZ2, 3, 10);
+        NSGAII[] eas = new NSGAII[3];
+        for (int i = 0; i < 3; i++)
+            eas[i] = NSGAII.getNSGAII(i, false, 10, new MersenneTwister64(i), problemBundle);
+
+        Set<Thread> threads = new HashSet<>();
+        int[] updates = new int[1];
+        IVisualization visualization = new IVisualization()
+        {
+            @Override
+            public void updateData()
+            {
+                threads.add(Thread.currentThread());
+                updates[0]++;
+            }
+
+            @Override
+            public boolean isWindowDisplayed()
+            {
+                return false;
+            }
+
+            @Override
+            public void init()
+            {
+            }
+
+            @Override
+            public void display()
+            {
+            }
+
+            @Override
+            public void startBackgroundThreads()
+            {
+            }
+
+            @Override
+            public void stopBackgroundThreads()
+            {
+            }
+
+            @Override
+            public void dispose()
+            {
+            }
+        };
+
+        Runner.Params pR = new Runner.Params(eas, visualization);
+        pR._updaterMode = UpdaterMode.AFTER_STEADY_STATE_REPEAT;
+        pR._noThreads = 3;
+        Runner runner = new Runner(pR);
+
+        String msg = null;
+        try
+        {
+            runner.executeEvolution(5);
+            runner.dispose();
+        } catch (RunnerException e)
+        {
+            msg = e.getMessage();
+        }
+        assertNull(msg);
+        assertEquals(Set.of(Thread.currentThread()), threads);
+        assertTrue(updates[0] > 0);
+    }
+}
@@ -7,8 +7,12 @@ import container.global.initializers.DefaultRandomNumberGeneratorInitializer;
 import container.global.initializers.IRandomNumberGeneratorInitializer;
 import exception.GlobalException;
 import exception.ScenarioException;
+import executor.TrialCheckpoint;
 import executor.TrialExecutor;
 import io.cross.ICrossSaver;
+import io.trial.BinarySaver;
+import io.trial.ChunkedBinaryLoader;
+import io.trial.ChunkedBinarySaver;
 import io.scenario.IScenarioSaver;
 import parser.Parser;
 import random.IRandom;
@@ -112,6 +116,40 @@ public abstract class AbstractGlobalDataContainer extends AbstractDataContainer
          */
         public int _monitorReportingInterval = 10000;
 
+        /**
+         * If true, each trial executor ({@link TrialExecutor}) maintains a compact binary checkpoint file (see
+         * {@link TrialCheckpoint}) in the scenario folder. The checkpoint marks the completion of the trial (it is
+         * removed when the trial starts and written when the trial is completed).
+         */
+        public boolean _checkpointTrials = false;
+
+        /**
+         * If true, the trials whose checkpoints (see {@link TrialCheckpoint}) report completion (with the same
+         * number of generations and performance indicators) are not executed again (they are reported as completed);
+         * the remaining (e.g., interrupted) trials are executed from scratch. As the random number generators are
+         * derived from the scenario and the trial ID, the results are identical to those derived by an uninterrupted
+         * experiment (provided that the trials are reproducible). Setting this flag enables the checkpoints as well
+         * (see {@link Params#_checkpointTrials}).
+         */
+        public boolean _resumeTrials = false;
+
+        /**
+         * If true, the results of all performance indicators of a trial are stored in one (chunked) file (see
+         * {@link ChunkedBinarySaver}) instead of one binary file per indicator ({@link BinarySaver}), and they are
+         * retrieved accordingly when summarizing the scenarios (see {@link ChunkedBinaryLoader}). This reduces the
+         * number of open files and write calls when many trials are processed concurrently.
+         */
+        public boolean _consolidateTrialResults = false;
+
+        /**
+         * If true, the summarizers ({@link executor.ScenariosSummarizer} and {@link executor.CrossSummarizer}) read the
+         * trial results via a memory-mapped, columnar store kept in each scenario folder (see
+         * {@link io.scenario.ScenarioResultsStore}) instead of re-reading the trial-level files in each pass. The store
+         * is built by the first summarizer that needs it and reused afterward (provided that it is valid and not older
+         * than the trial-level files; otherwise, it is rebuilt).
+         */
+        public boolean _mapScenarioResults = false;
+
 
         /**
          * Auxiliary field (can be null, not used) that provides conditions for excluding a trial from processing.
@@ -224,6 +262,26 @@ public abstract class AbstractGlobalDataContainer extends AbstractDataContainer
      */
     private int _monitorReportingInterval;
 
+    /**
+     * If true, each trial executor maintains a compact binary checkpoint file.
+     */
+    private boolean _checkpointTrials;
+
+    /**
+     * If true, the trials whose checkpoints report completion are not executed again.
+     */
+    private boolean _resumeTrials;
+
+    /**
+     * If true, the results of all performance indicators of a trial are stored in one (chunked) file.
+     */
+    private boolean _consolidateTrialResults;
+
+    /**
+     * If true, the summarizers read the trial results via a memory-mapped, columnar store.
+     */
+    private boolean _mapScenarioResults;
+
     /**
      * By default, all key/value labels are supposed to consist of only [a-z] (it will be translated into upper case),
      * [A-Z], [0-9] characters; the reason is to mitigate potential errors caused, e.g., when creating folders based
@@ -329,6 +387,7 @@ public abstract class AbstractGlobalDataContainer extends AbstractDataContainer
         instantiateMainPath(_p);
         instantiateUseMonitorThreadFlag(_p);
         instantiateMonitorReportingDelay(_p);
+        instantiateCheckpointFlags(_p);
         instantiateReferenceScenarioSavers(_p);
         instantiateCrossedSettings(_p);
         instantiateCrossedFolderName(_p);
@@ -559,6 +618,19 @@ public abstract class AbstractGlobalDataContainer extends AbstractDataContainer
     }
 
 
+    /**
+     * Instantiates the checkpoint-related flags and the results consolidation/mapping flags.
+     *
+     * @param p params container
+     */
+    private void instantiateCheckpointFlags(Params p)
+    {
+        _resumeTrials = p._resumeTrials;
+        _checkpointTrials = (p._checkpointTrials) || (p._resumeTrials);
+        _consolidateTrialResults = p._consolidateTrialResults;
+        _mapScenarioResults = p._mapScenarioResults;
+    }
+
     /**
      * Instantiates the monitor reporting interval.
      *
@@ -738,6 +810,49 @@ public abstract class AbstractGlobalDataContainer extends AbstractDataContainer
         return _useMonitorThread;
     }
 
+    /**
+     * Can be used to check whether the trial executors are expected to maintain the checkpoint files.
+     *
+     * @return true = the checkpoints are expected to be maintained; false otherwise
+     */
+    public boolean useTrialCheckpoints()
+    {
+        return _checkpointTrials;
+    }
+
+    /**
+     * Can be used to check whether the trials completed in a previous execution (as reported by the checkpoints)
+     * should not be executed again.
+     *
+     * @return true = the completed trials should be resumed (not executed again); false otherwise
+     */
+    public boolean resumeTrials()
+    {
+        return _resumeTrials;
+    }
+
+    /**
+     * Can be used to check whether the results of all performance indicators of a trial are expected to be stored in
+     * one (chunked) file.
+     *
+     * @return true = the results are consolidated; false = one binary file per indicator is used
+     */
+    public boolean consolidateTrialResults()
+    {
+        return _consolidateTrialResults;
+    }
+
+    /**
+     * Can be used to check whether the summarizers are expected to read the trial results via a memory-mapped,
+     * columnar store (see {@link io.scenario.ScenarioResultsStore}).
+     *
+     * @return true = the results are read via the store; false = the trial-level files are read directly
+     */
+    public boolean mapScenarioResults()
+    {
+        return _mapScenarioResults;
+    }
+
     /**
      * Getter for the monitor reporting interval.
      *
@@ -6,6 +6,7 @@ import container.scenario.intializers.*;
 import exception.ScenarioException;
 import indicator.IIndicator;
 import io.trial.BinaryLoader;
+import io.trial.ChunkedBinaryLoader;
 import scenario.Scenario;
 import statistics.IStatistic;
 
@@ -115,6 +116,12 @@ public class ScenarioDataContainerFactory extends AbstractDataContainer
      */
     private final BinaryLoader _binaryLoader;
 
+    /**
+     * Specifies a binary loader for loading per-trial data when the results are consolidated (see
+     * {@link container.global.AbstractGlobalDataContainer#consolidateTrialResults()}).
+     */
+    private final ChunkedBinaryLoader _chunkedBinaryLoader;
+
     /**
      * The number of generations the EA will be run for.
      */
@@ -210,6 +217,7 @@ public class ScenarioDataContainerFactory extends AbstractDataContainer
     {
         super(p);
         _binaryLoader = new BinaryLoader();
+        _chunkedBinaryLoader = new ChunkedBinaryLoader();
         _generations = p._generations;
         _steadyStateRepeats = p._steadyStateRepeats;
         _objectives = p._objectives;
@@ -254,7 +262,8 @@ public class ScenarioDataContainerFactory extends AbstractDataContainer
         AbstractScenarioDataContainer.Params p = new AbstractScenarioDataContainer.Params(GDC, scenario, validator);
         passParams(p);
 
-        p._binaryLoader = _binaryLoader;
+        if (GDC.consolidateTrialResults()) p._binaryLoader = _chunkedBinaryLoader;
+        else p._binaryLoader = _binaryLoader;
         p._generations = _generations;
         p._objectives = _objectives;
         p._steadyStateRepeats = _steadyStateRepeats;
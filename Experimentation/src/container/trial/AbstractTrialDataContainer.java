@@ -10,6 +10,7 @@ import ea.IEA;
 import exception.TrialException;
 import indicator.IIndicator;
 import io.trial.BinarySaver;
+import io.trial.ChunkedBinarySaver;
 import io.trial.ITrialSaver;
 import io.trial.TSPerIndicator;
 import problem.AbstractProblemBundle;
@@ -220,7 +221,7 @@ public abstract class AbstractTrialDataContainer extends AbstractDataContainer
         _trialSavers = p._trialSavers;
         boolean contains = false;
         for (ITrialSaver ts : _trialSavers)
-            if (ts instanceof BinarySaver)
+            if ((ts instanceof BinarySaver) || (ts instanceof ChunkedBinarySaver))
             {
                 contains = true;
                 break;
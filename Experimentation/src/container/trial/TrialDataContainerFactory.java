@@ -5,6 +5,7 @@ import container.scenario.AbstractScenarioDataContainer;
 import container.trial.initialziers.*;
 import exception.TrialException;
 import io.trial.BinarySaver;
+import io.trial.ChunkedBinarySaver;
 import io.trial.ITrialSaver;
 import random.IRandom;
 
@@ -86,6 +87,12 @@ public class TrialDataContainerFactory extends AbstractDataContainer
      */
     private final LinkedList<ITrialSaver> _trialSavers;
 
+    /**
+     * Saver replacing the default binary saver when the results are to be consolidated (see
+     * {@link container.global.AbstractGlobalDataContainer#consolidateTrialResults()}).
+     */
+    private final ChunkedBinarySaver _chunkedBinarySaver = new ChunkedBinarySaver();
+
     /**
      * The object for retrieving instances of {@link AbstractScenarioDataContainer}.
      */
@@ -122,10 +129,11 @@ public class TrialDataContainerFactory extends AbstractDataContainer
         try
         {
             Validator validator = new Validator(SDC.getScenario(), trialID);
-            validator.validateTrialSavers(_trialSavers);
+            LinkedList<ITrialSaver> trialSavers = getTrialSavers(SDC);
+            validator.validateTrialSavers(trialSavers);
             AbstractTrialDataContainer.Params p = new AbstractTrialDataContainer.Params(SDC, trialID);
             passParams(p);
-            p._trialSavers = _trialSavers;
+            p._trialSavers = trialSavers;
             p._validator = validator;
             p._eaInitializer = _eaInitializer;
             p._runnerInitializer = _runnerInitializer;
@@ -138,6 +146,26 @@ public class TrialDataContainerFactory extends AbstractDataContainer
         }
     }
 
+    /**
+     * Returns the trial savers to be used. If the results are to be consolidated (see
+     * {@link container.global.AbstractGlobalDataContainer#consolidateTrialResults()}), the default binary saver is
+     * replaced with {@link ChunkedBinarySaver}.
+     *
+     * @param SDC the scenario data container
+     * @return trial savers
+     */
+    private LinkedList<ITrialSaver> getTrialSavers(AbstractScenarioDataContainer SDC)
+    {
+        if ((SDC.getGDC() == null) || (!SDC.getGDC().consolidateTrialResults())) return _trialSavers;
+        LinkedList<ITrialSaver> trialSavers = new LinkedList<>();
+        for (ITrialSaver ts : _trialSavers)
+        {
+            if ((ts != null) && (ts.getClass().equals(BinarySaver.class))) trialSavers.add(_chunkedBinarySaver);
+            else trialSavers.add(ts);
+        }
+        return trialSavers;
+    }
+
 
     /**
      * Getter for the trial data container instance (intended to be overwritten).
@@ -2,6 +2,8 @@ package container.trial;
 
 import ea.IEA;
 import exception.TrialException;
+import io.trial.IMultiIndicatorTrialSaver;
+import io.trial.IPerIndicatorTrialSaver;
 import io.trial.ITrialSaver;
 import runner.IRunner;
 import scenario.Scenario;
@@ -64,10 +66,11 @@ public class Validator
     }
 
     /**
-     * Validates if the trial savers are provided and are unique (based on a suffix comparison).
+     * Validates if the trial savers are provided, are unique (based on a suffix comparison), and implement either
+     * {@link IPerIndicatorTrialSaver} or {@link IMultiIndicatorTrialSaver}.
      *
      * @param trialSavers list of trial savers (objects responsible for storing trial-level data).
-     * @throws TrialException the exception is thrown when trial savers are not provided (or are not unique)
+     * @throws TrialException the exception is thrown when trial savers are not provided (or are not valid)
      */
     protected void validateTrialSavers(LinkedList<ITrialSaver> trialSavers) throws TrialException
     {
@@ -83,6 +86,9 @@ public class Validator
         {
             if (ts == null)
                 throw new TrialException("One of the file savers is null", null, this.getClass(), _scenario, _trialID);
+            if ((!(ts instanceof IPerIndicatorTrialSaver)) && (!(ts instanceof IMultiIndicatorTrialSaver)))
+                throw new TrialException("The trial saver (" + ts.getFileSuffix() + ") should implement either the per-indicator or the multi-indicator interface",
+                        null, this.getClass(), _scenario, _trialID);
             if (suffixes.contains(ts.getFileSuffix()))
                 throw new TrialException("The trial savers' file suffixes are not unique (" + ts.getFileSuffix() + " is duplicated)",
                         null, this.getClass(), _scenario, _trialID);
@@ -0,0 +1,127 @@
+package executor;
+
+import exception.GlobalException;
+import summary.TrialSummary;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Global trial scheduler that dispatches the trials of many scenarios (prepared via {@link ScenarioExecutor#prepare()})
+ * into one work-stealing pool (see {@link Executors#newWorkStealingPool(int)}). Thus, the threads do not idle at the
+ * tail of each scenario (waiting for the stragglers), as it happens when each scenario is processed by a separate
+ * {@link TrialPoolExecutor}. The trials are submitted in the order of decreasing expected cost
+ * (see {@link ScenarioExecutor#getExpectedTrialCost()}; the ties are resolved in favor of the scenarios that come first,
+ * and then the trials that come first), and the pool processes the external submissions in the FIFO order, so the
+ * longest trials are started first. The future objects are passed to the scenario executors (ordered as their
+ * trial executors), hence the scenario-level summaries are derived as usual.
+ *
+ * @author MTomczyk
+ */
+public class CrossScenarioTrialScheduler
+{
+    /**
+     * Auxiliary class linking a trial executor with its scenario executor.
+     */
+    private static final class ScheduledTrial
+    {
+        /**
+         * Scenario executor.
+         */
+        private final ScenarioExecutor _scenarioExecutor;
+
+        /**
+         * Trial executor.
+         */
+        private final TrialExecutor _trialExecutor;
+
+        /**
+         * Index of the trial executor (in the scenario executor).
+         */
+        private final int _index;
+
+        /**
+         * Expected cost of the trial.
+         */
+        private final double _cost;
+
+        /**
+         * Parameterized constructor.
+         *
+         * @param scenarioExecutor scenario executor
+         * @param index            index of the trial executor (in the scenario executor)
+         * @param cost             expected cost of the trial
+         */
+        private ScheduledTrial(ScenarioExecutor scenarioExecutor, int index, double cost)
+        {
+            _scenarioExecutor = scenarioExecutor;
+            _trialExecutor = scenarioExecutor.getTrialExecutors().get(index);
+            _index = index;
+            _cost = cost;
+        }
+    }
+
+    /**
+     * Executor service responsible for running/handling the trial executors {@link TrialExecutor}.
+     */
+    protected ExecutorService _executorService;
+
+    /**
+     * Parameterized constructor.
+     *
+     * @param threads the number of threads
+     */
+    public CrossScenarioTrialScheduler(int threads)
+    {
+        _executorService = Executors.newWorkStealingPool(threads);
+    }
+
+    /**
+     * Submits the trials of the scenario executors for execution (the executors should be prepared; see
+     * {@link ScenarioExecutor#prepare()}). The method does not wait for the trials to finish
+     * (see {@link ScenarioExecutor#await()}).
+     *
+     * @param scenarioExecutors scenario executors
+     */
+    public void execute(List<ScenarioExecutor> scenarioExecutors)
+    {
+        ArrayList<ScheduledTrial> trials = new ArrayList<>();
+        for (ScenarioExecutor SE : scenarioExecutors)
+        {
+            double cost = SE.getExpectedTrialCost();
+            ArrayList<Future<TrialSummary>> futures = new ArrayList<>(SE.getTrialExecutors().size());
+            for (int t = 0; t < SE.getTrialExecutors().size(); t++)
+            {
+                trials.add(new ScheduledTrial(SE, t, cost));
+                futures.add(null);
+            }
+            SE.setTrialFutures(futures);
+        }
+
+        // stable sort (ties: the submission order)
+        trials.sort(Comparator.comparingDouble((ScheduledTrial t) -> t._cost).reversed());
+        for (ScheduledTrial t : trials)
+            t._scenarioExecutor._trialFutures.set(t._index, _executorService.submit(t._trialExecutor));
+    }
+
+    /**
+     * Clears the data.
+     *
+     * @throws GlobalException the global exception can be thrown
+     */
+    public void dispose() throws GlobalException
+    {
+        try
+        {
+            _executorService.shutdown();
+            _executorService = null;
+        } catch (Exception e)
+        {
+            throw new GlobalException(e.getMessage(), this.getClass(), e);
+        }
+    }
+}
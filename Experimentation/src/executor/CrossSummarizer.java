@@ -10,6 +10,7 @@ import exception.TrialException;
 import indicator.IIndicator;
 import io.cross.CrossSavers;
 import io.cross.ICrossSaver;
+import io.scenario.ScenarioResultsStore;
 import io.trial.TLPITrialWrapper;
 import io.trial.TLPerIndicator;
 import io.utils.pusher.CrossPusher;
@@ -70,10 +71,15 @@ public class CrossSummarizer extends ExperimentPerformer
      * Parameterized constructor.
      *
      * @param p params container
+     * @throws IllegalArgumentException the exception is thrown when the cross-scenario scheduling is enabled (see
+     *                                  {@link ExperimentPerformer.Params#_crossScenarioScheduling}; the summarizer does
+     *                                  not execute trials)
      */
     public CrossSummarizer(Params p)
     {
         super(p);
+        if (p._crossScenarioScheduling)
+            throw new IllegalArgumentException("The cross-scenario scheduling is not supported by the summarizer");
     }
 
 
@@ -81,10 +87,15 @@ public class CrossSummarizer extends ExperimentPerformer
      * Parameterized constructor.
      *
      * @param p params container
+     * @throws IllegalArgumentException the exception is thrown when the cross-scenario scheduling is enabled (see
+     *                                  {@link ExperimentPerformer.Params#_crossScenarioScheduling}; the summarizer does
+     *                                  not execute trials)
      */
     public CrossSummarizer(ExperimentPerformer.Params p)
     {
         super(p);
+        if (p._crossScenarioScheduling)
+            throw new IllegalArgumentException("The cross-scenario scheduling is not supported by the summarizer");
     }
 
     /**
@@ -299,12 +310,24 @@ public class CrossSummarizer extends ExperimentPerformer
     {
         IPusher pusher = new CrossPusher(crossSavers);
 
-        _log.log("Loading binary files", Level.CrossedScenarios, _indent);
-        TLPITrialWrapper loaders = getAndOpenBinaryLoaders(SDC);
-        if (loaders == null)
+        ScenarioResultsStore store = null;
+        TLPITrialWrapper loaders = null;
+        if (_GDC.mapScenarioResults())
         {
-            closeBinaryLoaders(SDC.getBinaryLoaders());
-            throw new CrossedScenariosException("Could not load binary files",  null, this.getClass(), crossedScenarios);
+            _log.log("Mapping the results store", Level.CrossedScenarios, _indent);
+            store = getResultsStore(SDC);
+            if (store == null)
+                throw new CrossedScenariosException("Could not map the results store",  null, this.getClass(), crossedScenarios);
+        }
+        else
+        {
+            _log.log("Loading binary files", Level.CrossedScenarios, _indent);
+            loaders = getAndOpenBinaryLoaders(SDC);
+            if (loaders == null)
+            {
+                closeBinaryLoaders(SDC.getBinaryLoaders());
+                throw new CrossedScenariosException("Could not load binary files",  null, this.getClass(), crossedScenarios);
+            }
         }
 
         int generations = SDC.getGenerations();
@@ -316,7 +339,10 @@ public class CrossSummarizer extends ExperimentPerformer
 
             try
             {
-                Utils.loadAndPushBinaryData(_GDC, loaders, pusher, scenario, SDC, generations, indicatorID, indicator);
+                if (store != null)
+                    Utils.pushStoredData(store, pusher, scenario, SDC, SDC.getStatisticFunctions(), generations, indicatorID, indicator);
+                else
+                    Utils.loadAndPushBinaryData(_GDC, loaders, pusher, scenario, SDC, SDC.getStatisticFunctions(), generations, indicatorID, indicator);
 
             } catch (ScenarioException e)
             {
@@ -328,11 +354,39 @@ public class CrossSummarizer extends ExperimentPerformer
             if (!notifySaversIndicatorProcessingEnds(crossSavers)) break;
         }
 
+        if (store != null)
+        {
+            store.dispose();
+            return;
+        }
+
         _log.log("Closing binary files", Level.CrossedScenarios, _indent);
         if (!closeBinaryLoaders(loaders))
             throw new CrossedScenariosException("Could not close binary files",  null, this.getClass(), crossedScenarios);
     }
 
+    /**
+     * Auxiliary method for getting the memory-mapped results store of a scenario (see {@link ScenarioResultsStore}).
+     * The existing store is reused if it is valid and not older than the trial-level files; otherwise, it is built.
+     *
+     * @param SDC scenario data container
+     * @return the store; the method returns null if some exception occurs
+     */
+    private ScenarioResultsStore getResultsStore(AbstractScenarioDataContainer SDC)
+    {
+        ScenarioResultsStore store = Utils.openResultsStore(_GDC, SDC);
+        if (store != null) return store;
+        try
+        {
+            _log.log("Building the results store", Level.Scenario, _indent);
+            return Utils.createResultsStore(_GDC, SDC);
+        } catch (ScenarioException e)
+        {
+            _log.log("Results store could not be built " + e.getDetailedReasonMessage(), Level.Scenario, _indent);
+            return null;
+        }
+    }
+
     /**
      * Auxiliary method for notifying the savers that the per-indicator processing begins.
      *
@@ -19,6 +19,7 @@ import utils.Log;
 
 import java.io.File;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 
 /**
  * The main executor class (responsible for conducting the experiments).
@@ -81,6 +82,14 @@ public class ExperimentPerformer extends AbstractExecutor
          */
         public boolean _addTimestamp = true;
 
+        /**
+         * If true, the trials of all enabled scenarios are dispatched into one (global) work-stealing pool (see
+         * {@link CrossScenarioTrialScheduler}), so that the threads do not idle at the tail of each scenario. The
+         * scenario-level summaries are derived as usual. If false, the scenarios are processed one by one (each using
+         * its own thread pool). The summarizers do not execute trials and reject this setting.
+         */
+        public boolean _crossScenarioScheduling = false;
+
         /**
          * Default constructor.
          */
@@ -117,6 +126,11 @@ public class ExperimentPerformer extends AbstractExecutor
      */
     protected final TrialDataContainerFactory _TDCF;
 
+    /**
+     * If true, the trials of all enabled scenarios are dispatched into one (global) work-stealing pool.
+     */
+    protected final boolean _crossScenarioScheduling;
+
     /**
      * Parameterized constructor.
      *
@@ -129,6 +143,7 @@ public class ExperimentPerformer extends AbstractExecutor
         _GDC = p._GDC;
         _SDCF = p._SDCF;
         _TDCF = p._TDCF;
+        _crossScenarioScheduling = p._crossScenarioScheduling;
     }
 
     /**
@@ -215,14 +230,19 @@ public class ExperimentPerformer extends AbstractExecutor
         int terminatedTrials = 0;
         int skippedTrials = 0;
 
+        if (_GDC.resumeTrials())
+            _log.log("Resume mode (the trials completed according to the checkpoints are not executed again)", Level.Global, _indent);
+
         instantiateScenarioSummaries(summary);
+        Status[] statuses = null;
+        if (isJointScenarioProcessing()) statuses = processScenariosJointly(summary);
 
         for (int sc = 0; sc < _GDC.getScenarios().getScenarios().length; sc++)
         {
             Scenario scenario = _GDC.getScenarios().getScenarios()[sc];
             ScenarioSummary sSummary = summary.getScenariosSummaries()[sc];
 
-            if ((scenario.isDisabled()) || (checkScenarioDisablingConditions(scenario)))
+            if (isScenarioSkipped(scenario))
             {
                 skippedScenarios++;
                 sSummary.setStartTimestamp(LocalDateTime.now());
@@ -235,7 +255,9 @@ public class ExperimentPerformer extends AbstractExecutor
                 continue;
             }
 
-            Status status = processScenario(scenario, sSummary);
+            Status status;
+            if (statuses != null) status = statuses[sc];
+            else status = processScenario(scenario, sSummary);
             if (status == Status.COMPLETED) completedScenarios++;
             else if (status == Status.TERMINATED) terminatedScenarios++;
 
@@ -252,6 +274,140 @@ public class ExperimentPerformer extends AbstractExecutor
         summary.setSkippedTrials(skippedTrials);
     }
 
+    /**
+     * Processes all enabled scenarios jointly: the scenario executors are prepared first (see
+     * {@link ScenarioExecutor#prepare()}), then the trials of all scenarios are dispatched via
+     * {@link CrossScenarioTrialScheduler}, and, finally, the scenarios are finalized (in order) when all their trials
+     * finish. The stop timestamp of a scenario is the latest stop timestamp of its trials. The scenario summaries of
+     * the skipped scenarios are not altered.
+     *
+     * @param summary summary object to be filled throughout the execution
+     * @return processing statuses (null elements correspond to the skipped scenarios)
+     * @throws GlobalException global exception can be thrown
+     */
+    protected Status[] processScenariosJointly(Summary summary) throws GlobalException
+    {
+        Scenario[] scenarios = _GDC.getScenarios().getScenarios();
+        Status[] statuses = new Status[scenarios.length];
+        ScenarioExecutor[] executors = new ScenarioExecutor[scenarios.length];
+        ArrayList<ScenarioExecutor> prepared = new ArrayList<>(scenarios.length);
+
+        for (int sc = 0; sc < scenarios.length; sc++)
+        {
+            if (isScenarioSkipped(scenarios[sc])) continue;
+            ScenarioSummary sSummary = summary.getScenariosSummaries()[sc];
+            statuses[sc] = preProcessScenario(scenarios[sc], sSummary);
+            try
+            {
+                AbstractScenarioDataContainer SDC = _SDCF.getInstance(_GDC, scenarios[sc], new Validator(scenarios[sc], false));
+                executors[sc] = instantiateScenarioExecutor(SDC, _TDCF, sSummary);
+                executors[sc].prepare();
+                prepared.add(executors[sc]);
+            } catch (ScenarioException e)
+            {
+                sSummary.setExceptionMessage(_log.printTerminationMessage(e));
+                sSummary.setTerminationDueToException(true);
+                sSummary.setStopTimestamp(LocalDateTime.now());
+                statuses[sc] = postProcessScenario(Status.TERMINATED, scenarios[sc], sSummary);
+                if (executors[sc] != null)
+                {
+                    try
+                    {
+                        executors[sc].dispose();
+                    } catch (ScenarioException ex)
+                    {
+                        _log.log("Exception occurred during the disposal of scenario = " + scenarios[sc] + " " + ex.getDetailedReasonMessage(), Level.Global, _indent);
+                    }
+                    executors[sc] = null;
+                }
+            }
+        }
+
+        _log.log("Dispatching the trials of " + prepared.size() + " scenarios", Level.Global, _indent);
+        CrossScenarioTrialScheduler scheduler = instantiateCrossScenarioTrialScheduler();
+        for (ScenarioExecutor SE : prepared) SE.startMonitor();
+        scheduler.execute(prepared);
+
+        for (int sc = 0; sc < scenarios.length; sc++)
+        {
+            if (executors[sc] == null) continue;
+            ScenarioSummary sSummary = summary.getScenariosSummaries()[sc];
+            Status status;
+            try
+            {
+                executors[sc].await();
+                status = Status.COMPLETED;
+            } catch (ScenarioException e)
+            {
+                sSummary.setExceptionMessage(_log.printTerminationMessage(e));
+                sSummary.setTerminationDueToException(true);
+                status = Status.TERMINATED;
+            }
+
+            LocalDateTime stop = executors[sc].getTrialsStopTimestamp();
+            sSummary.setStopTimestamp(stop == null ? LocalDateTime.now() : stop);
+            disposeScenarioExecutor(scenarios[sc], executors[sc]);
+            statuses[sc] = postProcessScenario(status, scenarios[sc], sSummary);
+        }
+
+        scheduler.dispose();
+        return statuses;
+    }
+
+    /**
+     * Auxiliary method for checking whether the scenarios should be processed jointly (see
+     * {@link #processScenariosJointly(Summary)}) instead of one by one.
+     *
+     * @return true = the scenarios are processed jointly (the cross-scenario scheduling is enabled); false otherwise
+     */
+    protected boolean isJointScenarioProcessing()
+    {
+        return _crossScenarioScheduling;
+    }
+
+    /**
+     * Auxiliary method that performs the execution summary and disposes the scenario executor.
+     *
+     * @param scenario scenario being currently processed
+     * @param SE       scenario executor (can be null)
+     */
+    protected void disposeScenarioExecutor(Scenario scenario, ScenarioExecutor SE)
+    {
+        try
+        {
+            if (SE != null)
+            {
+                SE.doExecutionSummary();
+                SE.dispose();
+            }
+        } catch (ScenarioException e)
+        {
+            _log.log("Exception occurred during the disposal of scenario = " + scenario + " " + e.getDetailedReasonMessage(), Level.Global, _indent);
+        }
+    }
+
+    /**
+     * Auxiliary method that creates the global trial scheduler (used when the cross-scenario scheduling is enabled).
+     *
+     * @return global trial scheduler
+     */
+    protected CrossScenarioTrialScheduler instantiateCrossScenarioTrialScheduler()
+    {
+        return new CrossScenarioTrialScheduler(_GDC.getNoThreads());
+    }
+
+    /**
+     * Auxiliary method for checking whether the scenario should be skipped (it is disabled or the scenario disabling
+     * conditions are in favor of its exclusion).
+     *
+     * @param scenario scenario to be examined
+     * @return true = scenario should be skipped; false otherwise
+     */
+    protected boolean isScenarioSkipped(Scenario scenario)
+    {
+        return (scenario.isDisabled()) || (checkScenarioDisablingConditions(scenario));
+    }
+
     /**
      * Auxiliary method for checking whether the scenario should be disabled given the scenario disabling conditions
      * (see {@link ScenarioDisablingConditions}). If at least one scenario disabling conditions object
@@ -341,18 +497,7 @@ public class ExperimentPerformer extends AbstractExecutor
         }
 
         scenarioSummary.setStopTimestamp(LocalDateTime.now());
-
-        try
-        {
-            if (SE != null)
-            {
-                SE.doExecutionSummary();
-                SE.dispose();
-            }
-        } catch (ScenarioException e)
-        {
-            _log.log("Exception occurred during the disposal of scenario = " + scenario + " " + e.getDetailedReasonMessage(), Level.Global, _indent);
-        }
+        disposeScenarioExecutor(scenario, SE);
 
         return status;
     }
@@ -403,7 +548,6 @@ public class ExperimentPerformer extends AbstractExecutor
             throw new GlobalException("Trial Data Container Factory is not provided", null, this.getClass());
     }
 
-
     /**
      * Auxiliary method for printing the initial log.
      */
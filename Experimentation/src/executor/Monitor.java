@@ -12,6 +12,7 @@ import java.util.LinkedList;
 import java.util.ListIterator;
 import java.util.concurrent.Callable;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.locks.LockSupport;
 
 /**
  * The monitor thread is run along the regular trial threads ({@link TrialExecutor}.
@@ -58,6 +59,11 @@ public class Monitor implements Callable<MonitorReport>
         public int _delay = 0;
     }
 
+    /**
+     * Maximal interval between subsequent checks of the trials' states (in nanoseconds).
+     */
+    private static final long POLLING_INTERVAL = 1000000L;
+
     /**
      * Indent used when printing the reports.
      */
@@ -127,6 +133,8 @@ public class Monitor implements Callable<MonitorReport>
                     printReport();
                     startTime = System.nanoTime();
                 }
+                // do not occupy the core (many monitors can run simultaneously; see CrossScenarioTrialScheduler)
+                LockSupport.parkNanos(Math.min(_delay, POLLING_INTERVAL));
             }
 
             _latch.countDown();
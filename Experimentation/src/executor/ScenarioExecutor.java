@@ -11,6 +11,7 @@ import utils.Log;
 import utils.StringUtils;
 
 import java.io.File;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.LinkedList;
 import java.util.concurrent.*;
@@ -70,6 +71,12 @@ public class ScenarioExecutor extends AbstractExecutor
      */
     protected ArrayList<TrialExecutor> _trialExecutors;
 
+    /**
+     * Future objects (one per trial executor, in the same order) that can be used, e.g., to handle the exception
+     * messages.
+     */
+    protected ArrayList<Future<TrialSummary>> _trialFutures;
+
 
     /**
      * Parameterized constructor.
@@ -96,6 +103,29 @@ public class ScenarioExecutor extends AbstractExecutor
      * @throws ScenarioException the scenario exception can be thrown (e.g., when the scenario-related data cannot be instantiated)
      */
     protected void execute() throws ScenarioException
+    {
+        prepare();
+
+        _log.log("Creates a trial (thread) pool", Level.Scenario, _indent);
+        _trialPoolExecutor = new TrialPoolExecutor(_SDC.getGDC().getNoThreads(), _trialExecutors, _SDC.getScenario());
+
+        startMonitor();
+
+        _log.log("Executes the threads", Level.Scenario, _indent);
+        _trialPoolExecutor.execute();
+        _trialFutures = _trialPoolExecutor.getFuture();
+
+        await();
+    }
+
+    /**
+     * Prepares the scenario for processing (creates the scenario folder, the count-down latch, the trial executors,
+     * and the monitor thread). The trials are not started. Called by {@link #execute()} or by the
+     * {@link ExperimentPerformer} when the trials are dispatched via {@link CrossScenarioTrialScheduler}.
+     *
+     * @throws ScenarioException the scenario exception can be thrown (e.g., when the scenario-related data cannot be instantiated)
+     */
+    protected void prepare() throws ScenarioException
     {
         _log.log("Experimental scenario = " + _SDC.toString() + " begins processing", Level.Scenario, _indent);
         createScenarioFolder();
@@ -106,24 +136,32 @@ public class ScenarioExecutor extends AbstractExecutor
         _log.log("Creates trial executors", Level.Scenario, _indent);
         _trialExecutors = constructTrialExecutors(_latch);
 
-        _log.log("Creates a trial (thread) pool", Level.Scenario, _indent);
-        _trialPoolExecutor = new TrialPoolExecutor(_SDC.getGDC().getNoThreads(), _trialExecutors, _SDC.getScenario());
-
         _log.log("Attempting to instantiate the monitor thread", Level.Scenario, _indent);
         _monitor = instantiateMonitorThread(_latch, _trialExecutors);
 
         _log.log("Attempting to instantiate the monitor thread executor", Level.Scenario, _indent);
         _monitorExecutor = instantiateMonitorExecutor();
+    }
 
+    /**
+     * Starts the monitor thread (if used).
+     */
+    protected void startMonitor()
+    {
         if (_monitorExecutor != null)
         {
             _log.log("Executes the monitor thread", Level.Scenario, _indent);
             _monitorReport = _monitorExecutor.submit(_monitor);
         }
+    }
 
-        _log.log("Executes the threads", Level.Scenario, _indent);
-        _trialPoolExecutor.execute();
-
+    /**
+     * Waits until all trial executors (and optionally the monitor thread) finish processing.
+     *
+     * @throws ScenarioException the scenario exception is thrown when the waiting is interrupted
+     */
+    protected void await() throws ScenarioException
+    {
         try
         {
             _latch.await();
@@ -136,6 +174,57 @@ public class ScenarioExecutor extends AbstractExecutor
         _log.log("Experimental scenario = " + _SDC.toString() + " ends processing", Level.Scenario, _indent);
     }
 
+    /**
+     * Returns the expected (relative) cost of processing a single trial of this scenario. Used by
+     * {@link CrossScenarioTrialScheduler} to dispatch the longest trials first. The default implementation returns the
+     * number of generations.
+     *
+     * @return expected cost of a trial
+     */
+    protected double getExpectedTrialCost()
+    {
+        return _SDC.getGenerations();
+    }
+
+    /**
+     * Returns the latest stop timestamp among the trials (should be called after {@link #await()}).
+     *
+     * @return the latest stop timestamp (null, if no trial reported it)
+     */
+    protected LocalDateTime getTrialsStopTimestamp()
+    {
+        if (_trialExecutors == null) return null;
+        LocalDateTime stop = null;
+        for (TrialExecutor te : _trialExecutors)
+        {
+            if (te.getSummary() == null) continue;
+            LocalDateTime t = te.getSummary().getStopTimestamp();
+            if ((t != null) && ((stop == null) || (t.isAfter(stop)))) stop = t;
+        }
+        return stop;
+    }
+
+    /**
+     * Getter for the trial executors (available after {@link #prepare()}).
+     *
+     * @return trial executors
+     */
+    protected ArrayList<TrialExecutor> getTrialExecutors()
+    {
+        return _trialExecutors;
+    }
+
+    /**
+     * Setter for the future objects (one per trial executor, in the same order) when the trials are dispatched
+     * externally (see {@link CrossScenarioTrialScheduler}).
+     *
+     * @param trialFutures future objects
+     */
+    protected void setTrialFutures(ArrayList<Future<TrialSummary>> trialFutures)
+    {
+        _trialFutures = trialFutures;
+    }
+
     /**
      * Auxiliary method for performing and logging an execution summary. Called by {@link ExperimentPerformer}.
      * The method also fills the scenario summary object {@link ScenarioExecutor#_sSummary}.
@@ -154,7 +243,7 @@ public class ScenarioExecutor extends AbstractExecutor
 
         for (int t = 0; t < _trialExecutors.size(); t++)
         {
-            Future<TrialSummary> f = _trialPoolExecutor.getFuture().get(t);
+            Future<TrialSummary> f = _trialFutures.get(t);
 
             try
             {
@@ -288,9 +377,12 @@ public class ScenarioExecutor extends AbstractExecutor
     {
         try
         {
-            _log.log("Disposes the thread pool", Level.Scenario, _indent);
-            _trialPoolExecutor.dispose();
-            _trialPoolExecutor = null;
+            if (_trialPoolExecutor != null)
+            {
+                _log.log("Disposes the thread pool", Level.Scenario, _indent);
+                _trialPoolExecutor.dispose();
+                _trialPoolExecutor = null;
+            }
             if (_monitorExecutor != null) _monitorExecutor.shutdown();
 
             _log.log("Disposes the scenario data container", Level.Scenario, _indent);
@@ -9,22 +9,29 @@ import exception.ScenarioException;
 import exception.TrialException;
 import indicator.IIndicator;
 import io.scenario.IScenarioSaver;
+import io.scenario.ScenarioResultsStore;
 import io.scenario.ScenarioSavers;
 import io.trial.TLPITrialWrapper;
 import io.trial.TLPerIndicator;
+import io.utils.pusher.BufferedScenarioPusher;
 import io.utils.pusher.IPusher;
 import io.utils.pusher.ScenarioPusher;
 import scenario.Scenario;
+import statistics.IStatistic;
 import summary.ScenarioSummary;
 import summary.Summary;
 import summary.TrialAggregatorScenarioSummary;
 import summary.TrialAggregatorSummary;
+import thread.LazyThreadPool;
 import utils.Level;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
 
 /**
  * This class can be considered an overlay to {@link ExperimentPerformer} and explicitly uses the data structures and
@@ -41,6 +48,17 @@ public class ScenariosSummarizer extends ExperimentPerformer
      */
     public static class Params extends ExperimentPerformer.Params
     {
+        /**
+         * If true, the scenarios are summarized concurrently, and so are the indicators within a scenario (the number
+         * of threads is imposed by {@link container.global.AbstractGlobalDataContainer.Params#_noThreads}). The data
+         * of an indicator (all generations) is loaded and aggregated by a worker thread, while the scenario savers
+         * (files) are supplied only by the thread processing the scenario (in the order of indicators and
+         * generations), so the outcomes are the same as in the sequential mode. The aggregated data is passed to the
+         * scenario thread via a bounded buffer (at most as many generations per indicator as imposed by the data
+         * loading interval), so the memory usage does not grow with the number of generations.
+         */
+        public boolean _parallelSummarization = false;
+
         /**
          * Default constructor.
          */
@@ -60,24 +78,126 @@ public class ScenariosSummarizer extends ExperimentPerformer
         }
     }
 
+    /**
+     * If true, the scenarios (and indicators) are summarized concurrently.
+     */
+    private final boolean _parallelSummarization;
+
     /**
      * Parameterized constructor.
      *
      * @param p params container
+     * @throws IllegalArgumentException the exception is thrown when the cross-scenario scheduling is enabled (see
+     *                                  {@link ExperimentPerformer.Params#_crossScenarioScheduling}; the summarizer does
+     *                                  not execute trials)
      */
     public ScenariosSummarizer(Params p)
     {
         super(p);
+        if (p._crossScenarioScheduling)
+            throw new IllegalArgumentException("The cross-scenario scheduling is not supported by the summarizer");
+        _parallelSummarization = p._parallelSummarization;
     }
 
     /**
      * Parameterized constructor.
      *
      * @param p params container
+     * @throws IllegalArgumentException the exception is thrown when the cross-scenario scheduling is enabled (see
+     *                                  {@link ExperimentPerformer.Params#_crossScenarioScheduling}; the summarizer does
+     *                                  not execute trials)
      */
     public ScenariosSummarizer(ExperimentPerformer.Params p)
     {
         super(p);
+        if (p._crossScenarioScheduling)
+            throw new IllegalArgumentException("The cross-scenario scheduling is not supported by the summarizer");
+        _parallelSummarization = (p instanceof Params) && (((Params) p)._parallelSummarization);
+    }
+
+    /**
+     * The scenarios are processed jointly (concurrently) when the parallel summarization is enabled. Note that the
+     * cross-scenario scheduling (see {@link ExperimentPerformer.Params#_crossScenarioScheduling}) concerns the trials
+     * and is rejected by the summarizer (see {@link #ScenariosSummarizer(ExperimentPerformer.Params)}).
+     *
+     * @return true = the scenarios are processed concurrently; false otherwise
+     */
+    @Override
+    protected boolean isJointScenarioProcessing()
+    {
+        return _parallelSummarization;
+    }
+
+    /**
+     * Processes all enabled scenarios concurrently (each scenario is processed as in the sequential mode; see
+     * {@link #processScenario(Scenario, ScenarioSummary)}). One thread pool handles the scenarios, and the other one
+     * loads and aggregates the indicators' data (the scenario threads only wait for the data and supply the savers, so
+     * the two-level parallelism cannot lead to a deadlock; see
+     * {@link #processIndicatorsConcurrently(ScenarioSavers, ScenarioResultsStore, TLPITrialWrapper, Scenario,
+     * AbstractScenarioDataContainer, int, LazyThreadPool)}). Both pools are released when the processing ends.
+     *
+     * @param summary summary object to be filled throughout the execution
+     * @return processing statuses (null elements correspond to the skipped scenarios)
+     * @throws GlobalException global exception can be thrown
+     */
+    @Override
+    protected Status[] processScenariosJointly(Summary summary) throws GlobalException
+    {
+        Scenario[] scenarios = _GDC.getScenarios().getScenarios();
+        Status[] statuses = new Status[scenarios.length];
+        ArrayList<Future<Status>> futures = new ArrayList<>(scenarios.length);
+
+        _log.log("Summarizing the scenarios concurrently (threads = " + _GDC.getNoThreads() + ")", Level.Global, _indent);
+        LazyThreadPool scenariosPool = new LazyThreadPool(_GDC.getNoThreads());
+        LazyThreadPool indicatorsPool = new LazyThreadPool(_GDC.getNoThreads());
+        try
+        {
+            for (int sc = 0; sc < scenarios.length; sc++)
+            {
+                if (isScenarioSkipped(scenarios[sc]))
+                {
+                    futures.add(null);
+                    continue;
+                }
+                Scenario scenario = scenarios[sc];
+                ScenarioSummary sSummary = summary.getScenariosSummaries()[sc];
+                futures.add(scenariosPool.submit(() -> processScenario(scenario, sSummary, indicatorsPool)));
+            }
+
+            for (int sc = 0; sc < scenarios.length; sc++)
+            {
+                if (futures.get(sc) == null) continue;
+                try
+                {
+                    statuses[sc] = futures.get(sc).get();
+                } catch (InterruptedException e)
+                {
+                    Thread.currentThread().interrupt();
+                    cancel(futures);
+                    throw new GlobalException("Summarization was interrupted", this.getClass(), e);
+                } catch (ExecutionException e)
+                {
+                    cancel(futures);
+                    throw new GlobalException("Exception occurred when summarizing scenario = " + scenarios[sc] +
+                            " (" + e.getCause() + ")", this.getClass(), e);
+                }
+            }
+        } finally
+        {
+            scenariosPool.dispose();
+            indicatorsPool.dispose();
+        }
+        return statuses;
+    }
+
+    /**
+     * Auxiliary method for cancelling the scenario tasks (the running ones are interrupted).
+     *
+     * @param futures futures representing the tasks (null elements correspond to the skipped scenarios)
+     */
+    private static void cancel(ArrayList<Future<Status>> futures)
+    {
+        for (Future<Status> f : futures) if (f != null) f.cancel(true);
     }
 
 
@@ -141,6 +261,40 @@ public class ScenariosSummarizer extends ExperimentPerformer
      */
     @Override
     protected Status mainProcessScenario(Status status, Scenario scenario, ScenarioSummary scenarioSummary)
+    {
+        return mainProcessScenario(status, scenario, scenarioSummary, null);
+    }
+
+    /**
+     * Processes a single scenario as {@link #processScenario(Scenario, ScenarioSummary)}, but the indicators are
+     * handled concurrently (see {@link #mainProcessScenario(Status, Scenario, ScenarioSummary, LazyThreadPool)}).
+     *
+     * @param scenario        scenario being currently processed
+     * @param scenarioSummary scenario summary object to be filled throughout the execution
+     * @param indicatorsPool  thread pool responsible for loading and aggregating the indicators' data
+     * @return processing status
+     */
+    private Status processScenario(Scenario scenario, ScenarioSummary scenarioSummary, LazyThreadPool indicatorsPool)
+    {
+        Status status = preProcessScenario(scenario, scenarioSummary);
+        status = mainProcessScenario(status, scenario, scenarioSummary, indicatorsPool);
+        status = postProcessScenario(status, scenario, scenarioSummary);
+        return status;
+    }
+
+    /**
+     * The main method for processing a single scenario (main-stage). Attempts to produce scenario-level summarizing
+     * files.
+     *
+     * @param status          current processing status
+     * @param scenario        scenario being currently processed
+     * @param scenarioSummary scenario summary object to be filled throughout the execution
+     * @param indicatorsPool  thread pool responsible for loading and aggregating the indicators' data (if null, the
+     *                        indicators are processed sequentially)
+     * @return processing status
+     */
+    private Status mainProcessScenario(Status status, Scenario scenario, ScenarioSummary scenarioSummary,
+                                       LazyThreadPool indicatorsPool)
     {
         AbstractScenarioDataContainer SDC = getScenarioDataContainerInstance(scenario, scenarioSummary);
         if (SDC == null) return Status.TERMINATED;
@@ -149,11 +303,21 @@ public class ScenariosSummarizer extends ExperimentPerformer
         LinkedList<IScenarioSaver> scenarioSavers = getScenarioSavers(SDC, scenarioSummary);
         if (scenarioSavers == null) return Status.TERMINATED;
 
-        TLPITrialWrapper loaders = getAndOpenBinaryLoaders(SDC, scenarioSummary);
-        if (loaders == null)
+        ScenarioResultsStore store = null;
+        TLPITrialWrapper loaders = null;
+        if (_GDC.mapScenarioResults())
         {
-            closeBinaryLoaders(SDC.getBinaryLoaders(), scenarioSummary);
-            return Status.TERMINATED;
+            store = getResultsStore(SDC, scenarioSummary);
+            if (store == null) return Status.TERMINATED;
+        }
+        else
+        {
+            loaders = getAndOpenBinaryLoaders(SDC, scenarioSummary);
+            if (loaders == null)
+            {
+                closeBinaryLoaders(SDC.getBinaryLoaders(), scenarioSummary);
+                return Status.TERMINATED;
+            }
         }
 
         //SAVER FILES CREATE FILES
@@ -164,30 +328,37 @@ public class ScenariosSummarizer extends ExperimentPerformer
         {
             closeBinaryLoaders(loaders, scenarioSummary);
             closeSavers(savers, scenarioSummary);
+            if (store != null) store.dispose();
             return Status.TERMINATED;
         }
 
         // BEGIN PROCESSING
         int generations = SDC.getGenerations();
 
-        for (int indicatorID = 0; indicatorID < SDC.getIndicators().length; indicatorID++)
+        if (indicatorsPool != null)
+            processIndicatorsConcurrently(savers, store, loaders, scenario, SDC, generations, indicatorsPool);
+        else
         {
-            IIndicator indicator = SDC.getIndicators()[indicatorID];
-            if (!notifySaversIndicatorProcessingBegins(savers, indicator, generations)) break;
-
-            try
+            for (int indicatorID = 0; indicatorID < SDC.getIndicators().length; indicatorID++)
             {
-                Utils.loadAndPushBinaryData(_GDC, loaders, pusher, scenario, SDC, generations, indicatorID, indicator);
+                IIndicator indicator = SDC.getIndicators()[indicatorID];
+                if (!notifySaversIndicatorProcessingBegins(savers, indicator, generations)) break;
 
-            } catch (ScenarioException e)
-            {
-                _log.log(e.getMessage(), Level.Scenario, _indent);
-                break;
-            }
+                try
+                {
+                    pushData(store, loaders, pusher, scenario, SDC, SDC.getStatisticFunctions(), generations,
+                            indicatorID, indicator);
+                } catch (ScenarioException e)
+                {
+                    _log.log(e.getMessage(), Level.Scenario, _indent);
+                    break;
+                }
 
-            if (!notifySaversIndicatorProcessingEnds(savers, indicator)) break;
+                if (!notifySaversIndicatorProcessingEnds(savers, indicator)) break;
+            }
         }
 
+        if (store != null) store.dispose();
         if (!closeSavers(savers, scenarioSummary))
         {
             closeBinaryLoaders(loaders, scenarioSummary);
@@ -202,6 +373,133 @@ public class ScenariosSummarizer extends ExperimentPerformer
     }
 
 
+    /**
+     * Auxiliary method for loading the data of an indicator (from the results store, if used, or from the trial-level
+     * files) and pushing it via the pusher.
+     *
+     * @param store       results store (null, if not used)
+     * @param loaders     opened binary loaders (null, if the store is used)
+     * @param pusher      object responsible for pushing the loaded data
+     * @param scenario    scenario being currently processed
+     * @param SDC         scenario data container
+     * @param statistics  statistic functions to be applied to raw trial results
+     * @param generations the total number of generations
+     * @param indicatorID id (array index) of the indicator
+     * @param indicator   indicator
+     * @throws ScenarioException the scenario-level exception can be thrown
+     */
+    private void pushData(ScenarioResultsStore store,
+                          TLPITrialWrapper loaders,
+                          IPusher pusher,
+                          Scenario scenario,
+                          AbstractScenarioDataContainer SDC,
+                          IStatistic[] statistics,
+                          int generations,
+                          int indicatorID,
+                          IIndicator indicator) throws ScenarioException
+    {
+        if (store != null)
+            Utils.pushStoredData(store, pusher, scenario, SDC, statistics, generations, indicatorID, indicator);
+        else
+            Utils.loadAndPushBinaryData(_GDC, loaders, pusher, scenario, SDC, statistics, generations, indicatorID, indicator);
+    }
+
+    /**
+     * Auxiliary method that loads and aggregates the data of all indicators concurrently (each indicator is handled
+     * by a separate task; see {@link BufferedScenarioPusher}), and supplies the savers sequentially (in the order of
+     * indicators and generations) from the calling thread. The tasks are submitted in the order of indicators, and the
+     * executor processes them in the order of submission. Hence, a task blocked because its buffer is full waits only
+     * for a task submitted earlier (the one currently drained), which is thus already running (no deadlock occurs, and
+     * at most one buffer per thread is filled). Each task uses its own instances of the statistic functions (see
+     * {@link IStatistic#getInstance()}). The method returns when all the tasks finish (so that the store and the
+     * loaders can be safely released).
+     *
+     * @param savers         scenario savers
+     * @param store          results store (null, if not used)
+     * @param loaders        opened binary loaders (null, if the store is used)
+     * @param scenario       scenario being currently processed
+     * @param SDC            scenario data container
+     * @param generations    the total number of generations
+     * @param indicatorsPool thread pool responsible for loading and aggregating the indicators' data
+     */
+    private void processIndicatorsConcurrently(ScenarioSavers savers,
+                                               ScenarioResultsStore store,
+                                               TLPITrialWrapper loaders,
+                                               Scenario scenario,
+                                               AbstractScenarioDataContainer SDC,
+                                               int generations,
+                                               LazyThreadPool indicatorsPool)
+    {
+        IIndicator[] indicators = SDC.getIndicators();
+        IStatistic[] statistics = SDC.getStatisticFunctions();
+        int capacity = Math.min(SDC.getDataLoadingInterval(), generations);
+        ArrayList<BufferedScenarioPusher> pushers = new ArrayList<>(indicators.length);
+        ArrayList<Future<Void>> futures = new ArrayList<>(indicators.length);
+        for (int i = 0; i < indicators.length; i++)
+        {
+            int indicatorID = i;
+            BufferedScenarioPusher pusher = new BufferedScenarioPusher(generations, capacity);
+            pushers.add(pusher);
+            IStatistic[] own = new IStatistic[statistics.length];
+            for (int s = 0; s < statistics.length; s++) own[s] = statistics[s].getInstance();
+            futures.add(indicatorsPool.submit(() -> {
+                ScenarioException failure = null;
+                try
+                {
+                    pushData(store, loaders, pusher, scenario, SDC, own, generations, indicatorID, indicators[indicatorID]);
+                } catch (ScenarioException e)
+                {
+                    failure = e;
+                    throw e;
+                } finally
+                {
+                    pusher.finish(failure);
+                }
+                return null;
+            }));
+        }
+
+        for (int indicatorID = 0; indicatorID < indicators.length; indicatorID++)
+        {
+            IIndicator indicator = indicators[indicatorID];
+            if (!notifySaversIndicatorProcessingBegins(savers, indicator, generations)) break;
+
+            try
+            {
+                pushers.get(indicatorID).flush(savers);
+            } catch (ScenarioException e)
+            {
+                _log.log(e.getMessage(), Level.Scenario, _indent);
+                break;
+            }
+
+            if (!notifySaversIndicatorProcessingEnds(savers, indicator)) break;
+        }
+
+        // stop the remaining tasks (if the processing was terminated) and wait for them (the store and the loaders are
+        // released afterward)
+        for (BufferedScenarioPusher pusher : pushers) pusher.cancel();
+        boolean interrupted = false;
+        for (Future<Void> f : futures)
+        {
+            while (true)
+            {
+                try
+                {
+                    f.get();
+                    break;
+                } catch (InterruptedException e)
+                {
+                    interrupted = true;
+                } catch (ExecutionException e)
+                {
+                    break;
+                }
+            }
+        }
+        if (interrupted) Thread.currentThread().interrupt();
+    }
+
     /**
      * Auxiliary method for crating an instance of a scenario data container
      *
@@ -289,6 +587,30 @@ public class ScenariosSummarizer extends ExperimentPerformer
         return loaders;
     }
 
+    /**
+     * Auxiliary method for getting the memory-mapped results store of a scenario (see {@link ScenarioResultsStore}).
+     * The existing store is reused if it is valid and not older than the trial-level files; otherwise, it is built
+     * (the trial-level files are read once).
+     *
+     * @param SDC             scenario data container
+     * @param scenarioSummary scenario summary to be filled
+     * @return the store; the method returns null if some exception occurs
+     */
+    private ScenarioResultsStore getResultsStore(AbstractScenarioDataContainer SDC, ScenarioSummary scenarioSummary)
+    {
+        ScenarioResultsStore store = Utils.openResultsStore(_GDC, SDC);
+        if (store != null) return store;
+        try
+        {
+            _log.log("Building the results store", Level.Scenario, _indent);
+            return Utils.createResultsStore(_GDC, SDC);
+        } catch (ScenarioException e)
+        {
+            processTermination("Results store could not be built " + e.getDetailedReasonMessage(), e, scenarioSummary);
+            return null;
+        }
+    }
+
     /**
      * Auxiliary method for creating savers' files.
      *
@@ -334,12 +656,13 @@ public class ScenariosSummarizer extends ExperimentPerformer
     /**
      * Auxiliary method for closing binary loaders.
      *
-     * @param loaders         binary loaders (wrapper)
+     * @param loaders         binary loaders (wrapper; null if the results store is used)
      * @param scenarioSummary scenario summary object to be filled
      * @return true if the closing operation ends successfully, false otherwise
      */
     private boolean closeBinaryLoaders(TLPITrialWrapper loaders, ScenarioSummary scenarioSummary)
     {
+        if (loaders == null) return true;
         try
         {
             _log.log("Closing per-trial binary files", Level.Scenario, _indent);
@@ -0,0 +1,186 @@
+package executor;
+
+import java.io.*;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+
+/**
+ * Compact binary checkpoint of a trial (test run) maintained by {@link TrialExecutor} in the scenario folder. It is a
+ * completion marker: the stale checkpoint is removed when the trial starts, and the new one is written only when the
+ * trial is completed (i.e., when the results files are closed). It stores the parameterization of the trial (the
+ * number of generations and the number of performance indicators). The checkpoint is written atomically (a temporary
+ * file is written first and then moved), so a process killed during the writing does not leave a partial marker. The
+ * big endian encoding is used (as in {@link io.trial.BinarySaver}). When resuming an experiment, the completed trials
+ * are not executed again, while the interrupted ones are executed from scratch (the random number generators are
+ * derived from the scenario and the trial ID, hence the results are identical to those derived by an uninterrupted
+ * run). Note that the checkpoint does not store the state of the trial (e.g., the population or the state of the
+ * random number generator), so an interrupted trial is not continued from the last completed generation.
+ *
+ * @author MTomczyk
+ */
+public class TrialCheckpoint
+{
+    /**
+     * Magic number opening the file ("JCKP").
+     */
+    private static final int MAGIC = 0x4A434B50;
+
+    /**
+     * Format version.
+     */
+    private static final int VERSION = 1;
+
+    /**
+     * File suffix (extension).
+     */
+    private static final String SUFFIX = ".checkpoint";
+
+    /**
+     * Trial ID.
+     */
+    private final int _trialID;
+
+    /**
+     * The number of generations.
+     */
+    private final int _generations;
+
+    /**
+     * The number of performance indicators.
+     */
+    private final int _noIndicators;
+
+    /**
+     * Parameterized constructor.
+     *
+     * @param trialID      trial ID
+     * @param generations  the number of generations
+     * @param noIndicators the number of performance indicators
+     */
+    public TrialCheckpoint(int trialID, int generations, int noIndicators)
+    {
+        _trialID = trialID;
+        _generations = generations;
+        _noIndicators = noIndicators;
+    }
+
+    /**
+     * Returns the path to the checkpoint file of a trial.
+     *
+     * @param scenarioPath full path to the scenario folder (without a path separator)
+     * @param trialID      trial ID
+     * @return path to the checkpoint file
+     */
+    public static String getPath(String scenarioPath, int trialID)
+    {
+        return scenarioPath + File.separatorChar + "TRIAL_" + trialID + SUFFIX;
+    }
+
+    /**
+     * Saves the checkpoint (atomically replaces the existing file).
+     *
+     * @param path path to the checkpoint file
+     * @throws IOException the exception is thrown when the file cannot be written
+     */
+    public void save(String path) throws IOException
+    {
+        Path target = Paths.get(path);
+        Path temporary = Paths.get(path + ".tmp");
+        try (DataOutputStream dos = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(temporary.toFile(), false))))
+        {
+            dos.writeInt(MAGIC);
+            dos.writeInt(VERSION);
+            dos.writeInt(_trialID);
+            dos.writeInt(_generations);
+            dos.writeInt(_noIndicators);
+        }
+        try
+        {
+            Files.move(temporary, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e)
+        {
+            Files.move(temporary, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Loads the checkpoint.
+     *
+     * @param path path to the checkpoint file
+     * @return the checkpoint (null, if the file does not exist or is not a valid checkpoint)
+     */
+    public static TrialCheckpoint load(String path)
+    {
+        File file = new File(path);
+        if (!file.isFile()) return null;
+        try (DataInputStream dis = new DataInputStream(new BufferedInputStream(new FileInputStream(file))))
+        {
+            if (dis.readInt() != MAGIC) return null;
+            if (dis.readInt() != VERSION) return null;
+            int trialID = dis.readInt();
+            int generations = dis.readInt();
+            int noIndicators = dis.readInt();
+            return new TrialCheckpoint(trialID, generations, noIndicators);
+        } catch (IOException e)
+        {
+            return null;
+        }
+    }
+
+    /**
+     * Removes the checkpoint (if it exists).
+     *
+     * @param path path to the checkpoint file
+     * @throws IOException the exception is thrown when the file cannot be removed
+     */
+    public static void remove(String path) throws IOException
+    {
+        Files.deleteIfExists(Paths.get(path));
+    }
+
+    /**
+     * Checks whether the checkpoint reports a completed trial matching the given parameterization.
+     *
+     * @param trialID      trial ID
+     * @param generations  the number of generations
+     * @param noIndicators the number of performance indicators
+     * @return true if the trial is completed, false otherwise
+     */
+    public boolean isCompleted(int trialID, int generations, int noIndicators)
+    {
+        return (_trialID == trialID) && (_generations == generations) && (_noIndicators == noIndicators);
+    }
+
+    /**
+     * Getter for the trial ID.
+     *
+     * @return trial ID
+     */
+    public int getTrialID()
+    {
+        return _trialID;
+    }
+
+    /**
+     * Getter for the number of generations.
+     *
+     * @return the number of generations
+     */
+    public int getGenerations()
+    {
+        return _generations;
+    }
+
+    /**
+     * Getter for the number of performance indicators.
+     *
+     * @return the number of performance indicators
+     */
+    public int getNoIndicators()
+    {
+        return _noIndicators;
+    }
+}
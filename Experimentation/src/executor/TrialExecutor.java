@@ -10,8 +10,10 @@ import indicator.IIndicator;
 import random.IRandom;
 import runner.IRunner;
 import summary.TrialSummary;
+import utils.Level;
 import utils.Log;
 
+import java.io.IOException;
 import java.time.LocalDateTime;
 import java.util.concurrent.Callable;
 import java.util.concurrent.CountDownLatch;
@@ -129,6 +131,16 @@ public class TrialExecutor extends AbstractExecutor implements Callable<TrialSum
         _trialSummary = new TrialSummary(_trialID);
         _trialSummary.setStartTimestamp(LocalDateTime.now());
 
+        if (isCompletedAccordingToCheckpoint())
+        {
+            _log.log("Trial = " + _trialID + " is completed according to the checkpoint (not executed again)", Level.Trial, _indent);
+            _trialSummary.setStopTimestamp(LocalDateTime.now());
+            _finished = true;
+            _processed = false;
+            _latch.countDown();
+            return _trialSummary;
+        }
+
         try {
             _TDC = _TDCF.getInstance(_SDC, _trialID, _R);
             run();
@@ -172,6 +184,7 @@ public class TrialExecutor extends AbstractExecutor implements Callable<TrialSum
     protected void run() throws TrialException
     {
         try {
+            removeCheckpoint(); // invalidates the checkpoint of a previous execution
             _TDC.createResultsFiles(); // create results files
 
             IRunner runner = _TDC.getRunner();
@@ -215,11 +228,63 @@ public class TrialExecutor extends AbstractExecutor implements Callable<TrialSum
             }
 
             _TDC.closeResultsFiles();
+            saveCheckpoint();
         } catch (Exception e) {
             throw new TrialException(e.getMessage(), this.getClass(), e, _SDC.getScenario(), _trialID);
+        } finally {
+            releaseResources();
         }
     }
 
+    /**
+     * Auxiliary method for releasing the resources (e.g., thread pools) held by the trial-level EA and indicators when
+     * the trial ends (regardless of whether it was completed).
+     */
+    private void releaseResources()
+    {
+        if (_TDC.getEA() != null) _TDC.getEA().dispose();
+        if (_TDC.getPerformanceIndicators() != null)
+            for (IIndicator indicator : _TDC.getPerformanceIndicators()) indicator.dispose();
+    }
+
+    /**
+     * Auxiliary method checking whether the trial was completed in a previous execution (as reported by the
+     * checkpoint; see {@link TrialCheckpoint}). Used only when the trials are to be resumed.
+     *
+     * @return true = the trial is completed and should not be executed again; false otherwise
+     */
+    private boolean isCompletedAccordingToCheckpoint()
+    {
+        if (!_SDC.getGDC().resumeTrials()) return false;
+        TrialCheckpoint checkpoint = TrialCheckpoint.load(TrialCheckpoint.getPath(_SDC.getMainPath(), _trialID));
+        if (checkpoint == null) return false;
+        return checkpoint.isCompleted(_trialID, _SDC.getGenerations(), _SDC.getIndicators().length);
+    }
+
+    /**
+     * Auxiliary method for removing the checkpoint of a previous execution (if used; see {@link TrialCheckpoint}).
+     *
+     * @throws IOException the exception is thrown when the checkpoint cannot be removed
+     */
+    private void removeCheckpoint() throws IOException
+    {
+        if (!_SDC.getGDC().useTrialCheckpoints()) return;
+        TrialCheckpoint.remove(TrialCheckpoint.getPath(_SDC.getMainPath(), _trialID));
+    }
+
+    /**
+     * Auxiliary method for saving the checkpoint marking the trial as completed (if used; see
+     * {@link TrialCheckpoint}).
+     *
+     * @throws IOException the exception is thrown when the checkpoint cannot be saved
+     */
+    private void saveCheckpoint() throws IOException
+    {
+        if (!_SDC.getGDC().useTrialCheckpoints()) return;
+        new TrialCheckpoint(_trialID, _SDC.getGenerations(), _SDC.getIndicators().length)
+                .save(TrialCheckpoint.getPath(_SDC.getMainPath(), _trialID));
+    }
+
     /**
      * Auxiliary method for updating the results matrix
      *
@@ -5,11 +5,16 @@ import container.scenario.AbstractScenarioDataContainer;
 import exception.ScenarioException;
 import exception.TrialException;
 import indicator.IIndicator;
+import io.AbstractIO;
+import io.scenario.ScenarioResultsStore;
 import io.trial.ITrialLoader;
 import io.trial.TLPITrialWrapper;
 import io.trial.TLPerIndicator;
 import io.utils.pusher.IPusher;
 import scenario.Scenario;
+import statistics.IStatistic;
+
+import java.io.File;
 
 /**
  * Provides some auxiliary functions for {@link ScenariosSummarizer} and {@link CrossSummarizer}.
@@ -26,6 +31,7 @@ class Utils
      * @param pusher      object responsible for pushing the loaded data to data savers
      * @param scenario    scenario being currently processed
      * @param SDC         scenario data container
+     * @param statistics  statistic functions to be applied to raw trial results
      * @param generations the total number of generations the methods were run for
      * @param indicatorID id (array index) of the indicator being currently processed
      * @param indicator   indicator being currently processed
@@ -36,6 +42,7 @@ class Utils
                                                 IPusher pusher,
                                                 Scenario scenario,
                                                 AbstractScenarioDataContainer SDC,
+                                                IStatistic[] statistics,
                                                 int generations,
                                                 int indicatorID,
                                                 IIndicator indicator) throws ScenarioException
@@ -60,7 +67,7 @@ class Utils
             try
             {
                 for (int g = 0; g < loadingCap; g++)
-                    pusher.pushData(data[g], SDC.getStatisticFunctions(), generation + g);
+                    pusher.pushData(data[g], statistics, generation + g);
             } catch (ScenarioException e)
             {
                 throw new ScenarioException("Could not push data to files for indicator = " + indicator.getName() +
@@ -70,6 +77,141 @@ class Utils
 
     }
 
+    /**
+     * Auxiliary method for pushing the data stored in the memory-mapped results store to savers. The results of all
+     * trials for a given generation are copied from the mapped buffer with a single bulk operation (no intermediate
+     * decoding of the trial-level files).
+     *
+     * @param store       results store of the scenario
+     * @param pusher      object responsible for pushing the loaded data to data savers
+     * @param scenario    scenario being currently processed
+     * @param SDC         scenario data container
+     * @param statistics  statistic functions to be applied to raw trial results
+     * @param generations the total number of generations the methods were run for
+     * @param indicatorID id (array index) of the indicator being currently processed
+     * @param indicator   indicator being currently processed
+     * @throws ScenarioException the scenario-level exception can be thrown and passed higher
+     */
+    protected static void pushStoredData(ScenarioResultsStore store,
+                                         IPusher pusher,
+                                         Scenario scenario,
+                                         AbstractScenarioDataContainer SDC,
+                                         IStatistic[] statistics,
+                                         int generations,
+                                         int indicatorID,
+                                         IIndicator indicator) throws ScenarioException
+    {
+        try
+        {
+            for (int g = 0; g < generations; g++)
+            {
+                double[] data = new double[store.getNoTrials()];
+                store.getTrialResults(indicatorID, g, data);
+                pusher.pushData(data, statistics, g);
+            }
+        } catch (ScenarioException e)
+        {
+            throw new ScenarioException("Could not push data to files for indicator = " + indicator.getName() +
+                    " " + e.getDetailedReasonMessage(), Utils.class, e, scenario);
+        }
+    }
+
+    /**
+     * Auxiliary method for building the memory-mapped results store of a scenario (see {@link ScenarioResultsStore})
+     * from the trial-level files. The loaders are opened and closed by this method.
+     *
+     * @param GDC global data container
+     * @param SDC scenario data container
+     * @return the store
+     * @throws ScenarioException the scenario-level exception can be thrown and passed higher
+     */
+    protected static ScenarioResultsStore createResultsStore(AbstractGlobalDataContainer GDC,
+                                                             AbstractScenarioDataContainer SDC) throws ScenarioException
+    {
+        TLPITrialWrapper loaders = SDC.getBinaryLoaders();
+        try
+        {
+            loaders.openAllFiles();
+        } catch (TrialException e)
+        {
+            closeLoaders(loaders);
+            throw new ScenarioException("Binary loaders could not be opened " + e.getDetailedReasonMessage(),
+                    Utils.class, e, SDC.getScenario());
+        }
+
+        ScenarioResultsStore store;
+        try
+        {
+            store = ScenarioResultsStore.create(ScenarioResultsStore.getPath(SDC.getMainPath()), loaders,
+                    SDC.getScenario(), GDC.getTrialIDs(), SDC.getIndicators(), SDC.getGenerations(),
+                    SDC.getDataLoadingInterval());
+        } catch (ScenarioException e)
+        {
+            closeLoaders(loaders);
+            throw e;
+        }
+
+        try
+        {
+            loaders.closeAllFiles();
+        } catch (TrialException e)
+        {
+            throw new ScenarioException("Binary loaders could not be closed " + e.getDetailedReasonMessage(),
+                    Utils.class, e, SDC.getScenario());
+        }
+        return store;
+    }
+
+    /**
+     * Auxiliary method for mapping the existing results store of a scenario (see {@link ScenarioResultsStore}). The
+     * store is not used (null is returned) if it does not exist, does not match the scenario data container (trial
+     * IDs, indicators, generations), or is older than any of the trial-level files.
+     *
+     * @param GDC global data container
+     * @param SDC scenario data container
+     * @return the store (null, if it cannot be used)
+     */
+    protected static ScenarioResultsStore openResultsStore(AbstractGlobalDataContainer GDC,
+                                                           AbstractScenarioDataContainer SDC)
+    {
+        String path = ScenarioResultsStore.getPath(SDC.getMainPath());
+        long stored = new File(path).lastModified();
+        if (stored == 0L) return null;
+        try
+        {
+            for (int trialID : GDC.getTrialIDs())
+            {
+                TLPerIndicator tl = SDC.getBinaryLoaders().getTLPerIndicator(SDC.getScenario(), trialID);
+                for (int i = 0; i < SDC.getIndicators().length; i++)
+                {
+                    ITrialLoader l = tl.getTrialLoaderForIndicator(i);
+                    if (!(l instanceof AbstractIO)) return null;
+                    if (new File(((AbstractIO) l).getFullPath()).lastModified() > stored) return null;
+                }
+            }
+        } catch (ScenarioException e)
+        {
+            return null;
+        }
+        return ScenarioResultsStore.open(path, SDC.getScenario(), GDC.getTrialIDs(), SDC.getIndicators(), SDC.getGenerations());
+    }
+
+    /**
+     * Auxiliary method for closing the loaders (quietly; used when handling another exception).
+     *
+     * @param loaders binary loaders (wrapper)
+     */
+    private static void closeLoaders(TLPITrialWrapper loaders)
+    {
+        try
+        {
+            loaders.closeAllFiles();
+        } catch (TrialException ignored)
+        {
+
+        }
+    }
+
     /**
      * Auxiliary method for retrieving data matrices from trial-level files to be passed to scenario savers.
      *
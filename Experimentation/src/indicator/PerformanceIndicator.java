@@ -5,7 +5,9 @@ import exception.TrialException;
 import indicator.initializers.IIndicatorInitializer;
 
 /**
- * This indicator wraps {@link IPerformanceIndicator}.
+ * This indicator wraps {@link IPerformanceIndicator}. If the wrapped indicator can be updated incrementally (see
+ * {@link IIncrementalPerformanceIndicator}), the evaluations are delegated to {@link IncrementalEvaluation}, which passes
+ * the changes in the population since the previous generation (and falls back to the full recalculation when needed).
  *
  * @author MTomczyk
  */
@@ -54,6 +56,9 @@ public class PerformanceIndicator extends AbstractIndicator implements IIndicato
     {
         super(surpassedName, indicator.isLessPreferred(), initializer);
         _indicator = indicator;
+        if (indicator instanceof IIncrementalPerformanceIndicator)
+            _incrementalEvaluation = new IncrementalEvaluation((IIncrementalPerformanceIndicator) indicator);
+        else _incrementalEvaluation = null;
     }
 
 
@@ -62,6 +67,11 @@ public class PerformanceIndicator extends AbstractIndicator implements IIndicato
      */
     private final IPerformanceIndicator _indicator;
 
+    /**
+     * Object performing incremental evaluations (null, if the wrapped indicator is not incremental).
+     */
+    private final IncrementalEvaluation _incrementalEvaluation;
+
     /**
      * The main method for performance evaluation.
      *
@@ -73,10 +83,20 @@ public class PerformanceIndicator extends AbstractIndicator implements IIndicato
     public double evaluate(IEA ea) throws TrialException
     {
         try {
+            if (_incrementalEvaluation != null) return _incrementalEvaluation.evaluate(ea);
             return _indicator.evaluate(ea);
         } catch (Exception e) {
             throw new TrialException(e.getMessage(), this.getClass(), e, _scenario, _trialID);
         }
     }
 
+    /**
+     * Disposes the wrapped performance indicator.
+     */
+    @Override
+    public void dispose()
+    {
+        _indicator.dispose();
+    }
+
 }
@@ -92,6 +92,16 @@ public abstract class AbstractIO
         return path + File.separatorChar + filename;
     }
 
+    /**
+     * Getter for the full path to the file.
+     *
+     * @return full path
+     */
+    public String getFullPath()
+    {
+        return _fullPath;
+    }
+
     /**
      * Auxiliary method for creating a file object at the scenario level. The method first checks if a file is a
      * directory (if true, the exception is thrown). Then, if the file already exists, the method attempts to delete it.
@@ -0,0 +1,418 @@
+package io.scenario;
+
+import exception.ScenarioException;
+import exception.TrialException;
+import indicator.IIndicator;
+import io.trial.ITrialLoader;
+import io.trial.TLPITrialWrapper;
+import scenario.Scenario;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
+
+/**
+ * Memory-mapped, columnar store of the trial results of a scenario. The store is a single file kept in the scenario
+ * folder that is built once from the trial-level files (see {@link TLPITrialWrapper}) and then accessed via
+ * memory-mapped buffers (one per indicator), so that the summarizers do not re-read (and decode) the trial-level files
+ * in each pass. The file consists of a header (magic number, version, the number of trials, the number of indicators,
+ * the number of generations, the trial IDs, and the indicator names; padded to a multiple of 8 bytes) and a data
+ * section ordered as indicator x generation x trial. Hence, the results of all trials for a given indicator and
+ * generation (i.e., the input to statistic functions) are stored contiguously, while any single value can be accessed
+ * randomly (see {@link #getValue(int, int, int)}). The big endian encoding is used (as in {@link io.trial.BinarySaver}).
+ * The store is built in a temporary file that is moved in place when completed (the magic number is written last,
+ * after the data is forced to the storage device), so the file that was not completed (e.g., due to the interrupted
+ * processing) is considered invalid, and the file mapped by other store objects is never truncated (which is not
+ * allowed on some platforms, e.g., Windows). The data is written via positional writes of the file channel, in blocks
+ * of generations (so that each block is written with one call per indicator, instead of visiting the whole column for
+ * each trial), and the completed store is then mapped read-only. All read methods use absolute positions; thus, the
+ * object can be safely shared by many threads. The file channel is closed right after mapping, and the mappings are
+ * released when the buffers are garbage collected (after the object is disposed; see {@link #dispose()}).
+ *
+ * @author MTomczyk
+ */
+public class ScenarioResultsStore
+{
+    /**
+     * Magic number opening the file ("JCRS").
+     */
+    private static final int MAGIC = 0x4A435253;
+
+    /**
+     * Format version.
+     */
+    private static final int VERSION = 1;
+
+    /**
+     * File name (with the extension).
+     */
+    private static final String FILENAME = "RESULTS.store";
+
+    /**
+     * Path to the file.
+     */
+    private final String _path;
+
+    /**
+     * Trial IDs (the order corresponds to the trial indices).
+     */
+    private final int[] _trialIDs;
+
+    /**
+     * The number of generations.
+     */
+    private final int _generations;
+
+    /**
+     * Mapped data (one buffer per indicator; generation x trial).
+     */
+    private DoubleBuffer[] _columns;
+
+    /**
+     * Parameterized constructor.
+     *
+     * @param path        path to the file
+     * @param trialIDs    trial IDs
+     * @param generations the number of generations
+     * @param mapped      mapped buffers (one per indicator)
+     */
+    private ScenarioResultsStore(String path, int[] trialIDs, int generations, MappedByteBuffer[] mapped)
+    {
+        _path = path;
+        _trialIDs = trialIDs;
+        _generations = generations;
+        _columns = new DoubleBuffer[mapped.length];
+        for (int i = 0; i < mapped.length; i++) _columns[i] = mapped[i].asDoubleBuffer();
+    }
+
+    /**
+     * Returns the path to the store file of a scenario.
+     *
+     * @param scenarioPath full path to the scenario folder (without a path separator)
+     * @return path to the store file
+     */
+    public static String getPath(String scenarioPath)
+    {
+        return scenarioPath + File.separatorChar + FILENAME;
+    }
+
+    /**
+     * Builds the store (replaces the existing file) by retrieving the results from the trial-level files and maps it
+     * (read-only). The store is built in a temporary file (the path suffixed with ".tmp") that is then moved in place.
+     * The data is retrieved and written in blocks of generations (the block size equals the loading interval), so the
+     * memory used does not depend on the number of generations. The loaders should be opened (they are not closed by
+     * this method).
+     *
+     * @param path            path to the store file
+     * @param loaders         opened trial-level loaders
+     * @param scenario        scenario being currently processed
+     * @param trialIDs        trial IDs
+     * @param indicators      performance indicators
+     * @param generations     the number of generations
+     * @param loadingInterval the number of generations retrieved at once (per trial and indicator)
+     * @return the store
+     * @throws ScenarioException the scenario-level exception can be thrown (e.g., when the trial data cannot be loaded)
+     */
+    public static ScenarioResultsStore create(String path,
+                                              TLPITrialWrapper loaders,
+                                              Scenario scenario,
+                                              int[] trialIDs,
+                                              IIndicator[] indicators,
+                                              int generations,
+                                              int loadingInterval) throws ScenarioException
+    {
+        byte[] header = getHeader(trialIDs, indicators, generations);
+        long columnSize = getColumnSize(trialIDs.length, generations, scenario);
+        int cap = Math.max(1, Math.min(loadingInterval, generations));
+
+        Path target = Paths.get(path);
+        Path temporary = Paths.get(path + ".tmp");
+        int T = trialIDs.length;
+        try
+        {
+            Files.deleteIfExists(temporary);
+        } catch (IOException e)
+        {
+            throw new ScenarioException("Could not create the results store " + e, ScenarioResultsStore.class, e, scenario);
+        }
+
+        try (RandomAccessFile file = new RandomAccessFile(temporary.toFile(), "rw"))
+        {
+            file.setLength(header.length + columnSize * indicators.length);
+            FileChannel channel = file.getChannel();
+            ByteBuffer block = ByteBuffer.allocate(8 * cap * T); // generations x trials (reused)
+
+            int toLoad = cap;
+            for (int g = 0; g < generations; g += toLoad)
+            {
+                if (g + toLoad > generations) toLoad = generations - g;
+                for (int i = 0; i < indicators.length; i++)
+                {
+                    block.clear();
+                    for (int t = 0; t < T; t++)
+                    {
+                        ITrialLoader loader = loaders.getTLPerIndicator(scenario, trialIDs[t]).getTrialLoaderForIndicator(i);
+                        double[] v = loader.retrieve(toLoad);
+                        for (int k = 0; k < toLoad; k++) block.putDouble(8 * (k * T + t), v[k]);
+                    }
+                    block.limit(8 * toLoad * T);
+                    long position = header.length + columnSize * i + 8L * g * T;
+                    while (block.hasRemaining()) position += channel.write(block, position);
+                }
+            }
+
+            channel.force(true);
+            ByteBuffer b = ByteBuffer.wrap(header);
+            while (b.hasRemaining()) channel.write(b, b.position());
+            channel.force(true);
+            b = ByteBuffer.allocate(4);
+            b.putInt(MAGIC);
+            b.flip();
+            while (b.hasRemaining()) channel.write(b, b.position());
+            channel.force(true);
+        } catch (IOException e)
+        {
+            throw new ScenarioException("Could not create the results store " + e, ScenarioResultsStore.class, e, scenario);
+        } catch (TrialException e)
+        {
+            throw new ScenarioException("Could not load trial data " + e.getDetailedReasonMessage(), ScenarioResultsStore.class, e, scenario);
+        }
+
+        try
+        {
+            try
+            {
+                Files.move(temporary, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e)
+            {
+                Files.move(temporary, target, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } catch (IOException e)
+        {
+            throw new ScenarioException("Could not replace the results store " + e, ScenarioResultsStore.class, e, scenario);
+        }
+
+        ScenarioResultsStore store = open(path, scenario, trialIDs, indicators, generations);
+        if (store == null)
+            throw new ScenarioException("Could not map the results store", null, ScenarioResultsStore.class, scenario);
+        return store;
+    }
+
+    /**
+     * Maps the existing store (read-only).
+     *
+     * @param path        path to the store file
+     * @param scenario    scenario being currently processed
+     * @param trialIDs    expected trial IDs
+     * @param indicators  expected performance indicators
+     * @param generations expected number of generations
+     * @return the store (null, if the file does not exist, is not a valid store, or does not match the expected
+     * parameterization)
+     */
+    public static ScenarioResultsStore open(String path, Scenario scenario, int[] trialIDs, IIndicator[] indicators, int generations)
+    {
+        File f = new File(path);
+        if (!f.isFile()) return null;
+
+        byte[] expected;
+        long columnSize;
+        try
+        {
+            expected = getHeader(trialIDs, indicators, generations);
+            columnSize = getColumnSize(trialIDs.length, generations, scenario);
+        } catch (ScenarioException e)
+        {
+            return null;
+        }
+
+        try (RandomAccessFile file = new RandomAccessFile(f, "r"))
+        {
+            if (file.length() != expected.length + columnSize * indicators.length) return null;
+            byte[] header = new byte[expected.length];
+            file.readFully(header);
+            ByteBuffer.wrap(expected).putInt(MAGIC);
+            if (!Arrays.equals(header, expected)) return null;
+
+            FileChannel channel = file.getChannel();
+            MappedByteBuffer[] mapped = new MappedByteBuffer[indicators.length];
+            for (int i = 0; i < indicators.length; i++)
+            {
+                mapped[i] = channel.map(FileChannel.MapMode.READ_ONLY, expected.length + columnSize * i, columnSize);
+                mapped[i].order(ByteOrder.BIG_ENDIAN);
+            }
+            return new ScenarioResultsStore(path, trialIDs.clone(), generations, mapped);
+        } catch (IOException e)
+        {
+            return null;
+        }
+    }
+
+    /**
+     * Auxiliary method for constructing the file header (the magic number is left blank, i.e., set to 0).
+     *
+     * @param trialIDs    trial IDs
+     * @param indicators  performance indicators
+     * @param generations the number of generations
+     * @return header (padded to a multiple of 8 bytes)
+     * @throws ScenarioException the scenario-level exception is thrown when the input data is invalid
+     */
+    private static byte[] getHeader(int[] trialIDs, IIndicator[] indicators, int generations) throws ScenarioException
+    {
+        if ((trialIDs == null) || (trialIDs.length == 0))
+            throw new ScenarioException("The trial IDs are not provided", null, ScenarioResultsStore.class, null);
+        if ((indicators == null) || (indicators.length == 0))
+            throw new ScenarioException("The indicators are not provided", null, ScenarioResultsStore.class, null);
+        if (generations < 1)
+            throw new ScenarioException("The number of generations should not be less than 1", null, ScenarioResultsStore.class, null);
+
+        byte[][] names = new byte[indicators.length][];
+        int size = 20 + 4 * trialIDs.length;
+        for (int i = 0; i < indicators.length; i++)
+        {
+            names[i] = indicators[i].getName().getBytes(StandardCharsets.UTF_8);
+            size += 4 + names[i].length;
+        }
+        size = (size + 7) / 8 * 8;
+
+        ByteBuffer b = ByteBuffer.allocate(size);
+        b.putInt(0);
+        b.putInt(VERSION);
+        b.putInt(trialIDs.length);
+        b.putInt(indicators.length);
+        b.putInt(generations);
+        for (int id : trialIDs) b.putInt(id);
+        for (byte[] n : names)
+        {
+            b.putInt(n.length);
+            b.put(n);
+        }
+        return b.array();
+    }
+
+    /**
+     * Auxiliary method for calculating the size of the data of one indicator (in bytes).
+     *
+     * @param trials      the number of trials
+     * @param generations the number of generations
+     * @param scenario    scenario being currently processed
+     * @return the size
+     * @throws ScenarioException the scenario-level exception is thrown when the size exceeds the capacity of a single mapping
+     */
+    private static long getColumnSize(int trials, int generations, Scenario scenario) throws ScenarioException
+    {
+        long size = 8L * trials * generations;
+        if (size > Integer.MAX_VALUE)
+            throw new ScenarioException("The results of a single indicator are too large to be mapped", null,
+                    ScenarioResultsStore.class, scenario);
+        return size;
+    }
+
+    /**
+     * Returns the result of a trial (random access).
+     *
+     * @param indicatorID index of the indicator
+     * @param generation  generation
+     * @param trialIndex  index of the trial (in the trial IDs array)
+     * @return the result
+     */
+    public double getValue(int indicatorID, int generation, int trialIndex)
+    {
+        return _columns[indicatorID].get(generation * _trialIDs.length + trialIndex);
+    }
+
+    /**
+     * Returns the results of all trials for a given indicator and generation as a read-only view of the mapped data
+     * (no copying).
+     *
+     * @param indicatorID index of the indicator
+     * @param generation  generation
+     * @return the results (the order corresponds to the trial IDs)
+     */
+    public DoubleBuffer getTrialResults(int indicatorID, int generation)
+    {
+        return _columns[indicatorID].slice(generation * _trialIDs.length, _trialIDs.length);
+    }
+
+    /**
+     * Copies the results of all trials for a given indicator and generation into the provided array (single bulk copy).
+     *
+     * @param indicatorID index of the indicator
+     * @param generation  generation
+     * @param dest        destination array (its length should equal the number of trials)
+     */
+    public void getTrialResults(int indicatorID, int generation, double[] dest)
+    {
+        _columns[indicatorID].get(generation * _trialIDs.length, dest, 0, _trialIDs.length);
+    }
+
+    /**
+     * Getter for the path to the store file.
+     *
+     * @return path to the store file
+     */
+    public String getPath()
+    {
+        return _path;
+    }
+
+    /**
+     * Getter for the trial IDs (the order corresponds to the trial indices).
+     *
+     * @return trial IDs
+     */
+    public int[] getTrialIDs()
+    {
+        return _trialIDs;
+    }
+
+    /**
+     * Getter for the number of trials.
+     *
+     * @return the number of trials
+     */
+    public int getNoTrials()
+    {
+        return _trialIDs.length;
+    }
+
+    /**
+     * Getter for the number of indicators.
+     *
+     * @return the number of indicators
+     */
+    public int getNoIndicators()
+    {
+        return _columns.length;
+    }
+
+    /**
+     * Getter for the number of generations.
+     *
+     * @return the number of generations
+     */
+    public int getGenerations()
+    {
+        return _generations;
+    }
+
+    /**
+     * Auxiliary method for clearing the data. The mappings are released when the buffers (including the views returned
+     * by {@link #getTrialResults(int, int)}) are garbage collected. The store must not be used afterward.
+     */
+    public void dispose()
+    {
+        _columns = null;
+    }
+}
@@ -52,9 +52,36 @@ public class ScenarioSavers
      * @throws ScenarioException the scenario-level exception can be thrown 
      */
     public void pushData(double[] trialResults, IStatistic[] statistics, int generation) throws ScenarioException
+    {
+        pushStatistics(trialResults, calculateStatistics(trialResults, statistics), generation);
+    }
+
+    /**
+     * Calculates the statistics from the obtained raw trial results (does not involve the savers; can be called
+     * concurrently, provided that each thread uses its own instances of the statistic functions, see
+     * {@link IStatistic#getInstance()}).
+     *
+     * @param trialResults raw trial results
+     * @param statistics   statistic functions to be applied to raw trial results
+     * @return statistics calculated
+     */
+    public static double[] calculateStatistics(double[] trialResults, IStatistic[] statistics)
     {
         double[] stats = new double[statistics.length];
         for (int i = 0; i < stats.length; i++) stats[i] = statistics[i].calculate(trialResults.clone());
+        return stats;
+    }
+
+    /**
+     * Passes the pre-calculated statistics to savers (along with the generation number and raw trial results).
+     *
+     * @param trialResults raw trial results
+     * @param stats        statistics calculated (see {@link #calculateStatistics(double[], IStatistic[])})
+     * @param generation   current generation number
+     * @throws ScenarioException the scenario-level exception can be thrown
+     */
+    public void pushStatistics(double[] trialResults, double[] stats, int generation) throws ScenarioException
+    {
         for (IScenarioSaver s : _savers) s.pushData(trialResults.clone(), stats, generation);  // cloning for safety
     }
 
@@ -5,13 +5,13 @@ import scenario.Scenario;
 
 
 /**
- * Abstract implementation of {@link ITrialSaver}. Provides common fields/functionalities.
+ * Abstract implementation of {@link IPerIndicatorTrialSaver}. Provides common fields/functionalities.
  *
  * @author MTomczyk
  */
 
 
-public abstract class AbstractTrialSaver extends AbstractTrialIO implements ITrialSaver
+public abstract class AbstractTrialSaver extends AbstractTrialIO implements IPerIndicatorTrialSaver
 {
     /**
      * Parameterized constructor.
@@ -51,7 +51,7 @@ public abstract class AbstractTrialSaver extends AbstractTrialIO implements ITri
      * @return new object instance
      */
     @Override
-    public ITrialSaver getInstance(String path, String filename, Scenario scenario, int trialID) throws TrialException
+    public IPerIndicatorTrialSaver getInstance(String path, String filename, Scenario scenario, int trialID) throws TrialException
     {
         throw new TrialException("The \"get instance\" method is not implemented", null, this.getClass(), _scenario, _trialID);
     }
@@ -9,18 +9,31 @@ import java.io.FileOutputStream;
 import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
 
 /**
- * The main implementation of {@link ITrialSaver}.
+ * The main implementation of {@link IPerIndicatorTrialSaver}.
  * Using a binary file for trial-level data storage helps keep disk memory level consumption at a lower level
  * (however, it makes the manual inspection of the files more difficult). Note that the big endian encoding is used.
+ * The data is written via a file channel using a direct buffer that is reused between the calls (it is reallocated
+ * only when its capacity is exceeded).
  *
  * @author MTomczyk
  */
 
 
-public class BinarySaver extends AbstractTrialSaver implements ITrialSaver
+public class BinarySaver extends AbstractTrialSaver implements IPerIndicatorTrialSaver
 {
+    /**
+     * File channel (instantiated when creating the file).
+     */
+    protected FileChannel _channel;
+
+    /**
+     * Direct buffer reused when writing the data (lazy init).
+     */
+    protected ByteBuffer _buffer;
+
     /**
      * Default constructor.
      */
@@ -54,7 +67,7 @@ public class BinarySaver extends AbstractTrialSaver implements ITrialSaver
      * @throws TrialException the trail-level exception can be thrown 
      */
     @Override
-    public ITrialSaver getInstance(String path, String filename, Scenario scenario, int trialID) throws TrialException
+    public IPerIndicatorTrialSaver getInstance(String path, String filename, Scenario scenario, int trialID) throws TrialException
     {
         try
         {
@@ -89,6 +102,7 @@ public class BinarySaver extends AbstractTrialSaver implements ITrialSaver
         try
         {
             _fileOutputStream = new FileOutputStream(file, false);
+            _channel = _fileOutputStream.getChannel();
         } catch (FileNotFoundException e)
         {
             throw new TrialException(e.toString(), this.getClass(), e, _scenario, _trialID);
@@ -117,20 +131,47 @@ public class BinarySaver extends AbstractTrialSaver implements ITrialSaver
         if (offset + length > data.length)
             throw new TrialException("The offset + length exceeds the input data length", null, this.getClass(), _scenario, _trialID);
 
-        byte[] bytes = new byte[8 * length]; // 8 bytes per value
-        ByteBuffer buffer = ByteBuffer.wrap(bytes);
-        buffer.order(ByteOrder.BIG_ENDIAN);
-
-        for (int i = offset; i < offset + length; i++) buffer.putDouble(data[i]);
+        ByteBuffer buffer = getBuffer(8 * length); // 8 bytes per value
+        buffer.asDoubleBuffer().put(data, offset, length);
+        buffer.limit(8 * length);
         try
         {
-            _fileOutputStream.write(bytes);
+            writeFully(buffer);
         } catch (IOException e)
         {
             throw new TrialException(e.toString(), this.getClass(), e, _scenario, _trialID);
         }
     }
 
+    /**
+     * Returns the reusable direct buffer (cleared; big endian) of at least the requested capacity.
+     *
+     * @param capacity requested capacity (in bytes)
+     * @return buffer
+     */
+    protected ByteBuffer getBuffer(int capacity)
+    {
+        if ((_buffer == null) || (_buffer.capacity() < capacity))
+        {
+            int c = _buffer == null ? capacity : Math.max(capacity, 2 * _buffer.capacity());
+            _buffer = ByteBuffer.allocateDirect(c);
+            _buffer.order(ByteOrder.BIG_ENDIAN);
+        }
+        _buffer.clear();
+        return _buffer;
+    }
+
+    /**
+     * Writes all the remaining bytes of the buffer to the file channel.
+     *
+     * @param buffer buffer
+     * @throws IOException the exception can be thrown
+     */
+    protected void writeFully(ByteBuffer buffer) throws IOException
+    {
+        while (buffer.hasRemaining()) _channel.write(buffer);
+    }
+
     /**
      * The implementation should close the maintained output stream.
      *
@@ -141,8 +182,10 @@ public class BinarySaver extends AbstractTrialSaver implements ITrialSaver
     {
         try
         {
+            _buffer = null;
+            _channel = null;
             if (_fileOutputStream == null) return;
-            _fileOutputStream.close();
+            _fileOutputStream.close(); // closes the channel as well
         } catch (IOException e)
         {
             throw new TrialException(e.toString(), this.getClass(), e, _scenario, _trialID);
@@ -0,0 +1,340 @@
+package io.trial;
+
+import exception.TrialException;
+import scenario.Scenario;
+
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Implementation of {@link ITrialLoader} for the files created by {@link ChunkedBinarySaver} (the results of all
+ * indicators of a trial are stored in one file). Each instance retrieves the data of one indicator: the index stored
+ * at the end of the file is read when opening, and the subsequent values are then read (via positional reads of the
+ * file channel) chunk by chunk. If the file has no (valid) index, e.g., when the saver was not closed due to the
+ * interrupted processing, the chunks are identified by scanning their headers (a truncated last chunk is ignored). The
+ * direct buffer used for reading is reused between the calls.
+ *
+ * @author MTomczyk
+ */
+public class ChunkedBinaryLoader extends BinaryLoader implements ITrialLoader
+{
+    /**
+     * Name of the indicator whose data is retrieved.
+     */
+    private final String _indicatorName;
+
+    /**
+     * File channel (instantiated when opening the file).
+     */
+    private FileChannel _channel;
+
+    /**
+     * Buffer reused when reading the data (lazy init).
+     */
+    private ByteBuffer _buffer;
+
+    /**
+     * Index of the indicator in the file.
+     */
+    private int _indicatorIndex;
+
+    /**
+     * The number of indicators stored in the file.
+     */
+    private int _noIndicators;
+
+    /**
+     * Positions of the chunks (starting positions of the chunk headers).
+     */
+    private long[] _chunkPositions;
+
+    /**
+     * Lengths of the chunks (the number of values per indicator).
+     */
+    private int[] _chunkLengths;
+
+    /**
+     * Index of the chunk being currently read.
+     */
+    private int _chunk;
+
+    /**
+     * The number of values of the current chunk that are already read.
+     */
+    private int _inChunk;
+
+    /**
+     * Default constructor.
+     */
+    public ChunkedBinaryLoader()
+    {
+        super("", "", null, 0);
+        _indicatorName = null;
+    }
+
+    /**
+     * Parameterized constructor.
+     *
+     * @param path     full path to the folder where the file is stored (without a path separator)
+     * @param filename the indicator name (the file name is common to all indicators)
+     * @param scenario currently processed scenario
+     * @param trialID  ID of a test run being currently processed
+     */
+    protected ChunkedBinaryLoader(String path, String filename, Scenario scenario, int trialID)
+    {
+        super(path, filename, scenario, trialID);
+        _indicatorName = filename;
+    }
+
+    /**
+     * Creates a new instance of the object (one per indicator).
+     *
+     * @param path     full path to the folder where the file is stored (without a path separator)
+     * @param filename the indicator name
+     * @param scenario currently processed scenario
+     * @param trialID  ID of a test run being currently processed
+     * @return new object instance
+     * @throws TrialException the trail-level exception can be thrown
+     */
+    @Override
+    public ITrialLoader getInstance(String path, String filename, Scenario scenario, int trialID) throws TrialException
+    {
+        try
+        {
+            return new ChunkedBinaryLoader(path, filename, scenario, trialID);
+        } catch (Exception e)
+        {
+            throw new TrialException(e.getMessage(), this.getClass(), e, _scenario, _trialID);
+        }
+    }
+
+    /**
+     * Creates and returns the full path (the file is common to all indicators, hence the file name is fixed).
+     *
+     * @param path     full path to the folder where the file is stored (without a path separator)
+     * @param filename the indicator name (not used)
+     * @param trialID  ID of a trial being currently processed
+     * @return full path
+     */
+    @Override
+    protected String getFullPath(String path, String filename, int trialID)
+    {
+        return super.getFullPath(path, ChunkedBinarySaver.FILENAME, trialID);
+    }
+
+    /**
+     * Returns a suffix intended to be added to the file name (including the file extension).
+     *
+     * @return file suffix
+     */
+    @Override
+    public String getFileSuffix()
+    {
+        return ".cbin";
+    }
+
+    /**
+     * Opens the file and reads the header and the index.
+     *
+     * @throws TrialException the trail-level exception can be thrown (e.g., then the file is not valid)
+     */
+    @Override
+    public void load() throws TrialException
+    {
+        File file = new File(_fullPath);
+        if (file.isDirectory())
+            throw new TrialException("The path points to a directory, not a file", null, this.getClass(), _scenario, _trialID);
+
+        try
+        {
+            _fileInputStream = new FileInputStream(file);
+            _channel = _fileInputStream.getChannel();
+
+            // header
+            ByteBuffer b = read(0, 12);
+            if (b.getInt() != ChunkedBinarySaver.MAGIC)
+                throw new TrialException("The file is not a valid results file", null, this.getClass(), _scenario, _trialID);
+            if (b.getInt() != ChunkedBinarySaver.VERSION)
+                throw new TrialException("The file version is not supported", null, this.getClass(), _scenario, _trialID);
+            _noIndicators = b.getInt();
+            long size = _channel.size();
+            if ((_noIndicators < 1) || (12 + 4L * _noIndicators > size))
+                throw new TrialException("The file header is corrupted (invalid number of indicators = " + _noIndicators + ")",
+                        null, this.getClass(), _scenario, _trialID);
+            _indicatorIndex = -1;
+            long position = 12;
+            for (int i = 0; i < _noIndicators; i++)
+            {
+                int length = read(position, 4).getInt();
+                if ((length < 0) || (position + 4 + length > size))
+                    throw new TrialException("The file header is corrupted (invalid name length = " + length + ")",
+                            null, this.getClass(), _scenario, _trialID);
+                byte[] name = new byte[length];
+                read(position + 4, length).get(name);
+                position += 4 + length;
+                if ((_indicatorIndex == -1) && (new String(name, StandardCharsets.UTF_8).equals(_indicatorName)))
+                    _indicatorIndex = i;
+            }
+            if (_indicatorIndex == -1)
+                throw new TrialException("The file does not contain the results for indicator = " + _indicatorName,
+                        null, this.getClass(), _scenario, _trialID);
+
+            // index
+            if (!readIndex(position)) scanChunks(position);
+            _chunk = 0;
+            _inChunk = 0;
+        } catch (IOException e)
+        {
+            throw new TrialException(e.toString(), this.getClass(), e, _scenario, _trialID);
+        }
+    }
+
+    /**
+     * Auxiliary method reading the index stored at the end of the file.
+     *
+     * @param dataPosition position of the first chunk (the size of the header)
+     * @return true, if the index is read; false, if the file has no valid index
+     * @throws IOException the exception is thrown when the bytes cannot be read
+     */
+    private boolean readIndex(long dataPosition) throws IOException
+    {
+        long size = _channel.size();
+        if (size < dataPosition + ChunkedBinarySaver.TRAILER_SIZE) return false;
+        ByteBuffer b = read(size - ChunkedBinarySaver.TRAILER_SIZE, ChunkedBinarySaver.TRAILER_SIZE);
+        int noChunks = b.getInt();
+        long indexPosition = b.getLong();
+        if ((b.getInt() != ChunkedBinarySaver.MAGIC) || (noChunks < 0) || (indexPosition < dataPosition)
+                || (indexPosition + 12L * noChunks + ChunkedBinarySaver.TRAILER_SIZE != size))
+            return false;
+        b = read(indexPosition, 12 * noChunks);
+        _chunkPositions = new long[noChunks];
+        _chunkLengths = new int[noChunks];
+        for (int c = 0; c < noChunks; c++)
+        {
+            _chunkPositions[c] = b.getLong();
+            _chunkLengths[c] = b.getInt();
+        }
+        return true;
+    }
+
+    /**
+     * Auxiliary method identifying the chunks by scanning their headers (used when the file has no valid index). The
+     * scanning stops at the first chunk that is truncated or whose header is invalid.
+     *
+     * @param dataPosition position of the first chunk (the size of the header)
+     * @throws IOException the exception is thrown when the bytes cannot be read
+     */
+    private void scanChunks(long dataPosition) throws IOException
+    {
+        long size = _channel.size();
+        long[] positions = new long[16];
+        int[] lengths = new int[16];
+        int noChunks = 0;
+        long position = dataPosition;
+        while (position + 4 <= size)
+        {
+            int length = read(position, 4).getInt();
+            if (length < 1) break;
+            long next = position + 4 + 8L * length * _noIndicators;
+            if (next > size) break; // truncated
+            if (noChunks == positions.length)
+            {
+                positions = Arrays.copyOf(positions, 2 * noChunks);
+                lengths = Arrays.copyOf(lengths, 2 * noChunks);
+            }
+            positions[noChunks] = position;
+            lengths[noChunks++] = length;
+            position = next;
+        }
+        _chunkPositions = Arrays.copyOf(positions, noChunks);
+        _chunkLengths = Arrays.copyOf(lengths, noChunks);
+    }
+
+    /**
+     * Retrieves the subsequent values of the indicator.
+     *
+     * @param size determines the number of elements to load (doubles)
+     * @return elements loaded
+     * @throws TrialException the trail-level exception can be thrown (e.g., when there is not enough data)
+     */
+    @Override
+    public double[] retrieve(int size) throws TrialException
+    {
+        double[] r = new double[size];
+        int filled = 0;
+        try
+        {
+            while (filled < size)
+            {
+                if (_chunk >= _chunkLengths.length)
+                    throw new TrialException("Not enough data to retrieve", null, this.getClass(), _scenario, _trialID);
+                int length = _chunkLengths[_chunk];
+                int n = Math.min(size - filled, length - _inChunk);
+                long position = _chunkPositions[_chunk] + 4 + 8L * ((long) _indicatorIndex * length + _inChunk);
+                read(position, 8 * n).asDoubleBuffer().get(r, filled, n);
+                filled += n;
+                _inChunk += n;
+                if (_inChunk == length)
+                {
+                    _chunk++;
+                    _inChunk = 0;
+                }
+            }
+        } catch (IOException e)
+        {
+            throw new TrialException(e.getMessage(), this.getClass(), e, _scenario, _trialID);
+        }
+        return r;
+    }
+
+    /**
+     * Auxiliary method reading the bytes at the given position into the reusable buffer.
+     *
+     * @param position position in the file
+     * @param length   the number of bytes to read
+     * @return buffer (flipped; big endian)
+     * @throws IOException the exception is thrown when the bytes cannot be read
+     */
+    private ByteBuffer read(long position, int length) throws IOException
+    {
+        if ((_buffer == null) || (_buffer.capacity() < length))
+        {
+            int c = _buffer == null ? Math.max(length, 64) : Math.max(length, 2 * _buffer.capacity());
+            _buffer = ByteBuffer.allocateDirect(c);
+            _buffer.order(ByteOrder.BIG_ENDIAN);
+        }
+        _buffer.clear();
+        _buffer.limit(length);
+        long p = position;
+        while (_buffer.hasRemaining())
+        {
+            int read = _channel.read(_buffer, p);
+            if (read < 0) throw new EOFException("Unexpected end of file");
+            p += read;
+        }
+        _buffer.flip();
+        return _buffer;
+    }
+
+    /**
+     * Closes the input channel.
+     *
+     * @throws TrialException the trail-level exception can be thrown
+     */
+    @Override
+    public void close() throws TrialException
+    {
+        _channel = null;
+        _buffer = null;
+        _chunkPositions = null;
+        _chunkLengths = null;
+        super.close();
+    }
+}
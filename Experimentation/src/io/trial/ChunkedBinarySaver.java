@@ -0,0 +1,347 @@
+package io.trial;
+
+import exception.TrialException;
+import scenario.Scenario;
+
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Implementation of {@link IMultiIndicatorTrialSaver} that stores the results of all performance indicators of a
+ * trial in one binary file (instead of one file per indicator; see {@link BinarySaver}). Hence, the number of open
+ * files (and write calls) does not grow with the number of indicators. The file consists of a header (magic number,
+ * version, the number of indicators, and their names), a sequence of chunks (one per {@link #store(double[][], int, int)}
+ * call; the chunk length L followed by L values of the first indicator, L values of the second indicator, etc.), and an
+ * index written when closing the file (the positions and lengths of the chunks, the number of chunks, the position of
+ * the index, and the magic number). Each chunk is written with a single gathering write (chunk header + data) from
+ * reusable direct buffers. The big endian encoding is used. The files are read by {@link ChunkedBinaryLoader} (a file
+ * that was not closed, e.g., due to the interrupted processing, has no index; the loader then identifies the chunks
+ * by scanning their headers, so the chunks written before the interruption remain readable). The saver can replace
+ * the default {@link BinarySaver} (see
+ * {@link container.global.AbstractGlobalDataContainer.Params#_consolidateTrialResults}).
+ *
+ * @author MTomczyk
+ */
+public class ChunkedBinarySaver extends AbstractTrialIO implements IMultiIndicatorTrialSaver
+{
+    /**
+     * Magic number opening and closing the file ("JCRB").
+     */
+    static final int MAGIC = 0x4A435242;
+
+    /**
+     * Format version.
+     */
+    static final int VERSION = 1;
+
+    /**
+     * File name (the file is shared by all indicators; the trial ID and the suffix are appended).
+     */
+    static final String FILENAME = "RESULTS";
+
+    /**
+     * The size of the trailer (the number of chunks, the position of the index, and the magic number) in bytes.
+     */
+    static final int TRAILER_SIZE = 16;
+
+    /**
+     * Names of the indicators.
+     */
+    private final String[] _indicatorNames;
+
+    /**
+     * File channel (instantiated when creating the file).
+     */
+    private FileChannel _channel;
+
+    /**
+     * Direct buffer reused when writing the data (lazy init).
+     */
+    private ByteBuffer _buffer;
+
+    /**
+     * Buffer for the chunk headers (reused).
+     */
+    private ByteBuffer _chunkHeader;
+
+    /**
+     * Current position in the file (i.e., its size).
+     */
+    private long _position;
+
+    /**
+     * Positions of the chunks (starting positions of the chunk headers).
+     */
+    private long[] _chunkPositions;
+
+    /**
+     * Lengths of the chunks (the number of values per indicator).
+     */
+    private int[] _chunkLengths;
+
+    /**
+     * The number of chunks written.
+     */
+    private int _noChunks;
+
+    /**
+     * Default constructor.
+     */
+    public ChunkedBinarySaver()
+    {
+        super("", FILENAME, null, 0);
+        _indicatorNames = null;
+    }
+
+    /**
+     * Parameterized constructor.
+     *
+     * @param path           full path to the folder where the file should be stored (without a path separator)
+     * @param indicatorNames names of the performance indicators
+     * @param scenario       currently processed scenario
+     * @param trialID        ID of a test run being currently processed
+     */
+    protected ChunkedBinarySaver(String path, String[] indicatorNames, Scenario scenario, int trialID)
+    {
+        super(path, FILENAME, scenario, trialID);
+        _indicatorNames = indicatorNames;
+    }
+
+    /**
+     * Creates a new instance of the object (one per trial).
+     *
+     * @param path           full path to the folder where the file should be stored (without a path separator)
+     * @param indicatorNames names of the performance indicators (the order corresponds to the rows of the results matrix)
+     * @param scenario       scenario being currently processed
+     * @param trialID        ID of the test run being currently processed
+     * @return new object instance
+     * @throws TrialException the trial-level exception can be thrown
+     */
+    @Override
+    public IMultiIndicatorTrialSaver getInstance(String path, String[] indicatorNames, Scenario scenario, int trialID) throws TrialException
+    {
+        if ((indicatorNames == null) || (indicatorNames.length == 0))
+            throw new TrialException("The indicator names are not provided", null, this.getClass(), scenario, trialID);
+        try
+        {
+            return new ChunkedBinarySaver(path, indicatorNames.clone(), scenario, trialID);
+        } catch (Exception e)
+        {
+            throw new TrialException(e.getMessage(), this.getClass(), e, scenario, trialID);
+        }
+    }
+
+    /**
+     * Creates and returns the full path based on the folder path, filename, and saver's suffix (e.g., extension).
+     *
+     * @param path     full path to the folder where the file should be stored (without a path separator)
+     * @param filename the filename (without the suffix, e.g., extension)
+     * @param trialID  ID of a trial being currently processed
+     * @return full path
+     */
+    @Override
+    protected String getFullPath(String path, String filename, int trialID)
+    {
+        return super.getFullPath(path, filename, trialID) + getFileSuffix();
+    }
+
+    /**
+     * Returns a suffix intended to be added to the file name (including the file extension).
+     *
+     * @return file suffix
+     */
+    @Override
+    public String getFileSuffix()
+    {
+        return ".cbin";
+    }
+
+    /**
+     * Creates a file (overwrites it if already exists), instantiates the output channel, and writes the header.
+     *
+     * @throws TrialException the trail-level exception can be thrown  (e.g., then the requested path is invalid)
+     */
+    @Override
+    public void create() throws TrialException
+    {
+        File file = getFileAtTrialLevel();
+        try
+        {
+            _fileOutputStream = new FileOutputStream(file, false);
+            _channel = _fileOutputStream.getChannel();
+        } catch (FileNotFoundException e)
+        {
+            throw new TrialException(e.toString(), this.getClass(), e, _scenario, _trialID);
+        }
+
+        byte[][] names = new byte[_indicatorNames.length][];
+        int size = 12;
+        for (int i = 0; i < _indicatorNames.length; i++)
+        {
+            names[i] = _indicatorNames[i].getBytes(StandardCharsets.UTF_8);
+            size += 4 + names[i].length;
+        }
+        ByteBuffer buffer = getBuffer(size);
+        buffer.putInt(MAGIC);
+        buffer.putInt(VERSION);
+        buffer.putInt(_indicatorNames.length);
+        for (byte[] n : names)
+        {
+            buffer.putInt(n.length);
+            buffer.put(n);
+        }
+        buffer.flip();
+        try
+        {
+            writeFully(buffer);
+        } catch (IOException e)
+        {
+            throw new TrialException(e.toString(), this.getClass(), e, _scenario, _trialID);
+        }
+
+        _position = size;
+        _chunkPositions = new long[16];
+        _chunkLengths = new int[16];
+        _noChunks = 0;
+        _chunkHeader = ByteBuffer.allocateDirect(4);
+        _chunkHeader.order(ByteOrder.BIG_ENDIAN);
+    }
+
+    /**
+     * Stores the given input data (all indicators) as a new chunk.
+     *
+     * @param data   input data to be stored (rows = linked to indicators, columns = linked to generations)
+     * @param offset starting index in the data arrays
+     * @param length represents how many values (per indicator) should be stored
+     * @throws TrialException the trail-level exception can be thrown
+     */
+    @Override
+    public void store(double[][] data, int offset, int length) throws TrialException
+    {
+        if (data == null)
+            throw new TrialException("The data is not provided (the array is null)", null, this.getClass(), _scenario, _trialID);
+        if (data.length != _indicatorNames.length)
+            throw new TrialException("The number of data rows differs from the number of indicators", null, this.getClass(), _scenario, _trialID);
+        if (length < 1)
+            throw new TrialException("The length should not be less than 1", null, this.getClass(), _scenario, _trialID);
+        if (offset < 0)
+            throw new TrialException("The offset should not be less than 0", null, this.getClass(), _scenario, _trialID);
+        for (double[] d : data)
+        {
+            if ((d == null) || (d.length == 0))
+                throw new TrialException("The data is not provided (the array is null or empty)", null, this.getClass(), _scenario, _trialID);
+            if (offset + length > d.length)
+                throw new TrialException("The offset + length exceeds the input data length", null, this.getClass(), _scenario, _trialID);
+        }
+
+        int bytesPerIndicator = 8 * length;
+        ByteBuffer payload = getBuffer(data.length * bytesPerIndicator);
+        for (int k = 0; k < data.length; k++)
+        {
+            payload.position(k * bytesPerIndicator);
+            payload.asDoubleBuffer().put(data[k], offset, length);
+        }
+        payload.position(0);
+        payload.limit(data.length * bytesPerIndicator);
+        _chunkHeader.clear();
+        _chunkHeader.putInt(length);
+        _chunkHeader.flip();
+
+        ByteBuffer[] buffers = new ByteBuffer[]{_chunkHeader, payload};
+        try
+        {
+            while (payload.hasRemaining()) _channel.write(buffers);
+        } catch (IOException e)
+        {
+            throw new TrialException(e.toString(), this.getClass(), e, _scenario, _trialID);
+        }
+
+        if (_noChunks == _chunkPositions.length)
+        {
+            _chunkPositions = Arrays.copyOf(_chunkPositions, 2 * _noChunks);
+            _chunkLengths = Arrays.copyOf(_chunkLengths, 2 * _noChunks);
+        }
+        _chunkPositions[_noChunks] = _position;
+        _chunkLengths[_noChunks++] = length;
+        _position += 4 + (long) data.length * bytesPerIndicator;
+    }
+
+    /**
+     * Writes the index and closes the output channel.
+     *
+     * @throws TrialException the trail-level exception can be thrown
+     */
+    @Override
+    public void close() throws TrialException
+    {
+        try
+        {
+            if (_channel != null)
+            {
+                ByteBuffer buffer = getBuffer(12 * _noChunks + TRAILER_SIZE);
+                for (int c = 0; c < _noChunks; c++)
+                {
+                    buffer.putLong(_chunkPositions[c]);
+                    buffer.putInt(_chunkLengths[c]);
+                }
+                buffer.putInt(_noChunks);
+                buffer.putLong(_position);
+                buffer.putInt(MAGIC);
+                buffer.flip();
+                writeFully(buffer);
+            }
+        } catch (IOException e)
+        {
+            throw new TrialException(e.toString(), this.getClass(), e, _scenario, _trialID);
+        }
+        _chunkHeader = null;
+        _chunkPositions = null;
+        _chunkLengths = null;
+        try
+        {
+            _buffer = null;
+            _channel = null;
+            if (_fileOutputStream == null) return;
+            _fileOutputStream.close(); // closes the channel as well
+        } catch (IOException e)
+        {
+            throw new TrialException(e.toString(), this.getClass(), e, _scenario, _trialID);
+        }
+    }
+
+    /**
+     * Returns the reusable direct buffer (cleared; big endian) of at least the requested capacity.
+     *
+     * @param capacity requested capacity (in bytes)
+     * @return buffer
+     */
+    private ByteBuffer getBuffer(int capacity)
+    {
+        if ((_buffer == null) || (_buffer.capacity() < capacity))
+        {
+            int c = _buffer == null ? capacity : Math.max(capacity, 2 * _buffer.capacity());
+            _buffer = ByteBuffer.allocateDirect(c);
+            _buffer.order(ByteOrder.BIG_ENDIAN);
+        }
+        _buffer.clear();
+        return _buffer;
+    }
+
+    /**
+     * Writes all the remaining bytes of the buffer to the file channel.
+     *
+     * @param buffer buffer
+     * @throws IOException the exception can be thrown
+     */
+    private void writeFully(ByteBuffer buffer) throws IOException
+    {
+        while (buffer.hasRemaining()) _channel.write(buffer);
+    }
+}
@@ -0,0 +1,36 @@
+package io.trial;
+
+import exception.TrialException;
+import scenario.Scenario;
+
+/**
+ * Interface for trial savers that store the results of all performance indicators (of a trial) in one file. If the
+ * reference saver implements this interface, {@link TSPerIndicator} creates one instance per trial (instead of one
+ * instance per indicator, as for {@link IPerIndicatorTrialSaver}) and passes the results of all indicators at once.
+ *
+ * @author MTomczyk
+ */
+public interface IMultiIndicatorTrialSaver extends ITrialSaver
+{
+    /**
+     * Creates a new instance of the object (one per trial).
+     *
+     * @param path           full path to the folder where the file should be stored (without a path separator)
+     * @param indicatorNames names of the performance indicators (the order corresponds to the rows of the results matrix)
+     * @param scenario       scenario being currently processed
+     * @param trialID        ID of the test run being currently processed
+     * @return new object instance
+     * @throws TrialException the trial-level exception can be thrown
+     */
+    IMultiIndicatorTrialSaver getInstance(String path, String[] indicatorNames, Scenario scenario, int trialID) throws TrialException;
+
+    /**
+     * The implementation should store the given input data (all indicators) in the created file.
+     *
+     * @param data   input data to be stored (rows = linked to indicators, columns = linked to generations)
+     * @param offset starting index in the data arrays
+     * @param length represents how many values (per indicator) should be stored
+     * @throws TrialException the trial-level exception can be thrown
+     */
+    void store(double[][] data, int offset, int length) throws TrialException;
+}
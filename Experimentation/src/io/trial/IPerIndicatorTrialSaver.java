@@ -0,0 +1,36 @@
+package io.trial;
+
+import exception.TrialException;
+import scenario.Scenario;
+
+/**
+ * Interface for trial savers that store the results of each performance indicator (of a trial) in a separate file.
+ * {@link TSPerIndicator} creates one instance per indicator and passes the results of the indicators one by one.
+ *
+ * @author MTomczyk
+ */
+public interface IPerIndicatorTrialSaver extends ITrialSaver
+{
+    /**
+     * Creates a new instance of the object. Intended to be used by the trial executor to clone the initial object
+     * instance one time per each performance indicator (i.e., one clone will be mapped to one performance indicator).
+     *
+     * @param path     full path to the folder where the file should be stored (without a path separator)
+     * @param filename the filename (without the suffix, e.g., extension)
+     * @param scenario scenario being currently processed
+     * @param trialID  ID of the test run being currently processed
+     * @return new object instance
+     * @throws TrialException the trial-level exception can be cast
+     */
+    IPerIndicatorTrialSaver getInstance(String path, String filename, Scenario scenario, int trialID) throws TrialException;
+
+    /**
+     * The implementation should store the given input data in the created file.
+     *
+     * @param data   input data to be stored
+     * @param offset starting index in the data array
+     * @param length represents how many values should be stored (i.e., data[offset]:data[offset + length - 1] (inclusive) should be stored))
+     * @throws TrialException the trail-level exception can be thrown
+     */
+    void store(double[] data, int offset, int length) throws TrialException;
+}
@@ -6,17 +6,30 @@ import scenario.Scenario;
 
 /**
  * Container-like class for {@link io.trial.ITrialSaver}. During the processing initialization, the reference trial savers
- * (provided by the programmer) are cloned so that each such saver produces one copy per indicator (per-indicator results
- * are stored in different files). These clones are stored within this class's instances.
+ * (provided by the programmer) are cloned. If the reference saver implements {@link IPerIndicatorTrialSaver}, it
+ * produces one copy per indicator (per-indicator results are stored in different files). If it implements
+ * {@link IMultiIndicatorTrialSaver}, one clone handles all indicators (stored in one file). These clones are stored
+ * within this class's instances.
  *
  * @author MTomczyk
  */
 public class TSPerIndicator
 {
     /**
-     * One saver (clone of the reference saver) per indicator (1:1 mapping).
+     * All savers (clones of the reference saver; one per indicator (1:1 mapping) or one handling all indicators).
      */
-    private ITrialSaver[] _saverPerIndicator;
+    private ITrialSaver[] _savers;
+
+    /**
+     * One saver (clone of the reference saver) per indicator (1:1 mapping; null, if the reference saver does not
+     * implement {@link IPerIndicatorTrialSaver}).
+     */
+    private IPerIndicatorTrialSaver[] _saverPerIndicator;
+
+    /**
+     * Saver handling all indicators (null, if the reference saver does not implement {@link IMultiIndicatorTrialSaver}).
+     */
+    private IMultiIndicatorTrialSaver _multiIndicatorSaver;
 
     /**
      * Parameterized constructor.
@@ -26,7 +39,8 @@ public class TSPerIndicator
      * @param path           full path to the folder where the result file should be stored (without a path separator)
      * @param scenario       scenario being currently processed
      * @param trialID        ID of the test run being currently processed
-     * @throws TrialException trial-level exception can be thrown 
+     * @throws TrialException trial-level exception can be thrown (e.g., when the reference saver implements neither
+     *                        {@link IPerIndicatorTrialSaver} nor {@link IMultiIndicatorTrialSaver})
      */
     public TSPerIndicator(ITrialSaver referenceSaver,
                           IIndicator[] indicators,
@@ -36,10 +50,22 @@ public class TSPerIndicator
     {
         try
         {
-            _saverPerIndicator = new ITrialSaver[indicators.length];
+            if (referenceSaver instanceof IMultiIndicatorTrialSaver)
+            {
+                String[] names = new String[indicators.length];
+                for (int i = 0; i < indicators.length; i++) names[i] = indicators[i].getName();
+                _multiIndicatorSaver = ((IMultiIndicatorTrialSaver) referenceSaver).getInstance(path, names, scenario, trialID);
+                _savers = new ITrialSaver[]{_multiIndicatorSaver};
+                return;
+            }
+            if (!(referenceSaver instanceof IPerIndicatorTrialSaver))
+                throw new TrialException("The trial saver should implement either the per-indicator or the multi-indicator interface",
+                        null, this.getClass(), scenario, trialID);
+            _saverPerIndicator = new IPerIndicatorTrialSaver[indicators.length];
             for (int i = 0; i < indicators.length; i++)
-                _saverPerIndicator[i] = referenceSaver.getInstance(path, indicators[i].getName(),
-                        scenario, trialID);
+                _saverPerIndicator[i] = ((IPerIndicatorTrialSaver) referenceSaver).getInstance(path,
+                        indicators[i].getName(), scenario, trialID);
+            _savers = _saverPerIndicator;
         } catch (Exception e)
         {
             throw new TrialException(e.getMessage(), this.getClass(), e, scenario, trialID);
@@ -56,6 +82,11 @@ public class TSPerIndicator
      */
     public void pushResults(double[][] results, int offset, int length) throws TrialException
     {
+        if (_multiIndicatorSaver != null)
+        {
+            _multiIndicatorSaver.store(results, offset, length);
+            return;
+        }
         for (int i = 0; i < _saverPerIndicator.length; i++)
             _saverPerIndicator[i].store(results[i], offset, length);
     }
@@ -67,7 +98,7 @@ public class TSPerIndicator
      */
     public void createResultsFiles() throws TrialException
     {
-        for (ITrialSaver ts : _saverPerIndicator) ts.create();
+        for (ITrialSaver ts : _savers) ts.create();
     }
 
     /**
@@ -77,7 +108,7 @@ public class TSPerIndicator
      */
     public void closeResultsFiles() throws TrialException
     {
-        for (ITrialSaver ts : _saverPerIndicator) ts.close();
+        for (ITrialSaver ts : _savers) ts.close();
     }
 
     /**
@@ -85,6 +116,8 @@ public class TSPerIndicator
      */
     public void dispose()
     {
+        _savers = null;
         _saverPerIndicator = null;
+        _multiIndicatorSaver = null;
     }
 }
@@ -0,0 +1,175 @@
+package io.utils.pusher;
+
+import exception.ScenarioException;
+import executor.ScenariosSummarizer;
+import io.scenario.ScenarioSavers;
+import statistics.IStatistic;
+
+import java.util.concurrent.ArrayBlockingQueue;
+
+/**
+ * Implementation of {@link IPusher} dedicated to the parallel mode of {@link ScenariosSummarizer}. It calculates the
+ * statistics immediately (see {@link ScenarioSavers#calculateStatistics(double[], IStatistic[])}), but, instead of
+ * passing the outcomes to savers, it puts them into a bounded queue (the producing thread is blocked when the queue is
+ * full). The queue is drained (see {@link #flush(ScenarioSavers)}) by the thread that owns the savers, preserving the
+ * required order of indicators and generations. Thus, the data of many indicators can be loaded and aggregated
+ * concurrently, while the number of buffered generations is limited by the queue capacity. Both sides wait using the
+ * blocking operations of the queue. The producer should call {@link #finish(ScenarioException)} when it stops pushing
+ * the data (it puts the closing item into the queue, so that the consumer does not wait infinitely), and the consumer
+ * should call {@link #cancel()} when it stops draining the queue prematurely (the queue is cleared, so that the
+ * producer does not wait infinitely, and the subsequent pushes are rejected). The statistic functions are called by
+ * the producing thread; thus, when many pushers are used concurrently, each producer should use its own instances (see
+ * {@link IStatistic#getInstance()}).
+ *
+ * @author MTomczyk
+ */
+public class BufferedScenarioPusher implements IPusher
+{
+    /**
+     * Data associated with one generation.
+     */
+    private static class Item
+    {
+        /**
+         * Generation number.
+         */
+        private final int _generation;
+
+        /**
+         * Raw trial results.
+         */
+        private final double[] _trialResults;
+
+        /**
+         * Statistics calculated.
+         */
+        private final double[] _statistics;
+
+        /**
+         * Exception that caused the producer to stop (used by the closing item; null, if not thrown).
+         */
+        private final ScenarioException _failure;
+
+        /**
+         * Parameterized constructor.
+         *
+         * @param generation   generation number (negative for the closing item)
+         * @param trialResults raw trial results
+         * @param statistics   statistics calculated
+         * @param failure      exception that caused the producer to stop (used by the closing item)
+         */
+        private Item(int generation, double[] trialResults, double[] statistics, ScenarioException failure)
+        {
+            _generation = generation;
+            _trialResults = trialResults;
+            _statistics = statistics;
+            _failure = failure;
+        }
+    }
+
+    /**
+     * The total number of generations.
+     */
+    private final int _generations;
+
+    /**
+     * Queue of the data waiting to be passed to savers.
+     */
+    private final ArrayBlockingQueue<Item> _queue;
+
+    /**
+     * Flag indicating that the consumer stopped draining the queue.
+     */
+    private volatile boolean _cancelled = false;
+
+    /**
+     * Parameterized constructor.
+     *
+     * @param generations the total number of generations
+     * @param capacity    queue capacity (the maximal number of buffered generations; at least 1)
+     */
+    public BufferedScenarioPusher(int generations, int capacity)
+    {
+        _generations = generations;
+        _queue = new ArrayBlockingQueue<>(Math.max(1, capacity));
+    }
+
+    /**
+     * Calculates the statistics and puts the data into the queue (waits if the queue is full).
+     *
+     * @param trialResults raw trial results
+     * @param statistics   statistic functions to be applied to raw trial results
+     * @param generation   current generation number
+     * @throws ScenarioException the scenario-level exception is thrown when the generation number is invalid, the
+     *                           processing was cancelled, or the thread was interrupted
+     */
+    @Override
+    public void pushData(double[] trialResults, IStatistic[] statistics, int generation) throws ScenarioException
+    {
+        if ((generation < 0) || (generation >= _generations))
+            throw new ScenarioException("Invalid generation number = " + generation, null, this.getClass(), null);
+        if (_cancelled) throw new ScenarioException("The processing was cancelled", null, this.getClass(), null);
+        Item item = new Item(generation, trialResults, ScenarioSavers.calculateStatistics(trialResults, statistics), null);
+        try
+        {
+            _queue.put(item); // unblocked by the consumer (taking the item or cancelling the processing)
+        } catch (InterruptedException e)
+        {
+            Thread.currentThread().interrupt();
+            throw new ScenarioException("The processing was interrupted", null, e, null);
+        }
+    }
+
+    /**
+     * Notifies that the producer stopped pushing the data (puts the closing item into the queue, unless the processing
+     * was cancelled; waits if the queue is full).
+     *
+     * @param failure exception that caused the producer to stop (null, if the data was pushed successfully)
+     */
+    public void finish(ScenarioException failure)
+    {
+        if (_cancelled) return;
+        try
+        {
+            _queue.put(new Item(-1, null, null, failure));
+        } catch (InterruptedException e)
+        {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Notifies that the consumer stopped draining the queue (the buffered data is discarded, and the producer waiting
+     * for the free space is unblocked).
+     */
+    public void cancel()
+    {
+        _cancelled = true;
+        _queue.clear();
+    }
+
+    /**
+     * Passes the data to savers (in the ascending order of generations; waits for the data if the queue is empty).
+     *
+     * @param savers scenario savers
+     * @throws ScenarioException the scenario-level exception can be thrown (e.g., when the data is incomplete)
+     */
+    public void flush(ScenarioSavers savers) throws ScenarioException
+    {
+        try
+        {
+            for (int g = 0; g < _generations; g++)
+            {
+                Item item = _queue.take();
+                if ((item._generation < 0) && (item._failure != null)) throw item._failure;
+                if (item._generation != g)
+                    throw new ScenarioException("The data for generation = " + g + " is missing", null, this.getClass(), null);
+                savers.pushStatistics(item._trialResults, item._statistics, g);
+            }
+        } catch (InterruptedException e)
+        {
+            Thread.currentThread().interrupt();
+            throw new ScenarioException("The processing was interrupted", null, e, null);
+        }
+    }
+}
@@ -14,10 +14,14 @@ import scenario.Keys;
 import statistics.IStatistic;
 import statistics.Min;
 import statistics.Sum;
+import summary.ScenarioSummary;
 import summary.Summary;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.Arrays;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -536,4 +540,193 @@ class ExperimentPerformerTest
         }
         assertNull(msg);
     }
-}
\ No newline at end of file
+
+    /**
+     * Test 11 (cross-scenario scheduling; the outputs and summaries should be the same as when the scenarios are
+     * processed one by one).
+     */
+    @Test
+    void test11()
+    {
+        ExperimentPerformer.Params pE = new ExperimentPerformer.Params();
+        pE._crossScenarioScheduling = true;
+        GlobalDataContainer.Params pGDC = new GlobalDataContainer.Params();
+        pGDC._scenarioKeys = new String[]{Keys.KEY_PROBLEM, Keys.KEY_ALGORITHM};
+        pGDC._scenarioValues = new String[][]{{"P1", "P2",}, {"NSGAII", "NSGAIII"}};
+        pGDC._noThreads = 3;
+        pGDC._noTrials = 10;
+        String folderPath = "";
+        String msg = null;
+        try {
+            folderPath = FileUtils.getPathRelatedToClass(ExperimentPerformerTest.class, "Experimentation", "tests", File.separatorChar).toString();
+        } catch (IOException e) {
+            msg = e.getMessage();
+        }
+        assertNull(msg);
+
+        pGDC._mainPath = folderPath + File.separatorChar + "executor_temporary_output";
+        String mainPath = pGDC._mainPath;
+        pE._GDC = new GlobalDataContainer(pGDC);
+        ScenarioDataContainerFactory.Params pSDCF = new ScenarioDataContainerFactory.Params();
+        pSDCF._indicators = new IIndicator[]{new PerformanceIndicator(new Evaluation(new Sum()))};
+        pSDCF._statistics = new IStatistic[]{new Sum()};
+        pE._SDCF = new ScenarioDataContainerFactory(pSDCF);
+
+        TrialDataContainerFactory.Params pTDCF = new TrialDataContainerFactory.Params();
+        pTDCF._eaInitializer = (R, p) -> new EADummyPopulations(1, new double[][][]{{{1.0d}}});
+        pE._TDCF = new TrialDataContainerFactory(pTDCF);
+
+        ExperimentPerformer executor = new ExperimentPerformer(pE);
+        Summary s = executor.execute();
+        assertFalse(s.isTerminatedDueToException());
+        System.out.println(s);
+
+        assertEquals(4, s.getCompletedScenarios());
+        assertEquals(0, s.getTerminatedScenarios());
+        assertEquals(0, s.getSkippedScenarios());
+        assertEquals(40, s.getCompletedTrials());
+        assertEquals(0, s.getTerminatedTrials());
+        for (ScenarioSummary ss : s.getScenariosSummaries())
+        {
+            assertEquals(10, ss.getCompletedTrials());
+            assertNotNull(ss.getStopTimestamp());
+            assertFalse(ss.getStopTimestamp().isBefore(ss.getStartTimestamp()));
+        }
+
+        File folder = new File(mainPath);
+        assertTrue(folder.isDirectory());
+        String[] subfolders = new String[]{
+                "PROBLEM_P1_ALGORITHM_NSGAII",
+                "PROBLEM_P1_ALGORITHM_NSGAIII",
+                "PROBLEM_P2_ALGORITHM_NSGAII",
+                "PROBLEM_P2_ALGORITHM_NSGAIII"
+        };
+
+        for (String f : subfolders) {
+            for (int i = 0; i < pGDC._noTrials; i++) {
+                File tf = new File(folder.toString() + File.separatorChar + f + File.separatorChar + "SUM0_" + i + ".bin");
+                assertTrue(tf.exists());
+            }
+        }
+
+        // the summarizers do not execute trials (the cross-scenario scheduling is rejected)
+        assertThrows(IllegalArgumentException.class, () -> new ScenariosSummarizer(pE));
+        assertThrows(IllegalArgumentException.class, () -> new CrossSummarizer(pE));
+
+        // remove outputs
+        try {
+            FileUtils.removeFolderRecursively(mainPath, 5, 100, true);
+        } catch (InterruptedException e) {
+            msg = e.getMessage();
+        }
+        assertNull(msg);
+    }
+
+    /**
+     * Test 12 (checkpoints and resuming; an interrupted trial is executed again and yields the same results, while the
+     * completed ones are not executed again).
+     */
+    @Test
+    void test12()
+    {
+        String folderPath = "";
+        String msg = null;
+        try {
+            folderPath = FileUtils.getPathRelatedToClass(ExperimentPerformerTest.class, "Experimentation", "tests", File.separatorChar).toString();
+        } catch (IOException e) {
+            msg = e.getMessage();
+        }
+        assertNull(msg);
+        String mainPath = folderPath + File.separatorChar + "executor_temporary_output";
+        String scenarioPath = mainPath + File.separatorChar + "PROBLEM_P1_ALGORITHM_NSGAII";
+
+        Summary s = executeForCheckpointTest(mainPath, false);
+        assertFalse(s.isTerminatedDueToException());
+        assertEquals(5, s.getCompletedTrials());
+
+        byte[][] reference = new byte[5][];
+        try {
+            for (int t = 0; t < 5; t++) {
+                reference[t] = Files.readAllBytes(Paths.get(scenarioPath + File.separatorChar + "SUM0_" + t + ".bin"));
+                assertEquals(8 * 10, reference[t].length);
+                TrialCheckpoint checkpoint = TrialCheckpoint.load(TrialCheckpoint.getPath(scenarioPath, t));
+                assertNotNull(checkpoint);
+                assertTrue(checkpoint.isCompleted(t, 10, 1));
+            }
+
+            // simulate an interruption of trial 2 (after flushing 6 generations; the checkpoint is removed when the
+            // trial starts)
+            Files.write(Paths.get(scenarioPath + File.separatorChar + "SUM0_2.bin"), Arrays.copyOf(reference[2], 8 * 6));
+            TrialCheckpoint.remove(TrialCheckpoint.getPath(scenarioPath, 2));
+            assertNull(TrialCheckpoint.load(TrialCheckpoint.getPath(scenarioPath, 2)));
+            // a checkpoint of a differently parameterized trial is not valid
+            new TrialCheckpoint(3, 20, 1).save(TrialCheckpoint.getPath(scenarioPath, 3));
+            assertFalse(TrialCheckpoint.load(TrialCheckpoint.getPath(scenarioPath, 3)).isCompleted(3, 10, 1));
+            assertTrue(new File(scenarioPath + File.separatorChar + "SUM0_0.bin").setLastModified(1000000L));
+        } catch (IOException e) {
+            msg = e.getMessage();
+        }
+        assertNull(msg);
+
+        s = executeForCheckpointTest(mainPath, true);
+        assertFalse(s.isTerminatedDueToException());
+        assertEquals(5, s.getCompletedTrials());
+
+        try {
+            for (int t = 0; t < 5; t++) {
+                byte[] bytes = Files.readAllBytes(Paths.get(scenarioPath + File.separatorChar + "SUM0_" + t + ".bin"));
+                assertArrayEquals(reference[t], bytes);
+                assertTrue(TrialCheckpoint.load(TrialCheckpoint.getPath(scenarioPath, t)).isCompleted(t, 10, 1));
+            }
+        } catch (IOException e) {
+            msg = e.getMessage();
+        }
+        assertNull(msg);
+        // the completed trial was not executed again
+        assertEquals(1000000L, new File(scenarioPath + File.separatorChar + "SUM0_0.bin").lastModified());
+
+        // remove outputs
+        try {
+            FileUtils.removeFolderRecursively(mainPath, 5, 100, true);
+        } catch (InterruptedException e) {
+            msg = e.getMessage();
+        }
+        assertNull(msg);
+    }
+
+    /**
+     * Auxiliary method executing the experiment used in test 12.
+     *
+     * @param mainPath main path
+     * @param resume   if true, the trials are resumed
+     * @return summary
+     */
+    private static Summary executeForCheckpointTest(String mainPath, boolean resume)
+    {
+        ExperimentPerformer.Params pE = new ExperimentPerformer.Params();
+        GlobalDataContainer.Params pGDC = new GlobalDataContainer.Params();
+        pGDC._scenarioKeys = new String[]{Keys.KEY_PROBLEM, Keys.KEY_ALGORITHM};
+        pGDC._scenarioValues = new String[][]{{"P1"}, {"NSGAII"}};
+        pGDC._noThreads = 2;
+        pGDC._noTrials = 5;
+        pGDC._checkpointTrials = true;
+        pGDC._resumeTrials = resume;
+        pGDC._mainPath = mainPath;
+        pE._GDC = new GlobalDataContainer(pGDC);
+        ScenarioDataContainerFactory.Params pSDCF = new ScenarioDataContainerFactory.Params();
+        pSDCF._indicators = new IIndicator[]{new PerformanceIndicator(new Evaluation(new Sum()))};
+        pSDCF._statistics = new IStatistic[]{new Sum()};
+        pSDCF._generations = 10;
+        pSDCF._dataStoringInterval = 3;
+        pE._SDCF = new ScenarioDataContainerFactory(pSDCF);
+
+        TrialDataContainerFactory.Params pTDCF = new TrialDataContainerFactory.Params();
+        pTDCF._eaInitializer = (R, p) -> {
+            double[][][] evals = new double[10][1][1];
+            for (int g = 0; g < 10; g++) evals[g][0][0] = R.nextDouble();
+            return new EADummyPopulations(1, evals);
+        };
+        pE._TDCF = new TrialDataContainerFactory(pTDCF);
+        return new ExperimentPerformer(pE).execute();
+    }
+}
@@ -0,0 +1,373 @@
+package executor.complex.case2;
+
+import condition.ScenarioDisablingConditions;
+import condition.TrialDisablingConditions;
+import container.global.GlobalDataContainer;
+import container.scenario.ScenarioDataContainerFactory;
+import container.trial.TrialDataContainerFactory;
+import ea.dummy.populations.EADummyPopulations;
+import executor.CrossSummarizer;
+import executor.ExperimentPerformer;
+import executor.ScenariosSummarizer;
+import indicator.Evaluation;
+import indicator.IIndicator;
+import indicator.PerformanceIndicator;
+import io.FileUtils;
+import io.cross.excel.FinalStatisticsXLS;
+import io.cross.excel.FinalStatisticsXLSX;
+import io.scenario.SummarizerTXT;
+import io.scenario.excel.SummarizerXLS;
+import io.scenario.excel.SummarizerXLSX;
+import io.utils.excel.Style;
+import org.apache.poi.hssf.usermodel.HSSFWorkbook;
+import org.apache.poi.ss.usermodel.*;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import scenario.CrossedSetting;
+import statistics.*;
+import summary.CrossedExaminerSummary;
+import summary.Summary;
+
+import java.io.*;
+import java.util.LinkedList;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Shared fixture for the tests that run the experiment of {@link ExperimentPerformerComplex12Test} in different
+ * modes (e.g., with consolidated trial results or with memory-mapped scenario results). The experiment is set up as
+ * in that test (the mode-specific settings are imposed via the constructor), and its subsequent phases (trials,
+ * scenario summaries, cross summaries) can be executed and verified against the expected (same) outcomes.
+ *
+ * @author MTomczyk
+ */
+class Complex12Experiment
+{
+    /**
+     * Params container of the experiment performer (also used by the summarizers).
+     */
+    private final ExperimentPerformer.Params _pE;
+
+    /**
+     * Main path (experiment outputs).
+     */
+    private final String _mainPath;
+
+    /**
+     * Style used by the cross savers.
+     */
+    private final Style _style;
+
+    /**
+     * Parameterized constructor.
+     *
+     * @param pE                  params container of the experiment performer (mode-specific flags can be set)
+     * @param testClass           test class (used to determine the main path)
+     * @param gdcCustomizer       imposes the mode-specific settings on the global data container params (can be null)
+     * @param dataLoadingInterval data loading interval (see {@link ScenarioDataContainerFactory.Params})
+     * @param dataStoringInterval data storing interval (see {@link ScenarioDataContainerFactory.Params})
+     */
+    Complex12Experiment(ExperimentPerformer.Params pE, Class<?> testClass, Consumer<GlobalDataContainer.Params> gdcCustomizer,
+                        int dataLoadingInterval, int dataStoringInterval)
+    {
+        _pE = pE;
+
+        GlobalDataContainer.Params pGDC = new GlobalDataContainer.Params();
+        pGDC._scenarioKeys = new String[]{"GEN", "PS"};
+        pGDC._scenarioValues = new String[][]{{"5", "10"}, {"2", "3"}};
+        pGDC._noThreads = 8;
+        pGDC._noTrials = 8;
+        pGDC._trialDisablingConditions = new TrialDisablingConditions(8);
+        pGDC._trialDisablingConditions.disableTrials(4, 7);
+        pGDC._scenarioDisablingConditions = new ScenarioDisablingConditions[]{
+                new ScenarioDisablingConditions(new String[]{"PS", "GEN"}, new String[]{"2", "10"}),
+                new ScenarioDisablingConditions(new String[]{"PS", "GEN"}, new String[]{"3", "5"}),
+        };
+        pGDC._referenceScenarioSavers = new LinkedList<>();
+        pGDC._referenceScenarioSavers.add(new SummarizerTXT());
+        pGDC._referenceScenarioSavers.add(new SummarizerXLS());
+        pGDC._referenceScenarioSavers.add(new SummarizerXLSX());
+
+        pGDC._crossedSettings = new CrossedSetting[]
+                {
+                        new CrossedSetting(new String[]{"PS", "GEN"},
+                                new String[][]{{"3", "2",}, {"10", "5"}},
+                                null)
+                };
+        pGDC._referenceCrossSavers = new LinkedList<>();
+        _style = new Style();
+        pGDC._referenceCrossSavers.add(new FinalStatisticsXLS(2, _style));
+        pGDC._referenceCrossSavers.add(new FinalStatisticsXLSX(2, _style));
+        if (gdcCustomizer != null) gdcCustomizer.accept(pGDC);
+
+        String folderPath = "";
+        String msg = null;
+        try
+        {
+            folderPath = FileUtils.getPathRelatedToClass(testClass, "Experimentation", "tests", File.separatorChar).toString();
+        } catch (IOException e)
+        {
+            msg = e.getMessage();
+        }
+        assertNull(msg);
+
+        pGDC._mainPath = folderPath + File.separatorChar + "executor_temporary_output";
+        _mainPath = pGDC._mainPath;
+        pE._GDC = new GlobalDataContainer(pGDC);
+
+        ScenarioDataContainerFactory.Params pSDCF = new ScenarioDataContainerFactory.Params();
+        pSDCF._indicatorsInitializer = p ->
+        {
+            if (p._scenario.toString().equals("GEN_10_PS_3"))
+            {
+                return new IIndicator[]{new PerformanceIndicator(new Evaluation(new Min(), 0)),
+                        new PerformanceIndicator(new Evaluation(new Sum(), 1))};
+            }
+            else return new IIndicator[]{new PerformanceIndicator(new Evaluation(new Mean(), 2))};
+        };
+        pSDCF._numberOfGenerationsInitializer = p -> Integer.parseInt(p._scenario.getKeyValuesMap().get("GEN").toString());
+        pSDCF._statisticFunctionsInitializer = p -> {
+            if (p._scenario.toString().equals("GEN_10_PS_3"))
+            {
+                return new IStatistic[]{new Min(), new Mean(), new Max()};
+            }
+            else return new IStatistic[]{new Min(), new Max()};
+        };
+
+        pSDCF._dataLoadingInterval = dataLoadingInterval;
+        pSDCF._dataStoringInterval = dataStoringInterval;
+        pE._SDCF = new ScenarioDataContainerFactory(pSDCF);
+
+        TrialDataContainerFactory.Params pTDCF = new TrialDataContainerFactory.Params();
+        pTDCF._eaInitializer = (R, p) ->
+        {
+            if (p._SDC.getGenerations() == 10)
+                return new EADummyPopulations(3, InputPopulations.getSolutionDataForT4PS3G10E3()[p._trialID]);
+            else if (p._SDC.getGenerations() == 5)
+                return new EADummyPopulations(3, InputPopulations.getSolutionDataForT4PS2G5E3()[p._trialID]);
+            return null;
+        };
+        pE._TDCF = new TrialDataContainerFactory(pTDCF);
+    }
+
+    /**
+     * Returns the path to the file stored in the scenario folder.
+     *
+     * @param scenario scenario name
+     * @param file     file name
+     * @return path to the file
+     */
+    String getPath(String scenario, String file)
+    {
+        return _mainPath + File.separatorChar + scenario + File.separatorChar + file;
+    }
+
+    /**
+     * Executes the trials (experiment performer) and checks the summary.
+     */
+    void executeTrials()
+    {
+        Summary s = new ExperimentPerformer(_pE).execute();
+        assertFalse(s.isTerminatedDueToException());
+        assertEquals(2, s.getCompletedScenarios());
+        assertEquals(0, s.getTerminatedScenarios());
+        assertEquals(2, s.getSkippedScenarios());
+
+        for (int sc = 0; sc < 4; sc++)
+        {
+            boolean skipped = (sc == 1) || (sc == 2);
+            assertEquals(skipped, s.getScenariosSummaries()[sc].isSkipped());
+            assertFalse(s.getScenariosSummaries()[sc].isTerminatedDueToException());
+            assertEquals(skipped ? 0 : 4, s.getScenariosSummaries()[sc].getNoTrials());
+            assertEquals(skipped ? 0 : 4, s.getScenariosSummaries()[sc].getCompletedTrials());
+            assertEquals(0, s.getScenariosSummaries()[sc].getTerminatedTrials());
+        }
+        System.out.println(s);
+    }
+
+    /**
+     * Checks if the trial-level files exist (for the four executed trials of each enabled scenario).
+     *
+     * @param prefixesG10PS3 prefixes of the trial-level files stored in the GEN_10_PS_3 scenario folder (suffixed with
+     *                       "_trialID" and the extension)
+     * @param prefixesG5PS2  prefixes of the trial-level files stored in the GEN_5_PS_2 scenario folder (suffixed with
+     *                       "_trialID" and the extension)
+     * @param extension      extension of the trial-level files (e.g., ".bin")
+     */
+    void assertTrialFilesExist(String[] prefixesG10PS3, String[] prefixesG5PS2, String extension)
+    {
+        String[] scenarios = new String[]{"GEN_10_PS_3", "GEN_5_PS_2"};
+        String[][] prefixes = new String[][]{prefixesG10PS3, prefixesG5PS2};
+        for (int sc = 0; sc < 2; sc++)
+            for (String prefix : prefixes[sc])
+                for (int t = 0; t < 4; t++)
+                    assertTrue(new File(getPath(scenarios[sc], prefix + "_" + t + extension)).exists());
+    }
+
+    /**
+     * Executes the scenarios summarizer and compares the derived results (text files) with the expected ones.
+     */
+    void executeScenariosSummarizer()
+    {
+        System.out.println("=== SCENARIO SUMMARIZER PHASE =====================================");
+        Summary s = new ScenariosSummarizer(_pE).execute();
+
+        assertFalse(s.isTerminatedDueToException());
+        assertEquals(4, s.getScenariosSummaries().length);
+        assertEquals(2, s.getCompletedScenarios());
+        assertEquals(0, s.getTerminatedScenarios());
+        assertEquals(2, s.getSkippedScenarios());
+        for (int sc = 0; sc < 4; sc++)
+        {
+            assertFalse(s.getScenariosSummaries()[sc].isTerminatedDueToException());
+            assertEquals((sc == 1) || (sc == 2), s.getScenariosSummaries()[sc].isSkipped());
+        }
+        System.out.println(s);
+
+        // load data and compare the results
+        String[] txtResults = new String[]{
+                getPath("GEN_10_PS_3", "GEN_10_PS_3.txt"),
+                getPath("GEN_5_PS_2", "GEN_5_PS_2.txt")
+        };
+
+        int[] gens = new int[]{10, 5};
+        int[] inds = new int[]{2, 1};
+        double[][][][] res = new double[][][][]
+                {
+                        {ExpectedResults._t4ps3gen10e3_min0, ExpectedResults._t4ps3gen10e3_sum1},
+                        {ExpectedResults._t4ps2gen5e3_mean2_twoStats}
+                };
+
+        String msg = null;
+        for (int f = 0; f < 2; f++)
+        {
+            File file = new File(txtResults[f]);
+            assertTrue(file.exists());
+
+            try (BufferedReader br = new BufferedReader(new FileReader(file)))
+            {
+                for (int ind = 0; ind < inds[f]; ind++)
+                {
+                    String l = br.readLine();
+                    l = br.readLine();
+                    l = br.readLine();
+
+                    double[][] exp = res[f][ind];
+
+                    int idx = 0;
+                    for (int g = 0; g < gens[f]; g++)
+                    {
+                        l = br.readLine();
+                        String[] vals = l.replace(',', '.').split(" ");
+                        assertEquals(exp[idx].length, vals.length);
+                        for (int i = 0; i < exp[idx].length; i++)
+                            assertEquals(exp[idx][i], Double.parseDouble(vals[i]), 0.0000001d);
+                        idx++;
+                    }
+                }
+
+            } catch (IOException e)
+            {
+                msg = e.getMessage();
+            }
+            assertNull(msg);
+        }
+    }
+
+    /**
+     * Executes the cross summarizer and compares the derived results (Excel files) with the expected ones.
+     */
+    void executeCrossSummarizer()
+    {
+        System.out.println("=== CROSS SUMMARIZER PHASE =====================================");
+        Summary s = new CrossSummarizer(_pE).execute();
+        assertTrue(s instanceof CrossedExaminerSummary);
+        CrossedExaminerSummary cs = (CrossedExaminerSummary) s;
+        System.out.println(s);
+
+        assertEquals(1, cs.getCrossedScenariosSummaries().length);
+        assertEquals(4, cs.getCrossedScenariosSummaries()[0].getCrossedScenarios().getReferenceScenarios().length);
+        assertEquals(2, cs.getCrossedScenariosSummaries()[0].getCompletedScenarios());
+        assertEquals(0, cs.getCrossedScenariosSummaries()[0].getTerminatedScenarios());
+        assertEquals(2, cs.getCrossedScenariosSummaries()[0].getSkippedScenarios());
+
+        String[] excelResults = new String[]{
+                _mainPath + File.separatorChar + "CROSSED_RESULTS" + File.separatorChar +
+                        "FIXED_NONE_COMPARED_PS_GEN" + File.separatorChar + "FIXED_NONE_COMPARED_PS_GEN_generation_final_statistics_2D.xls",
+                _mainPath + File.separatorChar + "CROSSED_RESULTS" + File.separatorChar +
+                        "FIXED_NONE_COMPARED_PS_GEN" + File.separatorChar + "FIXED_NONE_COMPARED_PS_GEN_generation_final_statistics_2D.xlsx",
+        };
+
+        String msg = null;
+        for (int f = 0; f < 2; f++)
+        {
+            FileInputStream file = null;
+            try
+            {
+                file = new FileInputStream(excelResults[f]);
+            } catch (FileNotFoundException e)
+            {
+                msg = e.getMessage();
+            }
+            assertNull(msg);
+            assertNotNull(file);
+
+            Workbook workbook = null;
+            try
+            {
+                if (f == 0) workbook = new HSSFWorkbook(file);
+                else workbook = new XSSFWorkbook(file);
+            } catch (IOException e)
+            {
+                msg = e.getMessage();
+            }
+            assertNull(msg);
+            assertNotNull(workbook);
+
+            for (int sheet = 0; sheet < 3; sheet++)
+            {
+                Sheet sh = workbook.getSheetAt(sheet);
+                for (int row = 0; row < 2; row++)
+                {
+                    Row r = sh.getRow(_style._tableMarginY + 3 + row);
+                    for (int column = 0; column < 6; column++)
+                    {
+                        Cell cell = r.getCell(_style._tableMarginX + 2 + column);
+                        if (ExpectedResults._expectedFinalResults11_12[sheet][row][column] == null)
+                            assertSame(cell.getCellType(), CellType.BLANK);
+                        else
+                        {
+                            assertEquals(ExpectedResults._expectedFinalResults11_12[sheet][row][column],
+                                    cell.getNumericCellValue(), 0.0000001d);
+                        }
+                    }
+                }
+            }
+
+            try
+            {
+                workbook.close();
+            } catch (IOException e)
+            {
+                msg = e.getMessage();
+            }
+            assertNull(msg);
+        }
+    }
+
+    /**
+     * Removes the outputs.
+     */
+    void removeOutputs()
+    {
+        String msg = null;
+        try
+        {
+            FileUtils.removeFolderRecursively(_mainPath, 5, 200, true);
+        } catch (InterruptedException e)
+        {
+            msg = e.getMessage();
+        }
+        assertNull(msg);
+    }
+}
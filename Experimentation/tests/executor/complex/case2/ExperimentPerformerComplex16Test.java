@@ -0,0 +1,40 @@
+package executor.complex.case2;
+
+import executor.ExperimentPerformer;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+/**
+ * Provides a more complex test for the {@link ExperimentPerformer} class.
+ * This tests uses dummy inputs that mimic the solutions' evaluations generated throughout evolutionary processes.
+ * The results of all indicators of a trial are stored in one chunked file (see
+ * {@link container.global.AbstractGlobalDataContainer.Params#_consolidateTrialResults}); the outcomes should be the
+ * same as in {@link ExperimentPerformerComplex12Test}.
+ *
+ * @author MTomczyk
+ */
+class ExperimentPerformerComplex16Test
+{
+
+    /**
+     * Test.
+     */
+    @Test
+    void test()
+    {
+        Complex12Experiment experiment = new Complex12Experiment(new ExperimentPerformer.Params(),
+                ExperimentPerformerComplex16Test.class, pGDC -> pGDC._consolidateTrialResults = true,
+                2, 3); // retrieval crosses the chunks
+
+        experiment.executeTrials();
+        experiment.assertTrialFilesExist(new String[]{"RESULTS"}, new String[]{"RESULTS"}, ".cbin");
+        assertFalse(new File(experiment.getPath("GEN_10_PS_3", "MIN0_0.bin")).exists());
+
+        experiment.executeScenariosSummarizer();
+        experiment.executeCrossSummarizer();
+        experiment.removeOutputs();
+    }
+}
@@ -0,0 +1,52 @@
+package executor.complex.case2;
+
+import executor.ExperimentPerformer;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Provides a more complex test for the {@link ExperimentPerformer} class.
+ * This tests uses dummy inputs that mimic the solutions' evaluations generated throughout evolutionary processes.
+ * The summarizers read the results via the memory-mapped store (see
+ * {@link container.global.AbstractGlobalDataContainer.Params#_mapScenarioResults}); the outcomes should be the same
+ * as in {@link ExperimentPerformerComplex12Test}.
+ *
+ * @author MTomczyk
+ */
+class ExperimentPerformerComplex17Test
+{
+
+    /**
+     * Test.
+     */
+    @Test
+    void test()
+    {
+        Complex12Experiment experiment = new Complex12Experiment(new ExperimentPerformer.Params(),
+                ExperimentPerformerComplex17Test.class, pGDC -> pGDC._mapScenarioResults = true,
+                3, Integer.MAX_VALUE); // the store is built in parts
+
+        experiment.executeTrials();
+        experiment.assertTrialFilesExist(new String[]{"MIN0", "SUM1"}, new String[]{"MEAN2"}, ".bin");
+
+        experiment.executeScenariosSummarizer();
+        File[] stores = new File[]{
+                new File(experiment.getPath("GEN_10_PS_3", "RESULTS.store")),
+                new File(experiment.getPath("GEN_5_PS_2", "RESULTS.store"))
+        };
+        for (File f : stores) assertTrue(f.exists());
+        assertFalse(new File(experiment.getPath("GEN_5_PS_3", "RESULTS.store")).exists());
+        long[] storesModified = new long[]{stores[0].lastModified(), stores[1].lastModified()};
+
+        // the stores are reused (not rebuilt) by both summarizers
+        experiment.executeScenariosSummarizer();
+        for (int f = 0; f < 2; f++) assertEquals(storesModified[f], stores[f].lastModified());
+        experiment.executeCrossSummarizer();
+        for (int f = 0; f < 2; f++) assertEquals(storesModified[f], stores[f].lastModified());
+        assertFalse(new File(experiment.getPath("GEN_10_PS_3", "RESULTS.store.tmp")).exists());
+        experiment.removeOutputs();
+    }
+}
@@ -0,0 +1,36 @@
+package executor.complex.case2;
+
+import executor.ExperimentPerformer;
+import executor.ScenariosSummarizer;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Provides a more complex test for the {@link ExperimentPerformer} class.
+ * This tests uses dummy inputs that mimic the solutions' evaluations generated throughout evolutionary processes.
+ * The scenarios are summarized concurrently (see {@link ScenariosSummarizer.Params#_parallelSummarization}); the
+ * outcomes should be the same as in {@link ExperimentPerformerComplex12Test}.
+ *
+ * @author MTomczyk
+ */
+class ExperimentPerformerComplex18Test
+{
+
+    /**
+     * Test.
+     */
+    @Test
+    void test()
+    {
+        ScenariosSummarizer.Params pE = new ScenariosSummarizer.Params();
+        pE._parallelSummarization = true;
+        Complex12Experiment experiment = new Complex12Experiment(pE, ExperimentPerformerComplex18Test.class, null,
+                Integer.MAX_VALUE, Integer.MAX_VALUE);
+
+        experiment.executeTrials();
+        experiment.assertTrialFilesExist(new String[]{"MIN0", "SUM1"}, new String[]{"MEAN2"}, ".bin");
+
+        experiment.executeScenariosSummarizer();
+        experiment.executeCrossSummarizer();
+        experiment.removeOutputs();
+    }
+}
@@ -6,6 +6,8 @@ import indicator.IIndicator;
 import random.AbstractRandomNumberGenerator;
 import scenario.Scenario;
 
+import java.util.concurrent.atomic.AtomicInteger;
+
 /**
  * Returns RNG's seed.
  *
@@ -13,6 +15,40 @@ import scenario.Scenario;
  */
 class SeedIndicator implements IIndicator
 {
+    /**
+     * The number of trial-level clones created.
+     */
+    static final AtomicInteger _CLONES = new AtomicInteger();
+
+    /**
+     * The number of trial-level clones disposed.
+     */
+    static final AtomicInteger _DISPOSED_CLONES = new AtomicInteger();
+
+    /**
+     * If true, the object is a trial-level clone.
+     */
+    private final boolean _clone;
+
+    /**
+     * Default constructor (scenario-level instance).
+     */
+    SeedIndicator()
+    {
+        this(false);
+    }
+
+    /**
+     * Parameterized constructor.
+     *
+     * @param clone if true, the object is a trial-level clone
+     */
+    private SeedIndicator(boolean clone)
+    {
+        _clone = clone;
+        if (clone) _CLONES.incrementAndGet();
+    }
+
     /**
      * Each indicator must implement this factory-like method. After establishing the indicator at the scenario level,
      * each dispatched trial executor receives a copy. This allows each instance to maintain its own trial-dependent data.
@@ -26,7 +62,7 @@ class SeedIndicator implements IIndicator
     @Override
     public IIndicator getInstance(Scenario scenario, int trialID) throws TrialException
     {
-        return new SeedIndicator();
+        return new SeedIndicator(true);
     }
 
     /**
@@ -67,11 +103,11 @@ class SeedIndicator implements IIndicator
     }
 
     /**
-     * The method for clearing the data.
+     * The method for clearing the data (counts the disposed clones).
      */
     @Override
     public void dispose()
     {
-
+        if (_clone) _DISPOSED_CLONES.incrementAndGet();
     }
 }
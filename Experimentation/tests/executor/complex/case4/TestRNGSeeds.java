@@ -21,6 +21,7 @@ import java.io.IOException;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 /**
  * Provides a more complex test for the {@link ExperimentPerformer} class.
@@ -96,7 +97,12 @@ class TestRNGSeeds
 
             ExperimentPerformer executor = new ExperimentPerformer(pE);
 
+            SeedIndicator._CLONES.set(0);
+            SeedIndicator._DISPOSED_CLONES.set(0);
             Summary s = executor.execute();
+            // the trial-level clones are disposed when the trials end
+            if (c < 2) assertTrue(SeedIndicator._CLONES.get() > 0); // otherwise, all scenarios are disabled
+            assertEquals(SeedIndicator._CLONES.get(), SeedIndicator._DISPOSED_CLONES.get());
 
             for (ScenarioSummary scS : s.getScenariosSummaries())
             {
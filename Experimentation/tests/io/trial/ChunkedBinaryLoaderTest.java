@@ -0,0 +1,110 @@
+package io.trial;
+
+import exception.TrialException;
+import io.FileUtils;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Provides various tests for {@link ChunkedBinaryLoader}.
+ *
+ * @author MTomczyk
+ */
+class ChunkedBinaryLoaderTest
+{
+    /**
+     * Tests if the data is retrieved from a closed file (via the index) and from a file that has no index (via scanning
+     * the chunk headers; the truncated chunk is ignored), and if the corrupted files are rejected.
+     */
+    @Test
+    void loadWithAndWithoutIndex()
+    {
+        double[][] data = new double[][]{
+                {0.0d, 1.0d, 2.0d, 3.0d, 4.0d, 5.0d, 6.0d, 7.0d, 8.0d},
+                {10.0d, 11.0d, 12.0d, 13.0d, 14.0d, 15.0d, 16.0d, 17.0d, 18.0d}
+        };
+        String msg = null;
+        Path folder = null;
+        try
+        {
+            folder = Files.createTempDirectory("chunked_binary_test");
+            String path = folder.toString();
+            IMultiIndicatorTrialSaver saver = new ChunkedBinarySaver().getInstance(path, new String[]{"A", "B"}, null, 0);
+            saver.create();
+            saver.store(data, 0, 3);
+            saver.store(data, 3, 2);
+            saver.store(data, 5, 4);
+            saver.close();
+
+            // closed file (index)
+            assertArrayEquals(data[1], retrieve(path, "B", 0, 9));
+            assertArrayEquals(Arrays.copyOf(data[0], 4), retrieve(path, "A", 0, 4));
+
+            // interrupted processing: no index, the last chunk is truncated (header = 22 bytes, the first two chunks
+            // = 52 + 36 bytes)
+            byte[] bytes = Files.readAllBytes(Paths.get(path + File.separatorChar + "RESULTS_0.cbin"));
+            Files.write(Paths.get(path + File.separatorChar + "RESULTS_1.cbin"), Arrays.copyOf(bytes, 22 + 52 + 36 + 10));
+            assertArrayEquals(Arrays.copyOf(data[1], 5), retrieve(path, "B", 1, 5));
+            assertArrayEquals(Arrays.copyOf(data[0], 5), retrieve(path, "A", 1, 5));
+            assertThrows(TrialException.class, () -> retrieve(path, "A", 1, 6));
+
+            // no chunks
+            Files.write(Paths.get(path + File.separatorChar + "RESULTS_2.cbin"), Arrays.copyOf(bytes, 22));
+            assertThrows(TrialException.class, () -> retrieve(path, "A", 2, 1));
+
+            // corrupted header (the name length and the number of indicators exceed the file size)
+            byte[] corrupted = bytes.clone();
+            corrupted[12] = 0x7F;
+            Files.write(Paths.get(path + File.separatorChar + "RESULTS_3.cbin"), corrupted);
+            assertThrows(TrialException.class, () -> retrieve(path, "A", 3, 1));
+            corrupted = bytes.clone();
+            corrupted[8] = 0x7F;
+            Files.write(Paths.get(path + File.separatorChar + "RESULTS_4.cbin"), corrupted);
+            assertThrows(TrialException.class, () -> retrieve(path, "A", 4, 1));
+        } catch (IOException | TrialException e)
+        {
+            msg = e.getMessage();
+        }
+        assertNull(msg);
+
+        try
+        {
+            FileUtils.removeFolderRecursively(folder.toString(), 5, 100, true);
+        } catch (InterruptedException e)
+        {
+            msg = e.getMessage();
+        }
+        assertNull(msg);
+    }
+
+    /**
+     * Auxiliary method retrieving the data of an indicator.
+     *
+     * @param path      path to the folder
+     * @param indicator indicator name
+     * @param trialID   trial ID
+     * @param size      the number of values to retrieve
+     * @return retrieved data
+     * @throws TrialException the exception is thrown when the data cannot be retrieved
+     */
+    private static double[] retrieve(String path, String indicator, int trialID, int size) throws TrialException
+    {
+        ITrialLoader loader = new ChunkedBinaryLoader().getInstance(path, indicator, null, trialID);
+        try
+        {
+            loader.load();
+            return loader.retrieve(size);
+        } finally
+        {
+            loader.close();
+        }
+    }
+}
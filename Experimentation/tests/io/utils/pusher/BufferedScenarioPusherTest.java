@@ -0,0 +1,132 @@
+package io.utils.pusher;
+
+import exception.ScenarioException;
+import io.scenario.ScenarioSavers;
+import org.junit.jupiter.api.Test;
+import statistics.IStatistic;
+
+import java.util.LinkedList;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Provides various tests for {@link BufferedScenarioPusher}.
+ *
+ * @author MTomczyk
+ */
+class BufferedScenarioPusherTest
+{
+    /**
+     * Tests if the data is passed through the bounded queue (the producer is blocked when the queue is full, so the
+     * data can be pushed only when the consumer drains it).
+     */
+    @Test
+    void streaming()
+    {
+        BufferedScenarioPusher pusher = new BufferedScenarioPusher(100, 2);
+        AtomicReference<ScenarioException> failure = new AtomicReference<>();
+        Thread producer = startProducer(pusher, 100, failure);
+
+        String msg = null;
+        try
+        {
+            flushAndCheck(pusher, 100);
+            producer.join();
+        } catch (ScenarioException | InterruptedException e)
+        {
+            msg = e.getMessage();
+        }
+        assertNull(msg);
+        assertNull(failure.get());
+    }
+
+    /**
+     * Tests if the consumer is notified when the producer fails, and if the producer is unblocked when the consumer
+     * cancels the processing.
+     */
+    @Test
+    void failureAndCancellation()
+    {
+        BufferedScenarioPusher pusher = new BufferedScenarioPusher(10, 2);
+        AtomicReference<ScenarioException> failure = new AtomicReference<>();
+        Thread producer = startProducer(pusher, 3, failure);
+        assertThrows(ScenarioException.class, () -> flushAndCheck(pusher, 10));
+        String msg = null;
+        try
+        {
+            producer.join();
+        } catch (InterruptedException e)
+        {
+            msg = e.getMessage();
+        }
+        assertNull(msg);
+        assertNull(failure.get());
+
+        BufferedScenarioPusher cancelled = new BufferedScenarioPusher(10, 2);
+        producer = startProducer(cancelled, 10, failure);
+        cancelled.cancel();
+        try
+        {
+            producer.join();
+        } catch (InterruptedException e)
+        {
+            msg = e.getMessage();
+        }
+        assertNull(msg);
+        assertNotNull(failure.get());
+    }
+
+    /**
+     * Auxiliary method starting a thread that pushes the data (generation g = [g, g + 1]) and notifies the pusher
+     * when it stops.
+     *
+     * @param pusher      pusher
+     * @param generations the number of generations to push
+     * @param failure     stores the exception thrown by the producer (if any)
+     * @return started thread
+     */
+    private static Thread startProducer(BufferedScenarioPusher pusher, int generations,
+                                        AtomicReference<ScenarioException> failure)
+    {
+        Thread t = new Thread(() -> {
+            try
+            {
+                for (int g = 0; g < generations; g++)
+                    pusher.pushData(new double[]{g, g + 1}, new IStatistic[0], g);
+            } catch (ScenarioException e)
+            {
+                failure.set(e);
+            } finally
+            {
+                pusher.finish(failure.get());
+            }
+        });
+        t.start();
+        return t;
+    }
+
+    /**
+     * Auxiliary method draining the pusher and checking the order of the data.
+     *
+     * @param pusher      pusher
+     * @param generations the expected number of generations
+     * @throws ScenarioException the exception is thrown when the data cannot be passed
+     */
+    private static void flushAndCheck(BufferedScenarioPusher pusher, int generations) throws ScenarioException
+    {
+        LinkedList<double[]> received = new LinkedList<>();
+        ScenarioSavers savers = new ScenarioSavers(new LinkedList<>())
+        {
+            @Override
+            public void pushStatistics(double[] trialResults, double[] stats, int generation)
+            {
+                assertEquals(received.size(), generation);
+                received.add(trialResults);
+            }
+        };
+        pusher.flush(savers);
+        assertEquals(generations, received.size());
+        for (int g = 0; g < generations; g++) assertArrayEquals(new double[]{g, g + 1}, received.get(g));
+    }
+}
@@ -207,7 +207,7 @@ public class EAWrapperIterableSampler<T extends AbstractValueInternalModel> exte
                     {
                         if (_report._models == null) _report._models = new ArrayList<>();
                         _report._models.clear();
-                        for (SortedModel<T> t : _itERS.getModelsQueue().getQueue())
+                        for (SortedModel<T> t : _itERS.getModelsQueue().getSortedModels())
                             if (t._isCompatible) _report._models.add(t._model);
                     }
 
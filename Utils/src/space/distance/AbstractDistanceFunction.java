@@ -72,6 +72,16 @@ public abstract class AbstractDistanceFunction implements IDistance
         _normalizations = normalizations;
     }
 
+    /**
+     * Getter for the normalization functions (used to rescale dimensions).
+     *
+     * @return normalizers (can be null)
+     */
+    public INormalization[] getNormalizations()
+    {
+        return _normalizations;
+    }
+
     /**
      * High-abstraction (implementation-specific) params setter.
      *
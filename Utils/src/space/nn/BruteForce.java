@@ -0,0 +1,89 @@
+package space.nn;
+
+import space.distance.IDistance;
+
+/**
+ * Nearest neighbour search that compares the query with all the points (O(N) per query; no assumptions are made
+ * about the distance function).
+ *
+ * @author MTomczyk
+ */
+public class BruteForce implements INearestNeighbourSearch
+{
+    /**
+     * Indexed points.
+     */
+    private final double[][] _points;
+
+    /**
+     * Distance function.
+     */
+    private final IDistance _distance;
+
+    /**
+     * If true, the distances are calculated as d(point, query); d(query, point) otherwise (matters for asymmetric
+     * distance functions).
+     */
+    private final boolean _pointFirst;
+
+    /**
+     * Parameterized constructor (the distances are calculated as d(query, point)).
+     *
+     * @param points   indexed points
+     * @param distance distance function
+     */
+    public BruteForce(double[][] points, IDistance distance)
+    {
+        this(points, distance, false);
+    }
+
+    /**
+     * Parameterized constructor.
+     *
+     * @param points     indexed points
+     * @param distance   distance function
+     * @param pointFirst if true, the distances are calculated as d(point, query); d(query, point) otherwise (matters
+     *                   for asymmetric distance functions)
+     */
+    public BruteForce(double[][] points, IDistance distance, boolean pointFirst)
+    {
+        _points = points;
+        _distance = distance;
+        _pointFirst = pointFirst;
+    }
+
+    /**
+     * Returns the index of the point nearest to the query.
+     *
+     * @param q query vector
+     * @return index of the nearest point (-1 if the set of points is empty or no finite distance is found)
+     */
+    @Override
+    public int getNearest(double[] q)
+    {
+        int best = -1;
+        double bestDistance = Double.POSITIVE_INFINITY;
+        for (int i = 0; i < _points.length; i++)
+        {
+            double distance = _pointFirst ? _distance.getDistance(_points[i], q) :
+                    _distance.getDistance(q, _points[i]);
+            if (Double.compare(distance, bestDistance) < 0)
+            {
+                best = i;
+                bestDistance = distance;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Returns the number of indexed points.
+     *
+     * @return the number of points
+     */
+    @Override
+    public int getSize()
+    {
+        return _points.length;
+    }
+}
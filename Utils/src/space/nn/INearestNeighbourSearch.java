@@ -0,0 +1,26 @@
+package space.nn;
+
+/**
+ * Interface for structures answering nearest neighbour queries over a fixed set of points. The implementations are
+ * constructed once and can be queried concurrently (the queries do not modify the structure).
+ *
+ * @author MTomczyk
+ */
+public interface INearestNeighbourSearch
+{
+    /**
+     * Returns the index (in the array of points used to construct the structure) of the point nearest to the query.
+     * If there are several nearest points, any of them can be returned.
+     *
+     * @param q query vector
+     * @return index of the nearest point (-1 if the set of points is empty)
+     */
+    int getNearest(double[] q);
+
+    /**
+     * Returns the number of indexed points.
+     *
+     * @return the number of points
+     */
+    int getSize();
+}
@@ -0,0 +1,435 @@
+package space.nn;
+
+import space.normalization.INormalization;
+
+import java.util.Arrays;
+
+/**
+ * k-d tree answering nearest neighbour queries for distances being (weighted) Lp-norms (p &gt;= 1, including the
+ * Chebyshev distance) of the differences between vectors, whose coordinates are optionally normalized (see, e.g.,
+ * {@link space.distance.Euclidean}). The points are mapped into the weighted and normalized space once, during the
+ * construction, and each inner node splits its points at the median of the coordinate with the greatest spread. A
+ * query visits the subtree containing the query first and skips the other one if the distance to the splitting
+ * hyperplane exceeds the distance to the best point found so far (O(log N) per query for low-dimensional data). The
+ * tree can also answer k-nearest neighbours queries (see {@link #getKNearest(double[], int, double, double)}).
+ *
+ * @author MTomczyk
+ */
+public class KDTree implements INearestNeighbourSearch
+{
+    /**
+     * The maximal number of points stored in a leaf.
+     */
+    private static final int LEAF_SIZE = 8;
+
+    /**
+     * Auxiliary class storing the state of a query.
+     */
+    private static class Query
+    {
+        /**
+         * Query vector (mapped into the weighted and normalized space).
+         */
+        private final double[] _y;
+
+        /**
+         * Index of the best point found so far.
+         */
+        private int _best = -1;
+
+        /**
+         * Distance (power of, see {@link KDTree#getRank(double)}) to the best point found so far.
+         */
+        private double _rank = Double.POSITIVE_INFINITY;
+
+        /**
+         * Parameterized constructor.
+         *
+         * @param y query vector (mapped into the weighted and normalized space)
+         */
+        private Query(double[] y)
+        {
+            _y = y;
+        }
+    }
+
+    /**
+     * Points mapped into the weighted and normalized space.
+     */
+    private final double[][] _y;
+
+    /**
+     * Weights (can be null).
+     */
+    private final double[] _weights;
+
+    /**
+     * Exponent of the norm.
+     */
+    private final double _alpha;
+
+    /**
+     * Normalizations (can be null).
+     */
+    private final INormalization[] _normalizations;
+
+    /**
+     * Indices of the points (leaves refer to the ranges in this array).
+     */
+    private final int[] _idx;
+
+    /**
+     * Splitting dimensions of the nodes (-1 = leaf).
+     */
+    private final int[] _dim;
+
+    /**
+     * Splitting values of the nodes.
+     */
+    private final double[] _split;
+
+    /**
+     * Left children (or the beginnings of the ranges in the case of leaves).
+     */
+    private final int[] _left;
+
+    /**
+     * Right children (or the ends of the ranges in the case of leaves).
+     */
+    private final int[] _right;
+
+    /**
+     * The number of constructed nodes.
+     */
+    private int _nodes = 0;
+
+    /**
+     * Parameterized constructor.
+     *
+     * @param points         indexed points
+     * @param weights        weights of the norm (null = all equal 1)
+     * @param alpha          exponent of the norm (at least 1; positive infinity = Chebyshev distance)
+     * @param normalizations normalizations of the coordinates (can be null)
+     */
+    public KDTree(double[][] points, double[] weights, double alpha, INormalization[] normalizations)
+    {
+        _weights = weights;
+        _alpha = alpha;
+        _normalizations = normalizations;
+        _y = new double[points.length][];
+        for (int i = 0; i < points.length; i++) _y[i] = map(points[i]);
+        _idx = new int[points.length];
+        for (int i = 0; i < points.length; i++) _idx[i] = i;
+        int capacity = Math.max(1, 2 * points.length);
+        _dim = new int[capacity];
+        _split = new double[capacity];
+        _left = new int[capacity];
+        _right = new int[capacity];
+        if (points.length > 0) build(0, points.length, new double[points.length]);
+    }
+
+    /**
+     * Maps the vector into the weighted and normalized space.
+     *
+     * @param x vector
+     * @return mapped vector
+     */
+    private double[] map(double[] x)
+    {
+        double[] y = new double[x.length];
+        for (int j = 0; j < x.length; j++)
+        {
+            y[j] = _normalizations != null ? _normalizations[j].getNormalized(x[j]) : x[j];
+            if (_weights != null) y[j] *= Math.abs(_weights[j]);
+        }
+        return y;
+    }
+
+    /**
+     * Recursively constructs the tree.
+     *
+     * @param lo   the first position in the indices array (inclusive)
+     * @param hi   the last position in the indices array (exclusive)
+     * @param keys auxiliary array for the keys
+     * @return node ID
+     */
+    private int build(int lo, int hi, double[] keys)
+    {
+        int node = _nodes++;
+        if (hi - lo <= LEAF_SIZE)
+        {
+            _dim[node] = -1;
+            _left[node] = lo;
+            _right[node] = hi;
+            return node;
+        }
+
+        int dim = 0;
+        double spread = -1.0d;
+        for (int j = 0; j < _y[_idx[lo]].length; j++)
+        {
+            double min = Double.POSITIVE_INFINITY;
+            double max = Double.NEGATIVE_INFINITY;
+            for (int i = lo; i < hi; i++)
+            {
+                double v = _y[_idx[i]][j];
+                if (v < min) min = v;
+                if (v > max) max = v;
+            }
+            if (max - min > spread)
+            {
+                spread = max - min;
+                dim = j;
+            }
+        }
+
+        int mid = (lo + hi) >>> 1;
+        for (int i = lo; i < hi; i++) keys[i] = _y[_idx[i]][dim];
+        Select.select(_idx, keys, lo, hi, mid);
+        _dim[node] = dim;
+        _split[node] = _y[_idx[mid]][dim];
+        _left[node] = build(lo, mid, keys);
+        _right[node] = build(mid, hi, keys);
+        return node;
+    }
+
+    /**
+     * Returns the index of the point nearest to the query.
+     *
+     * @param q query vector
+     * @return index of the nearest point (-1 if the set of points is empty)
+     */
+    @Override
+    public int getNearest(double[] q)
+    {
+        if (_y.length == 0) return -1;
+        Query query = new Query(map(q));
+        search(0, query);
+        return query._best;
+    }
+
+    /**
+     * Recursively searches the tree.
+     *
+     * @param node  node ID
+     * @param query query state
+     */
+    private void search(int node, Query query)
+    {
+        if (_dim[node] == -1)
+        {
+            for (int i = _left[node]; i < _right[node]; i++)
+            {
+                double rank = getRank(query._y, _y[_idx[i]], query._rank);
+                if (rank < query._rank)
+                {
+                    query._rank = rank;
+                    query._best = _idx[i];
+                }
+            }
+            return;
+        }
+
+        double diff = query._y[_dim[node]] - _split[node];
+        int first = diff < 0.0d ? _left[node] : _right[node];
+        int second = diff < 0.0d ? _right[node] : _left[node];
+        search(first, query);
+        if (getRank(Math.abs(diff)) < query._rank) search(second, query);
+    }
+
+    /**
+     * Returns the indices of the k points nearest to the query, together with all other points whose distances (powers
+     * of, see {@link KDTree#getRank(double)}) do not exceed the k-th smallest one, extended by the tolerances (i.e.,
+     * k-th smallest * (1 + relative tolerance) + absolute tolerance). Hence, at least min(k, N) indices are returned.
+     * The tolerances allow treating the result as a candidate set when the final ranking is to be derived using a
+     * distance that is equivalent but computed differently (e.g., subject to different rounding errors). The indices
+     * are sorted according to the distances (ties are resolved by preferring smaller indices).
+     *
+     * @param q                 query vector
+     * @param k                 the number of nearest neighbours (at least 1)
+     * @param relativeTolerance relative tolerance (non-negative)
+     * @param absoluteTolerance absolute tolerance (non-negative)
+     * @return indices of the nearest points (sorted)
+     */
+    public int[] getKNearest(double[] q, int k, double relativeTolerance, double absoluteTolerance)
+    {
+        if ((_y.length == 0) || (k < 1)) return new int[0];
+        double[] y = map(q);
+
+        // determine the k-th smallest distance (max-heap)
+        double[] heap = new double[Math.min(k, _y.length)];
+        int[] size = new int[]{0};
+        searchK(0, y, heap, size);
+        double radius = heap[0] * (1.0d + relativeTolerance) + absoluteTolerance;
+
+        // gather all points within the radius
+        int[] indices = new int[_y.length];
+        double[] ranks = new double[_y.length];
+        int n = searchRange(0, y, radius, indices, ranks, 0);
+
+        Integer[] order = new Integer[n];
+        for (int i = 0; i < n; i++) order[i] = i;
+        Arrays.sort(order, (a, b) -> {
+            int c = Double.compare(ranks[a], ranks[b]);
+            if (c != 0) return c;
+            return Integer.compare(indices[a], indices[b]);
+        });
+        int[] result = new int[n];
+        for (int i = 0; i < n; i++) result[i] = indices[order[i]];
+        return result;
+    }
+
+    /**
+     * Recursively searches the tree to determine the k smallest distances (powers of, see
+     * {@link KDTree#getRank(double)}). The distances are stored in a max-heap (its capacity equals k).
+     *
+     * @param node node ID
+     * @param y    query vector (mapped)
+     * @param heap max-heap
+     * @param size the number of elements stored in the heap (one-element array)
+     */
+    private void searchK(int node, double[] y, double[] heap, int[] size)
+    {
+        if (_dim[node] == -1)
+        {
+            for (int i = _left[node]; i < _right[node]; i++)
+            {
+                double bound = size[0] < heap.length ? Double.POSITIVE_INFINITY : heap[0];
+                double rank = getRank(y, _y[_idx[i]], bound);
+                if (size[0] < heap.length) siftUp(heap, size[0]++, rank);
+                else if (rank < heap[0]) siftDown(heap, size[0], rank);
+            }
+            return;
+        }
+
+        double diff = y[_dim[node]] - _split[node];
+        int first = diff < 0.0d ? _left[node] : _right[node];
+        int second = diff < 0.0d ? _right[node] : _left[node];
+        searchK(first, y, heap, size);
+        if ((size[0] < heap.length) || (getRank(Math.abs(diff)) < heap[0])) searchK(second, y, heap, size);
+    }
+
+    /**
+     * Recursively searches the tree to gather all points whose distances (powers of, see
+     * {@link KDTree#getRank(double)}) do not exceed the radius.
+     *
+     * @param node    node ID
+     * @param y       query vector (mapped)
+     * @param radius  radius
+     * @param indices array to be filled with the indices of the points
+     * @param ranks   array to be filled with the distances (powers of)
+     * @param n       the number of points gathered so far
+     * @return the number of points gathered
+     */
+    private int searchRange(int node, double[] y, double radius, int[] indices, double[] ranks, int n)
+    {
+        if (_dim[node] == -1)
+        {
+            for (int i = _left[node]; i < _right[node]; i++)
+            {
+                double rank = getRank(y, _y[_idx[i]], radius);
+                if (rank <= radius)
+                {
+                    indices[n] = _idx[i];
+                    ranks[n++] = rank;
+                }
+            }
+            return n;
+        }
+
+        double diff = y[_dim[node]] - _split[node];
+        double r = getRank(Math.abs(diff));
+        if ((diff < 0.0d) || (r <= radius)) n = searchRange(_left[node], y, radius, indices, ranks, n);
+        if ((diff >= 0.0d) || (r <= radius)) n = searchRange(_right[node], y, radius, indices, ranks, n);
+        return n;
+    }
+
+    /**
+     * Auxiliary method inserting the value into the max-heap (at the given position, which is then sifted up).
+     *
+     * @param heap  max-heap
+     * @param pos   position of the new element (the current size of the heap)
+     * @param value value to be inserted
+     */
+    private static void siftUp(double[] heap, int pos, double value)
+    {
+        while (pos > 0)
+        {
+            int parent = (pos - 1) >>> 1;
+            if (heap[parent] >= value) break;
+            heap[pos] = heap[parent];
+            pos = parent;
+        }
+        heap[pos] = value;
+    }
+
+    /**
+     * Auxiliary method replacing the root of the max-heap with the given value (the value is then sifted down).
+     *
+     * @param heap  max-heap
+     * @param size  size of the heap
+     * @param value value to be inserted
+     */
+    private static void siftDown(double[] heap, int size, double value)
+    {
+        int pos = 0;
+        while (true)
+        {
+            int child = 2 * pos + 1;
+            if (child >= size) break;
+            if ((child + 1 < size) && (heap[child + 1] > heap[child])) child++;
+            if (heap[child] <= value) break;
+            heap[pos] = heap[child];
+            pos = child;
+        }
+        heap[pos] = value;
+    }
+
+    /**
+     * Returns the contribution of a single coordinate difference to the distance (a power of the difference; the
+     * distance itself is not calculated since the root is monotonic).
+     *
+     * @param d absolute difference
+     * @return contribution
+     */
+    private double getRank(double d)
+    {
+        if ((Double.compare(_alpha, 1.0d) == 0) || (Double.compare(_alpha, Double.POSITIVE_INFINITY) == 0)) return d;
+        if (Double.compare(_alpha, 2.0d) == 0) return d * d;
+        return Math.pow(d, _alpha);
+    }
+
+    /**
+     * Returns the distance (power of, see {@link KDTree#getRank(double)}) between two mapped vectors. The calculations
+     * are stopped when the bound is exceeded.
+     *
+     * @param a     the first vector
+     * @param b     the second vector
+     * @param bound the bound
+     * @return the distance (power of)
+     */
+    private double getRank(double[] a, double[] b, double bound)
+    {
+        double r = 0.0d;
+        boolean max = Double.compare(_alpha, Double.POSITIVE_INFINITY) == 0;
+        for (int j = 0; j < a.length; j++)
+        {
+            double c = getRank(Math.abs(a[j] - b[j]));
+            if (max) r = Math.max(r, c);
+            else r += c;
+            if (r > bound) return r;
+        }
+        return r;
+    }
+
+    /**
+     * Returns the number of indexed points.
+     *
+     * @return the number of points
+     */
+    @Override
+    public int getSize()
+    {
+        return _y.length;
+    }
+}
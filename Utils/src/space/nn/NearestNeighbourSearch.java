@@ -0,0 +1,92 @@
+package space.nn;
+
+import space.distance.AbstractDistanceFunction;
+import space.distance.Chebyshev;
+import space.distance.Euclidean;
+import space.distance.IDistance;
+import space.distance.LNorm;
+
+/**
+ * Methods for answering nearest neighbour queries (see {@link INearestNeighbourSearch}).
+ *
+ * @author MTomczyk
+ */
+public enum NearestNeighbourSearch
+{
+    /**
+     * Compares the query with all the points (see {@link BruteForce}).
+     */
+    BRUTE_FORCE,
+
+    /**
+     * k-d tree (see {@link KDTree}); supported only by the Lp-norm-based distances with p &gt;= 1 ({@link Euclidean},
+     * {@link Chebyshev}, {@link LNorm}); the brute force is used otherwise.
+     */
+    KD_TREE,
+
+    /**
+     * Vantage-point tree (see {@link VPTree}); applicable to any distance function that is a metric (it is the user's
+     * responsibility to ensure that).
+     */
+    VP_TREE,
+
+    /**
+     * k-d tree if supported by the distance function and the set of points is not small; the brute force otherwise.
+     */
+    AUTO;
+
+    /**
+     * If the number of points is smaller than this threshold, the brute force is used in the AUTO mode.
+     */
+    public static final int AUTO_THRESHOLD = 32;
+
+    /**
+     * Constructs the structure for the nearest neighbour search.
+     *
+     * @param points   indexed points
+     * @param distance distance function
+     * @return the structure
+     */
+    public INearestNeighbourSearch getInstance(double[][] points, IDistance distance)
+    {
+        return getInstance(points, distance, false);
+    }
+
+    /**
+     * Constructs the structure for the nearest neighbour search.
+     *
+     * @param points     indexed points
+     * @param distance   distance function
+     * @param pointFirst if true, the distances are calculated as d(point, query); d(query, point) otherwise (matters
+     *                   only for the brute force, as the trees assume symmetric distance functions)
+     * @return the structure
+     */
+    public INearestNeighbourSearch getInstance(double[][] points, IDistance distance, boolean pointFirst)
+    {
+        if (this == VP_TREE) return new VPTree(points, distance);
+        if ((this == KD_TREE) || ((this == AUTO) && (points.length >= AUTO_THRESHOLD)))
+        {
+            if (isKDTreeSupported(distance))
+            {
+                AbstractDistanceFunction d = (AbstractDistanceFunction) distance;
+                return new KDTree(points, d.getWeights(), d.getAuxParam(), d.getNormalizations());
+            }
+        }
+        return new BruteForce(points, distance, pointFirst);
+    }
+
+    /**
+     * Checks if the distance function can be handled by the k-d tree (see {@link KDTree}).
+     *
+     * @param distance distance function
+     * @return true, if the distance function is {@link Euclidean}, {@link Chebyshev}, or {@link LNorm} (exact classes)
+     * with the exponent not smaller than 1
+     */
+    public static boolean isKDTreeSupported(IDistance distance)
+    {
+        if (distance == null) return false;
+        Class<?> c = distance.getClass();
+        if ((!c.equals(Euclidean.class)) && (!c.equals(Chebyshev.class)) && (!c.equals(LNorm.class))) return false;
+        return distance.getAuxParam() >= 1.0d;
+    }
+}
@@ -0,0 +1,64 @@
+package space.nn;
+
+/**
+ * Auxiliary class providing the selection (quickselect) procedure used when constructing the trees.
+ *
+ * @author MTomczyk
+ */
+class Select
+{
+    /**
+     * Rearranges the elements in [lo, hi) so that the k-th element (according to the keys) is at position k, the
+     * elements before it have keys not greater than its key, and the elements after it have keys not smaller than its
+     * key. The keys are stored in an array parallel to the indices (they are swapped along with them).
+     *
+     * @param idx  indices
+     * @param keys keys (parallel to the indices)
+     * @param lo   the first position (inclusive)
+     * @param hi   the last position (exclusive)
+     * @param k    position of the element to be selected
+     */
+    static void select(int[] idx, double[] keys, int lo, int hi, int k)
+    {
+        int l = lo;
+        int r = hi - 1;
+        while (r > l)
+        {
+            double pivot = keys[(l + r) >>> 1];
+            int i = l;
+            int j = r;
+            while (i <= j)
+            {
+                while (keys[i] < pivot) i++;
+                while (keys[j] > pivot) j--;
+                if (i <= j)
+                {
+                    swap(idx, keys, i, j);
+                    i++;
+                    j--;
+                }
+            }
+            if (k <= j) r = j;
+            else if (k >= i) l = i;
+            else return;
+        }
+    }
+
+    /**
+     * Swaps two elements (and their keys).
+     *
+     * @param idx  indices
+     * @param keys keys
+     * @param a    the first position
+     * @param b    the second position
+     */
+    private static void swap(int[] idx, double[] keys, int a, int b)
+    {
+        int ti = idx[a];
+        idx[a] = idx[b];
+        idx[b] = ti;
+        double tk = keys[a];
+        keys[a] = keys[b];
+        keys[b] = tk;
+    }
+}
@@ -0,0 +1,214 @@
+package space.nn;
+
+import space.distance.IDistance;
+
+/**
+ * Vantage-point tree answering nearest neighbour queries for arbitrary distance functions that are metrics (i.e.,
+ * satisfy the triangle inequality; note that, e.g., {@link space.distance.Cos} does not). Each inner node stores a
+ * vantage point and the median of the distances between it and the remaining points of the node: the closer points are
+ * stored in the inner subtree, and the further points in the outer one. A query skips a subtree if the triangle
+ * inequality implies that it cannot contain a point closer than the best one found so far. The distances are
+ * calculated only via the provided distance function.
+ *
+ * @author MTomczyk
+ */
+public class VPTree implements INearestNeighbourSearch
+{
+    /**
+     * The maximal number of points stored in a leaf.
+     */
+    private static final int LEAF_SIZE = 8;
+
+    /**
+     * Auxiliary class storing the state of a query.
+     */
+    private static class Query
+    {
+        /**
+         * Query vector.
+         */
+        private final double[] _q;
+
+        /**
+         * Index of the best point found so far.
+         */
+        private int _best = -1;
+
+        /**
+         * Distance to the best point found so far.
+         */
+        private double _distance = Double.POSITIVE_INFINITY;
+
+        /**
+         * Parameterized constructor.
+         *
+         * @param q query vector
+         */
+        private Query(double[] q)
+        {
+            _q = q;
+        }
+    }
+
+    /**
+     * Indexed points.
+     */
+    private final double[][] _points;
+
+    /**
+     * Distance function.
+     */
+    private final IDistance _distance;
+
+    /**
+     * Indices of the points (vantage points and leaves refer to this array).
+     */
+    private final int[] _idx;
+
+    /**
+     * Positions of the vantage points in the indices array (-1 = leaf).
+     */
+    private final int[] _vp;
+
+    /**
+     * Medians of the distances between the vantage points and the remaining points of the nodes.
+     */
+    private final double[] _mu;
+
+    /**
+     * Inner children (or the beginnings of the ranges in the case of leaves).
+     */
+    private final int[] _inner;
+
+    /**
+     * Outer children (or the ends of the ranges in the case of leaves).
+     */
+    private final int[] _outer;
+
+    /**
+     * The number of constructed nodes.
+     */
+    private int _nodes = 0;
+
+    /**
+     * Parameterized constructor.
+     *
+     * @param points   indexed points
+     * @param distance distance function (should be a metric)
+     */
+    public VPTree(double[][] points, IDistance distance)
+    {
+        _points = points;
+        _distance = distance;
+        _idx = new int[points.length];
+        for (int i = 0; i < points.length; i++) _idx[i] = i;
+        int capacity = Math.max(1, 2 * points.length);
+        _vp = new int[capacity];
+        _mu = new double[capacity];
+        _inner = new int[capacity];
+        _outer = new int[capacity];
+        if (points.length > 0) build(0, points.length, new double[points.length]);
+    }
+
+    /**
+     * Recursively constructs the tree.
+     *
+     * @param lo   the first position in the indices array (inclusive)
+     * @param hi   the last position in the indices array (exclusive)
+     * @param keys auxiliary array for the distances
+     * @return node ID
+     */
+    private int build(int lo, int hi, double[] keys)
+    {
+        int node = _nodes++;
+        if (hi - lo <= LEAF_SIZE)
+        {
+            _vp[node] = -1;
+            _inner[node] = lo;
+            _outer[node] = hi;
+            return node;
+        }
+
+        double[] vp = _points[_idx[lo]];
+        for (int i = lo + 1; i < hi; i++) keys[i] = _distance.getDistance(vp, _points[_idx[i]]);
+        int mid = (lo + 1 + hi) >>> 1;
+        Select.select(_idx, keys, lo + 1, hi, mid);
+        _vp[node] = lo;
+        _mu[node] = keys[mid];
+        _inner[node] = build(lo + 1, mid + 1, keys);
+        _outer[node] = build(mid + 1, hi, keys);
+        return node;
+    }
+
+    /**
+     * Returns the index of the point nearest to the query.
+     *
+     * @param q query vector
+     * @return index of the nearest point (-1 if the set of points is empty or no finite distance is found)
+     */
+    @Override
+    public int getNearest(double[] q)
+    {
+        if (_points.length == 0) return -1;
+        Query query = new Query(q);
+        search(0, query);
+        return query._best;
+    }
+
+    /**
+     * Recursively searches the tree.
+     *
+     * @param node  node ID
+     * @param query query state
+     */
+    private void search(int node, Query query)
+    {
+        if (_vp[node] == -1)
+        {
+            for (int i = _inner[node]; i < _outer[node]; i++) check(_idx[i], query);
+            return;
+        }
+
+        double d = check(_idx[_vp[node]], query);
+        double mu = _mu[node];
+        if (d <= mu)
+        {
+            search(_inner[node], query);
+            if (d + query._distance >= mu) search(_outer[node], query);
+        }
+        else
+        {
+            search(_outer[node], query);
+            if (d - query._distance <= mu) search(_inner[node], query);
+        }
+    }
+
+    /**
+     * Calculates the distance between the query and the point and updates the best point.
+     *
+     * @param i     index of the point
+     * @param query query state
+     * @return the distance
+     */
+    private double check(int i, Query query)
+    {
+        double d = _distance.getDistance(query._q, _points[i]);
+        if (Double.compare(d, query._distance) < 0)
+        {
+            query._distance = d;
+            query._best = i;
+        }
+        return d;
+    }
+
+    /**
+     * Returns the number of indexed points.
+     *
+     * @return the number of points
+     */
+    @Override
+    public int getSize()
+    {
+        return _points.length;
+    }
+}
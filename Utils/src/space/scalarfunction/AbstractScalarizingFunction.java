@@ -75,6 +75,16 @@ public abstract class AbstractScalarizingFunction implements IScalarizingFunctio
         _normalizations = normalizations;
     }
 
+    /**
+     * Getter for the normalizations used to rescale input points (reference is returned; can be null).
+     *
+     * @return normalizations
+     */
+    public INormalization[] getNormalizations()
+    {
+        return _normalizations;
+    }
+
     /**
      * High-abstraction (implementation-specific) params setter.
      *
@@ -8,7 +8,7 @@ import space.Range;
  *
  * @author MTomczyk
  */
-public class AbstractInRangeStatistic extends AbstractStatistic implements IStatistic
+public abstract class AbstractInRangeStatistic extends AbstractStatistic implements IStatistic
 {
     /**
      * Range for valid samples.
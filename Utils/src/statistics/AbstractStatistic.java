@@ -5,7 +5,7 @@ package statistics;
  *
  * @author MTomczyk
  */
-public class AbstractStatistic implements IStatistic
+public abstract class AbstractStatistic implements IStatistic
 {
     /**
      * Parameterized constructor.
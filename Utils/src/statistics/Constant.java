@@ -40,4 +40,15 @@ public class Constant extends AbstractStatistic implements IStatistic
     {
         return _value;
     }
+
+    /**
+     * Creates a new instance of the statistic function (with the same parameterization).
+     *
+     * @return new instance
+     */
+    @Override
+    public IStatistic getInstance()
+    {
+        return new Constant(_value);
+    }
 }
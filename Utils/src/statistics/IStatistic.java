@@ -16,6 +16,15 @@ public interface IStatistic
      */
     double calculate(double[] v);
 
+    /**
+     * Creates a new instance of the statistic function (with the same parameterization). The instances are used when
+     * the statistics are calculated concurrently (each thread uses its own instances), so the implementations are not
+     * required to be thread-safe.
+     *
+     * @return new instance
+     */
+    IStatistic getInstance();
+
     /**
      * Auxiliary method for retrieving the string representation.
      *
@@ -68,4 +68,15 @@ public class LNorm extends AbstractStatistic implements IStatistic
             return Math.pow(s, _invAlpha);
         }
     }
+
+    /**
+     * Creates a new instance of the statistic function (with the same parameterization).
+     *
+     * @return new instance
+     */
+    @Override
+    public IStatistic getInstance()
+    {
+        return new LNorm(_alpha);
+    }
 }
@@ -46,4 +46,15 @@ public class Max extends AbstractStatistic implements IStatistic
     {
         return toString();
     }
+
+    /**
+     * Creates a new instance of the statistic function (with the same parameterization).
+     *
+     * @return new instance
+     */
+    @Override
+    public IStatistic getInstance()
+    {
+        return new Max();
+    }
 }
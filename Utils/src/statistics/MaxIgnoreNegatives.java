@@ -35,4 +35,14 @@ public class MaxIgnoreNegatives extends AbstractStatistic implements IStatistic
         else return max;
     }
 
+    /**
+     * Creates a new instance of the statistic function (with the same parameterization).
+     *
+     * @return new instance
+     */
+    @Override
+    public IStatistic getInstance()
+    {
+        return new MaxIgnoreNegatives();
+    }
 }
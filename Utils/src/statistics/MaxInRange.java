@@ -39,4 +39,14 @@ public class MaxInRange extends AbstractInRangeStatistic implements IStatistic
         else return max;
     }
 
+    /**
+     * Creates a new instance of the statistic function (with the same parameterization).
+     *
+     * @return new instance
+     */
+    @Override
+    public IStatistic getInstance()
+    {
+        return new MaxInRange(_range.getClone());
+    }
 }
@@ -35,4 +35,15 @@ public class Mean extends AbstractStatistic implements IStatistic
         for (double c : v) s += c;
         return s / v.length;
     }
+
+    /**
+     * Creates a new instance of the statistic function (with the same parameterization).
+     *
+     * @return new instance
+     */
+    @Override
+    public IStatistic getInstance()
+    {
+        return new Mean();
+    }
 }
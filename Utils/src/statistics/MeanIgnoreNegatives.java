@@ -38,4 +38,15 @@ public class MeanIgnoreNegatives extends AbstractStatistic implements IStatistic
         if (cnt == 0) return 0.0d;
         else return sum / cnt;
     }
+
+    /**
+     * Creates a new instance of the statistic function (with the same parameterization).
+     *
+     * @return new instance
+     */
+    @Override
+    public IStatistic getInstance()
+    {
+        return new MeanIgnoreNegatives();
+    }
 }
@@ -42,4 +42,15 @@ public class MeanInRange extends AbstractInRangeStatistic implements IStatistic
         if (cnt == 0) return 0.0d;
         else return sum / cnt;
     }
+
+    /**
+     * Creates a new instance of the statistic function (with the same parameterization).
+     *
+     * @return new instance
+     */
+    @Override
+    public IStatistic getInstance()
+    {
+        return new MeanInRange(_range.getClone());
+    }
 }
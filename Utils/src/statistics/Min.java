@@ -35,4 +35,15 @@ public class Min extends AbstractStatistic implements IStatistic
         for (double c : v) if (Double.compare(c, min) < 0) min = c;
         return min;
     }
+
+    /**
+     * Creates a new instance of the statistic function (with the same parameterization).
+     *
+     * @return new instance
+     */
+    @Override
+    public IStatistic getInstance()
+    {
+        return new Min();
+    }
 }
@@ -34,4 +34,15 @@ public class MinIgnoreNegatives extends AbstractStatistic implements IStatistic
         if (Double.compare(min, Double.POSITIVE_INFINITY) == 0) return 0.0f;
         else return min;
     }
+
+    /**
+     * Creates a new instance of the statistic function (with the same parameterization).
+     *
+     * @return new instance
+     */
+    @Override
+    public IStatistic getInstance()
+    {
+        return new MinIgnoreNegatives();
+    }
 }
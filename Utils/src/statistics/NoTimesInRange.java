@@ -34,4 +34,15 @@ public class NoTimesInRange extends AbstractInRangeStatistic implements IStatist
         for (double s : v) if (_range.isInRange(s, true)) st += 1.0d;
         return st;
     }
+
+    /**
+     * Creates a new instance of the statistic function (with the same parameterization).
+     *
+     * @return new instance
+     */
+    @Override
+    public IStatistic getInstance()
+    {
+        return new NoTimesInRange(_range.getClone());
+    }
 }
@@ -30,4 +30,15 @@ public class NoTimesNonNegative extends AbstractStatistic implements IStatistic
         for (double s : v) if (Double.compare(s, 0.0d) >= 0) st += 1.0d;
         return st;
     }
+
+    /**
+     * Creates a new instance of the statistic function (with the same parameterization).
+     *
+     * @return new instance
+     */
+    @Override
+    public IStatistic getInstance()
+    {
+        return new NoTimesNonNegative();
+    }
 }
@@ -16,6 +16,11 @@ public class StandardDeviation extends AbstractStatistic implements IStatistic
      */
     private final IStatistic _var;
 
+    /**
+     * If true, the unbiased estimator is used.
+     */
+    private final boolean _unbiased;
+
     /**
      * Default constructor.
      */
@@ -32,6 +37,7 @@ public class StandardDeviation extends AbstractStatistic implements IStatistic
     public StandardDeviation(boolean unbiased)
     {
         super(_name);
+        _unbiased = unbiased;
         _var = new Variance(unbiased);
     }
 
@@ -46,4 +52,15 @@ public class StandardDeviation extends AbstractStatistic implements IStatistic
     {
         return Math.sqrt(_var.calculate(v));
     }
+
+    /**
+     * Creates a new instance of the statistic function (with the same parameterization).
+     *
+     * @return new instance
+     */
+    @Override
+    public IStatistic getInstance()
+    {
+        return new StandardDeviation(_unbiased);
+    }
 }
@@ -47,4 +47,15 @@ public class StandardDeviationIgnoreNegatives extends AbstractStatistic implemen
         stat /= cnt;
         return Math.sqrt(stat);
     }
+
+    /**
+     * Creates a new instance of the statistic function (with the same parameterization).
+     *
+     * @return new instance
+     */
+    @Override
+    public IStatistic getInstance()
+    {
+        return new StandardDeviationIgnoreNegatives();
+    }
 }
@@ -51,4 +51,15 @@ public class StandardDeviationInRange extends AbstractInRangeStatistic implement
         stat /= cnt;
         return Math.sqrt(stat);
     }
+
+    /**
+     * Creates a new instance of the statistic function (with the same parameterization).
+     *
+     * @return new instance
+     */
+    @Override
+    public IStatistic getInstance()
+    {
+        return new StandardDeviationInRange(_range.getClone());
+    }
 }
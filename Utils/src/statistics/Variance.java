@@ -60,4 +60,15 @@ public class Variance extends AbstractStatistic implements IStatistic
         if (_unbiased) return dev / (double) (v.length - 1);
         else return dev / (double) v.length;
     }
+
+    /**
+     * Creates a new instance of the statistic function (with the same parameterization).
+     *
+     * @return new instance
+     */
+    @Override
+    public IStatistic getInstance()
+    {
+        return new Variance(_unbiased);
+    }
 }
@@ -0,0 +1,169 @@
+package thread;
+
+import java.util.Collection;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Thread pool shared by the objects that process their data in parallel (e.g., the criteria when calculating crowding
+ * distances). The pool (a fixed number of daemon threads) is instantiated upon the first request and shut down via
+ * {@link #dispose()}, which should be called by the owner when the processing ends (the pool can be instantiated again
+ * afterward). Additionally, the idle threads are terminated after {@link #KEEP_ALIVE_TIME} seconds, so a pool that is
+ * not disposed does not keep the threads alive. Alternatively, an external executor can be provided; such an
+ * executor is used as is and never shut down by this class. The methods are thread-safe.
+ *
+ * @author MTomczyk
+ */
+public class LazyThreadPool
+{
+    /**
+     * Time (in seconds) after which the idle threads of the owned pool are terminated.
+     */
+    public static final long KEEP_ALIVE_TIME = 30;
+
+    /**
+     * The number of threads (at least 1).
+     */
+    private final int _noThreads;
+
+    /**
+     * External executor (null, if not provided).
+     */
+    private final ExecutorService _provided;
+
+    /**
+     * Owned executor (instantiated on demand).
+     */
+    private ExecutorService _owned = null;
+
+    /**
+     * Parameterized constructor.
+     *
+     * @param noThreads the number of threads (at least 1)
+     */
+    public LazyThreadPool(int noThreads)
+    {
+        this(noThreads, null);
+    }
+
+    /**
+     * Parameterized constructor.
+     *
+     * @param noThreads the number of threads (at least 1; used when the executor is not provided)
+     * @param executor  external executor (can be null; if provided, it is never shut down by this class)
+     */
+    public LazyThreadPool(int noThreads, ExecutorService executor)
+    {
+        _noThreads = Math.max(1, noThreads);
+        _provided = executor;
+    }
+
+    /**
+     * Returns the executor (the external one, if provided; otherwise, the owned pool is instantiated on demand).
+     *
+     * @return executor
+     */
+    public synchronized ExecutorService getExecutor()
+    {
+        if (_provided != null) return _provided;
+        if (_owned == null)
+        {
+            ThreadPoolExecutor executor = new ThreadPoolExecutor(_noThreads, _noThreads, KEEP_ALIVE_TIME,
+                    TimeUnit.SECONDS, new LinkedBlockingQueue<>(), r -> {
+                Thread t = new Thread(r);
+                t.setDaemon(true);
+                return t;
+            });
+            executor.allowCoreThreadTimeOut(true);
+            _owned = executor;
+        }
+        return _owned;
+    }
+
+    /**
+     * Submits a task for execution.
+     *
+     * @param task task
+     * @return future representing the task
+     */
+    public Future<?> submit(Runnable task)
+    {
+        return getExecutor().submit(task);
+    }
+
+    /**
+     * Submits a task for execution.
+     *
+     * @param task task
+     * @param <T>  type of the result
+     * @return future representing the task
+     */
+    public <T> Future<T> submit(Callable<T> task)
+    {
+        return getExecutor().submit(task);
+    }
+
+    /**
+     * Shuts down the owned pool (if instantiated; an external executor is left intact).
+     */
+    public synchronized void dispose()
+    {
+        if (_owned == null) return;
+        _owned.shutdown();
+        _owned = null;
+    }
+
+    /**
+     * Checks if the owned pool is instantiated.
+     *
+     * @return true = the owned pool is instantiated (and not disposed); false otherwise
+     */
+    public synchronized boolean isInstantiated()
+    {
+        return _owned != null;
+    }
+
+    /**
+     * Getter for the number of threads.
+     *
+     * @return the number of threads
+     */
+    public int getNoThreads()
+    {
+        return _noThreads;
+    }
+
+    /**
+     * Waits until all the tasks are completed. If any task fails, the method still waits for the remaining ones and
+     * throws the exception of the first failed task (in the order of the collection). If the waiting is interrupted,
+     * the remaining tasks are cancelled.
+     *
+     * @param futures futures representing the tasks
+     * @throws InterruptedException the exception is thrown when the waiting thread is interrupted
+     * @throws ExecutionException   the exception is thrown when any task fails
+     */
+    public static void waitForAll(Collection<? extends Future<?>> futures) throws InterruptedException, ExecutionException
+    {
+        ExecutionException exception = null;
+        for (Future<?> f : futures)
+        {
+            try
+            {
+                f.get();
+            } catch (ExecutionException e)
+            {
+                if (exception == null) exception = e;
+            } catch (InterruptedException e)
+            {
+                for (Future<?> r : futures) r.cancel(true);
+                throw e;
+            }
+        }
+        if (exception != null) throw exception;
+    }
+}
@@ -0,0 +1,132 @@
+package space.nn;
+
+import org.junit.jupiter.api.Test;
+import random.IRandom;
+import random.MersenneTwister64;
+import space.distance.*;
+import space.normalization.INormalization;
+import space.normalization.minmax.Linear;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Various tests for the nearest neighbour search methods ({@link NearestNeighbourSearch}).
+ *
+ * @author MTomczyk
+ */
+class NearestNeighbourSearchTest
+{
+    /**
+     * Tests if the trees find the points as close as those found by the brute force (various distance functions).
+     */
+    @Test
+    void compareWithBruteForce()
+    {
+        IRandom R = new MersenneTwister64(0);
+        for (int t = 0; t < 40; t++)
+        {
+            int m = 1 + R.nextInt(6);
+            int n = R.nextInt(500);
+            double[][] points = new double[n][m];
+            for (int i = 0; i < n; i++)
+                for (int j = 0; j < m; j++) points[i][j] = R.nextBoolean() ? R.nextInt(5) : 10.0d * R.nextDouble();
+
+            double[] w = new double[m];
+            INormalization[] normalizations = new INormalization[m];
+            for (int j = 0; j < m; j++)
+            {
+                w[j] = 0.5d + R.nextDouble();
+                normalizations[j] = new Linear(-R.nextDouble(), 5.0d + 10.0d * R.nextDouble());
+            }
+            IDistance[] distances = new IDistance[]{new Euclidean(), new Euclidean(w, normalizations),
+                    new Chebyshev(), new Chebyshev(w), new LNorm(1.0d), new LNorm(w, 3.0d, normalizations)};
+
+            for (IDistance distance : distances)
+            {
+                assertTrue(NearestNeighbourSearch.isKDTreeSupported(distance));
+                INearestNeighbourSearch bf = NearestNeighbourSearch.BRUTE_FORCE.getInstance(points, distance);
+                INearestNeighbourSearch kd = NearestNeighbourSearch.KD_TREE.getInstance(points, distance);
+                INearestNeighbourSearch vp = NearestNeighbourSearch.VP_TREE.getInstance(points, distance);
+                assertInstanceOf(KDTree.class, kd);
+                assertInstanceOf(VPTree.class, vp);
+                assertEquals(n, kd.getSize());
+                assertEquals(n, vp.getSize());
+
+                for (int q = 0; q < 50; q++)
+                {
+                    double[] query = new double[m];
+                    for (int j = 0; j < m; j++) query[j] = -1.0d + 12.0d * R.nextDouble();
+                    int e = bf.getNearest(query);
+                    if (n == 0)
+                    {
+                        assertEquals(-1, e);
+                        assertEquals(-1, kd.getNearest(query));
+                        assertEquals(-1, vp.getNearest(query));
+                        continue;
+                    }
+                    double expected = distance.getDistance(query, points[e]);
+                    assertEquals(expected, distance.getDistance(query, points[kd.getNearest(query)]), 1.0E-10);
+                    assertEquals(expected, distance.getDistance(query, points[vp.getNearest(query)]), 1.0E-10);
+                }
+            }
+        }
+    }
+
+    /**
+     * Tests the selection of the method.
+     */
+    @Test
+    void getInstance()
+    {
+        double[][] small = new double[NearestNeighbourSearch.AUTO_THRESHOLD - 1][2];
+        double[][] large = new double[NearestNeighbourSearch.AUTO_THRESHOLD][2];
+        assertInstanceOf(BruteForce.class, NearestNeighbourSearch.AUTO.getInstance(small, new Euclidean()));
+        assertInstanceOf(KDTree.class, NearestNeighbourSearch.AUTO.getInstance(large, new Euclidean()));
+        assertInstanceOf(BruteForce.class, NearestNeighbourSearch.AUTO.getInstance(large, new Cos()));
+        assertInstanceOf(BruteForce.class, NearestNeighbourSearch.KD_TREE.getInstance(large, new Cos()));
+        assertInstanceOf(BruteForce.class, NearestNeighbourSearch.KD_TREE.getInstance(large, new LNorm(0.5d)));
+        assertFalse(NearestNeighbourSearch.isKDTreeSupported(null));
+    }
+
+    /**
+     * Tests the k-nearest neighbours queries of the k-d tree (compared with sorting all points).
+     */
+    @Test
+    void kNearest()
+    {
+        IRandom R = new MersenneTwister64(1);
+        for (int t = 0; t < 30; t++)
+        {
+            int m = 1 + R.nextInt(4);
+            int n = 1 + R.nextInt(300);
+            double[][] points = new double[n][m];
+            // coarse grid -> many ties
+            for (int i = 0; i < n; i++)
+                for (int j = 0; j < m; j++) points[i][j] = R.nextInt(5);
+            KDTree tree = new KDTree(points, null, 2.0d, null);
+            double[] q = new double[m];
+            for (int j = 0; j < m; j++) q[j] = R.nextInt(5);
+            int k = 1 + R.nextInt(n);
+
+            double[] d = new double[n];
+            Integer[] order = new Integer[n];
+            for (int i = 0; i < n; i++)
+            {
+                order[i] = i;
+                for (int j = 0; j < m; j++) d[i] += (points[i][j] - q[j]) * (points[i][j] - q[j]);
+            }
+            java.util.Arrays.sort(order, (a, b) -> {
+                int c = Double.compare(d[a], d[b]);
+                return c != 0 ? c : Integer.compare(a, b);
+            });
+            int expected = k;
+            while ((expected < n) && (Double.compare(d[order[expected]], d[order[k - 1]]) == 0)) expected++;
+
+            int[] result = tree.getKNearest(q, k, 0.0d, 0.0d);
+            assertEquals(expected, result.length);
+            for (int i = 0; i < expected; i++) assertEquals(order[i], result[i]);
+        }
+        assertEquals(0, new KDTree(new double[0][], null, 2.0d, null).getKNearest(new double[]{0.0d}, 1,
+                0.0d, 0.0d).length);
+    }
+}
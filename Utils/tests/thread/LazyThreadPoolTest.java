@@ -0,0 +1,95 @@
+package thread;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.LinkedList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Several tests for the {@link LazyThreadPool} class.
+ *
+ * @author MTomczyk
+ */
+class LazyThreadPoolTest
+{
+    /**
+     * Tests the lifecycle of the owned pool.
+     */
+    @Test
+    void ownedPool()
+    {
+        LazyThreadPool pool = new LazyThreadPool(0);
+        assertEquals(1, pool.getNoThreads());
+        assertFalse(pool.isInstantiated());
+
+        pool = new LazyThreadPool(4);
+        AtomicInteger counter = new AtomicInteger();
+        LinkedList<Future<?>> futures = new LinkedList<>();
+        for (int i = 0; i < 100; i++) futures.add(pool.submit(counter::incrementAndGet));
+        assertTrue(pool.isInstantiated());
+        ExecutorService executor = pool.getExecutor();
+        assertSame(executor, pool.getExecutor());
+
+        String msg = null;
+        try
+        {
+            LazyThreadPool.waitForAll(futures);
+        } catch (InterruptedException | ExecutionException e)
+        {
+            msg = e.getMessage();
+        }
+        assertNull(msg);
+        assertEquals(100, counter.get());
+
+        pool.dispose();
+        assertFalse(pool.isInstantiated());
+        assertTrue(executor.isShutdown());
+        assertNotSame(executor, pool.getExecutor());
+        pool.dispose();
+        pool.dispose();
+    }
+
+    /**
+     * Tests if the provided executor is used and never shut down.
+     */
+    @Test
+    void providedExecutor()
+    {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        LazyThreadPool pool = new LazyThreadPool(4, executor);
+        assertSame(executor, pool.getExecutor());
+        pool.dispose();
+        assertFalse(executor.isShutdown());
+        assertFalse(pool.isInstantiated());
+        executor.shutdown();
+    }
+
+    /**
+     * Tests if the exception of the first failed task is thrown after all the tasks are completed.
+     */
+    @Test
+    void failure()
+    {
+        LazyThreadPool pool = new LazyThreadPool(2);
+        AtomicInteger counter = new AtomicInteger();
+        LinkedList<Future<?>> futures = new LinkedList<>();
+        for (int i = 0; i < 10; i++)
+        {
+            int id = i;
+            futures.add(pool.submit(() -> {
+                counter.incrementAndGet();
+                if (id % 3 == 1) throw new IllegalStateException("Task = " + id);
+            }));
+        }
+        ExecutionException exception = assertThrows(ExecutionException.class, () -> LazyThreadPool.waitForAll(futures));
+        assertEquals("Task = 1", exception.getCause().getMessage());
+        assertEquals(10, counter.get());
+        pool.dispose();
+    }
+}